@@ -49,6 +49,12 @@ public final class MetricIds {
     
     public static final String METADATA_INFO = "meta_data_info";
     
+    public static final String SQL_STAGE_LATENCY = "sql_stage_latency_micros";
+    
+    public static final String SQL_STAGE_TOTAL = "sql_stage_total";
+    
+    public static final String SQL_MERGED_ROWS = "sql_merged_rows_total";
+    
     public static final String PARSE_SQL_SELECT = "parse_sql_dml_select_total";
     
     public static final String PARSE_SQL_UPDATE = "parse_sql_dml_update_total";
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.metrics.LatencyHistogram;
+import org.apache.shardingsphere.infra.metrics.SQLStage;
+import org.apache.shardingsphere.infra.metrics.SQLStageMetricsRegistry;
+import org.apache.shardingsphere.infra.metrics.SQLStageStatistics;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL stage metrics collector.
+ */
+public final class SQLStageMetricsCollector extends Collector {
+    
+    private static final double[] QUANTILES = {0.5D, 0.99D, 0.999D};
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        Collection<SQLStageStatistics> allStatistics = SQLStageMetricsRegistry.getInstance().getAllStatistics();
+        if (allStatistics.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<MetricFamilySamples> result = new LinkedList<>();
+        Optional<GaugeMetricFamily> latency = FACTORY.createGaugeMetricFamily(MetricIds.SQL_STAGE_LATENCY);
+        Optional<GaugeMetricFamily> total = FACTORY.createGaugeMetricFamily(MetricIds.SQL_STAGE_TOTAL);
+        Optional<GaugeMetricFamily> mergedRows = FACTORY.createGaugeMetricFamily(MetricIds.SQL_MERGED_ROWS);
+        for (SQLStageStatistics each : allStatistics) {
+            latency.ifPresent(optional -> collectLatency(optional, each));
+            total.ifPresent(optional -> optional.addMetric(Arrays.asList(each.getStage().name(), each.getStatementType(), each.getTableName()), each.getLatency().getCount()));
+            if (SQLStage.MERGE == each.getStage()) {
+                mergedRows.ifPresent(optional -> optional.addMetric(Arrays.asList(each.getStatementType(), each.getTableName()), each.getRows().sum()));
+            }
+        }
+        latency.ifPresent(result::add);
+        total.ifPresent(result::add);
+        mergedRows.ifPresent(result::add);
+        return result;
+    }
+    
+    private void collectLatency(final GaugeMetricFamily metricFamily, final SQLStageStatistics statistics) {
+        LatencyHistogram histogram = statistics.getLatency();
+        for (double each : QUANTILES) {
+            metricFamily.addMetric(Arrays.asList(statistics.getStage().name(), statistics.getStatementType(), statistics.getTableName(), String.valueOf(each)),
+                    histogram.getValueAtPercentile(each * 100D));
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.BuildInfoCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.MetaDataInfoCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.collector.ProxyInfoCollector;
+import org.apache.shardingsphere.agent.metrics.prometheus.collector.SQLStageMetricsCollector;
 import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
 import org.apache.shardingsphere.agent.spi.boot.PluginBootService;
 
@@ -63,6 +64,7 @@ public final class PrometheusPluginBootService implements PluginBootService {
         new ProxyInfoCollector().register();
         new BuildInfoCollector().register();
         new MetaDataInfoCollector().register();
+        new SQLStageMetricsCollector().register();
         if (enabled) {
             DefaultExports.initialize();
         }
@@ -183,6 +183,18 @@ SQL_PARSER
     : S Q L UL_ P A R S E R
     ;
 
+SQL_STAGE
+    : S Q L UL_ S T A G E
+    ;
+
+METRICS
+    : M E T R I C S
+    ;
+
+SLOW_QUERY
+    : S L O W UL_ Q U E R Y
+    ;
+
 AUTHORITY
     : A U T H O R I T Y
     ;
@@ -83,6 +83,14 @@ showInstanceMode
     : SHOW INSTANCE MODE
     ;
 
+showSQLStageMetrics
+    : SHOW SQL_STAGE METRICS
+    ;
+
+showSlowQueryList
+    : SHOW SLOW_QUERY LIST
+    ;
+
 createTrafficRule
     : CREATE TRAFFIC RULE trafficRuleDefinition (COMMA trafficRuleDefinition)* 
     ;
@@ -33,6 +33,8 @@ execute
     | disableInstance
     | showInstance
     | showInstanceMode
+    | showSQLStageMetrics
+    | showSlowQueryList
     | labelInstance
     | unlabelInstance
     | countInstanceRules
@@ -31,15 +31,22 @@ import org.apache.shardingsphere.mode.metadata.storage.StorageNodeRole;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeStatus;
 import org.apache.shardingsphere.mode.metadata.storage.event.DataSourceDisabledEvent;
 import org.apache.shardingsphere.mode.metadata.storage.event.PrimaryDataSourceChangedEvent;
+import org.apache.shardingsphere.mode.metadata.storage.event.ReplicationDelayRenewedEvent;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -49,8 +56,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class DatabaseDiscoveryEngine {
     
+    private static final ReplicaDataSourceStatus OFFLINE_REPLICA_STATUS = new ReplicaDataSourceStatus(false, 0L);
+    
     private final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm;
     
+    private final Executor probeExecutor;
+    
+    private final long probeTimeoutMilliseconds;
+    
+    public DatabaseDiscoveryEngine(final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm) {
+        this(databaseDiscoveryProviderAlgorithm, Runnable::run, Long.MAX_VALUE);
+    }
+    
     /**
      * Check environment of database cluster.
      *
@@ -79,54 +96,106 @@ public final class DatabaseDiscoveryEngine {
      */
     public String changePrimaryDataSource(final String databaseName, final String groupName, final String originalPrimaryDataSourceName,
                                           final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
+        return discoverTopology(databaseName, groupName, originalPrimaryDataSourceName, dataSourceMap, disabledDataSourceNames).getPrimaryDataSourceName();
+    }
+    
+    /**
+     * Discover topology, change primary data source and renew replica data source statuses.
+     *
+     * @param databaseName database name
+     * @param groupName group name
+     * @param originalPrimaryDataSourceName original primary data source name
+     * @param dataSourceMap data source map
+     * @param disabledDataSourceNames disabled data source names
+     * @return discovered topology
+     */
+    public DatabaseDiscoveryTopology discoverTopology(final String databaseName, final String groupName, final String originalPrimaryDataSourceName,
+                                                      final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
         Optional<String> newPrimaryDataSourceName = findPrimaryDataSourceName(dataSourceMap, disabledDataSourceNames);
         if (newPrimaryDataSourceName.isPresent() && !newPrimaryDataSourceName.get().equals(originalPrimaryDataSourceName)) {
             ShardingSphereEventBus.getInstance().post(new PrimaryDataSourceChangedEvent(new QualifiedDatabase(databaseName, groupName, newPrimaryDataSourceName.get())));
         }
-        String result = newPrimaryDataSourceName.orElse(originalPrimaryDataSourceName);
-        postReplicaDataSourceDisabledEvent(databaseName, groupName, result, dataSourceMap);
-        return result;
+        String primaryDataSourceName = newPrimaryDataSourceName.orElse(originalPrimaryDataSourceName);
+        return new DatabaseDiscoveryTopology(newPrimaryDataSourceName.isPresent(), primaryDataSourceName,
+                postReplicaDataSourceDisabledEvent(databaseName, groupName, primaryDataSourceName, dataSourceMap));
     }
     
     private Optional<String> findPrimaryDataSourceName(final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
-        for (Entry<String, DataSource> entry : getActiveDataSourceMap(dataSourceMap, disabledDataSourceNames).entrySet()) {
-            try {
-                if (databaseDiscoveryProviderAlgorithm.isPrimaryInstance(entry.getValue())) {
-                    return Optional.of(entry.getKey());
-                }
-            } catch (final SQLException ex) {
-                log.error("An exception occurred while judge primary data source: ", ex);
-            }
-        }
-        return Optional.empty();
+        Map<String, Boolean> primaryInstances = probe(getActiveDataSourceMap(dataSourceMap, disabledDataSourceNames),
+                databaseDiscoveryProviderAlgorithm::isPrimaryInstance, false, "An exception occurred while judge primary data source: ");
+        return primaryInstances.entrySet().stream().filter(Entry::getValue).map(Entry::getKey).findFirst();
     }
     
     private Map<String, DataSource> getActiveDataSourceMap(final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
-        Map<String, DataSource> result = new HashMap<>(dataSourceMap);
+        Map<String, DataSource> result = new LinkedHashMap<>(dataSourceMap);
         if (!disabledDataSourceNames.isEmpty()) {
             result.entrySet().removeIf(each -> disabledDataSourceNames.contains(each.getKey()));
         }
         return result;
     }
     
-    private void postReplicaDataSourceDisabledEvent(final String databaseName, final String groupName, final String primaryDataSourceName, final Map<String, DataSource> dataSourceMap) {
-        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-            if (!entry.getKey().equals(primaryDataSourceName)) {
-                ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(databaseName, groupName, entry.getKey(), createStorageNodeDataSource(loadReplicaStatus(entry.getValue()))));
-            }
+    private Map<String, Boolean> postReplicaDataSourceDisabledEvent(final String databaseName, final String groupName, final String primaryDataSourceName,
+                                                                    final Map<String, DataSource> dataSourceMap) {
+        Map<String, DataSource> replicaDataSourceMap = new LinkedHashMap<>(dataSourceMap);
+        replicaDataSourceMap.remove(primaryDataSourceName);
+        Map<String, ReplicaDataSourceStatus> replicaStatuses = probe(replicaDataSourceMap,
+                databaseDiscoveryProviderAlgorithm::loadReplicaStatus, OFFLINE_REPLICA_STATUS, "Load data source replica status error: ");
+        Map<String, Boolean> result = new LinkedHashMap<>(replicaStatuses.size(), 1);
+        for (Entry<String, ReplicaDataSourceStatus> entry : replicaStatuses.entrySet()) {
+            ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(databaseName, groupName, entry.getKey(), createStorageNodeDataSource(entry.getValue())));
+            ShardingSphereEventBus.getInstance().post(new ReplicationDelayRenewedEvent(databaseName, groupName, entry.getKey(), entry.getValue().getReplicationDelayMilliseconds()));
+            result.put(entry.getKey(), entry.getValue().isOnline());
         }
+        return result;
     }
     
     private StorageNodeDataSource createStorageNodeDataSource(final ReplicaDataSourceStatus replicaStatus) {
         return new StorageNodeDataSource(StorageNodeRole.MEMBER, replicaStatus.isOnline() ? StorageNodeStatus.ENABLED : StorageNodeStatus.DISABLED, replicaStatus.getReplicationDelayMilliseconds());
     }
     
-    private ReplicaDataSourceStatus loadReplicaStatus(final DataSource replicaDataSource) {
+    private <T> Map<String, T> probe(final Map<String, DataSource> dataSourceMap, final DataSourceProbe<T> probe, final T defaultValue, final String errorMessage) {
+        Map<String, Future<T>> futures = new LinkedHashMap<>(dataSourceMap.size(), 1);
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            FutureTask<T> future = new FutureTask<>(() -> probeQuietly(entry.getValue(), probe, defaultValue, errorMessage));
+            probeExecutor.execute(future);
+            futures.put(entry.getKey(), future);
+        }
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(probeTimeoutMilliseconds);
+        Map<String, T> result = new LinkedHashMap<>(futures.size(), 1);
+        for (Entry<String, Future<T>> entry : futures.entrySet()) {
+            result.put(entry.getKey(), await(entry.getKey(), entry.getValue(), deadlineNanos, defaultValue));
+        }
+        return result;
+    }
+    
+    private <T> T probeQuietly(final DataSource dataSource, final DataSourceProbe<T> probe, final T defaultValue, final String errorMessage) {
         try {
-            return databaseDiscoveryProviderAlgorithm.loadReplicaStatus(replicaDataSource);
-        } catch (SQLException ex) {
-            log.error("Load data source replica status error: ", ex);
-            return new ReplicaDataSourceStatus(false, 0L);
+            return probe.probe(dataSource);
+        } catch (final SQLException ex) {
+            log.error(errorMessage, ex);
+            return defaultValue;
         }
     }
+    
+    private <T> T await(final String dataSourceName, final Future<T> future, final long deadlineNanos, final T defaultValue) {
+        try {
+            return future.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return defaultValue;
+        } catch (final ExecutionException ex) {
+            log.error("Probe data source `{}` failed", dataSourceName, ex);
+            return defaultValue;
+        } catch (final TimeoutException ex) {
+            future.cancel(true);
+            log.error("Probe data source `{}` timed out after {} milliseconds", dataSourceName, probeTimeoutMilliseconds);
+            return defaultValue;
+        }
+    }
+    
+    private interface DataSourceProbe<T> {
+        
+        T probe(DataSource dataSource) throws SQLException;
+    }
 }
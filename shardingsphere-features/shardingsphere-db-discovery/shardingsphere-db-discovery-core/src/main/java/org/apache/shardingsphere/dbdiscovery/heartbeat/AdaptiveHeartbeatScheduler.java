@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.heartbeat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.dbdiscovery.algorithm.DatabaseDiscoveryEngine;
+import org.apache.shardingsphere.dbdiscovery.algorithm.DatabaseDiscoveryTopology;
+import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryProviderAlgorithm;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.schedule.core.api.CronJob;
+import org.apache.shardingsphere.schedule.core.api.ModeScheduleContext;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive heartbeat scheduler.
+ * 
+ * <p>Probes topology of database discovery group with minimum interval while it is unstable, and doubles interval up to maximum interval while it is steady.</p>
+ * 
+ * <p>
+ *     In cluster mode, heartbeat is triggered every second by a cron job of mode schedule context which runs on the elected instance only,
+ *     and probes are skipped until current interval is elapsed. Intervals less than one second are raised to one second there.
+ * </p>
+ */
+@Slf4j
+public final class AdaptiveHeartbeatScheduler {
+    
+    public static final String MIN_KEEP_ALIVE_INTERVAL_MILLISECONDS_KEY = "min-keep-alive-interval-milliseconds";
+    
+    public static final String MAX_KEEP_ALIVE_INTERVAL_MILLISECONDS_KEY = "max-keep-alive-interval-milliseconds";
+    
+    public static final String PROBE_TIMEOUT_MILLISECONDS_KEY = "probe-timeout-milliseconds";
+    
+    private static final long DEFAULT_MIN_KEEP_ALIVE_INTERVAL_MILLISECONDS = 500L;
+    
+    private static final long DEFAULT_MAX_KEEP_ALIVE_INTERVAL_MILLISECONDS = 10000L;
+    
+    private static final long DEFAULT_PROBE_TIMEOUT_MILLISECONDS = 3000L;
+    
+    private static final String CLUSTER_TRIGGER_CRON = "0/1 * * * * ?";
+    
+    private static final long CLUSTER_TRIGGER_PERIOD_MILLISECONDS = 1000L;
+    
+    private static final Map<String, AdaptiveHeartbeatScheduler> SCHEDULERS = new ConcurrentHashMap<>();
+    
+    private final String databaseName;
+    
+    private final String groupName;
+    
+    private final Map<String, DataSource> dataSourceMap;
+    
+    private final Collection<String> disabledDataSourceNames;
+    
+    private long minIntervalMilliseconds;
+    
+    private long maxIntervalMilliseconds;
+    
+    private final ScheduledExecutorService scheduleExecutor;
+    
+    private final ExecutorService probeExecutor;
+    
+    private final DatabaseDiscoveryEngine engine;
+    
+    private String primaryDataSourceName;
+    
+    private DatabaseDiscoveryTopology lastTopology;
+    
+    private long intervalMilliseconds;
+    
+    private long nextHeartbeatMilliseconds;
+    
+    public AdaptiveHeartbeatScheduler(final String databaseName, final String groupName, final String primaryDataSourceName, final Map<String, DataSource> dataSourceMap,
+                                      final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm, final Collection<String> disabledDataSourceNames, final Properties props) {
+        this.databaseName = databaseName;
+        this.groupName = groupName;
+        this.primaryDataSourceName = primaryDataSourceName;
+        this.dataSourceMap = dataSourceMap;
+        this.disabledDataSourceNames = disabledDataSourceNames;
+        minIntervalMilliseconds = getLongValue(props, MIN_KEEP_ALIVE_INTERVAL_MILLISECONDS_KEY, DEFAULT_MIN_KEEP_ALIVE_INTERVAL_MILLISECONDS);
+        maxIntervalMilliseconds = Math.max(minIntervalMilliseconds, getLongValue(props, MAX_KEEP_ALIVE_INTERVAL_MILLISECONDS_KEY, DEFAULT_MAX_KEEP_ALIVE_INTERVAL_MILLISECONDS));
+        intervalMilliseconds = minIntervalMilliseconds;
+        scheduleExecutor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("DatabaseDiscoveryHeartbeat-%d"));
+        probeExecutor = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("DatabaseDiscoveryProbe-%d"));
+        engine = new DatabaseDiscoveryEngine(databaseDiscoveryProviderAlgorithm, probeExecutor, getLongValue(props, PROBE_TIMEOUT_MILLISECONDS_KEY, DEFAULT_PROBE_TIMEOUT_MILLISECONDS));
+    }
+    
+    private static long getLongValue(final Properties props, final String key, final long defaultValue) {
+        String value = props.getProperty(key);
+        return null == value ? defaultValue : Long.parseLong(value.trim());
+    }
+    
+    /**
+     * Judge whether adaptive heartbeat is configured.
+     * 
+     * @param props heartbeat properties
+     * @return adaptive heartbeat is configured or not
+     */
+    public static boolean isConfigured(final Properties props) {
+        return props.containsKey(MIN_KEEP_ALIVE_INTERVAL_MILLISECONDS_KEY) || props.containsKey(MAX_KEEP_ALIVE_INTERVAL_MILLISECONDS_KEY);
+    }
+    
+    /**
+     * Start scheduler, previous scheduler with same job name will be stopped.
+     * 
+     * @param jobName job name
+     * @param scheduler scheduler to be started
+     */
+    public static void start(final String jobName, final AdaptiveHeartbeatScheduler scheduler) {
+        register(jobName, scheduler);
+        scheduler.scheduleExecutor.execute(scheduler::heartbeat);
+    }
+    
+    /**
+     * Start scheduler in cluster mode, previous scheduler with same job name will be stopped.
+     * 
+     * @param jobName job name
+     * @param scheduler scheduler to be started
+     * @param modeScheduleContext mode schedule context
+     */
+    public static void start(final String jobName, final AdaptiveHeartbeatScheduler scheduler, final ModeScheduleContext modeScheduleContext) {
+        register(jobName, scheduler);
+        scheduler.raiseIntervalsToClusterTriggerPeriod();
+        modeScheduleContext.startCronJob(new CronJob(jobName, each -> scheduler.heartbeatIfDue(), CLUSTER_TRIGGER_CRON));
+    }
+    
+    private synchronized void raiseIntervalsToClusterTriggerPeriod() {
+        if (minIntervalMilliseconds >= CLUSTER_TRIGGER_PERIOD_MILLISECONDS) {
+            return;
+        }
+        log.warn("Min keep alive interval {} milliseconds of `{}.{}` is less than heartbeat trigger period in cluster mode, {} milliseconds is used instead.",
+                minIntervalMilliseconds, databaseName, groupName, CLUSTER_TRIGGER_PERIOD_MILLISECONDS);
+        minIntervalMilliseconds = CLUSTER_TRIGGER_PERIOD_MILLISECONDS;
+        maxIntervalMilliseconds = Math.max(maxIntervalMilliseconds, CLUSTER_TRIGGER_PERIOD_MILLISECONDS);
+        intervalMilliseconds = Math.max(intervalMilliseconds, CLUSTER_TRIGGER_PERIOD_MILLISECONDS);
+    }
+    
+    private static void register(final String jobName, final AdaptiveHeartbeatScheduler scheduler) {
+        AdaptiveHeartbeatScheduler previous = SCHEDULERS.put(jobName, scheduler);
+        if (null != previous) {
+            previous.stop();
+        }
+    }
+    
+    /**
+     * Stop scheduler with job name.
+     * 
+     * @param jobName job name
+     */
+    public static void stopJob(final String jobName) {
+        AdaptiveHeartbeatScheduler scheduler = SCHEDULERS.remove(jobName);
+        if (null != scheduler) {
+            scheduler.stop();
+        }
+    }
+    
+    /**
+     * Get current interval.
+     * 
+     * @return current interval in milliseconds
+     */
+    public synchronized long getIntervalMilliseconds() {
+        return intervalMilliseconds;
+    }
+    
+    /**
+     * Stop scheduler.
+     */
+    public void stop() {
+        scheduleExecutor.shutdownNow();
+        probeExecutor.shutdownNow();
+    }
+    
+    synchronized void heartbeat() {
+        probe();
+        if (!scheduleExecutor.isShutdown()) {
+            scheduleExecutor.schedule(this::heartbeat, intervalMilliseconds, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    synchronized void heartbeatIfDue() {
+        long now = System.currentTimeMillis();
+        if (probeExecutor.isShutdown() || now < nextHeartbeatMilliseconds) {
+            return;
+        }
+        probe();
+        nextHeartbeatMilliseconds = now + intervalMilliseconds;
+    }
+    
+    private void probe() {
+        try {
+            DatabaseDiscoveryTopology topology = engine.discoverTopology(databaseName, groupName, primaryDataSourceName, dataSourceMap, disabledDataSourceNames);
+            intervalMilliseconds = isSteady(topology) ? Math.min(intervalMilliseconds * 2, maxIntervalMilliseconds) : minIntervalMilliseconds;
+            primaryDataSourceName = topology.getPrimaryDataSourceName();
+            lastTopology = topology;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Database discovery heartbeat of `{}.{}` failed: ", databaseName, groupName, ex);
+            intervalMilliseconds = minIntervalMilliseconds;
+        }
+    }
+    
+    private boolean isSteady(final DatabaseDiscoveryTopology topology) {
+        return topology.isPrimaryDiscovered() && topology.equals(lastTopology);
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.dbdiscovery.api.config.DatabaseDiscoveryRuleCon
 import org.apache.shardingsphere.dbdiscovery.api.config.rule.DatabaseDiscoveryDataSourceRuleConfiguration;
 import org.apache.shardingsphere.dbdiscovery.api.config.rule.DatabaseDiscoveryHeartBeatConfiguration;
 import org.apache.shardingsphere.dbdiscovery.factory.DatabaseDiscoveryProviderAlgorithmFactory;
+import org.apache.shardingsphere.dbdiscovery.heartbeat.AdaptiveHeartbeatScheduler;
 import org.apache.shardingsphere.dbdiscovery.heartbeat.HeartbeatJob;
 import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryProviderAlgorithm;
 import org.apache.shardingsphere.infra.datasource.strategy.DynamicDataSourceStrategyFactory;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.infra.rule.identifier.scope.SchemaRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.ExportableRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.InstanceAwareRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.StatusContainedRule;
 import org.apache.shardingsphere.mode.metadata.storage.event.DataSourceNameDisabledEvent;
 import org.apache.shardingsphere.mode.metadata.storage.event.PrimaryDataSourceChangedEvent;
@@ -49,6 +51,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -60,7 +63,7 @@ import java.util.stream.Collectors;
 /**
  * Database discovery rule.
  */
-public final class DatabaseDiscoveryRule implements SchemaRule, DataSourceContainedRule, StatusContainedRule, ExportableRule, InstanceAwareRule {
+public final class DatabaseDiscoveryRule implements SchemaRule, DataSourceContainedRule, StatusContainedRule, ExportableRule, InstanceAwareRule, ResourceHeldRule {
     
     private final Map<String, DatabaseDiscoveryProviderAlgorithm> discoveryTypes;
     
@@ -71,6 +74,14 @@ public final class DatabaseDiscoveryRule implements SchemaRule, DataSourceContai
     
     private final Map<String, DataSource> dataSourceMap;
     
+    private final Collection<String> adaptiveHeartbeatJobNames = new LinkedList<>();
+    
+    private final Collection<String> cronHeartbeatJobNames = new LinkedList<>();
+    
+    private ModeScheduleContext modeScheduleContext;
+    
+    private boolean heartbeatJobsStarted;
+    
     public DatabaseDiscoveryRule(final String databaseName, final Map<String, DataSource> dataSourceMap, final DatabaseDiscoveryRuleConfiguration config) {
         this(databaseName, dataSourceMap, config.getDataSources(), config.getDiscoveryHeartbeats(), getDiscoveryProviderAlgorithms(config.getDiscoveryTypes()));
     }
@@ -185,21 +196,47 @@ public final class DatabaseDiscoveryRule implements SchemaRule, DataSourceContai
         return result;
     }
     
-    private void initHeartBeatJobs(final InstanceContext instanceContext) {
-        Optional<ModeScheduleContext> modeScheduleContext = ModeScheduleContextFactory.getInstance().get(instanceContext.getInstance().getInstanceDefinition().getInstanceId().getId());
-        if (modeScheduleContext.isPresent()) {
-            for (Entry<String, DatabaseDiscoveryDataSourceRule> entry : dataSourceRules.entrySet()) {
-                DatabaseDiscoveryDataSourceRule rule = entry.getValue();
-                Map<String, DataSource> dataSources = dataSourceMap.entrySet().stream().filter(each -> !rule.getDisabledDataSourceNames().contains(each.getKey()))
-                        .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
-                String jobName = rule.getDatabaseDiscoveryProviderAlgorithm().getType() + "-" + databaseName + "-" + rule.getGroupName();
+    private synchronized void initHeartBeatJobs(final InstanceContext instanceContext) {
+        if (heartbeatJobsStarted) {
+            return;
+        }
+        heartbeatJobsStarted = true;
+        modeScheduleContext = ModeScheduleContextFactory.getInstance().get(instanceContext.getInstance().getInstanceDefinition().getInstanceId().getId()).orElse(null);
+        for (Entry<String, DatabaseDiscoveryDataSourceRule> entry : dataSourceRules.entrySet()) {
+            DatabaseDiscoveryDataSourceRule rule = entry.getValue();
+            Map<String, DataSource> dataSources = dataSourceMap.entrySet().stream().filter(each -> !rule.getDisabledDataSourceNames().contains(each.getKey()))
+                    .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+            String jobName = rule.getDatabaseDiscoveryProviderAlgorithm().getType() + "-" + databaseName + "-" + rule.getGroupName();
+            if (AdaptiveHeartbeatScheduler.isConfigured(rule.getHeartbeatProps())) {
+                AdaptiveHeartbeatScheduler scheduler = new AdaptiveHeartbeatScheduler(databaseName, rule.getGroupName(), rule.getPrimaryDataSourceName(), dataSources,
+                        rule.getDatabaseDiscoveryProviderAlgorithm(), rule.getDisabledDataSourceNames(), rule.getHeartbeatProps());
+                if (null == modeScheduleContext) {
+                    AdaptiveHeartbeatScheduler.start(jobName, scheduler);
+                } else {
+                    AdaptiveHeartbeatScheduler.start(jobName, scheduler, modeScheduleContext);
+                }
+                adaptiveHeartbeatJobNames.add(jobName);
+            } else if (null != modeScheduleContext) {
+                AdaptiveHeartbeatScheduler.stopJob(jobName);
                 CronJob job = new CronJob(jobName, each -> new HeartbeatJob(databaseName, rule.getGroupName(), rule.getPrimaryDataSourceName(), dataSources,
                         rule.getDatabaseDiscoveryProviderAlgorithm(), rule.getDisabledDataSourceNames()).execute(null), rule.getHeartbeatProps().getProperty("keep-alive-cron"));
-                modeScheduleContext.get().startCronJob(job);
+                modeScheduleContext.startCronJob(job);
+                cronHeartbeatJobNames.add(jobName);
             }
         }
     }
     
+    @Override
+    public synchronized void closeStaleResources() {
+        adaptiveHeartbeatJobNames.forEach(AdaptiveHeartbeatScheduler::stopJob);
+        if (null != modeScheduleContext) {
+            adaptiveHeartbeatJobNames.forEach(modeScheduleContext::closeCronJob);
+            cronHeartbeatJobNames.forEach(modeScheduleContext::closeCronJob);
+        }
+        adaptiveHeartbeatJobNames.clear();
+        cronHeartbeatJobNames.clear();
+    }
+    
     @Override
     public String getType() {
         return DatabaseDiscoveryRule.class.getSimpleName();
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.algorithm;
+
+import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryProviderAlgorithm;
+import org.apache.shardingsphere.dbdiscovery.spi.ReplicaDataSourceStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DatabaseDiscoveryEngineTest {
+    
+    private final DataSource hangingDataSource = mock(DataSource.class);
+    
+    private final DataSource primaryDataSource = mock(DataSource.class);
+    
+    private final DatabaseDiscoveryProviderAlgorithm algorithm = mock(DatabaseDiscoveryProviderAlgorithm.class);
+    
+    private final Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(2, 1);
+    
+    private ExecutorService probeExecutor;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(algorithm.isPrimaryInstance(hangingDataSource)).thenAnswer(invocation -> {
+            Thread.sleep(60000L);
+            return true;
+        });
+        when(algorithm.isPrimaryInstance(primaryDataSource)).thenReturn(true);
+        when(algorithm.loadReplicaStatus(hangingDataSource)).thenReturn(new ReplicaDataSourceStatus(true, 0L));
+        dataSourceMap.put("ds_0", hangingDataSource);
+        dataSourceMap.put("ds_1", primaryDataSource);
+        probeExecutor = Executors.newCachedThreadPool();
+    }
+    
+    @After
+    public void tearDown() {
+        probeExecutor.shutdownNow();
+    }
+    
+    @Test
+    public void assertDiscoverTopologyWithProbeTimeout() {
+        DatabaseDiscoveryTopology actual = new DatabaseDiscoveryEngine(algorithm, probeExecutor, 100L).discoverTopology("db_discovery", "test_pr", "ds_0", dataSourceMap, Collections.emptySet());
+        assertTrue(actual.isPrimaryDiscovered());
+        assertThat(actual.getPrimaryDataSourceName(), is("ds_1"));
+        assertThat(actual.getReplicaOnlineStatuses(), is(Collections.singletonMap("ds_0", true)));
+    }
+    
+    @Test
+    public void assertCancelTimedOutProbe() throws SQLException, InterruptedException {
+        CountDownLatch interruptedLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            try {
+                Thread.sleep(60000L);
+            } catch (final InterruptedException ex) {
+                interruptedLatch.countDown();
+            }
+            return true;
+        }).when(algorithm).isPrimaryInstance(hangingDataSource);
+        new DatabaseDiscoveryEngine(algorithm, probeExecutor, 100L).discoverTopology("db_discovery", "test_pr", "ds_0", dataSourceMap, Collections.emptySet());
+        assertTrue(interruptedLatch.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourceSequentially() throws SQLException {
+        doReturn(false).when(algorithm).isPrimaryInstance(hangingDataSource);
+        assertThat(new DatabaseDiscoveryEngine(algorithm).changePrimaryDataSource("db_discovery", "test_pr", "ds_0", dataSourceMap, Collections.emptySet()), is("ds_1"));
+    }
+}
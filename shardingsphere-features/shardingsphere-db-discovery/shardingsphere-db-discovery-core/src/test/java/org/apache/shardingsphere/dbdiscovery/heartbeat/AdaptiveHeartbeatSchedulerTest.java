@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.heartbeat;
+
+import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryProviderAlgorithm;
+import org.apache.shardingsphere.dbdiscovery.spi.ReplicaDataSourceStatus;
+import org.apache.shardingsphere.schedule.core.api.CronJob;
+import org.apache.shardingsphere.schedule.core.api.ModeScheduleContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class AdaptiveHeartbeatSchedulerTest {
+    
+    private final DataSource primaryDataSource = mock(DataSource.class);
+    
+    private final DataSource replicaDataSource = mock(DataSource.class);
+    
+    private final DatabaseDiscoveryProviderAlgorithm algorithm = mock(DatabaseDiscoveryProviderAlgorithm.class);
+    
+    private AdaptiveHeartbeatScheduler scheduler;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(algorithm.isPrimaryInstance(primaryDataSource)).thenReturn(true);
+        when(algorithm.loadReplicaStatus(any())).thenReturn(new ReplicaDataSourceStatus(true, 0L));
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(2, 1);
+        dataSourceMap.put("ds_0", primaryDataSource);
+        dataSourceMap.put("ds_1", replicaDataSource);
+        scheduler = new AdaptiveHeartbeatScheduler("db_discovery", "test_pr", "ds_0", dataSourceMap, algorithm, Collections.emptySet(), createProperties());
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(AdaptiveHeartbeatScheduler.MIN_KEEP_ALIVE_INTERVAL_MILLISECONDS_KEY, "60000");
+        result.setProperty(AdaptiveHeartbeatScheduler.MAX_KEEP_ALIVE_INTERVAL_MILLISECONDS_KEY, "240000");
+        return result;
+    }
+    
+    @After
+    public void tearDown() {
+        scheduler.stop();
+    }
+    
+    @Test
+    public void assertIsConfigured() {
+        assertTrue(AdaptiveHeartbeatScheduler.isConfigured(createProperties()));
+        assertFalse(AdaptiveHeartbeatScheduler.isConfigured(new Properties()));
+    }
+    
+    @Test
+    public void assertBackOffWhileTopologyIsSteady() {
+        scheduler.heartbeat();
+        assertThat(scheduler.getIntervalMilliseconds(), is(60000L));
+        scheduler.heartbeat();
+        assertThat(scheduler.getIntervalMilliseconds(), is(120000L));
+        scheduler.heartbeat();
+        assertThat(scheduler.getIntervalMilliseconds(), is(240000L));
+        scheduler.heartbeat();
+        assertThat(scheduler.getIntervalMilliseconds(), is(240000L));
+    }
+    
+    @Test
+    public void assertProbeFastWhileTopologyIsUnstable() throws SQLException {
+        scheduler.heartbeat();
+        scheduler.heartbeat();
+        assertThat(scheduler.getIntervalMilliseconds(), is(120000L));
+        when(algorithm.loadReplicaStatus(replicaDataSource)).thenReturn(new ReplicaDataSourceStatus(false, 0L));
+        scheduler.heartbeat();
+        assertThat(scheduler.getIntervalMilliseconds(), is(60000L));
+    }
+    
+    @Test
+    public void assertHeartbeatIfDue() throws SQLException {
+        scheduler.heartbeatIfDue();
+        scheduler.heartbeatIfDue();
+        assertThat(scheduler.getIntervalMilliseconds(), is(60000L));
+        verify(algorithm, times(1)).isPrimaryInstance(primaryDataSource);
+    }
+    
+    @Test
+    public void assertStartAndStopInClusterMode() throws SQLException {
+        ModeScheduleContext modeScheduleContext = mock(ModeScheduleContext.class);
+        AdaptiveHeartbeatScheduler.start("test_job", scheduler, modeScheduleContext);
+        verify(modeScheduleContext).startCronJob(any(CronJob.class));
+        AdaptiveHeartbeatScheduler.stopJob("test_job");
+        scheduler.heartbeatIfDue();
+        verify(algorithm, never()).isPrimaryInstance(any());
+    }
+    
+    @Test
+    public void assertStartInClusterModeWithIntervalsLessThanTriggerPeriod() {
+        Properties props = new Properties();
+        props.setProperty(AdaptiveHeartbeatScheduler.MIN_KEEP_ALIVE_INTERVAL_MILLISECONDS_KEY, "500");
+        props.setProperty(AdaptiveHeartbeatScheduler.MAX_KEEP_ALIVE_INTERVAL_MILLISECONDS_KEY, "800");
+        AdaptiveHeartbeatScheduler subSecondScheduler = new AdaptiveHeartbeatScheduler("db_discovery", "test_pr", "ds_0", Collections.emptyMap(), algorithm, Collections.emptySet(), props);
+        assertThat(subSecondScheduler.getIntervalMilliseconds(), is(500L));
+        AdaptiveHeartbeatScheduler.start("test_sub_second_job", subSecondScheduler, mock(ModeScheduleContext.class));
+        try {
+            assertThat(subSecondScheduler.getIntervalMilliseconds(), is(1000L));
+            subSecondScheduler.heartbeatIfDue();
+            assertThat(subSecondScheduler.getIntervalMilliseconds(), is(1000L));
+        } finally {
+            AdaptiveHeartbeatScheduler.stopJob("test_sub_second_job");
+        }
+    }
+    
+    @Test
+    public void assertProbeFastWithoutPrimaryDiscovered() throws SQLException {
+        when(algorithm.isPrimaryInstance(primaryDataSource)).thenReturn(false);
+        scheduler.heartbeat();
+        scheduler.heartbeat();
+        assertThat(scheduler.getIntervalMilliseconds(), is(60000L));
+    }
+}
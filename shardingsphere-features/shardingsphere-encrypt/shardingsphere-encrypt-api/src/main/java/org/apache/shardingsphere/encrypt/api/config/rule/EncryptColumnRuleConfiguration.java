@@ -45,6 +45,15 @@ public final class EncryptColumnRuleConfiguration {
     
     private final String encryptorName;
     
+    private final String rangeQueryColumn;
+    
+    private final String rangeQueryEncryptorName;
+    
+    public EncryptColumnRuleConfiguration(final String logicColumn, final String logicDataType, final String cipherColumn, final String cipherDataType,
+                                          final String assistedQueryColumn, final String assistedQueryDataType, final String plainColumn, final String plainDataType, final String encryptorName) {
+        this(logicColumn, logicDataType, cipherColumn, cipherDataType, assistedQueryColumn, assistedQueryDataType, plainColumn, plainDataType, encryptorName, null, null);
+    }
+    
     public EncryptColumnRuleConfiguration(final String logicColumn, final String cipherColumn, final String assistedQueryColumn, final String plainColumn, final String encryptorName) {
         this(logicColumn, null, cipherColumn, null, assistedQueryColumn, null, plainColumn, null, encryptorName);
     }
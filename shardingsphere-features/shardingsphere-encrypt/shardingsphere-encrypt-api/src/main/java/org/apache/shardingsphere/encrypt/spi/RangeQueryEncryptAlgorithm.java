@@ -0,0 +1,29 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.spi;
+
+/**
+ * Range query encrypt algorithm for SPI.
+ * 
+ * <p>Cipher values of range query encrypt algorithm keep the order of plain values, so that range predicates and order by items can be evaluated on them by database.</p>
+ *
+ * @param <I> type of plain value
+ * @param <O> type of cipher value
+ */
+public interface RangeQueryEncryptAlgorithm<I, O> extends EncryptAlgorithm<I, O> {
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm;
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Longs;
+import lombok.Getter;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
+import org.apache.shardingsphere.encrypt.spi.RangeQueryEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import javax.crypto.Mac;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Properties;
+
+/**
+ * Order preserving encrypt algorithm.
+ * 
+ * <p>Integral plain values are mapped to cipher values in {@code [0, 2^96)} by a keyed monotone random mapping:
+ * walking the bits of plain value from the highest one, every node of the binary tree over plain values splits its range of cipher values
+ * at a point chosen by {@code HMAC-SHA256(key, node)}, and the leaf picks cipher value in its range in the same way.
+ * Cipher values keep the order and equality of plain values, and can only be decrypted by walking the same tree with the secret key.</p>
+ */
+public final class OPEEncryptAlgorithm implements RangeQueryEncryptAlgorithm<Object, BigDecimal> {
+    
+    private static final String OPE_KEY = "ope-key-value";
+    
+    private static final int PLAIN_BITS = Long.SIZE;
+    
+    private static final int CIPHER_BITS = 96;
+    
+    private static final BigInteger CIPHER_SIZE = BigInteger.ONE.shiftLeft(CIPHER_BITS);
+    
+    @Getter
+    private Properties props;
+    
+    private ThreadLocal<Mac> mac;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        byte[] secretKey = createSecretKey(props);
+        mac = ThreadLocal.withInitial(() -> HmacUtils.getInitializedMac(HmacAlgorithms.HMAC_SHA_256, secretKey));
+    }
+    
+    private byte[] createSecretKey(final Properties props) {
+        Preconditions.checkArgument(props.containsKey(OPE_KEY), "%s can not be null.", OPE_KEY);
+        return DigestUtils.sha256(props.getProperty(OPE_KEY));
+    }
+    
+    @Override
+    public BigDecimal encrypt(final Object plainValue, final EncryptContext encryptContext) {
+        if (null == plainValue) {
+            return null;
+        }
+        long node = getIntegralValue(plainValue) ^ Long.MIN_VALUE;
+        BigInteger rangeLow = BigInteger.ZERO;
+        BigInteger rangeSize = CIPHER_SIZE;
+        for (int depth = 0; depth < PLAIN_BITS; depth++) {
+            BigInteger leftRangeSize = getLeftRangeSize(depth, node, rangeSize);
+            if (0 == (node >>> (PLAIN_BITS - 1 - depth) & 1L)) {
+                rangeSize = leftRangeSize;
+            } else {
+                rangeLow = rangeLow.add(leftRangeSize);
+                rangeSize = rangeSize.subtract(leftRangeSize);
+            }
+        }
+        return new BigDecimal(rangeLow.add(random(PLAIN_BITS, node, rangeSize)));
+    }
+    
+    private long getIntegralValue(final Object plainValue) {
+        try {
+            if (plainValue instanceof Long || plainValue instanceof Integer || plainValue instanceof Short || plainValue instanceof Byte) {
+                return ((Number) plainValue).longValue();
+            }
+            if (plainValue instanceof Number || plainValue instanceof String) {
+                return new BigDecimal(plainValue.toString()).longValueExact();
+            }
+        } catch (final ArithmeticException | NumberFormatException ignored) {
+        }
+        throw new ShardingSphereException("OPE encrypt algorithm only supports integral values in range of long, but got `%s`.", plainValue);
+    }
+    
+    private BigInteger getLeftRangeSize(final int depth, final long node, final BigInteger rangeSize) {
+        BigInteger halfDomainSize = BigInteger.ONE.shiftLeft(PLAIN_BITS - 1 - depth);
+        BigInteger slack = rangeSize.subtract(halfDomainSize.shiftLeft(1));
+        return halfDomainSize.add(random(depth, node, slack.add(BigInteger.ONE)));
+    }
+    
+    private BigInteger random(final int depth, final long node, final BigInteger bound) {
+        long prefix = 0 == depth ? 0L : node & -1L << (PLAIN_BITS - depth);
+        Mac hmac = mac.get();
+        hmac.update((byte) depth);
+        return new BigInteger(1, hmac.doFinal(Longs.toByteArray(prefix))).mod(bound);
+    }
+    
+    @Override
+    public Object decrypt(final BigDecimal cipherValue, final EncryptContext encryptContext) {
+        if (null == cipherValue) {
+            return null;
+        }
+        BigInteger cipher = cipherValue.toBigInteger();
+        if (cipher.signum() < 0 || cipher.compareTo(CIPHER_SIZE) >= 0) {
+            throw new ShardingSphereException("Can not decrypt `%s` by OPE encrypt algorithm.", cipherValue);
+        }
+        long node = 0L;
+        BigInteger rangeLow = BigInteger.ZERO;
+        BigInteger rangeSize = CIPHER_SIZE;
+        for (int depth = 0; depth < PLAIN_BITS; depth++) {
+            BigInteger leftRangeSize = getLeftRangeSize(depth, node, rangeSize);
+            if (cipher.compareTo(rangeLow.add(leftRangeSize)) < 0) {
+                rangeSize = leftRangeSize;
+            } else {
+                node |= 1L << (PLAIN_BITS - 1 - depth);
+                rangeLow = rangeLow.add(leftRangeSize);
+                rangeSize = rangeSize.subtract(leftRangeSize);
+            }
+        }
+        if (!rangeLow.add(random(PLAIN_BITS, node, rangeSize)).equals(cipher)) {
+            throw new ShardingSphereException("Can not decrypt `%s` by OPE encrypt algorithm.", cipherValue);
+        }
+        return node ^ Long.MIN_VALUE;
+    }
+    
+    @Override
+    public String getType() {
+        return "OPE";
+    }
+}
@@ -41,27 +41,27 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     @Getter
     private Properties props;
     
-    private volatile byte[] key = new byte[SBOX_LENGTH - 1];
-    
-    private volatile int[] sBox = new int[SBOX_LENGTH];
+    private int[] initialSBox;
     
     @Override
     public void init(final Properties props) {
         this.props = props;
-        reset();
-        setKey(props.getProperty(RC4_KEY, "").getBytes(StandardCharsets.UTF_8));
+        byte[] key = props.getProperty(RC4_KEY, "").getBytes(StandardCharsets.UTF_8);
+        checkKeyLength(key);
+        // Existing cipher values are scheduled with a zero filled key of the configured length, keep them decryptable.
+        Arrays.fill(key, (byte) 0);
+        initialSBox = initSBox(key);
     }
     
-    private void setKey(final byte[] key) throws ShardingSphereException {
+    private void checkKeyLength(final byte[] key) throws ShardingSphereException {
         if (!(key.length >= KEY_MIN_LENGTH && key.length < SBOX_LENGTH)) {
             throw new ShardingSphereException("Key length has to be between " + KEY_MIN_LENGTH + " and " + (SBOX_LENGTH - 1));
         }
-        this.key = key;
     }
     
     @Override
     public String encrypt(final Object plainValue, final EncryptContext encryptContext) {
-        return null == plainValue ? null : Base64.encodeBase64String(handle(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8), key));
+        return null == plainValue ? null : Base64.encodeBase64String(crypt(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
     }
     
     @Override
@@ -69,28 +69,15 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = handle(Base64.decodeBase64(cipherValue), key);
+        byte[] result = crypt(Base64.decodeBase64(cipherValue));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private byte[] handle(final byte[] data, final byte[] key) {
-        reset();
-        setKey(key);
-        byte[] result = crypt(data);
-        reset();
-        return result;
-    }
-    
-    private void reset() {
-        Arrays.fill(key, (byte) 0);
-        Arrays.fill(sBox, 0);
-    }
-    
     /*
      * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
      */
     private byte[] crypt(final byte[] message) {
-        sBox = initSBox(key);
+        int[] sBox = initialSBox.clone();
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
@@ -56,7 +56,8 @@ public abstract class EncryptColumnsMergedResult implements MergedResult {
             return false;
         }
         String columnName = getOriginalValue(1, String.class).toString();
-        while (encryptTable.get().getAssistedQueryColumns().contains(columnName) || encryptTable.get().getPlainColumns().contains(columnName)) {
+        while (encryptTable.get().getAssistedQueryColumns().contains(columnName) || encryptTable.get().getRangeQueryColumns().contains(columnName)
+                || encryptTable.get().getPlainColumns().contains(columnName)) {
             hasNext = nextValue();
             if (!hasNext) {
                 return false;
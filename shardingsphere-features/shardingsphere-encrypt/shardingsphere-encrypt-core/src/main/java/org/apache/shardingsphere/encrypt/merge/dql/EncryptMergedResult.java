@@ -25,6 +25,8 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,24 +39,27 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private final Map<Integer, Optional<EncryptColumnDecryptor>> columnDecryptors = new HashMap<>();
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
     }
     
-    @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<EncryptColumnDecryptor> columnDecryptor = columnDecryptors.computeIfAbsent(columnIndex, this::findColumnDecryptor);
+        return columnDecryptor.isPresent() ? columnDecryptor.get().decrypt(mergedResult.getValue(columnIndex, Object.class)) : mergedResult.getValue(columnIndex, type);
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private Optional<EncryptColumnDecryptor> findColumnDecryptor(final int columnIndex) {
         Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
         if (!encryptContext.isPresent() || !metaData.isQueryWithCipherColumn(encryptContext.get().getTableName())) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
         Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName());
-        if (!encryptAlgorithm.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == cipherValue ? null : encryptAlgorithm.get().decrypt(cipherValue, encryptContext.get());
+        return encryptAlgorithm.map(optional -> new EncryptColumnDecryptor(optional, encryptContext.get()));
     }
     
     @Override
@@ -81,13 +81,14 @@ public final class EncryptSchemaMetaDataBuilder implements RuleBasedSchemaMetaDa
         Collection<ColumnMetaData> result = new LinkedList<>();
         Collection<String> plainColumns = encryptTable.getPlainColumns();
         Collection<String> assistedQueryColumns = encryptTable.getAssistedQueryColumns();
+        Collection<String> rangeQueryColumns = encryptTable.getRangeQueryColumns();
         for (ColumnMetaData each : originalColumnMetaDataList) {
             String columnName = each.getName();
             if (encryptTable.isCipherColumn(columnName)) {
                 result.add(createColumnMetaData(encryptTable.getLogicColumn(columnName), each, encryptTable));
                 continue;
             }
-            if (!plainColumns.contains(columnName) && !assistedQueryColumns.contains(columnName)) {
+            if (!plainColumns.contains(columnName) && !assistedQueryColumns.contains(columnName) && !rangeQueryColumns.contains(columnName)) {
                 result.add(each);
             }
         }
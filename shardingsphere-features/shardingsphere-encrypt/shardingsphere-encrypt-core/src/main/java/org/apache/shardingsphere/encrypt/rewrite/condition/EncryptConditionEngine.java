@@ -20,6 +20,7 @@ package org.apache.shardingsphere.encrypt.rewrite.condition;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rewrite.condition.impl.EncryptEqualCondition;
 import org.apache.shardingsphere.encrypt.rewrite.condition.impl.EncryptInCondition;
+import org.apache.shardingsphere.encrypt.rewrite.condition.impl.EncryptRangeCondition;
 import org.apache.shardingsphere.encrypt.rule.EncryptColumn;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
@@ -37,7 +38,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.Whe
 import org.apache.shardingsphere.sql.parser.sql.common.util.ColumnExtractor;
 import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtil;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -56,6 +59,8 @@ public final class EncryptConditionEngine {
     
     private static final Set<String> SUPPORTED_COMPARE_OPERATOR = new HashSet<>();
     
+    private static final Set<String> RANGE_COMPARE_OPERATOR = new HashSet<>();
+    
     private final EncryptRule encryptRule;
     
     private final Map<String, ShardingSphereSchema> schemas;
@@ -73,6 +78,10 @@ public final class EncryptConditionEngine {
         SUPPORTED_COMPARE_OPERATOR.add(">=");
         SUPPORTED_COMPARE_OPERATOR.add("<=");
         SUPPORTED_COMPARE_OPERATOR.add("IS");
+        RANGE_COMPARE_OPERATOR.add(">");
+        RANGE_COMPARE_OPERATOR.add("<");
+        RANGE_COMPARE_OPERATOR.add(">=");
+        RANGE_COMPARE_OPERATOR.add("<=");
     }
     
     /**
@@ -128,11 +137,34 @@ public final class EncryptConditionEngine {
             return createInEncryptCondition(tableName, (InExpression) expression, ((InExpression) expression).getRight());
         }
         if (expression instanceof BetweenExpression) {
-            throw new ShardingSphereException("The SQL clause 'BETWEEN...AND...' is unsupported in encrypt rule.");
+            return createBetweenEncryptCondition(tableName, (BetweenExpression) expression);
         }
         return Optional.empty();
     }
     
+    /**
+     * Find column on the left of range predicate, which includes compare with bound and between.
+     *
+     * @param expression expression
+     * @return column on the left of range predicate
+     */
+    public static Optional<ColumnSegment> findRangePredicateColumn(final ExpressionSegment expression) {
+        ExpressionSegment left;
+        if (expression instanceof BinaryOperationExpression && RANGE_COMPARE_OPERATOR.contains(((BinaryOperationExpression) expression).getOperator())) {
+            left = ((BinaryOperationExpression) expression).getLeft();
+        } else if (expression instanceof BetweenExpression && !((BetweenExpression) expression).isNot()) {
+            left = ((BetweenExpression) expression).getLeft();
+        } else {
+            return Optional.empty();
+        }
+        return left instanceof ColumnSegment ? Optional.of((ColumnSegment) left) : Optional.empty();
+    }
+    
+    private boolean isRangeQueryPredicate(final String tableName, final ExpressionSegment expression) {
+        Optional<ColumnSegment> column = findRangePredicateColumn(expression);
+        return column.isPresent() && encryptRule.findRangeQueryColumn(tableName, column.get().getIdentifier().getValue()).isPresent();
+    }
+    
     private Optional<EncryptCondition> createBinaryEncryptCondition(final BinaryOperationExpression expression, final String tableName) {
         String operator = expression.getOperator();
         if (!LOGICAL_OPERATOR.contains(operator)) {
@@ -148,9 +180,30 @@ public final class EncryptConditionEngine {
         if (!(expression.getLeft() instanceof ColumnSegment)) {
             return Optional.empty();
         }
-        return (compareRightValue instanceof SimpleExpressionSegment && !(compareRightValue instanceof SubqueryExpressionSegment))
-                ? Optional.of(createEncryptEqualCondition(tableName, expression, compareRightValue))
-                : Optional.empty();
+        if (!isSimpleValue(compareRightValue)) {
+            return Optional.empty();
+        }
+        if (isRangeQueryPredicate(tableName, expression)) {
+            String columnName = ((ColumnSegment) expression.getLeft()).getIdentifier().getValue();
+            return Optional.of(new EncryptRangeCondition(columnName, tableName, compareRightValue.getStartIndex(), expression.getStopIndex(), Collections.singletonList(compareRightValue)));
+        }
+        return Optional.of(createEncryptEqualCondition(tableName, expression, compareRightValue));
+    }
+    
+    private Optional<EncryptCondition> createBetweenEncryptCondition(final String tableName, final BetweenExpression expression) {
+        if (!isRangeQueryPredicate(tableName, expression)) {
+            throw new ShardingSphereException("The SQL clause 'BETWEEN...AND...' is unsupported in encrypt rule.");
+        }
+        if (!isSimpleValue(expression.getBetweenExpr()) || !isSimpleValue(expression.getAndExpr())) {
+            return Optional.empty();
+        }
+        String columnName = ((ColumnSegment) expression.getLeft()).getIdentifier().getValue();
+        return Optional.of(new EncryptRangeCondition(columnName, tableName, expression.getBetweenExpr().getStartIndex(), expression.getAndExpr().getStopIndex(),
+                Arrays.asList(expression.getBetweenExpr(), expression.getAndExpr())));
+    }
+    
+    private boolean isSimpleValue(final ExpressionSegment expression) {
+        return expression instanceof SimpleExpressionSegment && !(expression instanceof SubqueryExpressionSegment);
     }
     
     private EncryptEqualCondition createEncryptEqualCondition(final String tableName, final BinaryOperationExpression expression, final ExpressionSegment compareRightValue) {
@@ -18,25 +18,23 @@
 package org.apache.shardingsphere.encrypt.rewrite.context;
 
 import org.apache.shardingsphere.encrypt.constant.EncryptOrder;
-import org.apache.shardingsphere.encrypt.rewrite.condition.EncryptCondition;
-import org.apache.shardingsphere.encrypt.rewrite.condition.EncryptConditionEngine;
 import org.apache.shardingsphere.encrypt.rewrite.parameter.EncryptParameterRewriterBuilder;
+import org.apache.shardingsphere.encrypt.rewrite.plan.EncryptRewritePlan;
+import org.apache.shardingsphere.encrypt.rewrite.plan.EncryptRewritePlanBuilder;
 import org.apache.shardingsphere.encrypt.rewrite.token.EncryptTokenGenerateBuilder;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
-import org.apache.shardingsphere.infra.binder.type.WhereAvailable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Optional;
 
 /**
  * SQL rewrite context decorator for encrypt.
@@ -47,40 +45,35 @@ public final class EncryptSQLRewriteContextDecorator implements SQLRewriteContex
     @Override
     public void decorate(final EncryptRule encryptRule, final ConfigurationProperties props, final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         SQLStatementContext<?> sqlStatementContext = sqlRewriteContext.getSqlStatementContext();
-        if (((CommonSQLStatementContext) sqlStatementContext).getSqlHintExtractor().isHintSkipEncryptRewrite() || !containsEncryptTable(encryptRule, sqlStatementContext)) {
+        if (((CommonSQLStatementContext) sqlStatementContext).getSqlHintExtractor().isHintSkipEncryptRewrite()) {
+            return;
+        }
+        EncryptRewritePlan rewritePlan = getRewritePlan(encryptRule, sqlRewriteContext);
+        if (!rewritePlan.isEncryptTableContained()) {
             return;
         }
-        Collection<EncryptCondition> encryptConditions = createEncryptConditions(encryptRule, sqlRewriteContext);
         encryptRule.setSchemaMetaData(sqlRewriteContext.getDatabaseName(), sqlRewriteContext.getSchemas());
         if (!sqlRewriteContext.getParameters().isEmpty()) {
             Collection<ParameterRewriter> parameterRewriters = new EncryptParameterRewriterBuilder(encryptRule,
-                    sqlRewriteContext.getDatabaseName(), sqlRewriteContext.getSchemas(), sqlStatementContext, encryptConditions).getParameterRewriters();
+                    sqlRewriteContext.getDatabaseName(), sqlRewriteContext.getSchemas(), sqlStatementContext, rewritePlan).getParameterRewriters();
             rewriteParameters(sqlRewriteContext, parameterRewriters);
         }
         Collection<SQLTokenGenerator> sqlTokenGenerators = new EncryptTokenGenerateBuilder(encryptRule,
-                sqlStatementContext, encryptConditions, sqlRewriteContext.getDatabaseName()).getSQLTokenGenerators();
+                sqlStatementContext, rewritePlan.getEncryptConditions(), sqlRewriteContext.getDatabaseName()).getSQLTokenGenerators();
         sqlRewriteContext.addSQLTokenGenerators(sqlTokenGenerators);
     }
     
-    private Collection<EncryptCondition> createEncryptConditions(final EncryptRule encryptRule, final SQLRewriteContext sqlRewriteContext) {
-        SQLStatementContext<?> sqlStatementContext = sqlRewriteContext.getSqlStatementContext();
-        if (!(sqlStatementContext instanceof WhereAvailable)) {
-            return Collections.emptyList();
+    private EncryptRewritePlan getRewritePlan(final EncryptRule encryptRule, final SQLRewriteContext sqlRewriteContext) {
+        SQLStatement sqlStatement = sqlRewriteContext.getSqlStatementContext().getSqlStatement();
+        Optional<EncryptRewritePlan> cachedRewritePlan = encryptRule.findRewritePlan(sqlStatement);
+        if (cachedRewritePlan.isPresent()) {
+            return cachedRewritePlan.get();
         }
-        Collection<WhereSegment> whereSegments = ((WhereAvailable) sqlStatementContext).getWhereSegments();
-        Collection<ColumnSegment> columnSegments = ((WhereAvailable) sqlStatementContext).getColumnSegments();
-        return new EncryptConditionEngine(encryptRule, sqlRewriteContext.getSchemas())
-                .createEncryptConditions(whereSegments, columnSegments, sqlStatementContext, sqlRewriteContext.getDatabaseName());
-    }
-    
-    @SuppressWarnings("rawtypes")
-    private boolean containsEncryptTable(final EncryptRule encryptRule, final SQLStatementContext sqlStatementContext) {
-        for (String each : sqlStatementContext.getTablesContext().getTableNames()) {
-            if (encryptRule.findEncryptTable(each).isPresent()) {
-                return true;
-            }
+        EncryptRewritePlan result = new EncryptRewritePlanBuilder(encryptRule, sqlRewriteContext.getDatabaseName(), sqlRewriteContext.getSchemas(), sqlRewriteContext.getSqlStatementContext()).build();
+        if (result.isCacheable()) {
+            encryptRule.putRewritePlan(sqlStatement, result);
         }
-        return false;
+        return result;
     }
     
     @SuppressWarnings({"rawtypes", "unchecked"})
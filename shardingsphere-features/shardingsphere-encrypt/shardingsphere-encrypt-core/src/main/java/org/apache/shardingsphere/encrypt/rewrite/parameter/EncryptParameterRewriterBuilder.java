@@ -19,12 +19,12 @@ package org.apache.shardingsphere.encrypt.rewrite.parameter;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rewrite.aware.DatabaseNameAware;
-import org.apache.shardingsphere.encrypt.rewrite.aware.EncryptConditionsAware;
-import org.apache.shardingsphere.encrypt.rewrite.condition.EncryptCondition;
+import org.apache.shardingsphere.encrypt.rewrite.aware.EncryptRewritePlanAware;
 import org.apache.shardingsphere.encrypt.rewrite.parameter.rewriter.EncryptAssignmentParameterRewriter;
 import org.apache.shardingsphere.encrypt.rewrite.parameter.rewriter.EncryptInsertOnDuplicateKeyUpdateValueParameterRewriter;
 import org.apache.shardingsphere.encrypt.rewrite.parameter.rewriter.EncryptInsertValueParameterRewriter;
 import org.apache.shardingsphere.encrypt.rewrite.parameter.rewriter.EncryptPredicateParameterRewriter;
+import org.apache.shardingsphere.encrypt.rewrite.plan.EncryptRewritePlan;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.aware.EncryptRuleAware;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
@@ -51,7 +51,7 @@ public final class EncryptParameterRewriterBuilder implements ParameterRewriterB
     
     private final SQLStatementContext<?> sqlStatementContext;
     
-    private final Collection<EncryptCondition> encryptConditions;
+    private final EncryptRewritePlan rewritePlan;
     
     @SuppressWarnings("rawtypes")
     @Override
@@ -79,8 +79,8 @@ public final class EncryptParameterRewriterBuilder implements ParameterRewriterB
         if (toBeAddedParameterRewriter instanceof EncryptRuleAware) {
             ((EncryptRuleAware) toBeAddedParameterRewriter).setEncryptRule(encryptRule);
         }
-        if (toBeAddedParameterRewriter instanceof EncryptConditionsAware) {
-            ((EncryptConditionsAware) toBeAddedParameterRewriter).setEncryptConditions(encryptConditions);
+        if (toBeAddedParameterRewriter instanceof EncryptRewritePlanAware) {
+            ((EncryptRewritePlanAware) toBeAddedParameterRewriter).setRewritePlan(rewritePlan);
         }
         if (toBeAddedParameterRewriter instanceof DatabaseNameAware) {
             ((DatabaseNameAware) toBeAddedParameterRewriter).setDatabaseName(databaseName);
@@ -100,6 +100,9 @@ public final class EncryptAssignmentParameterRewriter implements ParameterRewrit
             Object assistedQueryValue = encryptRule.getEncryptAssistedQueryValues(databaseName, schemaName, tableName, columnName, Collections.singletonList(originalValue)).iterator().next();
             addedParameters.add(assistedQueryValue);
         }
+        if (encryptRule.findRangeQueryColumn(tableName, columnName).isPresent()) {
+            addedParameters.add(encryptRule.getEncryptRangeQueryValues(databaseName, schemaName, tableName, columnName, Collections.singletonList(originalValue)).iterator().next());
+        }
         if (encryptRule.findPlainColumn(tableName, columnName).isPresent()) {
             addedParameters.add(originalValue);
         }
@@ -36,6 +36,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.Function
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -81,6 +82,9 @@ public final class EncryptInsertOnDuplicateKeyUpdateValueParameterRewriter imple
                     Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
                     addedParameters.add(((QueryAssistedEncryptAlgorithm) optional).queryAssistedEncrypt(plainColumnValue, encryptContext));
                 }
+                if (encryptRule.findRangeQueryColumn(tableName, encryptLogicColumnName).isPresent()) {
+                    addedParameters.add(encryptRule.getEncryptRangeQueryValues(databaseName, schemaName, tableName, encryptLogicColumnName, Collections.singletonList(plainColumnValue)).get(0));
+                }
                 if (encryptRule.findPlainColumn(tableName, encryptLogicColumnName).isPresent()) {
                     addedParameters.add(plainColumnValue);
                 }
@@ -39,6 +39,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatem
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -113,6 +114,10 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
             Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
             addedParameters.add(((QueryAssistedEncryptAlgorithm) encryptAlgorithm).queryAssistedEncrypt(originalValue, encryptContext));
         }
+        if (encryptRule.findRangeQueryColumn(encryptContext.getTableName(), encryptContext.getColumnName()).isPresent()) {
+            addedParameters.add(encryptRule.getEncryptRangeQueryValues(encryptContext.getDatabaseName(), encryptContext.getSchemaName(),
+                    encryptContext.getTableName(), encryptContext.getColumnName(), Collections.singletonList(originalValue)).get(0));
+        }
         if (encryptRule.findPlainColumn(encryptContext.getTableName(), encryptContext.getColumnName()).isPresent()) {
             addedParameters.add(originalValue);
         }
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rewrite.plan;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
+import org.apache.shardingsphere.encrypt.rewrite.condition.EncryptCondition;
+import org.apache.shardingsphere.encrypt.rewrite.condition.EncryptConditionEngine;
+import org.apache.shardingsphere.encrypt.rewrite.condition.impl.EncryptRangeCondition;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.QueryAssistedEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.type.WhereAvailable;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rewrite plan builder for encrypt.
+ */
+@RequiredArgsConstructor
+public final class EncryptRewritePlanBuilder {
+    
+    private final EncryptRule encryptRule;
+    
+    private final String databaseName;
+    
+    private final Map<String, ShardingSphereSchema> schemas;
+    
+    private final SQLStatementContext<?> sqlStatementContext;
+    
+    /**
+     * Build rewrite plan.
+     * 
+     * @return rewrite plan
+     */
+    public EncryptRewritePlan build() {
+        boolean cacheable = sqlStatementContext.getTablesContext().getTables().size() <= 1;
+        if (!containsEncryptTable()) {
+            return new EncryptRewritePlan(false, cacheable, Collections.emptyList(), Collections.emptyList());
+        }
+        Collection<EncryptCondition> encryptConditions = createEncryptConditions();
+        return new EncryptRewritePlan(true, cacheable, encryptConditions, createPredicateParameters(encryptConditions));
+    }
+    
+    private boolean containsEncryptTable() {
+        for (String each : sqlStatementContext.getTablesContext().getTableNames()) {
+            if (encryptRule.findEncryptTable(each).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Collection<EncryptCondition> createEncryptConditions() {
+        if (!(sqlStatementContext instanceof WhereAvailable)) {
+            return Collections.emptyList();
+        }
+        Collection<WhereSegment> whereSegments = ((WhereAvailable) sqlStatementContext).getWhereSegments();
+        Collection<ColumnSegment> columnSegments = ((WhereAvailable) sqlStatementContext).getColumnSegments();
+        return new EncryptConditionEngine(encryptRule, schemas).createEncryptConditions(whereSegments, columnSegments, sqlStatementContext, databaseName);
+    }
+    
+    private Collection<EncryptPredicateParameter> createPredicateParameters(final Collection<EncryptCondition> encryptConditions) {
+        Collection<EncryptPredicateParameter> result = new LinkedList<>();
+        String schemaName = sqlStatementContext.getTablesContext().getSchemaName().orElseGet(() -> sqlStatementContext.getDatabaseType().getDefaultSchema(databaseName));
+        for (EncryptCondition each : encryptConditions) {
+            if (each.getPositionIndexMap().isEmpty() || !encryptRule.isQueryWithCipherColumn(each.getTableName())) {
+                continue;
+            }
+            EncryptContext encryptContext = EncryptContextBuilder.build(databaseName, schemaName, each.getTableName(), each.getColumnName(), encryptRule);
+            for (int parameterIndex : each.getPositionIndexMap().values()) {
+                result.add(createPredicateParameter(each, parameterIndex, encryptContext));
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private EncryptPredicateParameter createPredicateParameter(final EncryptCondition encryptCondition, final int parameterIndex, final EncryptContext encryptContext) {
+        String tableName = encryptCondition.getTableName();
+        String columnName = encryptCondition.getColumnName();
+        if (encryptCondition instanceof EncryptRangeCondition) {
+            Optional<EncryptAlgorithm> encryptor = encryptRule.findRangeQueryEncryptor(tableName, columnName);
+            Preconditions.checkArgument(encryptor.isPresent(), "Can not find RangeQueryEncryptAlgorithm by %s.%s.", tableName, columnName);
+            return new EncryptPredicateParameter(parameterIndex, encryptor.get(), encryptContext, false);
+        }
+        Optional<EncryptAlgorithm> encryptor = encryptRule.findEncryptor(tableName, columnName);
+        if (encryptRule.findAssistedQueryColumn(tableName, columnName).isPresent()) {
+            Preconditions.checkArgument(encryptor.isPresent() && encryptor.get() instanceof QueryAssistedEncryptAlgorithm,
+                    "Can not find QueryAssistedEncryptAlgorithm by %s.%s.", tableName, columnName);
+            return new EncryptPredicateParameter(parameterIndex, encryptor.get(), encryptContext, true);
+        }
+        Preconditions.checkArgument(encryptor.isPresent(), "Can not find EncryptAlgorithm by %s.%s.", tableName, columnName);
+        return new EncryptPredicateParameter(parameterIndex, encryptor.get(), encryptContext, false);
+    }
+}
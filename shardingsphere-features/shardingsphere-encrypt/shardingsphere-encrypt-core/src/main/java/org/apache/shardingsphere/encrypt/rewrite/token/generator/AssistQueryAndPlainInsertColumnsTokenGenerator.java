@@ -66,6 +66,7 @@ public final class AssistQueryAndPlainInsertColumnsTokenGenerator implements Col
     private List<String> getColumns(final EncryptTable encryptTable, final ColumnSegment columnSegment) {
         List<String> result = new LinkedList<>();
         encryptTable.findAssistedQueryColumn(columnSegment.getIdentifier().getValue()).ifPresent(result::add);
+        encryptTable.findRangeQueryColumn(columnSegment.getIdentifier().getValue()).ifPresent(result::add);
         encryptTable.findPlainColumn(columnSegment.getIdentifier().getValue()).ifPresent(result::add);
         return result;
     }
@@ -97,6 +97,7 @@ public final class EncryptAssignmentTokenGenerator implements CollectionSQLToken
         String columnName = assignmentSegment.getColumns().get(0).getIdentifier().getValue();
         addCipherColumn(tableName, columnName, result);
         addAssistedQueryColumn(tableName, columnName, result);
+        addRangeQueryColumn(tableName, columnName, result);
         addPlainColumn(tableName, columnName, result);
         return result;
     }
@@ -109,6 +110,10 @@ public final class EncryptAssignmentTokenGenerator implements CollectionSQLToken
         encryptRule.findAssistedQueryColumn(tableName, columnName).ifPresent(token::addColumnName);
     }
     
+    private void addRangeQueryColumn(final String tableName, final String columnName, final EncryptParameterAssignmentToken token) {
+        encryptRule.findRangeQueryColumn(tableName, columnName).ifPresent(token::addColumnName);
+    }
+    
     private void addPlainColumn(final String tableName, final String columnName, final EncryptParameterAssignmentToken token) {
         encryptRule.findPlainColumn(tableName, columnName).ifPresent(token::addColumnName);
     }
@@ -117,6 +122,7 @@ public final class EncryptAssignmentTokenGenerator implements CollectionSQLToken
         EncryptLiteralAssignmentToken result = new EncryptLiteralAssignmentToken(assignmentSegment.getColumns().get(0).getStartIndex(), assignmentSegment.getStopIndex());
         addCipherAssignment(schemaName, tableName, assignmentSegment, result);
         addAssistedQueryAssignment(schemaName, tableName, assignmentSegment, result);
+        addRangeQueryAssignment(schemaName, tableName, assignmentSegment, result);
         addPlainAssignment(tableName, assignmentSegment, result);
         return result;
     }
@@ -138,6 +144,16 @@ public final class EncryptAssignmentTokenGenerator implements CollectionSQLToken
         }
     }
     
+    private void addRangeQueryAssignment(final String schemaName, final String tableName, final AssignmentSegment assignmentSegment, final EncryptLiteralAssignmentToken token) {
+        Object originalValue = ((LiteralExpressionSegment) assignmentSegment.getValue()).getLiterals();
+        String columnName = assignmentSegment.getColumns().get(0).getIdentifier().getValue();
+        Optional<String> rangeQueryColumn = encryptRule.findRangeQueryColumn(tableName, columnName);
+        if (rangeQueryColumn.isPresent()) {
+            Object rangeQueryValue = encryptRule.getEncryptRangeQueryValues(databaseName, schemaName, tableName, columnName, Collections.singletonList(originalValue)).iterator().next();
+            token.addAssignment(rangeQueryColumn.get(), rangeQueryValue);
+        }
+    }
+    
     private void addPlainAssignment(final String tableName, final AssignmentSegment assignmentSegment, final EncryptLiteralAssignmentToken token) {
         Object originalValue = ((LiteralExpressionSegment) assignmentSegment.getValue()).getLiterals();
         encryptRule.findPlainColumn(tableName, assignmentSegment.getColumns().get(0).getIdentifier().getValue()).ifPresent(optional -> token.addAssignment(optional, originalValue));
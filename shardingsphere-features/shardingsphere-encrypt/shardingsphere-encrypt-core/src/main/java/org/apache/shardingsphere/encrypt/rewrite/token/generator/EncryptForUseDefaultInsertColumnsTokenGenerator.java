@@ -94,6 +94,7 @@ public final class EncryptForUseDefaultInsertColumnsTokenGenerator implements Op
             if (encryptTable.findEncryptorName(columnName).isPresent()) {
                 int columnIndex = result.indexOf(columnName);
                 addPlainColumn(result, encryptTable, columnName, columnIndex);
+                addRangeQueryColumn(result, encryptTable, columnName, columnIndex);
                 addAssistedQueryColumn(result, encryptTable, columnName, columnIndex);
                 setCipherColumn(result, encryptTable, columnName, columnIndex);
             }
@@ -105,6 +106,10 @@ public final class EncryptForUseDefaultInsertColumnsTokenGenerator implements Op
         encryptTable.findPlainColumn(columnName).ifPresent(optional -> columnNames.add(columnIndex + 1, optional));
     }
     
+    private void addRangeQueryColumn(final List<String> columnNames, final EncryptTable encryptTable, final String columnName, final int columnIndex) {
+        encryptTable.findRangeQueryColumn(columnName).ifPresent(optional -> columnNames.add(columnIndex + 1, optional));
+    }
+    
     private void addAssistedQueryColumn(final List<String> columnNames, final EncryptTable encryptTable, final String columnName, final int columnIndex) {
         encryptTable.findAssistedQueryColumn(columnName).ifPresent(optional -> columnNames.add(columnIndex + 1, optional));
     }
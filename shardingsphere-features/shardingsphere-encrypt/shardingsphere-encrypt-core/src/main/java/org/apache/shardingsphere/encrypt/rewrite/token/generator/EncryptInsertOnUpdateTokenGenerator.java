@@ -107,6 +107,7 @@ public final class EncryptInsertOnUpdateTokenGenerator implements CollectionSQLT
         String columnName = assignmentSegment.getColumns().get(0).getIdentifier().getValue();
         addCipherColumn(tableName, columnName, result);
         addAssistedQueryColumn(tableName, columnName, result);
+        addRangeQueryColumn(tableName, columnName, result);
         addPlainColumn(tableName, columnName, result);
         return result;
     }
@@ -115,6 +116,7 @@ public final class EncryptInsertOnUpdateTokenGenerator implements CollectionSQLT
         EncryptLiteralAssignmentToken result = new EncryptLiteralAssignmentToken(assignmentSegment.getColumns().get(0).getStartIndex(), assignmentSegment.getStopIndex());
         addCipherAssignment(schemaName, tableName, assignmentSegment, result);
         addAssistedQueryAssignment(schemaName, tableName, assignmentSegment, result);
+        addRangeQueryAssignment(schemaName, tableName, assignmentSegment, result);
         addPlainAssignment(tableName, assignmentSegment, result);
         return result;
     }
@@ -141,6 +143,13 @@ public final class EncryptInsertOnUpdateTokenGenerator implements CollectionSQLT
         } else if (assistedQueryColumn.isPresent() != valueAssistedQueryColumn.isPresent()) {
             throw new ShardingSphereException("The SQL clause `%s` is unsupported in encrypt rule.", String.format("%s=VALUES(%s)", column, valueColumn));
         }
+        Optional<String> rangeQueryColumn = encryptRule.findRangeQueryColumn(tableName, column);
+        Optional<String> valueRangeQueryColumn = encryptRule.findRangeQueryColumn(tableName, valueColumn);
+        if (rangeQueryColumn.isPresent() && valueRangeQueryColumn.isPresent()) {
+            result.addAssignment(rangeQueryColumn.get(), "VALUES(" + valueRangeQueryColumn.get() + ")");
+        } else if (rangeQueryColumn.isPresent() != valueRangeQueryColumn.isPresent()) {
+            throw new ShardingSphereException("The SQL clause `%s` is unsupported in encrypt rule.", String.format("%s=VALUES(%s)", column, valueColumn));
+        }
         Optional<String> plainColumn = encryptRule.findPlainColumn(tableName, column);
         Optional<String> valuePlainColumn = encryptRule.findPlainColumn(tableName, valueColumn);
         if (plainColumn.isPresent() && valuePlainColumn.isPresent()) {
@@ -162,6 +171,10 @@ public final class EncryptInsertOnUpdateTokenGenerator implements CollectionSQLT
         encryptRule.findAssistedQueryColumn(tableName, columnName).ifPresent(token::addColumnName);
     }
     
+    private void addRangeQueryColumn(final String tableName, final String columnName, final EncryptParameterAssignmentToken token) {
+        encryptRule.findRangeQueryColumn(tableName, columnName).ifPresent(token::addColumnName);
+    }
+    
     private void addPlainColumn(final String tableName, final String columnName, final EncryptParameterAssignmentToken token) {
         encryptRule.findPlainColumn(tableName, columnName).ifPresent(token::addColumnName);
     }
@@ -183,6 +196,16 @@ public final class EncryptInsertOnUpdateTokenGenerator implements CollectionSQLT
         });
     }
     
+    private void addRangeQueryAssignment(final String schemaName, final String tableName, final AssignmentSegment assignmentSegment, final EncryptLiteralAssignmentToken token) {
+        encryptRule.findRangeQueryColumn(tableName, assignmentSegment.getColumns().get(0).getIdentifier().getValue()).ifPresent(optional -> {
+            Object originalValue = ((LiteralExpressionSegment) assignmentSegment.getValue()).getLiterals();
+            Object rangeQueryValue = encryptRule
+                    .getEncryptRangeQueryValues(databaseName, schemaName, tableName, assignmentSegment.getColumns().get(0).getIdentifier().getValue(), Collections.singletonList(originalValue))
+                    .iterator().next();
+            token.addAssignment(optional, rangeQueryValue);
+        });
+    }
+    
     private void addPlainAssignment(final String tableName, final AssignmentSegment assignmentSegment, final EncryptLiteralAssignmentToken token) {
         Object originalValue = ((LiteralExpressionSegment) assignmentSegment.getValue()).getLiterals();
         encryptRule.findPlainColumn(tableName, assignmentSegment.getColumns().get(0).getIdentifier().getValue()).ifPresent(optional -> token.addAssignment(optional, originalValue));
@@ -45,6 +45,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.L
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -137,6 +138,7 @@ public final class EncryptInsertValuesTokenGenerator implements OptionalSQLToken
                 Object originalValue = insertValueContext.getValue(columnIndex).orElseThrow(() -> new ShardingSphereException("Not support for encrypt!"));
                 EncryptContext encryptContext = EncryptContextBuilder.build(databaseName, schemaName, tableName, columnName, encryptRule);
                 addPlainColumn(insertValueToken, columnIndex, encryptContext, insertValueContext, originalValue);
+                addRangeQueryColumn(insertValueToken, columnIndex, encryptContext, insertValueContext, originalValue);
                 addAssistedQueryColumn(insertValueToken, encryptor.get(), columnIndex, encryptContext, insertValueContext, originalValue);
                 setCipherColumn(insertValueToken, encryptor.get(), columnIndex, encryptContext, insertValueContext.getValueExpressions().get(columnIndex), originalValue);
             }
@@ -153,6 +155,17 @@ public final class EncryptInsertValuesTokenGenerator implements OptionalSQLToken
         }
     }
     
+    private void addRangeQueryColumn(final InsertValue insertValueToken, final int columnIndex,
+                                     final EncryptContext encryptContext, final InsertValueContext insertValueContext, final Object originalValue) {
+        if (encryptRule.findRangeQueryColumn(encryptContext.getTableName(), encryptContext.getColumnName()).isPresent()) {
+            DerivedSimpleExpressionSegment derivedExpressionSegment = isAddLiteralExpressionSegment(insertValueContext, columnIndex)
+                    ? new DerivedLiteralExpressionSegment(encryptRule.getEncryptRangeQueryValues(encryptContext.getDatabaseName(), encryptContext.getSchemaName(),
+                            encryptContext.getTableName(), encryptContext.getColumnName(), Collections.singletonList(originalValue)).get(0))
+                    : new DerivedParameterMarkerExpressionSegment(getParameterIndexCount(insertValueToken));
+            insertValueToken.getValues().add(columnIndex + 1, derivedExpressionSegment);
+        }
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void addAssistedQueryColumn(final InsertValue insertValueToken, final EncryptAlgorithm<?, ?> encryptAlgorithm, final int columnIndex,
                                         final EncryptContext encryptContext, final InsertValueContext insertValueContext, final Object originalValue) {
@@ -91,6 +91,11 @@ public final class EncryptOrderByItemTokenGenerator implements CollectionSQLToke
                     continue;
                 }
             }
+            Optional<String> rangeQueryColumn = encryptTable.get().findRangeQueryColumn(column.getIdentifier().getValue());
+            if (rangeQueryColumn.isPresent()) {
+                result.add(new SubstitutableColumnNameToken(startIndex, stopIndex, createColumnProjections(rangeQueryColumn.get())));
+                continue;
+            }
             Optional<String> assistedQueryColumn = encryptTable.get().findAssistedQueryColumn(column.getIdentifier().getValue());
             SubstitutableColumnNameToken encryptColumnNameToken = assistedQueryColumn.map(optional -> new SubstitutableColumnNameToken(startIndex, stopIndex, createColumnProjections(optional)))
                     .orElseGet(() -> new SubstitutableColumnNameToken(startIndex, stopIndex, createColumnProjections(encryptTable.get().getCipherColumn(column.getIdentifier().getValue()))));
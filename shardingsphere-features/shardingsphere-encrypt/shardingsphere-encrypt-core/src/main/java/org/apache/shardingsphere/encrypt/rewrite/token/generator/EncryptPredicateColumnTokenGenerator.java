@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.encrypt.rewrite.token.generator;
 
 import lombok.Setter;
+import org.apache.shardingsphere.encrypt.rewrite.condition.EncryptConditionEngine;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.EncryptTable;
 import org.apache.shardingsphere.encrypt.rule.aware.EncryptRuleAware;
@@ -29,9 +30,14 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.generator.CollectionSQL
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtil;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -59,10 +65,12 @@ public final class EncryptPredicateColumnTokenGenerator implements CollectionSQL
         String defaultSchema = sqlStatementContext.getDatabaseType().getDefaultSchema(databaseName);
         ShardingSphereSchema schema = sqlStatementContext.getTablesContext().getSchemaName().map(schemas::get).orElse(schemas.get(defaultSchema));
         Map<String, String> columnExpressionTableNames = sqlStatementContext.getTablesContext().findTableNamesByColumnSegment(columnSegments, schema);
-        return generateSQLTokens(columnSegments, columnExpressionTableNames);
+        Collection<Integer> rangePredicateColumnStartIndexes = getRangePredicateColumnStartIndexes(((WhereAvailable) sqlStatementContext).getWhereSegments());
+        return generateSQLTokens(columnSegments, columnExpressionTableNames, rangePredicateColumnStartIndexes);
     }
     
-    private Collection<SubstitutableColumnNameToken> generateSQLTokens(final Collection<ColumnSegment> columnSegments, final Map<String, String> columnExpressionTableNames) {
+    private Collection<SubstitutableColumnNameToken> generateSQLTokens(final Collection<ColumnSegment> columnSegments, final Map<String, String> columnExpressionTableNames,
+                                                                       final Collection<Integer> rangePredicateColumnStartIndexes) {
         Collection<SubstitutableColumnNameToken> result = new LinkedHashSet<>();
         for (ColumnSegment each : columnSegments) {
             String tableName = Optional.ofNullable(columnExpressionTableNames.get(each.getExpression())).orElse("");
@@ -80,6 +88,11 @@ public final class EncryptPredicateColumnTokenGenerator implements CollectionSQL
                     continue;
                 }
             }
+            Optional<String> rangeQueryColumn = encryptTable.get().findRangeQueryColumn(each.getIdentifier().getValue());
+            if (rangeQueryColumn.isPresent() && rangePredicateColumnStartIndexes.contains(each.getStartIndex())) {
+                result.add(new SubstitutableColumnNameToken(startIndex, stopIndex, createColumnProjections(rangeQueryColumn.get())));
+                continue;
+            }
             Optional<String> assistedQueryColumn = encryptTable.get().findAssistedQueryColumn(each.getIdentifier().getValue());
             SubstitutableColumnNameToken encryptColumnNameToken = assistedQueryColumn.map(columnName -> new SubstitutableColumnNameToken(startIndex, stopIndex, createColumnProjections(columnName)))
                     .orElseGet(() -> new SubstitutableColumnNameToken(startIndex, stopIndex, createColumnProjections(encryptTable.get().getCipherColumn(each.getIdentifier().getValue()))));
@@ -88,6 +101,18 @@ public final class EncryptPredicateColumnTokenGenerator implements CollectionSQL
         return result;
     }
     
+    private Collection<Integer> getRangePredicateColumnStartIndexes(final Collection<WhereSegment> whereSegments) {
+        Collection<Integer> result = new HashSet<>();
+        for (WhereSegment each : whereSegments) {
+            for (AndPredicate andPredicate : ExpressionExtractUtil.getAndPredicates(each.getExpr())) {
+                for (ExpressionSegment predicate : andPredicate.getPredicates()) {
+                    EncryptConditionEngine.findRangePredicateColumn(predicate).ifPresent(optional -> result.add(optional.getStartIndex()));
+                }
+            }
+        }
+        return result;
+    }
+    
     private Collection<ColumnProjection> createColumnProjections(final String columnName) {
         return Collections.singletonList(new ColumnProjection(null, columnName, null));
     }
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.encrypt.rewrite.aware.DatabaseNameAware;
 import org.apache.shardingsphere.encrypt.rewrite.aware.EncryptConditionsAware;
 import org.apache.shardingsphere.encrypt.rewrite.condition.EncryptCondition;
 import org.apache.shardingsphere.encrypt.rewrite.condition.impl.EncryptInCondition;
+import org.apache.shardingsphere.encrypt.rewrite.condition.impl.EncryptRangeCondition;
+import org.apache.shardingsphere.encrypt.rewrite.token.pojo.EncryptPredicateBetweenRightValueToken;
 import org.apache.shardingsphere.encrypt.rewrite.token.pojo.EncryptPredicateEqualRightValueToken;
 import org.apache.shardingsphere.encrypt.rewrite.token.pojo.EncryptPredicateInRightValueToken;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
@@ -80,13 +82,24 @@ public final class EncryptPredicateRightValueTokenGenerator implements Collectio
     private SQLToken generateSQLTokenForQueryWithCipherColumn(final String schemaName, final EncryptCondition encryptCondition, final List<Object> originalValues, final int startIndex) {
         int stopIndex = encryptCondition.getStopIndex();
         Map<Integer, Object> indexValues = getPositionValues(encryptCondition.getPositionValueMap().keySet(), getEncryptedValues(schemaName, encryptCondition, originalValues));
+        return createRightValueToken(encryptCondition, startIndex, stopIndex, indexValues);
+    }
+    
+    private SQLToken createRightValueToken(final EncryptCondition encryptCondition, final int startIndex, final int stopIndex, final Map<Integer, Object> indexValues) {
         Collection<Integer> parameterMarkerIndexes = encryptCondition.getPositionIndexMap().keySet();
-        return encryptCondition instanceof EncryptInCondition
-                ? new EncryptPredicateInRightValueToken(startIndex, stopIndex, indexValues, parameterMarkerIndexes)
-                : new EncryptPredicateEqualRightValueToken(startIndex, stopIndex, indexValues, parameterMarkerIndexes);
+        if (encryptCondition instanceof EncryptInCondition) {
+            return new EncryptPredicateInRightValueToken(startIndex, stopIndex, indexValues, parameterMarkerIndexes);
+        }
+        if (encryptCondition instanceof EncryptRangeCondition && ((EncryptRangeCondition) encryptCondition).isBetween()) {
+            return new EncryptPredicateBetweenRightValueToken(startIndex, stopIndex, indexValues, parameterMarkerIndexes);
+        }
+        return new EncryptPredicateEqualRightValueToken(startIndex, stopIndex, indexValues, parameterMarkerIndexes);
     }
     
     private List<Object> getEncryptedValues(final String schemaName, final EncryptCondition encryptCondition, final List<Object> originalValues) {
+        if (encryptCondition instanceof EncryptRangeCondition) {
+            return encryptRule.getEncryptRangeQueryValues(databaseName, schemaName, encryptCondition.getTableName(), encryptCondition.getColumnName(), originalValues);
+        }
         Optional<String> assistedQueryColumn = encryptRule.findAssistedQueryColumn(encryptCondition.getTableName(), encryptCondition.getColumnName());
         return assistedQueryColumn.isPresent()
                 ? encryptRule.getEncryptAssistedQueryValues(databaseName, schemaName, encryptCondition.getTableName(), encryptCondition.getColumnName(), originalValues)
@@ -102,10 +115,7 @@ public final class EncryptPredicateRightValueTokenGenerator implements Collectio
         } else {
             indexValues.putAll(getPositionValues(encryptCondition.getPositionValueMap().keySet(), getEncryptedValues(schemaName, encryptCondition, originalValues)));
         }
-        Collection<Integer> parameterMarkerIndexes = encryptCondition.getPositionIndexMap().keySet();
-        return encryptCondition instanceof EncryptInCondition
-                ? new EncryptPredicateInRightValueToken(startIndex, stopIndex, indexValues, parameterMarkerIndexes)
-                : new EncryptPredicateEqualRightValueToken(startIndex, stopIndex, indexValues, parameterMarkerIndexes);
+        return createRightValueToken(encryptCondition, startIndex, stopIndex, indexValues);
     }
     
     private Map<Integer, Object> getPositionValues(final Collection<Integer> valuePositions, final List<Object> encryptValues) {
@@ -47,6 +47,15 @@ public final class EncryptColumn {
     
     private final String encryptorName;
     
+    private final String rangeQueryColumn;
+    
+    private final String rangeQueryEncryptorName;
+    
+    public EncryptColumn(final EncryptColumnDataType logicDataType, final String cipherColumn, final EncryptColumnDataType cipherDataType, final String assistedQueryColumn,
+                         final EncryptColumnDataType assistedQueryDataType, final String plainColumn, final EncryptColumnDataType plainDataType, final String encryptorName) {
+        this(logicDataType, cipherColumn, cipherDataType, assistedQueryColumn, assistedQueryDataType, plainColumn, plainDataType, encryptorName, null, null);
+    }
+    
     /**
      * Get assisted query column.
      * 
@@ -64,4 +73,13 @@ public final class EncryptColumn {
     public Optional<String> getPlainColumn() {
         return Strings.isNullOrEmpty(plainColumn) ? Optional.empty() : Optional.of(plainColumn);
     }
+    
+    /**
+     * Get range query column.
+     *
+     * @return range query column
+     */
+    public Optional<String> getRangeQueryColumn() {
+        return Strings.isNullOrEmpty(rangeQueryColumn) ? Optional.empty() : Optional.of(rangeQueryColumn);
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.encrypt.rule;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import lombok.Getter;
@@ -26,8 +28,10 @@ import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfig
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
 import org.apache.shardingsphere.encrypt.factory.EncryptAlgorithmFactory;
+import org.apache.shardingsphere.encrypt.rewrite.plan.EncryptRewritePlan;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.QueryAssistedEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.RangeQueryEncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
@@ -35,6 +39,7 @@ import org.apache.shardingsphere.infra.metadata.schema.loader.common.DataTypeLoa
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
 import org.apache.shardingsphere.infra.rule.identifier.scope.SchemaRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -51,6 +56,8 @@ import java.util.Optional;
  */
 public final class EncryptRule implements SchemaRule, TableContainedRule {
     
+    private static final int MAX_REWRITE_PLAN_SIZE = 65535;
+    
     @SuppressWarnings("rawtypes")
     private final Map<String, EncryptAlgorithm> encryptors = new LinkedHashMap<>();
     
@@ -59,11 +66,14 @@ public final class EncryptRule implements SchemaRule, TableContainedRule {
     @Getter
     private final boolean queryWithCipherColumn;
     
+    private final Cache<SQLStatement, EncryptRewritePlan> rewritePlans = Caffeine.newBuilder().weakKeys().maximumSize(MAX_REWRITE_PLAN_SIZE).build();
+    
     public EncryptRule(final EncryptRuleConfiguration config, final Map<String, DataSource> dataSourceMap) {
         Preconditions.checkArgument(isValidRuleConfiguration(config), "Invalid encrypt column configurations in EncryptTableRuleConfigurations.");
         config.getEncryptors().forEach((key, value) -> encryptors.put(key, EncryptAlgorithmFactory.newInstance(value)));
         Map<String, Integer> dataTypes = containsConfigDataTypeColumn(config.getTables()) ? getDataTypes(dataSourceMap) : Collections.emptyMap();
         config.getTables().forEach(each -> tables.put(each.getName().toLowerCase(), new EncryptTable(each, dataTypes)));
+        checkRangeQueryEncryptors(config.getTables());
         queryWithCipherColumn = config.isQueryWithCipherColumn();
     }
     
@@ -72,6 +82,7 @@ public final class EncryptRule implements SchemaRule, TableContainedRule {
         encryptors.putAll(config.getEncryptors());
         Map<String, Integer> dataTypes = containsConfigDataTypeColumn(config.getTables()) ? getDataTypes(dataSourceMap) : Collections.emptyMap();
         config.getTables().forEach(each -> tables.put(each.getName().toLowerCase(), new EncryptTable(each, dataTypes)));
+        checkRangeQueryEncryptors(config.getTables());
         queryWithCipherColumn = config.isQueryWithCipherColumn();
     }
     
@@ -118,6 +129,15 @@ public final class EncryptRule implements SchemaRule, TableContainedRule {
                 && encryptRuleConfig.getEncryptors().containsKey(column.getEncryptorName());
     }
     
+    private void checkRangeQueryEncryptors(final Collection<EncryptTableRuleConfiguration> tableRuleConfigs) {
+        for (EncryptTableRuleConfiguration each : tableRuleConfigs) {
+            for (EncryptColumnRuleConfiguration column : each.getColumns()) {
+                Preconditions.checkArgument(Strings.isNullOrEmpty(column.getRangeQueryColumn()) || encryptors.get(column.getRangeQueryEncryptorName()) instanceof RangeQueryEncryptAlgorithm,
+                        "Can not find RangeQueryEncryptAlgorithm `%s` of %s.%s.", column.getRangeQueryEncryptorName(), each.getName(), column.getLogicColumn());
+            }
+        }
+    }
+    
     private Map<String, Integer> getDataTypes(final Map<String, DataSource> dataSourceMap) {
         Optional<DataSource> dataSource = dataSourceMap.values().stream().findAny();
         if (dataSource.isPresent()) {
@@ -272,6 +292,47 @@ public final class EncryptRule implements SchemaRule, TableContainedRule {
         return result;
     }
     
+    /**
+     * Find range query column.
+     *
+     * @param logicTable logic table name
+     * @param logicColumn column name
+     * @return range query column
+     */
+    public Optional<String> findRangeQueryColumn(final String logicTable, final String logicColumn) {
+        return tables.containsKey(logicTable.toLowerCase()) ? tables.get(logicTable.toLowerCase()).findRangeQueryColumn(logicColumn) : Optional.empty();
+    }
+    
+    /**
+     * Find range query encryptor.
+     *
+     * @param logicTable logic table name
+     * @param logicColumn logic column name
+     * @return range query encryptor
+     */
+    @SuppressWarnings("rawtypes")
+    public Optional<EncryptAlgorithm> findRangeQueryEncryptor(final String logicTable, final String logicColumn) {
+        return findEncryptTable(logicTable).flatMap(optional -> optional.findRangeQueryEncryptorName(logicColumn)).map(encryptors::get);
+    }
+    
+    /**
+     * Get encrypt range query values.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param logicTable logic table
+     * @param logicColumn logic column
+     * @param originalValues original values
+     * @return range query values
+     */
+    @SuppressWarnings("rawtypes")
+    public List<Object> getEncryptRangeQueryValues(final String databaseName, final String schemaName, final String logicTable, final String logicColumn, final List<Object> originalValues) {
+        Optional<EncryptAlgorithm> encryptor = findRangeQueryEncryptor(logicTable, logicColumn);
+        EncryptContext encryptContext = EncryptContextBuilder.build(databaseName, schemaName, logicTable, logicColumn, this);
+        Preconditions.checkArgument(encryptor.isPresent(), "Can not find RangeQueryEncryptAlgorithm by %s.%s.", logicTable, logicColumn);
+        return getEncryptValues(encryptor.get(), originalValues, encryptContext);
+    }
+    
     /**
      * Find plain column.
      *
@@ -328,6 +389,26 @@ public final class EncryptRule implements SchemaRule, TableContainedRule {
         }
     }
     
+    /**
+     * Find rewrite plan of SQL statement.
+     *
+     * @param sqlStatement SQL statement
+     * @return rewrite plan
+     */
+    public Optional<EncryptRewritePlan> findRewritePlan(final SQLStatement sqlStatement) {
+        return Optional.ofNullable(rewritePlans.getIfPresent(sqlStatement));
+    }
+    
+    /**
+     * Put rewrite plan of SQL statement, which is reused by later executions of the same SQL statement.
+     *
+     * @param sqlStatement SQL statement
+     * @param rewritePlan rewrite plan
+     */
+    public void putRewritePlan(final SQLStatement sqlStatement, final EncryptRewritePlan rewritePlan) {
+        rewritePlans.put(sqlStatement, rewritePlan);
+    }
+    
     /**
      * Check whether contains config data type or not.
      * 
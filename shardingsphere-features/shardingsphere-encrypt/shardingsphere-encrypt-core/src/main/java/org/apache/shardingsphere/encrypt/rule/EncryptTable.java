@@ -48,7 +48,7 @@ public final class EncryptTable {
             columns.put(each.getLogicColumn(), new EncryptColumn(getEncryptColumnDataType(each.getLogicDataType(), dataTypes), each.getCipherColumn(),
                     getEncryptColumnDataType(each.getCipherDataType(), dataTypes), each.getAssistedQueryColumn(), getEncryptColumnDataType(each.getAssistedQueryDataType(),
                             dataTypes),
-                    each.getPlainColumn(), getEncryptColumnDataType(each.getPlainDataType(), dataTypes), each.getEncryptorName()));
+                    each.getPlainColumn(), getEncryptColumnDataType(each.getPlainDataType(), dataTypes), each.getEncryptorName(), each.getRangeQueryColumn(), each.getRangeQueryEncryptorName()));
         }
         queryWithCipherColumn = config.getQueryWithCipherColumn();
     }
@@ -63,6 +63,8 @@ public final class EncryptTable {
             Preconditions.checkState(Strings.isNullOrEmpty(columnRuleConfig.getPlainColumn()) || !Strings.isNullOrEmpty(columnRuleConfig.getPlainDataType()));
             Preconditions.checkState(Strings.isNullOrEmpty(columnRuleConfig.getAssistedQueryColumn()) || !Strings.isNullOrEmpty(columnRuleConfig.getAssistedQueryDataType()));
         }
+        Preconditions.checkState(Strings.isNullOrEmpty(columnRuleConfig.getRangeQueryColumn()) || !Strings.isNullOrEmpty(columnRuleConfig.getRangeQueryEncryptorName()),
+                "Range query encryptor of column `%s` can not be null.", columnRuleConfig.getLogicColumn());
     }
     
     /**
@@ -144,6 +146,41 @@ public final class EncryptTable {
         return columns.containsKey(logicColumn) ? columns.get(logicColumn).getAssistedQueryColumn() : Optional.empty();
     }
     
+    /**
+     * Get range query columns.
+     *
+     * @return range query columns
+     */
+    public Collection<String> getRangeQueryColumns() {
+        Collection<String> result = new LinkedList<>();
+        for (EncryptColumn each : columns.values()) {
+            if (each.getRangeQueryColumn().isPresent()) {
+                result.add(each.getRangeQueryColumn().get());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Find range query column.
+     *
+     * @param logicColumn column name
+     * @return range query column
+     */
+    public Optional<String> findRangeQueryColumn(final String logicColumn) {
+        return columns.containsKey(logicColumn) ? columns.get(logicColumn).getRangeQueryColumn() : Optional.empty();
+    }
+    
+    /**
+     * Find range query encrypt algorithm name.
+     *
+     * @param logicColumn column name
+     * @return range query encrypt algorithm name
+     */
+    public Optional<String> findRangeQueryEncryptorName(final String logicColumn) {
+        return findRangeQueryColumn(logicColumn).map(optional -> columns.get(logicColumn).getRangeQueryEncryptorName());
+    }
+    
     /**
      * Get plain columns.
      *
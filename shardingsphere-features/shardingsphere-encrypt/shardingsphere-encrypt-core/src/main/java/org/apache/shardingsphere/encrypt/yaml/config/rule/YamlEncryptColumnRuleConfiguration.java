@@ -37,4 +37,8 @@ public final class YamlEncryptColumnRuleConfiguration implements YamlConfigurati
     private String plainColumn;
     
     private String encryptorName;
+    
+    private String rangeQueryColumn;
+    
+    private String rangeQueryEncryptorName;
 }
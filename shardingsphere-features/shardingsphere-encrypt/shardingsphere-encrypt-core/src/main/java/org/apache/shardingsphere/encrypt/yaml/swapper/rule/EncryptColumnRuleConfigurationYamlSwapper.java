@@ -33,12 +33,14 @@ public final class EncryptColumnRuleConfigurationYamlSwapper implements YamlConf
         result.setCipherColumn(data.getCipherColumn());
         result.setAssistedQueryColumn(data.getAssistedQueryColumn());
         result.setEncryptorName(data.getEncryptorName());
+        result.setRangeQueryColumn(data.getRangeQueryColumn());
+        result.setRangeQueryEncryptorName(data.getRangeQueryEncryptorName());
         return result;
     }
     
     @Override
     public EncryptColumnRuleConfiguration swapToObject(final YamlEncryptColumnRuleConfiguration yamlConfig) {
-        return new EncryptColumnRuleConfiguration(
-                yamlConfig.getLogicColumn(), yamlConfig.getCipherColumn(), yamlConfig.getAssistedQueryColumn(), yamlConfig.getPlainColumn(), yamlConfig.getEncryptorName());
+        return new EncryptColumnRuleConfiguration(yamlConfig.getLogicColumn(), null, yamlConfig.getCipherColumn(), null, yamlConfig.getAssistedQueryColumn(), null,
+                yamlConfig.getPlainColumn(), null, yamlConfig.getEncryptorName(), yamlConfig.getRangeQueryColumn(), yamlConfig.getRangeQueryEncryptorName());
     }
 }
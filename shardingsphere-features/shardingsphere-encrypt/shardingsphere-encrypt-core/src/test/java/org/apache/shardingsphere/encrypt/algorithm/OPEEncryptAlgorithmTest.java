@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm;
+
+import org.apache.shardingsphere.encrypt.factory.EncryptAlgorithmFactory;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.RangeQueryEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class OPEEncryptAlgorithmTest {
+    
+    private EncryptAlgorithm<Object, BigDecimal> encryptAlgorithm;
+    
+    @Before
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty("ope-key-value", "test");
+        encryptAlgorithm = EncryptAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("OPE", props));
+    }
+    
+    @Test
+    public void assertIsRangeQueryEncryptAlgorithm() {
+        assertThat(encryptAlgorithm, instanceOf(RangeQueryEncryptAlgorithm.class));
+    }
+    
+    @Test
+    public void assertEncryptPreservesOrder() {
+        EncryptContext encryptContext = mock(EncryptContext.class);
+        long[] plainValues = {Long.MIN_VALUE, -1000L, -1L, 0L, 1L, 2L, 1000L, Long.MAX_VALUE};
+        for (int i = 1; i < plainValues.length; i++) {
+            assertTrue(encryptAlgorithm.encrypt(plainValues[i], encryptContext).compareTo(encryptAlgorithm.encrypt(plainValues[i - 1], encryptContext)) > 0);
+        }
+    }
+    
+    @Test
+    public void assertEncryptIsDeterministic() {
+        EncryptContext encryptContext = mock(EncryptContext.class);
+        assertThat(encryptAlgorithm.encrypt(100, encryptContext), is(encryptAlgorithm.encrypt("100", encryptContext)));
+    }
+    
+    @Test
+    public void assertEncryptWithNullPlaintext() {
+        assertNull(encryptAlgorithm.encrypt(null, mock(EncryptContext.class)));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertEncryptWithNonIntegralPlaintext() {
+        encryptAlgorithm.encrypt("1.5", mock(EncryptContext.class));
+    }
+    
+    @Test
+    public void assertDecrypt() {
+        EncryptContext encryptContext = mock(EncryptContext.class);
+        assertThat(encryptAlgorithm.decrypt(encryptAlgorithm.encrypt(-12345L, encryptContext), encryptContext), is(-12345L));
+        assertThat(encryptAlgorithm.decrypt(encryptAlgorithm.encrypt(Long.MAX_VALUE, encryptContext), encryptContext), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertCipherValueIsNotShiftedPlainValue() {
+        EncryptContext encryptContext = mock(EncryptContext.class);
+        BigDecimal actual = encryptAlgorithm.encrypt(12345L, encryptContext);
+        assertThat(actual.toBigInteger().shiftRight(16).longValue(), not(12345L));
+        assertThat(actual.toBigInteger().shiftRight(32).longValue(), not(12345L));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertDecryptWithoutSecretKey() {
+        Properties props = new Properties();
+        props.setProperty("ope-key-value", "other");
+        EncryptAlgorithm<Object, BigDecimal> otherEncryptAlgorithm = EncryptAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("OPE", props));
+        EncryptContext encryptContext = mock(EncryptContext.class);
+        otherEncryptAlgorithm.decrypt(encryptAlgorithm.encrypt(12345L, encryptContext), encryptContext);
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertDecryptWithForgedCiphertext() {
+        EncryptContext encryptContext = mock(EncryptContext.class);
+        encryptAlgorithm.decrypt(encryptAlgorithm.encrypt(12345L, encryptContext).add(BigDecimal.ONE), encryptContext);
+    }
+    
+    @Test
+    public void assertDecryptWithNullCiphertext() {
+        assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithoutKey() {
+        EncryptAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("OPE", new Properties()));
+    }
+}
@@ -77,6 +77,12 @@ public final class RC4EncryptAlgorithmTest {
         assertThat(encryptAlgorithm.decrypt("qn36NQ==", mock(EncryptContext.class)).toString(), is("test"));
     }
     
+    @Test
+    public void assertDecodeRepeatedly() {
+        assertThat(encryptAlgorithm.decrypt(encryptAlgorithm.encrypt("test", mock(EncryptContext.class)), mock(EncryptContext.class)).toString(), is("test"));
+        assertThat(encryptAlgorithm.decrypt("qn36NQ==", mock(EncryptContext.class)).toString(), is("test"));
+    }
+    
     @Test
     public void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
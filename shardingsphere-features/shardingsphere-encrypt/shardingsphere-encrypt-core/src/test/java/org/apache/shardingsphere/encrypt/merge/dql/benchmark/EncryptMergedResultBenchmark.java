@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql.benchmark;
+
+import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
+import org.apache.shardingsphere.encrypt.factory.EncryptAlgorithmFactory;
+import org.apache.shardingsphere.encrypt.merge.dql.EncryptAlgorithmMetaData;
+import org.apache.shardingsphere.encrypt.merge.dql.EncryptMergedResult;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Decrypt latency benchmark of encrypt merged result with 100000 rows, each row has one plain column and two cipher columns.
+ * 
+ * <p>It is not run by unit tests, run {@code org.openjdk.jmh.Main EncryptMergedResultBenchmark} with test classpath instead.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncryptMergedResultBenchmark {
+    
+    private static final int ROW_COUNT = 100000;
+    
+    private static final int COLUMN_COUNT = 3;
+    
+    @Param({"AES", "RC4", "SM4"})
+    private String encryptAlgorithmType;
+    
+    private EncryptAlgorithmMetaData metaData;
+    
+    private Object[][] rows;
+    
+    /**
+     * Initialize encrypt algorithm and cipher rows.
+     */
+    @Setup
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void setUp() {
+        EncryptAlgorithm encryptAlgorithm = EncryptAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration(encryptAlgorithmType, createProperties()));
+        EncryptRule encryptRule = mock(EncryptRule.class);
+        metaData = mock(EncryptAlgorithmMetaData.class);
+        when(metaData.findEncryptContext(1)).thenReturn(Optional.empty());
+        for (int i = 2; i <= COLUMN_COUNT; i++) {
+            String columnName = "cipher_" + i;
+            EncryptContext encryptContext = EncryptContextBuilder.build(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_user", columnName, encryptRule);
+            when(metaData.findEncryptContext(i)).thenReturn(Optional.of(encryptContext));
+            when(metaData.findEncryptor("t_user", columnName)).thenReturn(Optional.of(encryptAlgorithm));
+        }
+        when(metaData.isQueryWithCipherColumn("t_user")).thenReturn(true);
+        rows = new Object[ROW_COUNT][];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows[i] = new Object[]{i, encryptAlgorithm.encrypt("user_name_" + i, null), encryptAlgorithm.encrypt("1380000" + i, null)};
+        }
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        switch (encryptAlgorithmType) {
+            case "AES":
+                result.setProperty("aes-key-value", "test");
+                break;
+            case "RC4":
+                result.setProperty("rc4-key-value", "test-sharding");
+                break;
+            case "SM4":
+                result.setProperty("sm4-key", "4D744E003D713D054E7E407C350E447E");
+                result.setProperty("sm4-mode", "ECB");
+                result.setProperty("sm4-padding", "PKCS5Padding");
+                break;
+            default:
+                break;
+        }
+        return result;
+    }
+    
+    /**
+     * Decrypt all rows of encrypt merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void decrypt(final Blackhole blackhole) throws SQLException {
+        MergedResult mergedResult = new EncryptMergedResult(metaData, new MemoryMergedResult(rows));
+        while (mergedResult.next()) {
+            for (int i = 1; i <= COLUMN_COUNT; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+    
+    private static final class MemoryMergedResult implements MergedResult {
+        
+        private final Object[][] rows;
+        
+        private int rowIndex = -1;
+        
+        MemoryMergedResult(final Object[][] rows) {
+            this.rows = rows;
+        }
+        
+        @Override
+        public boolean next() {
+            return ++rowIndex < rows.length;
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex, final Class<?> type) {
+            return rows[rowIndex][columnIndex - 1];
+        }
+        
+        @Override
+        public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+            return rows[rowIndex][columnIndex - 1];
+        }
+        
+        @Override
+        public InputStream getInputStream(final int columnIndex, final String type) {
+            throw new UnsupportedOperationException("getInputStream");
+        }
+        
+        @Override
+        public boolean wasNull() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rewrite.plan;
+
+import org.apache.shardingsphere.encrypt.fixture.CoreQueryAssistedEncryptAlgorithmFixture;
+import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class EncryptPredicateParameterTest {
+    
+    private final EncryptContext encryptContext = new EncryptContext(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_encrypt", "pwd");
+    
+    @Test
+    public void assertEncrypt() {
+        assertThat(new EncryptPredicateParameter(0, new CoreQueryAssistedEncryptAlgorithmFixture(), encryptContext, false).encrypt("test"), is("encryptValue"));
+    }
+    
+    @Test
+    public void assertEncryptWithQueryAssisted() {
+        assertThat(new EncryptPredicateParameter(0, new CoreQueryAssistedEncryptAlgorithmFixture(), encryptContext, true).encrypt("test"), is("assistedEncryptValue"));
+    }
+    
+    @Test
+    public void assertEncryptNullParameter() {
+        assertNull(new EncryptPredicateParameter(0, new CoreQueryAssistedEncryptAlgorithmFixture(), encryptContext, true).encrypt(null));
+    }
+}
@@ -23,12 +23,15 @@ import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfig
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.fixture.CoreEncryptAlgorithmFixture;
 import org.apache.shardingsphere.encrypt.fixture.CoreSchemaMetaDataAwareEncryptAlgorithmFixture;
+import org.apache.shardingsphere.encrypt.rewrite.plan.EncryptRewritePlan;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -129,6 +132,25 @@ public final class EncryptRuleTest {
         }
     }
     
+    @Test
+    public void assertFindRangeQueryColumn() {
+        EncryptRule actual = new EncryptRule(createRangeQueryEncryptRuleConfiguration("OPE"), Collections.emptyMap());
+        assertThat(actual.findRangeQueryColumn("t_encrypt", "amount"), is(Optional.of("amount_range")));
+        assertFalse(actual.findRangeQueryColumn("t_encrypt", "pwd").isPresent());
+    }
+    
+    @Test
+    public void assertGetEncryptRangeQueryValues() {
+        EncryptRule actual = new EncryptRule(createRangeQueryEncryptRuleConfiguration("OPE"), Collections.emptyMap());
+        List<Object> rangeQueryValues = actual.getEncryptRangeQueryValues(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_encrypt", "amount", Arrays.asList(1, 2));
+        assertTrue(((BigDecimal) rangeQueryValues.get(0)).compareTo((BigDecimal) rangeQueryValues.get(1)) < 0);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithNonRangeQueryEncryptorForRangeQueryColumn() {
+        new EncryptRule(createRangeQueryEncryptRuleConfiguration("CORE.FIXTURE"), Collections.emptyMap());
+    }
+    
     @Test
     public void assertGetAssistedQueryColumns() {
         assertTrue(new EncryptRule(createEncryptRuleConfiguration(), Collections.emptyMap()).getAssistedQueryColumns("t_encrypt").isEmpty());
@@ -182,6 +204,17 @@ public final class EncryptRuleTest {
         assertFalse(((CoreSchemaMetaDataAwareEncryptAlgorithmFixture) actual.get()).getSchemas().isEmpty());
     }
     
+    @Test
+    public void assertFindRewritePlan() {
+        EncryptRule encryptRule = new EncryptRule(createEncryptRuleConfiguration(), Collections.emptyMap());
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        assertFalse(encryptRule.findRewritePlan(sqlStatement).isPresent());
+        EncryptRewritePlan rewritePlan = mock(EncryptRewritePlan.class);
+        encryptRule.putRewritePlan(sqlStatement, rewritePlan);
+        assertThat(encryptRule.findRewritePlan(sqlStatement), is(Optional.of(rewritePlan)));
+        assertFalse(encryptRule.findRewritePlan(mock(SQLStatement.class)).isPresent());
+    }
+    
     private EncryptRuleConfiguration createEncryptRuleConfiguration() {
         ShardingSphereAlgorithmConfiguration queryAssistedEncryptConfig = new ShardingSphereAlgorithmConfiguration("CORE.QUERY_ASSISTED.FIXTURE", new Properties());
         ShardingSphereAlgorithmConfiguration metaDataAwareEncryptConfig = new ShardingSphereAlgorithmConfiguration("CORE.METADATA_AWARE.FIXTURE", new Properties());
@@ -192,6 +225,18 @@ public final class EncryptRuleTest {
         return new EncryptRuleConfiguration(Collections.singleton(tableConfig), getEncryptors(queryAssistedEncryptConfig, metaDataAwareEncryptConfig));
     }
     
+    private EncryptRuleConfiguration createRangeQueryEncryptRuleConfiguration(final String rangeQueryEncryptorType) {
+        Properties props = new Properties();
+        props.setProperty("ope-key-value", "test");
+        Map<String, ShardingSphereAlgorithmConfiguration> encryptors = new HashMap<>(2, 1);
+        encryptors.put("test_encryptor", new ShardingSphereAlgorithmConfiguration("CORE.FIXTURE", new Properties()));
+        encryptors.put("range_encryptor", new ShardingSphereAlgorithmConfiguration(rangeQueryEncryptorType, props));
+        EncryptColumnRuleConfiguration amountColumnConfig = new EncryptColumnRuleConfiguration(
+                "amount", null, "amount_cipher", null, "", null, "", null, "test_encryptor", "amount_range", "range_encryptor");
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_encrypt", Collections.singletonList(amountColumnConfig), null);
+        return new EncryptRuleConfiguration(Collections.singleton(tableConfig), encryptors);
+    }
+    
     private EncryptRuleConfiguration createEncryptRuleConfigurationWithUpperCaseLogicTable() {
         ShardingSphereAlgorithmConfiguration queryAssistedEncryptConfig = new ShardingSphereAlgorithmConfiguration("CORE.QUERY_ASSISTED.FIXTURE", new Properties());
         ShardingSphereAlgorithmConfiguration metaDataAwareEncryptConfig = new ShardingSphereAlgorithmConfiguration("CORE.METADATA_AWARE.FIXTURE", new Properties());
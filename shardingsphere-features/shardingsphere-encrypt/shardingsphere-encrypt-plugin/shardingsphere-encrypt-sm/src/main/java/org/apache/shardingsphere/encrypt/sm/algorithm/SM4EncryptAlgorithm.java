@@ -29,6 +29,7 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Security;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -70,6 +71,10 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     
     private String sm4ModePadding;
     
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -78,6 +83,8 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         sm4ModePadding = "SM4/" + sm4Mode + "/" + sm4Padding;
         sm4Key = createSm4Key(props);
         sm4Iv = createSm4Iv(props, sm4Mode);
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private String createSm4Mode(final Properties props) {
@@ -118,7 +125,7 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     }
     
     private byte[] encrypt(final byte[] plainValue) {
-        return handle(plainValue, Cipher.ENCRYPT_MODE);
+        return handle(plainValue, encryptCipher);
     }
     
     @SneakyThrows
@@ -128,20 +135,30 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     }
     
     private byte[] decrypt(final byte[] cipherValue) {
-        return handle(cipherValue, Cipher.DECRYPT_MODE);
+        return handle(cipherValue, decryptCipher);
     }
     
-    @SneakyThrows
-    private byte[] handle(final byte[] input, final int mode) {
-        Cipher cipher = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
+    @SneakyThrows(GeneralSecurityException.class)
+    private byte[] handle(final byte[] input, final ThreadLocal<Cipher> cipher) {
+        try {
+            return cipher.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipher.remove();
+            throw ex;
+        }
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int mode) {
+        Cipher result = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
         SecretKeySpec secretKeySpec = new SecretKeySpec(sm4Key, "SM4");
         Optional<byte[]> sm4Iv = Optional.ofNullable(this.sm4Iv);
         if (sm4Iv.isPresent()) {
-            cipher.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
+            result.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
         } else {
-            cipher.init(mode, secretKeySpec);
+            result.init(mode, secretKeySpec);
         }
-        return cipher.doFinal(input);
+        return result;
     }
     
     @Override
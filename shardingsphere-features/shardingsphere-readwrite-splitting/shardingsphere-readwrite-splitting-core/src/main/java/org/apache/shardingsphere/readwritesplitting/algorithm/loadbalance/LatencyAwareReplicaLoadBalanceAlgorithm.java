@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.config.algorithm.DatabaseNameAwareAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.spi.ReplicaLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware replica load-balance algorithm.
+ * 
+ * <p>Choose two replicas randomly and route to the one with lower load, replicas whose replication delay exceeds threshold are ejected.</p>
+ */
+public final class LatencyAwareReplicaLoadBalanceAlgorithm implements ReplicaLoadBalanceAlgorithm, DatabaseNameAwareAlgorithm {
+    
+    private static final String MAX_REPLICATION_DELAY_MILLISECONDS_KEY = "max-replication-delay-milliseconds";
+    
+    @Getter
+    private Properties props;
+    
+    private long maxReplicationDelayMilliseconds;
+    
+    @Setter
+    private String databaseName;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        maxReplicationDelayMilliseconds = Long.parseLong(props.getProperty(MAX_REPLICATION_DELAY_MILLISECONDS_KEY, String.valueOf(Long.MAX_VALUE)));
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        List<String> candidates = getCandidates(readDataSourceNames);
+        if (1 == candidates.size()) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        return getLoad(candidates.get(first)) <= getLoad(candidates.get(second)) ? candidates.get(first) : candidates.get(second);
+    }
+    
+    private List<String> getCandidates(final List<String> readDataSourceNames) {
+        List<String> result = null;
+        for (int i = 0; i < readDataSourceNames.size(); i++) {
+            boolean ejected = ReplicaStatisticsRegistry.getInstance().getStatistics(databaseName, readDataSourceNames.get(i)).getReplicationDelayMilliseconds() > maxReplicationDelayMilliseconds;
+            if (ejected && null == result) {
+                result = new ArrayList<>(readDataSourceNames.subList(0, i));
+            } else if (!ejected && null != result) {
+                result.add(readDataSourceNames.get(i));
+            }
+        }
+        if (null == result) {
+            return readDataSourceNames;
+        }
+        return result.isEmpty() ? readDataSourceNames : result;
+    }
+    
+    private double getLoad(final String dataSourceName) {
+        return ReplicaStatisticsRegistry.getInstance().getStatistics(databaseName, dataSourceName).getLoad();
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
@@ -15,17 +15,23 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event;
+package org.apache.shardingsphere.readwritesplitting.hedge;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 /**
- * Execute process report event.
+ * Hedged read.
  */
 @RequiredArgsConstructor
 @Getter
-public final class ExecuteProcessReportEvent {
+public final class HedgedRead {
     
-    private final String executionID;
+    private final String dataSourceName;
+    
+    private final String hedgeDataSourceName;
+    
+    private final long delayNanos;
+    
+    private final HedgedReadStatistics statistics;
 }
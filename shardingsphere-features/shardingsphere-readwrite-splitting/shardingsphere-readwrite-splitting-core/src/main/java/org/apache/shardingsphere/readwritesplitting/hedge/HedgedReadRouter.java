@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hedge;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.readwritesplitting.route.impl.SessionWriteWatermark;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hedged read router.
+ * 
+ * <p>Only read routed to one replica can be hedged, and the hedge is routed to another replica by load balancer of the same data source rule.
+ * Hedge delay is the configured percentile of response time of the routed replica, read is not hedged until the replica is sampled enough.</p>
+ */
+@RequiredArgsConstructor
+public final class HedgedReadRouter {
+    
+    private static final long MIN_SUCCEEDED_COUNT = 20L;
+    
+    private final ReadwriteSplittingRule rule;
+    
+    private final ConfigurationProperties props;
+    
+    /**
+     * Route hedged read.
+     * 
+     * @param routeContext route context of read
+     * @param watermark session write watermark
+     * @return hedged read
+     */
+    public Optional<HedgedRead> route(final RouteContext routeContext, final SessionWriteWatermark watermark) {
+        if (1 != routeContext.getRouteUnits().size() || isReadYourWritesPending(watermark)) {
+            return Optional.empty();
+        }
+        RouteMapper dataSourceMapper = routeContext.getRouteUnits().iterator().next().getDataSourceMapper();
+        Optional<ReadwriteSplittingDataSourceRule> dataSourceRule = rule.findDataSourceRule(dataSourceMapper.getLogicName());
+        if (!dataSourceRule.isPresent()) {
+            return Optional.empty();
+        }
+        List<String> hedgeDataSourceNames = new ArrayList<>(dataSourceRule.get().getReadDataSourceNames());
+        if (!hedgeDataSourceNames.remove(dataSourceMapper.getActualName()) || hedgeDataSourceNames.isEmpty()) {
+            return Optional.empty();
+        }
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.getInstance().getStatistics(dataSourceRule.get().getDatabaseName(), dataSourceMapper.getActualName());
+        if (statistics.getSucceededCount() < MIN_SUCCEEDED_COUNT) {
+            return Optional.empty();
+        }
+        HedgedReadStatistics hedgedReadStatistics = HedgedReadStatisticsRegistry.getInstance().getStatistics(dataSourceRule.get().getDatabaseName(), dataSourceRule.get().getName());
+        hedgedReadStatistics.recordRead(props.<Integer>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_HEDGED_READ_BUDGET_PERCENTAGE));
+        String hedgeDataSourceName = 1 == hedgeDataSourceNames.size() ? hedgeDataSourceNames.get(0)
+                : dataSourceRule.get().getLoadBalancer().getDataSource(dataSourceRule.get().getName(), dataSourceRule.get().getWriteDataSource(), hedgeDataSourceNames);
+        return Optional.of(new HedgedRead(dataSourceMapper.getActualName(), hedgeDataSourceName, getDelayNanos(statistics), hedgedReadStatistics));
+    }
+    
+    private boolean isReadYourWritesPending(final SessionWriteWatermark watermark) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_READ_YOUR_WRITES_ENABLED)
+                && watermark.findLastWriteTimeMillis(props.<Long>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_READ_YOUR_WRITES_TIMEOUT_MILLIS)).isPresent();
+    }
+    
+    private long getDelayNanos(final ReplicaStatistics statistics) {
+        long minDelayNanos = TimeUnit.MILLISECONDS.toNanos(props.<Long>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_HEDGED_READ_MIN_DELAY_MILLIS));
+        return Math.max(statistics.getResponseTimeNanosAtPercentile(props.<Integer>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_HEDGED_READ_DELAY_PERCENTILE)), minDelayNanos);
+    }
+}
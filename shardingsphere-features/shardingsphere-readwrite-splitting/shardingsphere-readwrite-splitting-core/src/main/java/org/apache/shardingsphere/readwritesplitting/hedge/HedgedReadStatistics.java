@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hedge;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedged read statistics.
+ * 
+ * <p>Hedges are throttled by token bucket: every read which can be hedged deposits budget percentage of a token and every hedge withdraws a whole token,
+ * so hedges never exceed budget percentage of reads in the long run, while bursts are bounded by max tokens.</p>
+ * 
+ * @see HedgedReadStatisticsRegistry
+ */
+public final class HedgedReadStatistics {
+    
+    private static final long UNITS_PER_TOKEN = 100L;
+    
+    private static final long MAX_TOKENS = 10L;
+    
+    private final AtomicLong tokenUnits = new AtomicLong();
+    
+    private final LongAdder readCount = new LongAdder();
+    
+    private final LongAdder hedgeCount = new LongAdder();
+    
+    private final LongAdder hedgeWinCount = new LongAdder();
+    
+    /**
+     * Record read which can be hedged.
+     * 
+     * @param budgetPercentage max percentage of hedges in reads
+     */
+    public void recordRead(final int budgetPercentage) {
+        readCount.increment();
+        long maxUnits = MAX_TOKENS * UNITS_PER_TOKEN;
+        long current;
+        do {
+            current = tokenUnits.get();
+            if (current >= maxUnits) {
+                return;
+            }
+        } while (!tokenUnits.compareAndSet(current, Math.min(current + Math.max(budgetPercentage, 0), maxUnits)));
+    }
+    
+    /**
+     * Try to acquire budget of hedge.
+     * 
+     * @return acquired or not
+     */
+    public boolean tryAcquireHedge() {
+        long current;
+        do {
+            current = tokenUnits.get();
+            if (current < UNITS_PER_TOKEN) {
+                return false;
+            }
+        } while (!tokenUnits.compareAndSet(current, current - UNITS_PER_TOKEN));
+        hedgeCount.increment();
+        return true;
+    }
+    
+    /**
+     * Release budget of hedge which is acquired but not executed.
+     */
+    public void releaseHedge() {
+        hedgeCount.decrement();
+        long maxUnits = MAX_TOKENS * UNITS_PER_TOKEN;
+        long current;
+        do {
+            current = tokenUnits.get();
+        } while (!tokenUnits.compareAndSet(current, Math.min(current + UNITS_PER_TOKEN, maxUnits)));
+    }
+    
+    /**
+     * Record hedge which returns earlier than the original read.
+     */
+    public void recordHedgeWin() {
+        hedgeWinCount.increment();
+    }
+    
+    /**
+     * Get count of reads which can be hedged.
+     * 
+     * @return count of reads
+     */
+    public long getReadCount() {
+        return readCount.sum();
+    }
+    
+    /**
+     * Get count of hedges.
+     * 
+     * @return count of hedges
+     */
+    public long getHedgeCount() {
+        return hedgeCount.sum();
+    }
+    
+    /**
+     * Get count of hedges which return earlier than the original reads.
+     * 
+     * @return count of winning hedges
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+    
+    /**
+     * Get hedge rate, which is ratio of hedges to reads.
+     * 
+     * @return hedge rate
+     */
+    public double getHedgeRate() {
+        long reads = readCount.sum();
+        return 0L == reads ? 0D : (double) hedgeCount.sum() / reads;
+    }
+    
+    /**
+     * Get win rate, which is ratio of winning hedges to hedges.
+     * 
+     * @return win rate
+     */
+    public double getWinRate() {
+        long hedges = hedgeCount.sum();
+        return 0L == hedges ? 0D : (double) hedgeWinCount.sum() / hedges;
+    }
+    
+    /**
+     * Clear statistics and budget.
+     */
+    public void clear() {
+        tokenUnits.set(0L);
+        readCount.reset();
+        hedgeCount.reset();
+        hedgeWinCount.reset();
+    }
+}
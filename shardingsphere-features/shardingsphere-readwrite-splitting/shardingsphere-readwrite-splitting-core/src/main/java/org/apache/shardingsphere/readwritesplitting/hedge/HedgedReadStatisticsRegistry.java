@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hedge;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hedged read statistics registry.
+ * 
+ * <p>Statistics and hedge budget are kept per readwrite-splitting data source rule of each database,
+ * so that reads of one group never spend hedge budget deposited by reads of another.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HedgedReadStatisticsRegistry {
+    
+    private static final HedgedReadStatisticsRegistry INSTANCE = new HedgedReadStatisticsRegistry();
+    
+    private final Map<String, Map<String, HedgedReadStatistics>> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of hedged read statistics registry.
+     * 
+     * @return instance of hedged read statistics registry
+     */
+    public static HedgedReadStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get statistics, create if absent.
+     * 
+     * @param databaseName database name
+     * @param dataSourceRuleName readwrite-splitting data source rule name
+     * @return hedged read statistics
+     */
+    public HedgedReadStatistics getStatistics(final String databaseName, final String dataSourceRuleName) {
+        return statistics.computeIfAbsent(databaseName, unused -> new ConcurrentHashMap<>()).computeIfAbsent(dataSourceRuleName, unused -> new HedgedReadStatistics());
+    }
+    
+    /**
+     * Clear statistics of all databases.
+     */
+    public void clear() {
+        statistics.clear();
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.readwritesplitting.route;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.route.SQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -43,7 +44,7 @@ public final class ReadwriteSplittingSQLRouter implements SQLRouter<ReadwriteSpl
     public RouteContext createRouteContext(final LogicSQL logicSQL, final ShardingSphereDatabase database, final ReadwriteSplittingRule rule, final ConfigurationProperties props) {
         RouteContext result = new RouteContext();
         ReadwriteSplittingDataSourceRule singleDataSourceRule = rule.getSingleDataSourceRule();
-        String dataSourceName = new ReadwriteSplittingDataSourceRouter(singleDataSourceRule).route(logicSQL.getSqlStatementContext());
+        String dataSourceName = createDataSourceRouter(singleDataSourceRule, props).route(logicSQL.getSqlStatementContext());
         result.getRouteUnits().add(new RouteUnit(new RouteMapper(singleDataSourceRule.getName(), dataSourceName), Collections.emptyList()));
         return result;
     }
@@ -58,7 +59,7 @@ public final class ReadwriteSplittingSQLRouter implements SQLRouter<ReadwriteSpl
             Optional<ReadwriteSplittingDataSourceRule> dataSourceRule = rule.findDataSourceRule(dataSourceName);
             if (dataSourceRule.isPresent() && dataSourceRule.get().getName().equalsIgnoreCase(each.getDataSourceMapper().getActualName())) {
                 toBeRemoved.add(each);
-                String actualDataSourceName = new ReadwriteSplittingDataSourceRouter(dataSourceRule.get()).route(logicSQL.getSqlStatementContext());
+                String actualDataSourceName = createDataSourceRouter(dataSourceRule.get(), props).route(logicSQL.getSqlStatementContext());
                 toBeAdded.add(new RouteUnit(new RouteMapper(each.getDataSourceMapper().getLogicName(), actualDataSourceName), each.getTableMappers()));
             }
         }
@@ -66,6 +67,11 @@ public final class ReadwriteSplittingSQLRouter implements SQLRouter<ReadwriteSpl
         routeContext.getRouteUnits().addAll(toBeAdded);
     }
     
+    private ReadwriteSplittingDataSourceRouter createDataSourceRouter(final ReadwriteSplittingDataSourceRule dataSourceRule, final ConfigurationProperties props) {
+        return new ReadwriteSplittingDataSourceRouter(dataSourceRule,
+                props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_READ_YOUR_WRITES_ENABLED), props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_READ_YOUR_WRITES_TIMEOUT_MILLIS));
+    }
+    
     @Override
     public int getOrder() {
         return ReadwriteSplittingOrder.ORDER;
@@ -23,18 +23,33 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.transaction.TransactionHolder;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Data source router for readwrite-splitting.
  */
 @RequiredArgsConstructor
 public final class ReadwriteSplittingDataSourceRouter {
     
+    private static final long REPLICATION_DELAY_PRECISION_MILLISECONDS = 1000L;
+    
     private final ReadwriteSplittingDataSourceRule rule;
     
+    private final boolean readYourWritesEnabled;
+    
+    private final long readYourWritesTimeoutMillis;
+    
+    public ReadwriteSplittingDataSourceRouter(final ReadwriteSplittingDataSourceRule rule) {
+        this(rule, false, 0L);
+    }
+    
     /**
      * Route.
      * 
@@ -43,12 +58,37 @@ public final class ReadwriteSplittingDataSourceRouter {
      */
     public String route(final SQLStatementContext<?> sqlStatementContext) {
         if (isPrimaryRoute(sqlStatementContext)) {
+            if (readYourWritesEnabled) {
+                SessionWriteWatermarkHolder.get().ifPresent(SessionWriteWatermark::markWrite);
+            }
             return rule.getReadwriteSplittingStrategy().getWriteDataSource();
         }
-        if (1 == rule.getReadDataSourceNames().size()) {
-            return rule.getReadDataSourceNames().get(0);
+        List<String> readDataSourceNames = readYourWritesEnabled ? getCaughtUpReadDataSourceNames() : rule.getReadDataSourceNames();
+        if (readDataSourceNames.isEmpty()) {
+            return rule.getReadwriteSplittingStrategy().getWriteDataSource();
+        }
+        if (1 == readDataSourceNames.size()) {
+            return readDataSourceNames.get(0);
+        }
+        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), readDataSourceNames);
+    }
+    
+    private List<String> getCaughtUpReadDataSourceNames() {
+        Optional<SessionWriteWatermark> watermark = SessionWriteWatermarkHolder.get();
+        Optional<Long> lastWriteTimeMillis = watermark.isPresent() ? watermark.get().findLastWriteTimeMillis(readYourWritesTimeoutMillis) : Optional.empty();
+        if (!lastWriteTimeMillis.isPresent()) {
+            return rule.getReadDataSourceNames();
+        }
+        List<String> result = new ArrayList<>(rule.getReadDataSourceNames().size());
+        for (String each : rule.getReadDataSourceNames()) {
+            if (ReplicaStatisticsRegistry.getInstance().getStatistics(rule.getDatabaseName(), each).getAppliedTimeMillis() - REPLICATION_DELAY_PRECISION_MILLISECONDS >= lastWriteTimeMillis.get()) {
+                result.add(each);
+            }
+        }
+        if (result.size() == rule.getReadDataSourceNames().size()) {
+            watermark.get().clear();
         }
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), rule.getReadDataSourceNames());
+        return result;
     }
     
     private boolean isPrimaryRoute(final SQLStatementContext<?> sqlStatementContext) {
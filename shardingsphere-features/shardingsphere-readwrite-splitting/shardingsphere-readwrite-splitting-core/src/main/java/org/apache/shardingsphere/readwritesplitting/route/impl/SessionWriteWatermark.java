@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.impl;
+
+import java.util.Optional;
+
+/**
+ * Session write watermark.
+ * 
+ * <p>Completion time of write is unknown when it is routed, so the time of next read in the same session is taken as the time of last write,
+ * which is never earlier than the write completes. Watermark expires after timeout, so session is not pinned to primary if replicas never catch up.</p>
+ */
+public final class SessionWriteWatermark {
+    
+    private static final long NONE = 0L;
+    
+    private static final long PENDING = Long.MAX_VALUE;
+    
+    private long lastWriteTimeMillis = NONE;
+    
+    /**
+     * Mark write routed in session.
+     */
+    public synchronized void markWrite() {
+        lastWriteTimeMillis = PENDING;
+    }
+    
+    /**
+     * Find time of last write in session.
+     * 
+     * @param timeoutMillis timeout of watermark in milliseconds
+     * @return time of last write in milliseconds
+     */
+    public synchronized Optional<Long> findLastWriteTimeMillis(final long timeoutMillis) {
+        if (NONE == lastWriteTimeMillis) {
+            return Optional.empty();
+        }
+        long currentTimeMillis = System.currentTimeMillis();
+        if (PENDING == lastWriteTimeMillis) {
+            lastWriteTimeMillis = currentTimeMillis;
+        }
+        if (currentTimeMillis - lastWriteTimeMillis > timeoutMillis) {
+            lastWriteTimeMillis = NONE;
+            return Optional.empty();
+        }
+        return Optional.of(lastWriteTimeMillis);
+    }
+    
+    /**
+     * Clear watermark of session.
+     */
+    public synchronized void clear() {
+        lastWriteTimeMillis = NONE;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.impl;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Session write watermark holder.
+ * 
+ * <p>Watermark is owned by session, and only bound to thread while the thread executes SQL of the session,
+ * so that it never leaks to other sessions sharing the same thread.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SessionWriteWatermarkHolder {
+    
+    private static final ThreadLocal<SessionWriteWatermark> WATERMARK = new ThreadLocal<>();
+    
+    /**
+     * Bind watermark of session to current thread.
+     * 
+     * @param watermark session write watermark
+     */
+    public static void set(final SessionWriteWatermark watermark) {
+        WATERMARK.set(watermark);
+    }
+    
+    /**
+     * Get watermark of session bound to current thread.
+     * 
+     * @return session write watermark
+     */
+    public static Optional<SessionWriteWatermark> get() {
+        return Optional.ofNullable(WATERMARK.get());
+    }
+    
+    /**
+     * Unbind watermark from current thread.
+     */
+    public static void remove() {
+        WATERMARK.remove();
+    }
+}
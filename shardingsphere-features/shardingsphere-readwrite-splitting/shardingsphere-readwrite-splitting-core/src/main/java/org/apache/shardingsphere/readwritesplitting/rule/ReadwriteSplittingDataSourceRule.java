@@ -41,6 +41,8 @@ import java.util.stream.Collectors;
 @Getter
 public final class ReadwriteSplittingDataSourceRule {
     
+    private final String databaseName;
+    
     private final String name;
     
     private final ReplicaLoadBalanceAlgorithm loadBalancer;
@@ -50,8 +52,9 @@ public final class ReadwriteSplittingDataSourceRule {
     @Getter(AccessLevel.NONE)
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
-    public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final ReplicaLoadBalanceAlgorithm loadBalancer) {
+    public ReadwriteSplittingDataSourceRule(final String databaseName, final ReadwriteSplittingDataSourceRuleConfiguration config, final ReplicaLoadBalanceAlgorithm loadBalancer) {
         Preconditions.checkArgument(!Strings.isNullOrEmpty(config.getName()), "Name is required.");
+        this.databaseName = databaseName;
         name = config.getName();
         this.loadBalancer = loadBalancer;
         readwriteSplittingStrategy = ReadwriteSplittingStrategyFactory.newInstance(config.getType(), config.getProps());
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import org.apache.shardingsphere.infra.config.algorithm.DatabaseNameAwareAlgorithm;
 import org.apache.shardingsphere.infra.distsql.constant.ExportableConstants;
 import org.apache.shardingsphere.infra.rule.event.DataSourceStatusChangedEvent;
 import org.apache.shardingsphere.infra.rule.identifier.scope.SchemaRule;
@@ -52,7 +53,7 @@ public final class ReadwriteSplittingRule implements SchemaRule, DataSourceConta
     
     private final Map<String, ReadwriteSplittingDataSourceRule> dataSourceRules;
     
-    public ReadwriteSplittingRule(final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig) {
         Preconditions.checkArgument(!ruleConfig.getDataSources().isEmpty(), "Replica query data source rules can not be empty.");
         ruleConfig.getLoadBalancers().forEach((key, value) -> loadBalancers.put(key, ReplicaLoadBalanceAlgorithmFactory.newInstance(value)));
         dataSourceRules = new HashMap<>(ruleConfig.getDataSources().size(), 1);
@@ -61,11 +62,12 @@ public final class ReadwriteSplittingRule implements SchemaRule, DataSourceConta
             ReplicaLoadBalanceAlgorithm loadBalanceAlgorithm = Strings.isNullOrEmpty(each.getLoadBalancerName()) || !loadBalancers.containsKey(each.getLoadBalancerName())
                     ? ReplicaLoadBalanceAlgorithmFactory.newInstance()
                     : loadBalancers.get(each.getLoadBalancerName());
-            dataSourceRules.put(each.getName(), new ReadwriteSplittingDataSourceRule(each, loadBalanceAlgorithm));
+            setDatabaseName(loadBalanceAlgorithm, databaseName);
+            dataSourceRules.put(each.getName(), new ReadwriteSplittingDataSourceRule(databaseName, each, loadBalanceAlgorithm));
         }
     }
     
-    public ReadwriteSplittingRule(final AlgorithmProvidedReadwriteSplittingRuleConfiguration ruleConfig) {
+    public ReadwriteSplittingRule(final String databaseName, final AlgorithmProvidedReadwriteSplittingRuleConfiguration ruleConfig) {
         Preconditions.checkArgument(!ruleConfig.getDataSources().isEmpty(), "Replica query data source rules can not be empty.");
         loadBalancers.putAll(ruleConfig.getLoadBalanceAlgorithms());
         dataSourceRules = new HashMap<>(ruleConfig.getDataSources().size(), 1);
@@ -74,7 +76,14 @@ public final class ReadwriteSplittingRule implements SchemaRule, DataSourceConta
             ReplicaLoadBalanceAlgorithm loadBalanceAlgorithm = Strings.isNullOrEmpty(each.getLoadBalancerName()) || !loadBalancers.containsKey(each.getLoadBalancerName())
                     ? ReplicaLoadBalanceAlgorithmFactory.newInstance()
                     : loadBalancers.get(each.getLoadBalancerName());
-            dataSourceRules.put(each.getName(), new ReadwriteSplittingDataSourceRule(each, loadBalanceAlgorithm));
+            setDatabaseName(loadBalanceAlgorithm, databaseName);
+            dataSourceRules.put(each.getName(), new ReadwriteSplittingDataSourceRule(databaseName, each, loadBalanceAlgorithm));
+        }
+    }
+    
+    private void setDatabaseName(final ReplicaLoadBalanceAlgorithm loadBalanceAlgorithm, final String databaseName) {
+        if (loadBalanceAlgorithm instanceof DatabaseNameAwareAlgorithm) {
+            ((DatabaseNameAwareAlgorithm) loadBalanceAlgorithm).setDatabaseName(databaseName);
         }
     }
     
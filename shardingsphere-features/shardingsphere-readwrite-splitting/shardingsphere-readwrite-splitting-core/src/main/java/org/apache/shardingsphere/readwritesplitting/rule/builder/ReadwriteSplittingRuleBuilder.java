@@ -36,7 +36,7 @@ public final class ReadwriteSplittingRuleBuilder implements SchemaRuleBuilder<Re
     @Override
     public ReadwriteSplittingRule build(final ReadwriteSplittingRuleConfiguration config, final String databaseName,
                                         final Map<String, DataSource> dataSources, final Collection<ShardingSphereRule> builtRules, final ConfigurationProperties props) {
-        return new ReadwriteSplittingRule(config);
+        return new ReadwriteSplittingRule(databaseName, config);
     }
     
     @Override
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.metrics.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replica statistics.
+ * 
+ * <p>Response time is kept as exponentially weighted moving average, failed executions are recorded with penalty.
+ * Response time of succeeded executions is also recorded in histogram to evaluate percentiles.
+ * Applied time is the time before which all writes of primary have been applied on replica, it is 0 before replication delay is sampled.</p>
+ */
+public final class ReplicaStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.3D;
+    
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private final AtomicInteger activeExecutions = new AtomicInteger();
+    
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    
+    @Getter
+    private volatile double responseTimeNanos;
+    
+    private boolean sampled;
+    
+    @Getter
+    private volatile long replicationDelayMilliseconds;
+    
+    @Getter
+    private volatile long appliedTimeMillis;
+    
+    /**
+     * Record start of execution.
+     */
+    public void start() {
+        activeExecutions.incrementAndGet();
+    }
+    
+    /**
+     * Record success of execution.
+     * 
+     * @param elapsedNanos elapsed nanoseconds of execution
+     */
+    public void finishSuccess(final long elapsedNanos) {
+        activeExecutions.decrementAndGet();
+        latencyHistogram.record(elapsedNanos);
+        record(elapsedNanos);
+    }
+    
+    /**
+     * Record failure of execution.
+     *
+     * @param elapsedNanos elapsed nanoseconds of execution
+     */
+    public void finishFailure(final long elapsedNanos) {
+        activeExecutions.decrementAndGet();
+        record(elapsedNanos + FAILURE_PENALTY_NANOS);
+    }
+    
+    private synchronized void record(final long elapsedNanos) {
+        responseTimeNanos = sampled ? SMOOTHING_FACTOR * elapsedNanos + (1 - SMOOTHING_FACTOR) * responseTimeNanos : elapsedNanos;
+        sampled = true;
+    }
+    
+    /**
+     * Renew replication delay sampled just now.
+     * 
+     * @param replicationDelayMilliseconds replication delay in milliseconds
+     */
+    public void renewReplicationDelay(final long replicationDelayMilliseconds) {
+        this.replicationDelayMilliseconds = replicationDelayMilliseconds;
+        appliedTimeMillis = System.currentTimeMillis() - replicationDelayMilliseconds;
+    }
+    
+    /**
+     * Get count of succeeded executions.
+     * 
+     * @return count of succeeded executions
+     */
+    public long getSucceededCount() {
+        return latencyHistogram.getCount();
+    }
+    
+    /**
+     * Get response time of succeeded executions at percentile.
+     * 
+     * @param percentile percentile between 0 and 100
+     * @return response time at percentile in nanoseconds
+     */
+    public long getResponseTimeNanosAtPercentile(final double percentile) {
+        return TimeUnit.MICROSECONDS.toNanos(latencyHistogram.getValueAtPercentile(percentile));
+    }
+    
+    /**
+     * Get active executions.
+     * 
+     * @return active executions
+     */
+    public int getActiveExecutions() {
+        return activeExecutions.get();
+    }
+    
+    /**
+     * Get load, which is response time weighted by active executions.
+     * 
+     * @return load
+     */
+    public double getLoad() {
+        return responseTimeNanos * (activeExecutions.get() + 1);
+    }
+}
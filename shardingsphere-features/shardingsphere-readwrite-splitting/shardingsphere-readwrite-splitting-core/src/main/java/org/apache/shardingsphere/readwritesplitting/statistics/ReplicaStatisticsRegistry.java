@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.mode.metadata.storage.event.ReplicationDelayRenewedEvent;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replica statistics registry.
+ * 
+ * <p>Only data sources monitored by load balancers are recorded, replication delay is refreshed by heartbeat of database discovery.</p>
+ */
+public final class ReplicaStatisticsRegistry {
+    
+    private static final ReplicaStatisticsRegistry INSTANCE = new ReplicaStatisticsRegistry();
+    
+    private final Map<String, Map<String, ReplicaStatistics>> statistics = new ConcurrentHashMap<>();
+    
+    private ReplicaStatisticsRegistry() {
+        ShardingSphereEventBus.getInstance().register(this);
+    }
+    
+    /**
+     * Get instance of replica statistics registry.
+     * 
+     * @return instance of replica statistics registry
+     */
+    public static ReplicaStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get statistics and start monitoring data source if absent.
+     * 
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return replica statistics
+     */
+    public ReplicaStatistics getStatistics(final String databaseName, final String dataSourceName) {
+        Optional<ReplicaStatistics> result = findStatistics(databaseName, dataSourceName);
+        return result.orElseGet(() -> statistics.computeIfAbsent(databaseName, unused -> new ConcurrentHashMap<>()).computeIfAbsent(dataSourceName, unused -> new ReplicaStatistics()));
+    }
+    
+    /**
+     * Find statistics of monitored data source.
+     * 
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return replica statistics
+     */
+    public Optional<ReplicaStatistics> findStatistics(final String databaseName, final String dataSourceName) {
+        Map<String, ReplicaStatistics> databaseStatistics = statistics.get(databaseName);
+        return null == databaseStatistics ? Optional.empty() : Optional.ofNullable(databaseStatistics.get(dataSourceName));
+    }
+    
+    /**
+     * Renew replication delay.
+     * 
+     * @param event replication delay renewed event
+     */
+    @Subscribe
+    public void renew(final ReplicationDelayRenewedEvent event) {
+        findStatistics(event.getDatabaseName(), event.getDataSourceName()).ifPresent(optional -> optional.renewReplicationDelay(event.getReplicationDelayMilliseconds()));
+    }
+}
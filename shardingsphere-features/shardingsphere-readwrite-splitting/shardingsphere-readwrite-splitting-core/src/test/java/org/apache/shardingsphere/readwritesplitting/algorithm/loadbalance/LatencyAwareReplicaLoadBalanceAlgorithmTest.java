@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyAwareReplicaLoadBalanceAlgorithmTest {
+    
+    @Test
+    public void assertGetDataSourceWithLowerResponseTime() {
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm(new Properties());
+        List<String> readDataSourceNames = Arrays.asList("latency_read_ds_0", "latency_read_ds_1");
+        recordExecution(ReplicaStatisticsRegistry.getInstance().getStatistics("logic_db", "latency_read_ds_0"), 100_000_000L);
+        recordExecution(ReplicaStatisticsRegistry.getInstance().getStatistics("logic_db", "latency_read_ds_1"), 1_000_000L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "write_ds", readDataSourceNames), is("latency_read_ds_1"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithoutLaggingReplica() {
+        Properties props = new Properties();
+        props.setProperty("max-replication-delay-milliseconds", "1000");
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm(props);
+        List<String> readDataSourceNames = Arrays.asList("lag_read_ds_0", "lag_read_ds_1", "lag_read_ds_2");
+        ReplicaStatisticsRegistry.getInstance().getStatistics("logic_db", "lag_read_ds_1").renewReplicationDelay(5000L);
+        for (int i = 0; i < 20; i++) {
+            assertThat(algorithm.getDataSource("ds", "write_ds", readDataSourceNames), not("lag_read_ds_1"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWhenAllReplicasLagging() {
+        Properties props = new Properties();
+        props.setProperty("max-replication-delay-milliseconds", "1000");
+        LatencyAwareReplicaLoadBalanceAlgorithm algorithm = createAlgorithm(props);
+        List<String> readDataSourceNames = Arrays.asList("all_lag_read_ds_0", "all_lag_read_ds_1");
+        ReplicaStatisticsRegistry.getInstance().getStatistics("logic_db", "all_lag_read_ds_0").renewReplicationDelay(5000L);
+        ReplicaStatisticsRegistry.getInstance().getStatistics("logic_db", "all_lag_read_ds_1").renewReplicationDelay(5000L);
+        assertTrue(readDataSourceNames.contains(algorithm.getDataSource("ds", "write_ds", readDataSourceNames)));
+    }
+    
+    private void recordExecution(final ReplicaStatistics statistics, final long elapsedNanos) {
+        statistics.start();
+        statistics.finishSuccess(elapsedNanos);
+    }
+    
+    private LatencyAwareReplicaLoadBalanceAlgorithm createAlgorithm(final Properties props) {
+        LatencyAwareReplicaLoadBalanceAlgorithm result = new LatencyAwareReplicaLoadBalanceAlgorithm();
+        result.init(props);
+        result.setDatabaseName("logic_db");
+        return result;
+    }
+}
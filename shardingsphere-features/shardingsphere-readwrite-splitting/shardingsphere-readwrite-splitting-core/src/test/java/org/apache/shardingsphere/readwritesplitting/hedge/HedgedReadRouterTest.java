@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hedge;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.route.impl.SessionWriteWatermark;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HedgedReadRouterTest {
+    
+    private static final String WRITE_DATASOURCE = "hedge_write";
+    
+    private static final String READ_DATASOURCE_0 = "hedge_read_0";
+    
+    private static final String READ_DATASOURCE_1 = "hedge_read_1";
+    
+    private static final String UNSAMPLED_READ_DATASOURCE = "hedge_read_unsampled";
+    
+    private ReadwriteSplittingRule rule;
+    
+    @Before
+    public void setUp() {
+        rule = new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(Collections.singleton(
+                new ReadwriteSplittingDataSourceRuleConfiguration("hedge_ds", "Static", createRuleProperties(), "")), Collections.emptyMap()));
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.getInstance().getStatistics("logic_db", READ_DATASOURCE_0);
+        while (statistics.getSucceededCount() < 20L) {
+            statistics.start();
+            statistics.finishSuccess(TimeUnit.MILLISECONDS.toNanos(1L));
+        }
+        HedgedReadStatisticsRegistry.getInstance().clear();
+    }
+    
+    private Properties createRuleProperties() {
+        Properties result = new Properties();
+        result.setProperty("write-data-source-name", WRITE_DATASOURCE);
+        result.setProperty("read-data-source-names", String.join(",", READ_DATASOURCE_0, READ_DATASOURCE_1, UNSAMPLED_READ_DATASOURCE));
+        return result;
+    }
+    
+    @Test
+    public void assertRouteWithSampledReplica() {
+        Optional<HedgedRead> actual = new HedgedReadRouter(rule, new ConfigurationProperties(new Properties())).route(createRouteContext(READ_DATASOURCE_0), new SessionWriteWatermark());
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getDataSourceName(), is(READ_DATASOURCE_0));
+        assertFalse(actual.get().getHedgeDataSourceName().equals(READ_DATASOURCE_0));
+        assertThat(actual.get().getDelayNanos(), is(TimeUnit.MILLISECONDS.toNanos(10L)));
+        assertThat(actual.get().getStatistics(), is(HedgedReadStatisticsRegistry.getInstance().getStatistics("logic_db", "hedge_ds")));
+        assertThat(actual.get().getStatistics().getReadCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRouteWithPercentileDelay() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.READWRITE_SPLITTING_HEDGED_READ_MIN_DELAY_MILLIS.getKey(), "0");
+        Optional<HedgedRead> actual = new HedgedReadRouter(rule, new ConfigurationProperties(props)).route(createRouteContext(READ_DATASOURCE_0), new SessionWriteWatermark());
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getDelayNanos(), is(ReplicaStatisticsRegistry.getInstance().getStatistics("logic_db", READ_DATASOURCE_0).getResponseTimeNanosAtPercentile(95D)));
+    }
+    
+    @Test
+    public void assertRouteWithUnsampledReplica() {
+        assertFalse(new HedgedReadRouter(rule, new ConfigurationProperties(new Properties())).route(createRouteContext(UNSAMPLED_READ_DATASOURCE), new SessionWriteWatermark()).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithWriteDataSource() {
+        assertFalse(new HedgedReadRouter(rule, new ConfigurationProperties(new Properties())).route(createRouteContext(WRITE_DATASOURCE), new SessionWriteWatermark()).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithPendingReadYourWrites() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.READWRITE_SPLITTING_READ_YOUR_WRITES_ENABLED.getKey(), Boolean.TRUE.toString());
+        SessionWriteWatermark watermark = new SessionWriteWatermark();
+        watermark.markWrite();
+        assertFalse(new HedgedReadRouter(rule, new ConfigurationProperties(props)).route(createRouteContext(READ_DATASOURCE_0), watermark).isPresent());
+    }
+    
+    private RouteContext createRouteContext(final String actualDataSourceName) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("hedge_ds", actualDataSourceName), Collections.emptyList()));
+        return result;
+    }
+}
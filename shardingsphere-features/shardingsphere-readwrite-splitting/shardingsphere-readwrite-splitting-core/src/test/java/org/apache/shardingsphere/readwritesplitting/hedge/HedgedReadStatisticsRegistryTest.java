@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hedge;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HedgedReadStatisticsRegistryTest {
+    
+    @Before
+    public void setUp() {
+        HedgedReadStatisticsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    public void assertGetStatisticsWithSameDataSourceRule() {
+        HedgedReadStatistics actual = HedgedReadStatisticsRegistry.getInstance().getStatistics("foo_db", "foo_group");
+        assertThat(HedgedReadStatisticsRegistry.getInstance().getStatistics("foo_db", "foo_group"), sameInstance(actual));
+    }
+    
+    @Test
+    public void assertGetStatisticsWithDifferentDataSourceRules() {
+        HedgedReadStatistics actual = HedgedReadStatisticsRegistry.getInstance().getStatistics("foo_db", "foo_group");
+        assertThat(HedgedReadStatisticsRegistry.getInstance().getStatistics("foo_db", "bar_group"), not(sameInstance(actual)));
+        assertThat(HedgedReadStatisticsRegistry.getInstance().getStatistics("bar_db", "foo_group"), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertBudgetNotSharedBetweenDataSourceRules() {
+        HedgedReadStatistics fooStatistics = HedgedReadStatisticsRegistry.getInstance().getStatistics("foo_db", "foo_group");
+        fooStatistics.recordRead(100);
+        assertFalse(HedgedReadStatisticsRegistry.getInstance().getStatistics("foo_db", "bar_group").tryAcquireHedge());
+        assertTrue(fooStatistics.tryAcquireHedge());
+        assertThat(fooStatistics.getHedgeCount(), is(1L));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hedge;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HedgedReadStatisticsTest {
+    
+    private final HedgedReadStatistics statistics = new HedgedReadStatistics();
+    
+    @Test
+    public void assertTryAcquireHedgeWithoutBudget() {
+        statistics.recordRead(10);
+        assertFalse(statistics.tryAcquireHedge());
+        assertThat(statistics.getHedgeCount(), is(0L));
+    }
+    
+    @Test
+    public void assertTryAcquireHedgeWithinBudget() {
+        for (int i = 0; i < 10; i++) {
+            statistics.recordRead(10);
+        }
+        assertTrue(statistics.tryAcquireHedge());
+        assertFalse(statistics.tryAcquireHedge());
+        assertThat(statistics.getReadCount(), is(10L));
+        assertThat(statistics.getHedgeCount(), is(1L));
+        assertThat(statistics.getHedgeRate(), is(0.1D));
+    }
+    
+    @Test
+    public void assertTryAcquireHedgeWithBoundedBurst() {
+        for (int i = 0; i < 1000; i++) {
+            statistics.recordRead(100);
+        }
+        int hedges = 0;
+        while (statistics.tryAcquireHedge()) {
+            hedges++;
+        }
+        assertThat(hedges, is(10));
+    }
+    
+    @Test
+    public void assertReleaseHedge() {
+        for (int i = 0; i < 10; i++) {
+            statistics.recordRead(10);
+        }
+        assertTrue(statistics.tryAcquireHedge());
+        statistics.releaseHedge();
+        assertThat(statistics.getHedgeCount(), is(0L));
+        assertTrue(statistics.tryAcquireHedge());
+        assertThat(statistics.getHedgeCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetWinRate() {
+        assertThat(statistics.getWinRate(), is(0D));
+        for (int i = 0; i < 20; i++) {
+            statistics.recordRead(10);
+        }
+        statistics.tryAcquireHedge();
+        statistics.tryAcquireHedge();
+        statistics.recordHedgeWin();
+        assertThat(statistics.getHedgeWinCount(), is(1L));
+        assertThat(statistics.getWinRate(), is(0.5D));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.impl;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatistics;
+import org.apache.shardingsphere.readwritesplitting.statistics.ReplicaStatisticsRegistry;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+public final class ReadwriteSplittingDataSourceRouterTest {
+    
+    private static final String WRITE_DATASOURCE = "write";
+    
+    private static final String READ_DATASOURCE = "read";
+    
+    private static final long TIMEOUT_MILLIS = 10000L;
+    
+    private ReadwriteSplittingDataSourceRule rule;
+    
+    private ReplicaStatistics statistics;
+    
+    private MockedStatic<ReplicaStatisticsRegistry> registry;
+    
+    private SessionWriteWatermark watermark;
+    
+    @Before
+    public void setUp() {
+        rule = new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(Collections.singleton(
+                new ReadwriteSplittingDataSourceRuleConfiguration("ds", "Static", createProperties(), "")), Collections.emptyMap())).getSingleDataSourceRule();
+        statistics = mock(ReplicaStatistics.class);
+        ReplicaStatisticsRegistry statisticsRegistry = mock(ReplicaStatisticsRegistry.class);
+        when(statisticsRegistry.getStatistics("logic_db", READ_DATASOURCE)).thenReturn(statistics);
+        registry = mockStatic(ReplicaStatisticsRegistry.class);
+        registry.when(ReplicaStatisticsRegistry::getInstance).thenReturn(statisticsRegistry);
+        watermark = new SessionWriteWatermark();
+        SessionWriteWatermarkHolder.set(watermark);
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty("write-data-source-name", WRITE_DATASOURCE);
+        result.setProperty("read-data-source-names", READ_DATASOURCE);
+        return result;
+    }
+    
+    @After
+    public void tearDown() {
+        registry.close();
+        SessionWriteWatermarkHolder.remove();
+    }
+    
+    @Test
+    public void assertRouteReadWithoutWrite() {
+        assertThat(new ReadwriteSplittingDataSourceRouter(rule, true, TIMEOUT_MILLIS).route(mockSelectStatementContext()), is(READ_DATASOURCE));
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteToPrimaryWhenReplicaNotCaughtUp() {
+        ReadwriteSplittingDataSourceRouter router = new ReadwriteSplittingDataSourceRouter(rule, true, TIMEOUT_MILLIS);
+        assertThat(router.route(mockInsertStatementContext()), is(WRITE_DATASOURCE));
+        assertThat(router.route(mockSelectStatementContext()), is(WRITE_DATASOURCE));
+        assertTrue(watermark.findLastWriteTimeMillis(TIMEOUT_MILLIS).isPresent());
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteToReplicaWhenReplicaCaughtUp() {
+        ReadwriteSplittingDataSourceRouter router = new ReadwriteSplittingDataSourceRouter(rule, true, TIMEOUT_MILLIS);
+        assertThat(router.route(mockInsertStatementContext()), is(WRITE_DATASOURCE));
+        when(statistics.getAppliedTimeMillis()).thenReturn(Long.MAX_VALUE);
+        assertThat(router.route(mockSelectStatementContext()), is(READ_DATASOURCE));
+        assertFalse(watermark.findLastWriteTimeMillis(TIMEOUT_MILLIS).isPresent());
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteWithReadYourWritesDisabled() {
+        ReadwriteSplittingDataSourceRouter router = new ReadwriteSplittingDataSourceRouter(rule);
+        assertThat(router.route(mockInsertStatementContext()), is(WRITE_DATASOURCE));
+        assertThat(router.route(mockSelectStatementContext()), is(READ_DATASOURCE));
+        assertFalse(watermark.findLastWriteTimeMillis(TIMEOUT_MILLIS).isPresent());
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteToReplicaWhenWatermarkExpired() {
+        ReadwriteSplittingDataSourceRouter router = new ReadwriteSplittingDataSourceRouter(rule, true, -1L);
+        assertThat(router.route(mockInsertStatementContext()), is(WRITE_DATASOURCE));
+        assertThat(router.route(mockSelectStatementContext()), is(READ_DATASOURCE));
+        assertFalse(watermark.findLastWriteTimeMillis(TIMEOUT_MILLIS).isPresent());
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteOfOtherSession() {
+        ReadwriteSplittingDataSourceRouter router = new ReadwriteSplittingDataSourceRouter(rule, true, TIMEOUT_MILLIS);
+        assertThat(router.route(mockInsertStatementContext()), is(WRITE_DATASOURCE));
+        SessionWriteWatermarkHolder.set(new SessionWriteWatermark());
+        assertThat(router.route(mockSelectStatementContext()), is(READ_DATASOURCE));
+        assertTrue(watermark.findLastWriteTimeMillis(TIMEOUT_MILLIS).isPresent());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private SQLStatementContext<?> mockSelectStatementContext() {
+        SQLStatementContext<MySQLSelectStatement> result = mock(SQLStatementContext.class);
+        MySQLSelectStatement selectStatement = mock(MySQLSelectStatement.class);
+        when(selectStatement.getLock()).thenReturn(Optional.empty());
+        when(result.getSqlStatement()).thenReturn(selectStatement);
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private SQLStatementContext<?> mockInsertStatementContext() {
+        SQLStatementContext<MySQLInsertStatement> result = mock(SQLStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(mock(MySQLInsertStatement.class));
+        return result;
+    }
+}
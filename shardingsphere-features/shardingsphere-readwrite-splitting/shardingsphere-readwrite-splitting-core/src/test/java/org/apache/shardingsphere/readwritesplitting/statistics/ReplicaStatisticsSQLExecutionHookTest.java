@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.statistics;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.mode.metadata.storage.event.ReplicationDelayRenewedEvent;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicaStatisticsSQLExecutionHookTest {
+    
+    private final Map<String, Object> dataMap = Collections.singletonMap(ExecutorDataMap.DATABASE_NAME_KEY, "foo_db");
+    
+    @Test
+    public void assertFinishSuccessWithMonitoredDataSource() {
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.getInstance().getStatistics("foo_db", "hook_success_ds");
+        ReplicaStatisticsSQLExecutionHook hook = new ReplicaStatisticsSQLExecutionHook();
+        hook.start("hook_success_ds", "SELECT 1", Collections.emptyList(), null, true, dataMap);
+        assertThat(statistics.getActiveExecutions(), is(1));
+        hook.finishSuccess();
+        assertThat(statistics.getActiveExecutions(), is(0));
+        assertTrue(statistics.getResponseTimeNanos() > 0);
+        assertThat(statistics.getSucceededCount(), is(1L));
+    }
+    
+    @Test
+    public void assertFinishFailureWithMonitoredDataSource() {
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.getInstance().getStatistics("foo_db", "hook_failure_ds");
+        ReplicaStatisticsSQLExecutionHook hook = new ReplicaStatisticsSQLExecutionHook();
+        hook.start("hook_failure_ds", "SELECT 1", Collections.emptyList(), null, true, dataMap);
+        hook.finishFailure(new SQLException("test"));
+        assertThat(statistics.getActiveExecutions(), is(0));
+        assertTrue(statistics.getResponseTimeNanos() >= 1_000_000_000L);
+    }
+    
+    @Test
+    public void assertStartWithUnmonitoredDataSource() {
+        ReplicaStatisticsSQLExecutionHook hook = new ReplicaStatisticsSQLExecutionHook();
+        hook.start("hook_unmonitored_ds", "SELECT 1", Collections.emptyList(), null, true, dataMap);
+        hook.finishSuccess();
+        assertFalse(ReplicaStatisticsRegistry.getInstance().findStatistics("foo_db", "hook_unmonitored_ds").isPresent());
+    }
+    
+    @Test
+    public void assertStartWithDataSourceMonitoredByAnotherDatabase() {
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.getInstance().getStatistics("bar_db", "hook_other_database_ds");
+        ReplicaStatisticsSQLExecutionHook hook = new ReplicaStatisticsSQLExecutionHook();
+        hook.start("hook_other_database_ds", "SELECT 1", Collections.emptyList(), null, true, dataMap);
+        hook.finishSuccess();
+        assertThat(statistics.getSucceededCount(), is(0L));
+    }
+    
+    @Test
+    public void assertRenewReplicationDelay() {
+        ReplicaStatistics statistics = ReplicaStatisticsRegistry.getInstance().getStatistics("foo_db", "hook_delay_ds");
+        ReplicaStatistics otherDatabaseStatistics = ReplicaStatisticsRegistry.getInstance().getStatistics("bar_db", "hook_delay_ds");
+        ReplicaStatisticsRegistry.getInstance().renew(new ReplicationDelayRenewedEvent("foo_db", "group_0", "hook_delay_ds", 3000L));
+        assertThat(statistics.getReplicationDelayMilliseconds(), is(3000L));
+        assertThat(otherDatabaseStatistics.getReplicationDelayMilliseconds(), is(0L));
+    }
+}
@@ -26,8 +26,8 @@ import org.apache.shardingsphere.shadow.api.shadow.ShadowOperationType;
 import org.apache.shardingsphere.shadow.api.shadow.column.ColumnShadowAlgorithm;
 import org.apache.shardingsphere.shadow.api.shadow.column.PreciseColumnShadowValue;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -40,7 +40,7 @@ public abstract class AbstractColumnMatchShadowAlgorithm implements ColumnShadow
     
     private static final String OPERATION_PROPS_KEY = "operation";
     
-    private static final Collection<ShadowValueValidator> SHADOW_VALUE_VALIDATORS = new LinkedList<>();
+    private static final Collection<ShadowValueValidator> SHADOW_VALUE_VALIDATORS = Arrays.asList(new ShadowDateValueValidator(), new ShadowEnumValueValidator());
     
     @Getter
     private Properties props;
@@ -54,7 +54,6 @@ public abstract class AbstractColumnMatchShadowAlgorithm implements ColumnShadow
         this.props = props;
         shadowColumn = getShadowColumn(props);
         shadowOperationType = getShadowOperationType(props);
-        initShadowValueValidator();
     }
     
     private String getShadowColumn(final Properties props) {
@@ -71,11 +70,6 @@ public abstract class AbstractColumnMatchShadowAlgorithm implements ColumnShadow
         return result.get();
     }
     
-    private void initShadowValueValidator() {
-        SHADOW_VALUE_VALIDATORS.add(new ShadowDateValueValidator());
-        SHADOW_VALUE_VALIDATORS.add(new ShadowEnumValueValidator());
-    }
-    
     @Override
     public boolean isShadow(final PreciseColumnShadowValue<Comparable<?>> shadowValue) {
         String table = shadowValue.getLogicTableName();
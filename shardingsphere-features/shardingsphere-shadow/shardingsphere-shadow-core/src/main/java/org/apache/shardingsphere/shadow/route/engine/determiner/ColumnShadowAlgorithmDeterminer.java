@@ -25,9 +25,6 @@ import org.apache.shardingsphere.shadow.api.shadow.column.PreciseColumnShadowVal
 import org.apache.shardingsphere.shadow.condition.ShadowColumnCondition;
 import org.apache.shardingsphere.shadow.condition.ShadowDetermineCondition;
 
-import java.util.Collection;
-import java.util.LinkedList;
-
 /**
  * Column shadow algorithm determiner.
  */
@@ -43,22 +40,19 @@ public final class ColumnShadowAlgorithmDeterminer {
      */
     public static boolean isShadow(final ColumnShadowAlgorithm<Comparable<?>> shadowAlgorithm, final ShadowDetermineCondition shadowCondition) {
         ShadowColumnCondition shadowColumnCondition = shadowCondition.getShadowColumnCondition();
+        if (shadowColumnCondition.getValues().isEmpty()) {
+            return true;
+        }
         String tableName = shadowCondition.getTableName();
+        if (!tableName.equals(shadowColumnCondition.getOwner())) {
+            return false;
+        }
         ShadowOperationType operationType = shadowCondition.getShadowOperationType();
-        for (PreciseColumnShadowValue<Comparable<?>> each : createColumnShadowValues(shadowColumnCondition.getColumn(), shadowColumnCondition.getValues(), tableName, operationType)) {
-            if (!tableName.equals(shadowColumnCondition.getOwner()) || !shadowAlgorithm.isShadow(each)) {
+        for (Comparable<?> each : shadowColumnCondition.getValues()) {
+            if (!shadowAlgorithm.isShadow(new PreciseColumnShadowValue<>(tableName, operationType, shadowColumnCondition.getColumn(), each))) {
                 return false;
             }
         }
         return true;
     }
-    
-    private static Collection<PreciseColumnShadowValue<Comparable<?>>> createColumnShadowValues(final String columnName, final Collection<Comparable<?>> columnValues, final String tableName,
-                                                                                                final ShadowOperationType operationType) {
-        Collection<PreciseColumnShadowValue<Comparable<?>>> result = new LinkedList<>();
-        for (Comparable<?> each : columnValues) {
-            result.add(new PreciseColumnShadowValue<>(tableName, operationType, columnName, each));
-        }
-        return result;
-    }
 }
@@ -130,13 +130,13 @@ public abstract class AbstractShadowDMLStatementRouteEngine implements ShadowRou
     private boolean isMatchAnyColumnShadowAlgorithms(final String shadowTable, final Collection<ColumnShadowAlgorithm<Comparable<?>>> columnShadowAlgorithms, final ShadowRule shadowRule,
                                                      final ShadowOperationType shadowOperationType) {
         Iterator<Optional<ShadowColumnCondition>> iterator = getShadowColumnConditionIterator();
-        ShadowDetermineCondition shadowDetermineCondition;
+        ShadowDetermineCondition shadowDetermineCondition = new ShadowDetermineCondition(shadowTable, shadowOperationType);
         while (iterator.hasNext()) {
             Optional<ShadowColumnCondition> next = iterator.next();
             if (next.isPresent()) {
+                shadowDetermineCondition.initShadowColumnCondition(next.get());
                 for (ColumnShadowAlgorithm<Comparable<?>> each : columnShadowAlgorithms) {
-                    shadowDetermineCondition = new ShadowDetermineCondition(shadowTable, shadowOperationType);
-                    if (ColumnShadowAlgorithmDeterminer.isShadow(each, shadowDetermineCondition.initShadowColumnCondition(next.get()))) {
+                    if (ColumnShadowAlgorithmDeterminer.isShadow(each, shadowDetermineCondition)) {
                         return true;
                     }
                 }
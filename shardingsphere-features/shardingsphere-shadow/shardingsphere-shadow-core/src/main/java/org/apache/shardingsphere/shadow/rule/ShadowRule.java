@@ -32,11 +32,11 @@ import org.apache.shardingsphere.shadow.factory.ShadowAlgorithmFactory;
 import org.apache.shardingsphere.shadow.spi.ShadowAlgorithm;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -175,18 +175,8 @@ public final class ShadowRule implements SchemaRule, DataSourceContainedRule {
      * @param shadowOperationType shadow operation type
      * @return column shadow algorithms
      */
-    @SuppressWarnings("unchecked")
     public Collection<ColumnShadowAlgorithm<Comparable<?>>> getRelatedColumnShadowAlgorithms(final String tableName, final ShadowOperationType shadowOperationType) {
-        Collection<ColumnShadowAlgorithm<Comparable<?>>> result = new LinkedList<>();
-        Map<ShadowOperationType, Collection<String>> columnShadowAlgorithmNames = shadowTableRules.get(tableName).getColumnShadowAlgorithmNames();
-        Collection<String> names = columnShadowAlgorithmNames.get(shadowOperationType);
-        if (Objects.isNull(names)) {
-            return result;
-        }
-        for (String each : names) {
-            result.add((ColumnShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each));
-        }
-        return result;
+        return shadowTableRules.get(tableName).getColumnShadowAlgorithms().getOrDefault(shadowOperationType, Collections.emptyList());
     }
     
     /**
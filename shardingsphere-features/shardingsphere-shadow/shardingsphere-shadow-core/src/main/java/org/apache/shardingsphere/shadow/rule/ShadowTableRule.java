@@ -44,11 +44,14 @@ public final class ShadowTableRule {
     
     private final Map<ShadowOperationType, Collection<String>> columnShadowAlgorithmNames;
     
+    private final Map<ShadowOperationType, Collection<ColumnShadowAlgorithm<Comparable<?>>>> columnShadowAlgorithms;
+    
     public ShadowTableRule(final String tableName, final Collection<String> shadowDataSources, final Collection<String> shadowAlgorithmNames, final Map<String, ShadowAlgorithm> shadowAlgorithms) {
         this.tableName = tableName;
         this.shadowDataSources = shadowDataSources;
         this.hintShadowAlgorithmNames = initHintShadowAlgorithmNames(shadowAlgorithmNames, shadowAlgorithms);
         this.columnShadowAlgorithmNames = initColumnShadowAlgorithmNames(shadowAlgorithmNames, shadowAlgorithms);
+        this.columnShadowAlgorithms = initColumnShadowAlgorithms(shadowAlgorithms);
     }
     
     private Collection<String> initHintShadowAlgorithmNames(final Collection<String> shadowAlgorithmNames, final Map<String, ShadowAlgorithm> shadowAlgorithms) {
@@ -71,4 +74,11 @@ public final class ShadowTableRule {
         Preconditions.checkState(null == names, "Column shadow algorithm `%s` operation only supports one column mapping in shadow table `%s`.", operationType.name(), tableName);
         columnShadowAlgorithmNames.put(operationType, Collections.singletonList(algorithmName));
     }
+    
+    @SuppressWarnings("unchecked")
+    private Map<ShadowOperationType, Collection<ColumnShadowAlgorithm<Comparable<?>>>> initColumnShadowAlgorithms(final Map<String, ShadowAlgorithm> shadowAlgorithms) {
+        Map<ShadowOperationType, Collection<ColumnShadowAlgorithm<Comparable<?>>>> result = new EnumMap<>(ShadowOperationType.class);
+        columnShadowAlgorithmNames.forEach((key, value) -> result.put(key, value.stream().map(each -> (ColumnShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each)).collect(Collectors.toList())));
+        return result;
+    }
 }
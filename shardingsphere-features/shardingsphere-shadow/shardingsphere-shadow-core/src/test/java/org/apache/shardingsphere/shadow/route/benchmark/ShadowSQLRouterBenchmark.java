@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.route.benchmark;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabaseMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.shadow.algorithm.config.AlgorithmProvidedShadowRuleConfiguration;
+import org.apache.shardingsphere.shadow.api.config.datasource.ShadowDataSourceConfiguration;
+import org.apache.shardingsphere.shadow.api.config.table.ShadowTableConfiguration;
+import org.apache.shardingsphere.shadow.api.shadow.ShadowOperationType;
+import org.apache.shardingsphere.shadow.api.shadow.column.ColumnShadowAlgorithm;
+import org.apache.shardingsphere.shadow.condition.ShadowColumnCondition;
+import org.apache.shardingsphere.shadow.condition.ShadowDetermineCondition;
+import org.apache.shardingsphere.shadow.factory.ShadowAlgorithmFactory;
+import org.apache.shardingsphere.shadow.route.ShadowSQLRouter;
+import org.apache.shardingsphere.shadow.route.engine.determiner.ColumnShadowAlgorithmDeterminer;
+import org.apache.shardingsphere.shadow.rule.ShadowRule;
+import org.apache.shardingsphere.shadow.spi.ShadowAlgorithm;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Latency benchmark of column shadow determining, compared with the whole shadow SQL router, with multi-row insert of 100 shadow rows and shadow select.
+ * 
+ * <p>It is not run by unit tests, run {@code org.openjdk.jmh.Main ShadowSQLRouterBenchmark} with test classpath instead.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShadowSQLRouterBenchmark {
+    
+    private static final int ROW_COUNT = 100;
+    
+    private final ShadowSQLRouter shadowSQLRouter = new ShadowSQLRouter();
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private ShadowRule shadowRule;
+    
+    private ShardingSphereDatabase database;
+    
+    private ColumnShadowAlgorithm<Comparable<?>> insertShadowAlgorithm;
+    
+    private ShadowDetermineCondition insertShadowCondition;
+    
+    private LogicSQL insertLogicSQL;
+    
+    private LogicSQL selectLogicSQL;
+    
+    /**
+     * Initialize shadow rule and bind SQL statements.
+     */
+    @Setup
+    public void setUp() {
+        shadowRule = new ShadowRule(createShadowRuleConfiguration());
+        ShardingSphereResource resource = mock(ShardingSphereResource.class);
+        when(resource.getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, DatabaseTypeFactory.getInstance("MySQL"), resource,
+                new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(shadowRule)), new ShardingSphereDatabaseMetaData(createSchemas()));
+        insertShadowAlgorithm = shadowRule.getRelatedColumnShadowAlgorithms("t_order", ShadowOperationType.INSERT).iterator().next();
+        insertShadowCondition = createInsertShadowCondition();
+        SQLStatementParserEngine sqlStatementParserEngine = new SQLStatementParserEngine("MySQL", new CacheOption(1, 1L), new CacheOption(1, 1L), false);
+        insertLogicSQL = createLogicSQL(sqlStatementParserEngine, createInsertSQL());
+        selectLogicSQL = createLogicSQL(sqlStatementParserEngine, "SELECT order_id, user_id, order_name FROM t_order WHERE user_id = 1");
+    }
+    
+    private AlgorithmProvidedShadowRuleConfiguration createShadowRuleConfiguration() {
+        AlgorithmProvidedShadowRuleConfiguration result = new AlgorithmProvidedShadowRuleConfiguration();
+        result.setDataSources(Collections.singletonMap("shadow_ds", new ShadowDataSourceConfiguration("ds", "ds_shadow")));
+        result.setTables(Collections.singletonMap("t_order", new ShadowTableConfiguration(Collections.singleton("shadow_ds"),
+                Arrays.asList("user-id-insert-regex-algorithm", "user-id-select-value-algorithm"))));
+        Map<String, ShadowAlgorithm> shadowAlgorithms = new HashMap<>(2, 1);
+        shadowAlgorithms.put("user-id-insert-regex-algorithm", createShadowAlgorithm("REGEX_MATCH", "insert", "regex", "[1]"));
+        shadowAlgorithms.put("user-id-select-value-algorithm", createShadowAlgorithm("VALUE_MATCH", "select", "value", "1"));
+        result.setShadowAlgorithms(shadowAlgorithms);
+        return result;
+    }
+    
+    private ShadowAlgorithm createShadowAlgorithm(final String type, final String operation, final String matchKey, final String matchValue) {
+        Properties props = new Properties();
+        props.setProperty("column", "user_id");
+        props.setProperty("operation", operation);
+        props.setProperty(matchKey, matchValue);
+        return ShadowAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration(type, props));
+    }
+    
+    private Map<String, ShardingSphereSchema> createSchemas() {
+        TableMetaData tableMetaData = new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("order_name", Types.VARCHAR, false, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+        return Collections.singletonMap(DefaultDatabase.LOGIC_NAME, new ShardingSphereSchema(Collections.singletonMap("t_order", tableMetaData)));
+    }
+    
+    private ShadowDetermineCondition createInsertShadowCondition() {
+        Collection<Comparable<?>> values = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            values.add(1);
+        }
+        ShadowDetermineCondition result = new ShadowDetermineCondition("t_order", ShadowOperationType.INSERT);
+        result.initShadowColumnCondition(new ShadowColumnCondition("t_order", "user_id", values));
+        return result;
+    }
+    
+    private String createInsertSQL() {
+        StringBuilder result = new StringBuilder("INSERT INTO t_order (order_id, user_id, order_name) VALUES ");
+        for (int i = 0; i < ROW_COUNT; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(String.format("(%d, 1, 'shadow_order')", i));
+        }
+        return result.toString();
+    }
+    
+    private LogicSQL createLogicSQL(final SQLStatementParserEngine sqlStatementParserEngine, final String sql) {
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), Collections.emptyList(), sqlStatementParserEngine.parse(sql, false), DefaultDatabase.LOGIC_NAME);
+        return new LogicSQL(sqlStatementContext, sql, Collections.emptyList());
+    }
+    
+    /**
+     * Determine shadow of multi-row insert values by column shadow algorithm.
+     *
+     * @return is shadow or not
+     */
+    @Benchmark
+    public boolean determineInsert() {
+        return ColumnShadowAlgorithmDeterminer.isShadow(insertShadowAlgorithm, insertShadowCondition);
+    }
+    
+    /**
+     * Route multi-row insert by shadow SQL router.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext routeInsert() {
+        return route(insertLogicSQL);
+    }
+    
+    /**
+     * Route select by shadow SQL router.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext routeSelect() {
+        return route(selectLogicSQL);
+    }
+    
+    private RouteContext route(final LogicSQL logicSQL) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("shadow_ds", "shadow_ds"), Collections.emptyList()));
+        shadowSQLRouter.decorateRouteContext(result, logicSQL, database, shadowRule, props);
+        return result;
+    }
+}
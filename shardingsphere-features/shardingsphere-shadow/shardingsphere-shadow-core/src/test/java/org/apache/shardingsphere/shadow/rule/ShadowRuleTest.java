@@ -21,6 +21,8 @@ import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmC
 import org.apache.shardingsphere.shadow.algorithm.config.AlgorithmProvidedShadowRuleConfiguration;
 import org.apache.shardingsphere.shadow.api.config.datasource.ShadowDataSourceConfiguration;
 import org.apache.shardingsphere.shadow.api.config.table.ShadowTableConfiguration;
+import org.apache.shardingsphere.shadow.api.shadow.ShadowOperationType;
+import org.apache.shardingsphere.shadow.api.shadow.column.ColumnShadowAlgorithm;
 import org.apache.shardingsphere.shadow.factory.ShadowAlgorithmFactory;
 import org.apache.shardingsphere.shadow.spi.ShadowAlgorithm;
 import org.junit.Before;
@@ -37,6 +39,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShadowRuleTest {
     
@@ -119,9 +122,11 @@ public final class ShadowRuleTest {
         if ("t_user".equals(tableName)) {
             assertThat(shadowTableRule.getHintShadowAlgorithmNames().size(), is(1));
             assertThat(shadowTableRule.getColumnShadowAlgorithmNames().size(), is(2));
+            assertThat(shadowTableRule.getColumnShadowAlgorithms().size(), is(2));
         } else {
             assertThat(shadowTableRule.getHintShadowAlgorithmNames().size(), is(1));
             assertThat(shadowTableRule.getColumnShadowAlgorithmNames().size(), is(1));
+            assertThat(shadowTableRule.getColumnShadowAlgorithms().size(), is(1));
         }
     }
     
@@ -148,4 +153,12 @@ public final class ShadowRuleTest {
         assertThat(iterator.next(), is("t_user"));
         assertThat(iterator.next(), is("t_order"));
     }
+    
+    @Test
+    public void assertGetRelatedColumnShadowAlgorithms() {
+        Collection<ColumnShadowAlgorithm<Comparable<?>>> actual = shadowRule.getRelatedColumnShadowAlgorithms("t_user", ShadowOperationType.INSERT);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getProps().getProperty("column"), is("user_id"));
+        assertTrue(shadowRule.getRelatedColumnShadowAlgorithms("t_order", ShadowOperationType.UPDATE).isEmpty());
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.statistics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hot spot statistics of sharding values and routed data nodes for each logic table.
+ */
+public final class ShardingHotSpotStatistics {
+    
+    private static final int SKETCH_CAPACITY = 128;
+    
+    private static final int MAX_LOGIC_TABLE_COUNT = 1024;
+    
+    private static final int MAX_VALUE_LENGTH = 128;
+    
+    private final Map<String, SpaceSavingSketch> shardingValueSketches = new ConcurrentHashMap<>();
+    
+    private final Map<String, SpaceSavingSketch> dataNodeSketches = new ConcurrentHashMap<>();
+    
+    /**
+     * Record sharding value.
+     *
+     * @param logicTableName logic table name
+     * @param columnName sharding column name
+     * @param value sharding value
+     */
+    public void recordShardingValue(final String logicTableName, final String columnName, final Object value) {
+        String shardingValue = columnName + "=" + value;
+        getSketch(shardingValueSketches, logicTableName).offer(shardingValue.length() > MAX_VALUE_LENGTH ? shardingValue.substring(0, MAX_VALUE_LENGTH) : shardingValue);
+    }
+    
+    /**
+     * Record routed data node.
+     *
+     * @param logicTableName logic table name
+     * @param dataSourceName data source name
+     * @param actualTableName actual table name
+     */
+    public void recordDataNode(final String logicTableName, final String dataSourceName, final String actualTableName) {
+        getSketch(dataNodeSketches, logicTableName).offer(dataSourceName + "." + actualTableName);
+    }
+    
+    private SpaceSavingSketch getSketch(final Map<String, SpaceSavingSketch> sketches, final String logicTableName) {
+        String key = logicTableName.toLowerCase();
+        SpaceSavingSketch result = sketches.get(key);
+        if (null != result) {
+            return result;
+        }
+        if (sketches.size() >= MAX_LOGIC_TABLE_COUNT) {
+            return new SpaceSavingSketch(1);
+        }
+        return sketches.computeIfAbsent(key, unused -> new SpaceSavingSketch(SKETCH_CAPACITY));
+    }
+    
+    /**
+     * Get sharding value sketches ordered by logic table name.
+     *
+     * @return sharding value sketches
+     */
+    public Map<String, SpaceSavingSketch> getShardingValueSketches() {
+        return new TreeMap<>(shardingValueSketches);
+    }
+    
+    /**
+     * Get data node sketches ordered by logic table name.
+     *
+     * @return data node sketches
+     */
+    public Map<String, SpaceSavingSketch> getDataNodeSketches() {
+        return new TreeMap<>(dataNodeSketches);
+    }
+    
+    /**
+     * Clear statistics.
+     */
+    public void clear() {
+        shardingValueSketches.clear();
+        dataNodeSketches.clear();
+    }
+}
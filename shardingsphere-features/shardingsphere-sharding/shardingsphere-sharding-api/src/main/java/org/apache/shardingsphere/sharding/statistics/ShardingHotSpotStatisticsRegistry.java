@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sharding hot spot statistics registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingHotSpotStatisticsRegistry {
+    
+    private static final ShardingHotSpotStatisticsRegistry INSTANCE = new ShardingHotSpotStatisticsRegistry();
+    
+    private final Map<String, ShardingHotSpotStatistics> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static ShardingHotSpotStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get or create statistics of database.
+     *
+     * @param databaseName database name
+     * @return statistics of database
+     */
+    public ShardingHotSpotStatistics getStatistics(final String databaseName) {
+        return statistics.computeIfAbsent(databaseName.toLowerCase(), unused -> new ShardingHotSpotStatistics());
+    }
+    
+    /**
+     * Find statistics of database.
+     *
+     * @param databaseName database name
+     * @return statistics of database
+     */
+    public Optional<ShardingHotSpotStatistics> findStatistics(final String databaseName) {
+        return Optional.ofNullable(statistics.get(databaseName.toLowerCase()));
+    }
+}
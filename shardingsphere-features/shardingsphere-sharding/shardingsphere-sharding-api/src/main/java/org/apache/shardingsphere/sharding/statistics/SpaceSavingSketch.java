@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.statistics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space saving sketch, tracks top-k heavy hitters of a stream with bounded memory.
+ * 
+ * <p>At most {@code capacity} counters are kept. When a new value arrives and all counters are occupied, the minimum counter is replaced,
+ * and its count is inherited as the error of the new value, so real occurrences are between {@code count - error} and {@code count}.</p>
+ * 
+ * <p>Counters are organized as stream summary: counters with the same count are linked in one bucket, and buckets are linked by count ascending,
+ * so both incrementing a counter and replacing the minimum counter take constant time.</p>
+ */
+public final class SpaceSavingSketch {
+    
+    private final int capacity;
+    
+    private final Map<String, Counter> counters;
+    
+    private Bucket minBucket;
+    
+    private long total;
+    
+    public SpaceSavingSketch(final int capacity) {
+        this.capacity = capacity;
+        counters = new HashMap<>(capacity * 4 / 3 + 1, 1F);
+    }
+    
+    /**
+     * Offer value.
+     *
+     * @param value value
+     */
+    public synchronized void offer(final String value) {
+        total++;
+        Counter counter = counters.get(value);
+        if (null != counter) {
+            Bucket bucket = counter.bucket;
+            moveTo(counter, getNextBucket(bucket, bucket.count + 1L));
+            return;
+        }
+        if (counters.size() < capacity) {
+            counter = new Counter(value, 0L);
+            counters.put(value, counter);
+            moveTo(counter, getNextBucket(null, 1L));
+            return;
+        }
+        replace(minBucket.head, value);
+    }
+    
+    private void replace(final Counter min, final String value) {
+        Bucket bucket = min.bucket;
+        Counter counter = new Counter(value, bucket.count);
+        counters.put(value, counter);
+        moveTo(counter, getNextBucket(bucket, bucket.count + 1L));
+        counters.remove(min.value);
+        detach(min);
+    }
+    
+    private Bucket getNextBucket(final Bucket previous, final long count) {
+        Bucket next = null == previous ? minBucket : previous.next;
+        if (null != next && count == next.count) {
+            return next;
+        }
+        Bucket result = new Bucket(count);
+        result.previous = previous;
+        result.next = next;
+        if (null != next) {
+            next.previous = result;
+        }
+        if (null == previous) {
+            minBucket = result;
+        } else {
+            previous.next = result;
+        }
+        return result;
+    }
+    
+    private void moveTo(final Counter counter, final Bucket bucket) {
+        if (null != counter.bucket) {
+            detach(counter);
+        }
+        counter.bucket = bucket;
+        counter.previous = null;
+        counter.next = bucket.head;
+        if (null != bucket.head) {
+            bucket.head.previous = counter;
+        }
+        bucket.head = counter;
+    }
+    
+    private void detach(final Counter counter) {
+        Bucket bucket = counter.bucket;
+        if (null == counter.previous) {
+            bucket.head = counter.next;
+        } else {
+            counter.previous.next = counter.next;
+        }
+        if (null != counter.next) {
+            counter.next.previous = counter.previous;
+        }
+        counter.bucket = null;
+        if (null == bucket.head) {
+            removeBucket(bucket);
+        }
+    }
+    
+    private void removeBucket(final Bucket bucket) {
+        if (null == bucket.previous) {
+            minBucket = bucket.next;
+        } else {
+            bucket.previous.next = bucket.next;
+        }
+        if (null != bucket.next) {
+            bucket.next.previous = bucket.previous;
+        }
+    }
+    
+    /**
+     * Get top heavy hitters ordered by count descending.
+     *
+     * @param limit max size of result
+     * @return top heavy hitters
+     */
+    public synchronized List<HeavyHitter> getTop(final int limit) {
+        List<HeavyHitter> result = new ArrayList<>(counters.size());
+        for (Counter each : counters.values()) {
+            result.add(new HeavyHitter(each.value, each.bucket.count, each.error));
+        }
+        result.sort(Comparator.comparingLong(HeavyHitter::getCount).reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+    
+    /**
+     * Get total count of offered values.
+     *
+     * @return total count
+     */
+    public synchronized long getTotal() {
+        return total;
+    }
+    
+    private static final class Bucket {
+        
+        private final long count;
+        
+        private Bucket previous;
+        
+        private Bucket next;
+        
+        private Counter head;
+        
+        Bucket(final long count) {
+            this.count = count;
+        }
+    }
+    
+    private static final class Counter {
+        
+        private final String value;
+        
+        private final long error;
+        
+        private Bucket bucket;
+        
+        private Counter previous;
+        
+        private Counter next;
+        
+        Counter(final String value, final long error) {
+            this.value = value;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.statistics;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SpaceSavingSketchTest {
+    
+    @Test
+    public void assertGetTopWithinCapacity() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(4);
+        offer(sketch, "a", 5);
+        offer(sketch, "b", 3);
+        offer(sketch, "c", 1);
+        List<HeavyHitter> actual = sketch.getTop(2);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getValue(), is("a"));
+        assertThat(actual.get(0).getCount(), is(5L));
+        assertThat(actual.get(0).getError(), is(0L));
+        assertThat(actual.get(1).getValue(), is("b"));
+        assertThat(sketch.getTotal(), is(9L));
+    }
+    
+    @Test
+    public void assertHeavyHitterSurvivesEviction() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+        for (int i = 0; i < 1000; i++) {
+            sketch.offer("hot");
+            sketch.offer("cold_" + i);
+        }
+        List<HeavyHitter> actual = sketch.getTop(3);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getValue(), is("hot"));
+        assertThat(actual.get(0).getGuaranteedCount() >= 500L, is(true));
+        assertThat(sketch.getTotal(), is(2000L));
+    }
+    
+    @Test
+    public void assertMinCounterReplaced() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        offer(sketch, "a", 3);
+        offer(sketch, "b", 1);
+        sketch.offer("c");
+        List<HeavyHitter> actual = sketch.getTop(2);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getValue(), is("a"));
+        assertThat(actual.get(0).getCount(), is(3L));
+        assertThat(actual.get(1).getValue(), is("c"));
+        assertThat(actual.get(1).getCount(), is(2L));
+        assertThat(actual.get(1).getError(), is(1L));
+    }
+    
+    @Test
+    public void assertCountsSumToTotalWhenFull() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(8);
+        Random random = new Random(0L);
+        for (int i = 0; i < 10000; i++) {
+            sketch.offer("value_" + random.nextInt(32));
+        }
+        List<HeavyHitter> actual = sketch.getTop(8);
+        assertThat(actual.size(), is(8));
+        assertThat(actual.stream().mapToLong(HeavyHitter::getCount).sum(), is(10000L));
+    }
+    
+    private void offer(final SpaceSavingSketch sketch, final String value, final int times) {
+        for (int i = 0; i < times; i++) {
+            sketch.offer(value);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.algorithm.DataSourceAwareAlgorithm;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.sharding.algorithm.keygen.segment.KeySegment;
+import org.apache.shardingsphere.sharding.algorithm.keygen.segment.KeySegmentAllocator;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Segment key generate algorithm.
+ * 
+ * <p>
+ *     Segments of keys are allocated from sequence table, keys are handed out from memory without locking.
+ *     Next segment is prefetched asynchronously before current segment runs out.
+ *     Sequence table is accessed through data source of the database which the algorithm belongs to, so no connection pool is held by the algorithm.
+ * </p>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, DataSourceAwareAlgorithm {
+    
+    private static final String DATA_SOURCE_NAME_KEY = "data-source-name";
+    
+    private static final String TABLE_NAME_KEY = "table-name";
+    
+    private static final String KEY_NAME_KEY = "key-name";
+    
+    private static final String STEP_KEY = "step";
+    
+    private static final String DEFAULT_TABLE_NAME = "sharding_key_segment";
+    
+    private static final String DEFAULT_KEY_NAME = "default";
+    
+    private static final int DEFAULT_STEP = 1000;
+    
+    private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("^[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?$");
+    
+    private static final long PREFETCH_THREAD_KEEP_ALIVE_SECONDS = 60L;
+    
+    @Getter
+    private Properties props;
+    
+    private String dataSourceName;
+    
+    private String tableName;
+    
+    private int step;
+    
+    private final ExecutorService prefetchExecutor = createPrefetchExecutor();
+    
+    private volatile Map<String, DataSource> dataSources = Collections.emptyMap();
+    
+    private KeySegmentAllocator allocator;
+    
+    private volatile KeySegment currentSegment = new KeySegment(0L, 0L);
+    
+    private CompletableFuture<KeySegment> nextSegment;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        dataSourceName = props.getProperty(DATA_SOURCE_NAME_KEY);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(dataSourceName), "%s can not be null or empty.", DATA_SOURCE_NAME_KEY);
+        tableName = props.getProperty(TABLE_NAME_KEY, DEFAULT_TABLE_NAME);
+        Preconditions.checkArgument(TABLE_NAME_PATTERN.matcher(tableName).matches(), "Illegal table name `%s`.", tableName);
+        step = Integer.parseInt(props.getOrDefault(STEP_KEY, DEFAULT_STEP).toString());
+        Preconditions.checkArgument(step > 0, "Illegal step.");
+    }
+    
+    private static ExecutorService createPrefetchExecutor() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(1, 1, PREFETCH_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ExecutorThreadFactoryBuilder.build("key-segment-prefetch-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    @Override
+    public synchronized void setDataSources(final Map<String, DataSource> dataSources) {
+        this.dataSources = dataSources;
+        allocator = null;
+    }
+    
+    @Override
+    public Long generateKey() {
+        while (true) {
+            KeySegment segment = currentSegment;
+            long result = segment.take(1);
+            if (result < segment.getMaxValue()) {
+                prefetchIfNecessary(segment, result, 1);
+                return result;
+            }
+            switchSegment(segment);
+        }
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final int keyGenerateCount) {
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        while (result.size() < keyGenerateCount) {
+            KeySegment segment = currentSegment;
+            int requiredCount = keyGenerateCount - result.size();
+            long firstValue = segment.take(requiredCount);
+            if (firstValue >= segment.getMaxValue()) {
+                switchSegment(segment);
+                continue;
+            }
+            long lastValue = Math.min(firstValue + requiredCount, segment.getMaxValue());
+            for (long each = firstValue; each < lastValue; each++) {
+                result.add(each);
+            }
+            prefetchIfNecessary(segment, firstValue, requiredCount);
+        }
+        return result;
+    }
+    
+    private void prefetchIfNecessary(final KeySegment segment, final long firstValue, final int count) {
+        if (segment.isPrefetchValueTaken(firstValue, count)) {
+            prefetch(segment);
+        }
+    }
+    
+    private synchronized void prefetch(final KeySegment segment) {
+        if (segment == currentSegment && null == nextSegment && null != allocator) {
+            KeySegmentAllocator prefetchAllocator = allocator;
+            nextSegment = CompletableFuture.supplyAsync(() -> prefetchAllocator.allocate(step), prefetchExecutor);
+        }
+    }
+    
+    private synchronized void switchSegment(final KeySegment exhaustedSegment) {
+        if (exhaustedSegment != currentSegment) {
+            return;
+        }
+        if (null == allocator) {
+            allocator = createAllocator();
+        }
+        currentSegment = null == nextSegment ? allocator.allocate(step) : getPrefetchedSegment();
+        nextSegment = null;
+    }
+    
+    private KeySegment getPrefetchedSegment() {
+        try {
+            return nextSegment.join();
+        } catch (final CompletionException ex) {
+            return allocator.allocate(step);
+        }
+    }
+    
+    private KeySegmentAllocator createAllocator() {
+        DataSource dataSource = dataSources.get(dataSourceName);
+        Preconditions.checkState(null != dataSource, "Can not find data source `%s` of key segment.", dataSourceName);
+        return new KeySegmentAllocator(dataSource, tableName, props.getProperty(KEY_NAME_KEY, DEFAULT_KEY_NAME));
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+}
@@ -25,8 +25,11 @@ import org.apache.shardingsphere.infra.config.algorithm.InstanceAwareAlgorithm;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake key generate algorithm.
@@ -38,6 +41,11 @@ import java.util.Properties;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>
+ *     Last milliseconds and sequence are packed into one long state and advanced by CAS,
+ *     so that a batch of sequences can be reserved in one step without locking.
+ * </p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceAwareAlgorithm {
     
@@ -77,9 +85,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private volatile int sequenceOffset = -1;
     
-    private volatile long sequence;
-    
-    private volatile long lastMilliseconds;
+    private final AtomicLong state = new AtomicLong();
     
     @Setter
     private InstanceContext instanceContext;
@@ -112,25 +118,91 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     }
     
     @Override
-    public synchronized Long generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public Long generateKey() {
+        long workerId = getWorkerId();
+        while (true) {
+            long currentState = state.get();
+            long lastMilliseconds = getMilliseconds(currentState);
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            long reservedState = reserve(currentState, currentMilliseconds, 1);
+            if (reservedState >= 0L) {
+                return createKey(getMilliseconds(reservedState), workerId, getSequence(reservedState));
+            }
         }
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final int keyGenerateCount) {
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        long workerId = getWorkerId();
+        while (result.size() < keyGenerateCount) {
+            long currentState = state.get();
+            long lastMilliseconds = getMilliseconds(currentState);
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            int requiredCount = keyGenerateCount - result.size();
+            long reservedState = reserve(currentState, currentMilliseconds, requiredCount);
+            if (reservedState < 0L) {
+                continue;
+            }
+            long milliseconds = getMilliseconds(reservedState);
+            long firstSequence = getSequence(reservedState);
+            long lastSequence = firstSequence + getReservedCount(firstSequence, requiredCount) - 1;
+            for (long each = firstSequence; each <= lastSequence; each++) {
+                result.add(createKey(milliseconds, workerId, each));
+            }
+        }
+        return result;
+    }
+    
+    private long reserve(final long currentState, final long currentMilliseconds, final int requiredCount) {
+        long lastMilliseconds = getMilliseconds(currentState);
+        long milliseconds = currentMilliseconds;
+        long firstSequence;
+        int nextSequenceOffset = sequenceOffset;
         if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+            long lastSequence = getSequence(currentState);
+            if (SEQUENCE_MASK == lastSequence) {
+                milliseconds = waitUntilNextTime(currentMilliseconds);
+                firstSequence = 0L;
+            } else {
+                firstSequence = lastSequence + 1;
             }
         } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
+            nextSequenceOffset = nextSequenceOffset >= maxVibrationOffset ? 0 : nextSequenceOffset + 1;
+            firstSequence = nextSequenceOffset;
+        }
+        long lastSequence = firstSequence + getReservedCount(firstSequence, requiredCount) - 1;
+        if (!state.compareAndSet(currentState, (milliseconds << SEQUENCE_BITS) | lastSequence)) {
+            return -1L;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+        sequenceOffset = nextSequenceOffset;
+        return (milliseconds << SEQUENCE_BITS) | firstSequence;
+    }
+    
+    private long getReservedCount(final long firstSequence, final int requiredCount) {
+        return Math.min(requiredCount, SEQUENCE_MASK - firstSequence + 1);
+    }
+    
+    private long getMilliseconds(final long state) {
+        return state >>> SEQUENCE_BITS;
+    }
+    
+    private long getSequence(final long state) {
+        return state & SEQUENCE_MASK;
+    }
+    
+    private long createKey(final long milliseconds, final long workerId, final long sequence) {
+        return ((milliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
@@ -149,11 +221,6 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
-    @SuppressWarnings("NonAtomicOperationOnVolatileField")
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
-    }
-    
     private long getWorkerId() {
         if (null == instanceContext) {
             return DEFAULT_WORKER_ID;
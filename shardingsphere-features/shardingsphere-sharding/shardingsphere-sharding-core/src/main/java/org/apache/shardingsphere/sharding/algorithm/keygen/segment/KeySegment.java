@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen.segment;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Key segment, values in range of {@code [minValue, maxValue)} are handed out without locking.
+ */
+@Getter
+public final class KeySegment {
+    
+    private static final int PREFETCH_PERCENT = 10;
+    
+    private final long minValue;
+    
+    private final long maxValue;
+    
+    private final long prefetchValue;
+    
+    private final AtomicLong nextValue;
+    
+    public KeySegment(final long minValue, final long maxValue) {
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        prefetchValue = minValue + (maxValue - minValue) * PREFETCH_PERCENT / 100;
+        nextValue = new AtomicLong(minValue);
+    }
+    
+    /**
+     * Take values.
+     * 
+     * @param count count of values to be taken
+     * @return first value taken, values not less than max value are invalid
+     */
+    public long take(final int count) {
+        return nextValue.getAndAdd(count);
+    }
+    
+    /**
+     * Judge whether taken values reach prefetch value.
+     * 
+     * @param firstValue first value taken
+     * @param count count of values taken
+     * @return reach prefetch value or not
+     */
+    public boolean isPrefetchValueTaken(final long firstValue, final int count) {
+        return firstValue <= prefetchValue && prefetchValue < firstValue + count;
+    }
+}
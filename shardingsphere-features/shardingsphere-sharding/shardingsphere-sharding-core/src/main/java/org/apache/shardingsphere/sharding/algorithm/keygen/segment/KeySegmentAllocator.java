@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen.segment;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Key segment allocator, which allocates monotonically increasing segments from sequence table.
+ * 
+ * <pre>
+ *     CREATE TABLE sharding_key_segment (key_name VARCHAR(128) NOT NULL PRIMARY KEY, max_value BIGINT NOT NULL)
+ * </pre>
+ */
+@RequiredArgsConstructor
+public final class KeySegmentAllocator {
+    
+    private static final int MAX_RETRY_TIMES = 3;
+    
+    private final DataSource dataSource;
+    
+    private final String tableName;
+    
+    private final String keyName;
+    
+    /**
+     * Allocate key segment.
+     * 
+     * @param step step of key segment
+     * @return allocated key segment
+     */
+    public KeySegment allocate(final int step) {
+        SQLException lastException = null;
+        for (int i = 0; i < MAX_RETRY_TIMES; i++) {
+            try (Connection connection = dataSource.getConnection()) {
+                return allocate(connection, step);
+            } catch (final SQLException ex) {
+                lastException = ex;
+            }
+        }
+        throw new ShardingSphereException(String.format("Can not allocate key segment of `%s` from table `%s`.", keyName, tableName), lastException);
+    }
+    
+    private KeySegment allocate(final Connection connection, final int step) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            if (!increaseMaxValue(connection, step)) {
+                insertMaxValue(connection, step);
+            }
+            long maxValue = loadMaxValue(connection);
+            connection.commit();
+            return new KeySegment(maxValue - step + 1, maxValue + 1);
+        } catch (final SQLException ex) {
+            connection.rollback();
+            throw ex;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+    
+    private boolean increaseMaxValue(final Connection connection, final int step) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("UPDATE %s SET max_value = max_value + ? WHERE key_name = ?", tableName))) {
+            preparedStatement.setLong(1, step);
+            preparedStatement.setString(2, keyName);
+            return preparedStatement.executeUpdate() > 0;
+        }
+    }
+    
+    private void insertMaxValue(final Connection connection, final int step) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (key_name, max_value) VALUES (?, ?)", tableName))) {
+            preparedStatement.setString(1, keyName);
+            preparedStatement.setLong(2, step);
+            preparedStatement.executeUpdate();
+        }
+    }
+    
+    private long loadMaxValue(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("SELECT max_value FROM %s WHERE key_name = ?", tableName))) {
+            preparedStatement.setString(1, keyName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new SQLException(String.format("Can not find key segment of `%s`.", keyName));
+                }
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
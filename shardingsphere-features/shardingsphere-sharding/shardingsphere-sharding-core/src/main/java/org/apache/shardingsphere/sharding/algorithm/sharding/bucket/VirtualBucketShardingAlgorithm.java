@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.bucket;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import com.google.common.collect.Range;
+import lombok.Getter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.mod.IntegralRangeUtils;
+import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Virtual bucket sharding algorithm.
+ * 
+ * <p>Sharding values are hashed into a fixed amount of virtual buckets, and every bucket is mapped to one physical table.
+ * Without explicit bucket mapping, buckets are mapped by jump consistent hash, so that changing sharding count relocates minimum buckets only.</p>
+ */
+public final class VirtualBucketShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm {
+    
+    private static final String SHARDING_COUNT_KEY = "sharding-count";
+    
+    private static final String BUCKET_COUNT_KEY = "bucket-count";
+    
+    private static final String BUCKET_MAPPING_KEY = "bucket-mapping";
+    
+    private static final int DEFAULT_BUCKET_COUNT = 1024;
+    
+    @Getter
+    private Properties props;
+    
+    private int shardingCount;
+    
+    @Getter
+    private int bucketCount;
+    
+    private int[] bucketTables;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        shardingCount = getShardingCount(props);
+        bucketCount = getBucketCount(props);
+        bucketTables = props.containsKey(BUCKET_MAPPING_KEY) ? parseBucketMapping(props.getProperty(BUCKET_MAPPING_KEY)) : createConsistentBucketMapping();
+    }
+    
+    private int getShardingCount(final Properties props) {
+        Preconditions.checkArgument(props.containsKey(SHARDING_COUNT_KEY), "Sharding count cannot be null.");
+        int result = Integer.parseInt(String.valueOf(props.getProperty(SHARDING_COUNT_KEY)));
+        Preconditions.checkArgument(result > 0, "Sharding count must be greater than 0.");
+        return result;
+    }
+    
+    private int getBucketCount(final Properties props) {
+        int result = Integer.parseInt(String.valueOf(props.getProperty(BUCKET_COUNT_KEY, String.valueOf(DEFAULT_BUCKET_COUNT))));
+        Preconditions.checkArgument(result >= shardingCount, "Bucket count can not be less than sharding count.");
+        return result;
+    }
+    
+    private int[] parseBucketMapping(final String bucketMapping) {
+        int[] result = new int[bucketCount];
+        Arrays.fill(result, -1);
+        for (String each : Splitter.on(',').trimResults().omitEmptyStrings().split(bucketMapping)) {
+            List<String> segments = Splitter.on(':').trimResults().splitToList(each);
+            Preconditions.checkArgument(2 == segments.size(), "Bucket mapping `%s` must be in format of `begin-end:table` or `bucket:table`.", each);
+            List<String> buckets = Splitter.on('-').trimResults().splitToList(segments.get(0));
+            int beginBucket = Integer.parseInt(buckets.get(0));
+            int endBucket = Integer.parseInt(buckets.get(buckets.size() - 1));
+            int table = Integer.parseInt(segments.get(1));
+            Preconditions.checkArgument(beginBucket >= 0 && beginBucket <= endBucket && endBucket < bucketCount, "Bucket range `%s` is out of bucket count `%s`.", segments.get(0), bucketCount);
+            Preconditions.checkArgument(table >= 0 && table < shardingCount, "Table `%s` is out of sharding count `%s`.", table, shardingCount);
+            for (int bucket = beginBucket; bucket <= endBucket; bucket++) {
+                Preconditions.checkArgument(-1 == result[bucket], "Bucket `%s` is mapped more than once.", bucket);
+                result[bucket] = table;
+            }
+        }
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            Preconditions.checkArgument(-1 != result[bucket], "Bucket `%s` is not mapped to any table.", bucket);
+        }
+        return result;
+    }
+    
+    private int[] createConsistentBucketMapping() {
+        int[] result = new int[bucketCount];
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            result[bucket] = jumpConsistentHash(bucket, shardingCount);
+        }
+        return result;
+    }
+    
+    private int jumpConsistentHash(final long key, final int buckets) {
+        long hash = key;
+        long result = -1;
+        long next = 0;
+        while (next < buckets) {
+            result = next;
+            hash = hash * 2862933555777941757L + 1;
+            next = (long) ((result + 1) * ((double) (1L << 31) / (double) ((hash >>> 33) + 1)));
+        }
+        return (int) result;
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        String suffix = String.valueOf(getTableIndex(getBucket(shardingValue.getValue())));
+        return findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        if (!valueRange.hasLowerBound() || !valueRange.hasUpperBound() || !isEnumerableType(valueRange.lowerEndpoint(), valueRange.upperEndpoint())) {
+            return availableTargetNames;
+        }
+        Optional<Range<BigInteger>> range = IntegralRangeUtils.toClosedRange(valueRange);
+        if (!range.isPresent()) {
+            return availableTargetNames;
+        }
+        long size = IntegralRangeUtils.size(range.get()).min(BigInteger.valueOf(bucketCount)).longValue();
+        int firstBucket = getBucket(range.get().lowerEndpoint().longValue());
+        BitSet tables = new BitSet(shardingCount);
+        for (long i = 0; i < size && tables.cardinality() < shardingCount; i++) {
+            tables.set(bucketTables[(int) ((firstBucket + i) % bucketCount)]);
+        }
+        Collection<String> result = new LinkedHashSet<>(tables.cardinality(), 1);
+        for (int each = tables.nextSetBit(0); each >= 0; each = tables.nextSetBit(each + 1)) {
+            findMatchedTargetName(availableTargetNames, String.valueOf(each), shardingValue.getDataNodeInfo()).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private boolean isEnumerableType(final Comparable<?> lowerEndpoint, final Comparable<?> upperEndpoint) {
+        return lowerEndpoint.getClass() == upperEndpoint.getClass()
+                && (lowerEndpoint instanceof Integer || lowerEndpoint instanceof Long || lowerEndpoint instanceof Short || lowerEndpoint instanceof Byte);
+    }
+    
+    private int getBucket(final Comparable<?> shardingValue) {
+        if (shardingValue instanceof Integer || shardingValue instanceof Long || shardingValue instanceof Short || shardingValue instanceof Byte) {
+            return getBucket(((Number) shardingValue).longValue());
+        }
+        if (shardingValue instanceof BigInteger) {
+            return ((BigInteger) shardingValue).mod(BigInteger.valueOf(bucketCount)).intValue();
+        }
+        return getBucket(shardingValue.hashCode());
+    }
+    
+    private int getBucket(final long shardingValue) {
+        return (int) Math.floorMod(shardingValue, (long) bucketCount);
+    }
+    
+    /**
+     * Get table index of bucket.
+     * 
+     * @param bucket bucket
+     * @return table index
+     */
+    public int getTableIndex(final int bucket) {
+        return bucketTables[bucket];
+    }
+    
+    /**
+     * Get buckets relocated to another table by target algorithm.
+     * 
+     * @param targetAlgorithm target virtual bucket sharding algorithm
+     * @return relocated buckets, all buckets if bucket count changed
+     */
+    public Collection<Integer> getRelocatedBuckets(final VirtualBucketShardingAlgorithm targetAlgorithm) {
+        Collection<Integer> result = new LinkedList<>();
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            if (bucketCount != targetAlgorithm.bucketCount || bucketTables[bucket] != targetAlgorithm.bucketTables[bucket]) {
+                result.add(bucket);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public int getAutoTablesAmount() {
+        return shardingCount;
+    }
+    
+    @Override
+    public String getType() {
+        return "VIRTUAL_BUCKET";
+    }
+}
@@ -26,10 +26,12 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingV
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
-import java.text.DecimalFormat;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.text.ParsePosition;
-import java.time.Duration;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
@@ -49,10 +51,12 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     
     private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
+    private static final int STANDARD_DATE_TIME_LENGTH = 19;
+    
     @Getter
     private Properties props;
     
-    private LocalDateTime dateTimeLower;
+    private long dateTimeLowerEpochSecond;
     
     private long shardingSeconds;
     
@@ -62,7 +66,7 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     @Override
     public void init(final Properties props) {
         this.props = props;
-        dateTimeLower = getDateTime(props);
+        dateTimeLowerEpochSecond = getDateTime(props).toEpochSecond(ZoneOffset.UTC);
         shardingSeconds = getShardingSeconds(props);
         autoTablesAmount = (int) (Math.ceil((double) (parseDate(props.getProperty(DATE_TIME_UPPER_KEY)) / shardingSeconds)) + 2);
     }
@@ -101,8 +105,23 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     }
     
     private int doSharding(final long shardingValue) {
-        String position = new DecimalFormat("0.00").format((double) shardingValue / shardingSeconds);
-        return Math.min(Math.max(0, (int) Math.ceil(Double.parseDouble(position))), autoTablesAmount - 1);
+        return (int) Math.min(Math.max(0L, ceilRoundedPosition(shardingValue)), autoTablesAmount - 1);
+    }
+    
+    private long ceilRoundedPosition(final long shardingValue) {
+        // round position to two decimals in half even mode before ceiling, which keeps compatible with formatting by `0.00` pattern
+        long hundredfoldValue = shardingValue * 100L;
+        long result = Math.floorDiv(hundredfoldValue, shardingSeconds);
+        long doubledRemainder = Math.floorMod(hundredfoldValue, shardingSeconds) * 2L;
+        if (doubledRemainder > shardingSeconds || doubledRemainder == shardingSeconds && isTieRoundedUp(shardingValue, result)) {
+            result++;
+        }
+        return Math.floorDiv(result + 99L, 100L);
+    }
+    
+    private boolean isTieRoundedUp(final long shardingValue, final long roundedDownPosition) {
+        int compareResult = new BigDecimal((double) shardingValue / shardingSeconds).compareTo(BigDecimal.valueOf(roundedDownPosition * 2L + 1L).divide(BigDecimal.valueOf(200L)));
+        return compareResult > 0 || 0 == compareResult && 0 != (roundedDownPosition & 1L);
     }
     
     private int getFirstPartition(final Range<Comparable<?>> valueRange) {
@@ -114,8 +133,63 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     }
     
     private long parseDate(final Comparable<?> shardingValue) {
-        LocalDateTime dateValue = LocalDateTime.from(DATE_TIME_FORMAT.parse(shardingValue.toString(), new ParsePosition(0)));
-        return Duration.between(dateTimeLower, dateValue).toMillis() / 1000;
+        return parseDateTime(shardingValue).toEpochSecond(ZoneOffset.UTC) - dateTimeLowerEpochSecond;
+    }
+    
+    private LocalDateTime parseDateTime(final Comparable<?> shardingValue) {
+        if (shardingValue instanceof LocalDateTime) {
+            return (LocalDateTime) shardingValue;
+        }
+        if (shardingValue instanceof Timestamp) {
+            return ((Timestamp) shardingValue).toLocalDateTime();
+        }
+        String text = shardingValue.toString();
+        if (isStandardDateTimeText(text)) {
+            try {
+                return LocalDateTime.of(parseDigits(text, 0, 4), parseDigits(text, 5, 7), parseDigits(text, 8, 10), parseDigits(text, 11, 13), parseDigits(text, 14, 16), parseDigits(text, 17, 19));
+            } catch (final DateTimeException ignored) {
+                // fall back to formatter, which resolves lenient values such as day of month out of range
+            }
+        }
+        return LocalDateTime.from(DATE_TIME_FORMAT.parse(text, new ParsePosition(0)));
+    }
+    
+    private boolean isStandardDateTimeText(final String text) {
+        if (text.length() < STANDARD_DATE_TIME_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < STANDARD_DATE_TIME_LENGTH; i++) {
+            char each = text.charAt(i);
+            boolean matched;
+            switch (i) {
+                case 4:
+                case 7:
+                    matched = '-' == each;
+                    break;
+                case 10:
+                    matched = ' ' == each;
+                    break;
+                case 13:
+                case 16:
+                    matched = ':' == each;
+                    break;
+                default:
+                    matched = each >= '0' && each <= '9';
+                    break;
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private int parseDigits(final String text, final int beginIndex, final int endIndex) {
+        int result = 0;
+        for (int i = beginIndex; i < endIndex; i++) {
+            result = result * 10 + text.charAt(i) - '0';
+        }
+        return result;
     }
     
     @Override
@@ -34,13 +34,16 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Interval sharding algorithm.
@@ -66,15 +69,11 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private int dateTimePatternLength;
     
-    private LocalDateTime dateTimeLower;
+    private LocalDateTime[] partitionBoundaries;
     
-    private LocalDateTime dateTimeUpper;
+    private String[] partitionSuffixes;
     
-    private DateTimeFormatter tableSuffixPattern;
-    
-    private int stepAmount;
-    
-    private ChronoUnit stepUnit;
+    private int uniformSuffixLength;
     
     @Override
     public void init(final Properties props) {
@@ -82,11 +81,27 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         String dateTimePattern = getDateTimePattern(props);
         dateTimeFormatter = DateTimeFormatter.ofPattern(dateTimePattern);
         dateTimePatternLength = dateTimePattern.length();
-        dateTimeLower = getDateTimeLower(props, dateTimePattern);
-        dateTimeUpper = getDateTimeUpper(props, dateTimePattern);
-        tableSuffixPattern = getTableSuffixPattern(props);
-        stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
-        stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        LocalDateTime dateTimeLower = getDateTimeLower(props, dateTimePattern);
+        LocalDateTime dateTimeUpper = getDateTimeUpper(props, dateTimePattern);
+        DateTimeFormatter tableSuffixPattern = getTableSuffixPattern(props);
+        int stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
+        ChronoUnit stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        initPartitions(dateTimeLower, dateTimeUpper, tableSuffixPattern, stepAmount, stepUnit);
+    }
+    
+    private void initPartitions(final LocalDateTime dateTimeLower, final LocalDateTime dateTimeUpper, final DateTimeFormatter tableSuffixPattern, final int stepAmount, final ChronoUnit stepUnit) {
+        List<LocalDateTime> boundaries = new ArrayList<>();
+        List<String> suffixes = new ArrayList<>();
+        LocalDateTime calculateTime = dateTimeLower;
+        while (!calculateTime.isAfter(dateTimeUpper)) {
+            boundaries.add(calculateTime);
+            suffixes.add(calculateTime.format(tableSuffixPattern));
+            calculateTime = calculateTime.plus(stepAmount, stepUnit);
+        }
+        boundaries.add(calculateTime);
+        partitionBoundaries = boundaries.toArray(new LocalDateTime[0]);
+        partitionSuffixes = suffixes.toArray(new String[0]);
+        uniformSuffixLength = suffixes.stream().mapToInt(String::length).distinct().count() == 1 ? suffixes.get(0).length() : 0;
     }
     
     private String getDateTimePattern(final Properties props) {
@@ -127,55 +142,96 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        return doSharding(availableTargetNames, Range.singleton(shardingValue.getValue())).stream().findFirst().orElse(null);
+        LocalDateTime value = parseLocalDateTime(shardingValue.getValue());
+        int partition = findLastPartition(value, true);
+        if (partition < 0 || partitionBoundaries[partition + 1].compareTo(value) <= 0) {
+            return null;
+        }
+        String tableSuffix = partitionSuffixes[partition];
+        for (String each : availableTargetNames) {
+            if (each.endsWith(tableSuffix)) {
+                return each;
+            }
+        }
+        return null;
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        return doSharding(availableTargetNames, shardingValue.getValueRange());
+        Range<Comparable<?>> range = shardingValue.getValueRange();
+        int firstPartition = range.hasLowerBound() ? findFirstPartition(parseLocalDateTime(range.lowerEndpoint())) : 0;
+        int lastPartition = range.hasUpperBound() ? findLastPartition(parseLocalDateTime(range.upperEndpoint()), BoundType.CLOSED == range.upperBoundType()) : partitionSuffixes.length - 1;
+        if (firstPartition > lastPartition) {
+            return Collections.emptySet();
+        }
+        Set<String> tableSuffixes = new HashSet<>(Arrays.asList(partitionSuffixes).subList(firstPartition, lastPartition + 1));
+        Set<String> result = new LinkedHashSet<>();
+        for (String each : availableTargetNames) {
+            if (isMatchedTable(each, tableSuffixes)) {
+                result.add(each);
+            }
+        }
+        return result;
     }
     
-    private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
-        Set<String> result = new HashSet<>();
-        LocalDateTime calculateTime = dateTimeLower;
-        while (!calculateTime.isAfter(dateTimeUpper)) {
-            if (hasIntersection(Range.closedOpen(calculateTime, calculateTime.plus(stepAmount, stepUnit)), range)) {
-                result.addAll(getMatchedTables(calculateTime, availableTargetNames));
+    private int findFirstPartition(final LocalDateTime lower) {
+        int low = 0;
+        int high = partitionBoundaries.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (partitionBoundaries[middle].compareTo(lower) > 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
             }
-            calculateTime = calculateTime.plus(stepAmount, stepUnit);
         }
-        return result;
+        return Math.max(low - 1, 0);
     }
     
-    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<Comparable<?>> range) {
-        LocalDateTime lower = range.hasLowerBound() ? parseLocalDateTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalDateTime upper = range.hasUpperBound() ? parseLocalDateTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDateTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private int findLastPartition(final LocalDateTime upper, final boolean inclusive) {
+        int low = 0;
+        int high = partitionSuffixes.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int compareResult = partitionBoundaries[middle].compareTo(upper);
+            if (compareResult < 0 || inclusive && 0 == compareResult) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low - 1;
     }
     
-    private LocalDateTime parseLocalDateTime(final Comparable<?> endpoint) {
-        return LocalDateTime.parse(getDateTimeText(endpoint).substring(0, dateTimePatternLength), dateTimeFormatter);
+    private boolean isMatchedTable(final String targetName, final Set<String> tableSuffixes) {
+        if (uniformSuffixLength > 0) {
+            return targetName.length() >= uniformSuffixLength && tableSuffixes.contains(targetName.substring(targetName.length() - uniformSuffixLength));
+        }
+        for (String each : tableSuffixes) {
+            if (targetName.endsWith(each)) {
+                return true;
+            }
+        }
+        return false;
     }
     
-    private String getDateTimeText(final Comparable<?> endpoint) {
-        if (endpoint instanceof LocalDateTime || endpoint instanceof ZonedDateTime || endpoint instanceof OffsetDateTime) {
-            return dateTimeFormatter.format((TemporalAccessor) endpoint);
+    private LocalDateTime parseLocalDateTime(final Comparable<?> endpoint) {
+        if (endpoint instanceof LocalDateTime) {
+            return (LocalDateTime) endpoint;
+        }
+        if (endpoint instanceof ZonedDateTime) {
+            return ((ZonedDateTime) endpoint).toLocalDateTime();
+        }
+        if (endpoint instanceof OffsetDateTime) {
+            return ((OffsetDateTime) endpoint).toLocalDateTime();
         }
         if (endpoint instanceof Instant) {
-            return dateTimeFormatter.withZone(ZoneId.systemDefault()).format((Instant) endpoint);
+            return LocalDateTime.ofInstant((Instant) endpoint, ZoneId.systemDefault());
         }
         if (endpoint instanceof Date) {
-            return dateTimeFormatter.format(((Date) endpoint).toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime());
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(((Date) endpoint).getTime()), ZoneId.systemDefault());
         }
-        return endpoint.toString();
-    }
-    
-    private Collection<String> getMatchedTables(final LocalDateTime dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix = dateTime.format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+        return LocalDateTime.parse(endpoint.toString().substring(0, dateTimePatternLength), dateTimeFormatter);
     }
     
     @Override
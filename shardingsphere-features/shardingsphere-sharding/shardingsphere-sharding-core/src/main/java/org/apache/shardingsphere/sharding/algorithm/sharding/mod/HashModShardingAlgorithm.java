@@ -18,13 +18,17 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
 import lombok.Getter;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
+import java.math.BigInteger;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -34,15 +38,22 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     private static final String SHARDING_COUNT_KEY = "sharding-count";
     
+    private static final String RANGE_ENUMERATION_THRESHOLD_KEY = "range-enumeration-threshold";
+    
+    private static final int DEFAULT_RANGE_ENUMERATION_THRESHOLD = 1000;
+    
     @Getter
     private Properties props;
     
     private int shardingCount;
     
+    private int rangeEnumerationThreshold;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
         shardingCount = getShardingCount(props);
+        rangeEnumerationThreshold = getRangeEnumerationThreshold(props);
     }
     
     private int getShardingCount(final Properties props) {
@@ -50,6 +61,12 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return Integer.parseInt(props.getProperty(SHARDING_COUNT_KEY));
     }
     
+    private int getRangeEnumerationThreshold(final Properties props) {
+        int result = Integer.parseInt(String.valueOf(props.getProperty(RANGE_ENUMERATION_THRESHOLD_KEY, String.valueOf(DEFAULT_RANGE_ENUMERATION_THRESHOLD))));
+        Preconditions.checkArgument(result >= 0, "Range enumeration threshold can not be less than 0.");
+        return result;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         String suffix = String.valueOf(hashShardingValue(shardingValue.getValue()) % shardingCount);
@@ -58,11 +75,37 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        return availableTargetNames;
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        if (!valueRange.hasLowerBound() || !valueRange.hasUpperBound() || !isEnumerableType(valueRange.lowerEndpoint(), valueRange.upperEndpoint())) {
+            return availableTargetNames;
+        }
+        Optional<Range<BigInteger>> range = IntegralRangeUtils.toClosedRange(valueRange);
+        if (!range.isPresent() || IntegralRangeUtils.size(range.get()).compareTo(BigInteger.valueOf(rangeEnumerationThreshold)) > 0) {
+            return availableTargetNames;
+        }
+        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
+        boolean isLongValue = valueRange.lowerEndpoint() instanceof Long;
+        long lowerEndpoint = range.get().lowerEndpoint().longValue();
+        long size = IntegralRangeUtils.size(range.get()).longValue();
+        for (long i = 0; i < size && result.size() < availableTargetNames.size(); i++) {
+            long value = lowerEndpoint + i;
+            String suffix = String.valueOf(hashShardingValue(isLongValue ? Long.hashCode(value) : (int) value) % shardingCount);
+            findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private boolean isEnumerableType(final Comparable<?> lowerEndpoint, final Comparable<?> upperEndpoint) {
+        return lowerEndpoint.getClass() == upperEndpoint.getClass()
+                && (lowerEndpoint instanceof Integer || lowerEndpoint instanceof Long || lowerEndpoint instanceof Short || lowerEndpoint instanceof Byte);
     }
     
     private long hashShardingValue(final Comparable<?> shardingValue) {
-        return Math.abs((long) shardingValue.hashCode());
+        return hashShardingValue(shardingValue.hashCode());
+    }
+    
+    private long hashShardingValue(final int hashCode) {
+        return Math.abs((long) hashCode);
     }
     
     @Override
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Optional;
+
+/**
+ * Integral range utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntegralRangeUtils {
+    
+    /**
+     * Convert range of sharding values to closed range of big integers.
+     * 
+     * @param range range of sharding values
+     * @return closed integral range, empty if range is unbounded, has no integral value or endpoints are not integral
+     */
+    public static Optional<Range<BigInteger>> toClosedRange(final Range<? extends Comparable<?>> range) {
+        if (!range.hasLowerBound() || !range.hasUpperBound()) {
+            return Optional.empty();
+        }
+        Optional<BigInteger> lower = toBigInteger(range.lowerEndpoint());
+        Optional<BigInteger> upper = toBigInteger(range.upperEndpoint());
+        if (!lower.isPresent() || !upper.isPresent()) {
+            return Optional.empty();
+        }
+        BigInteger lowerEndpoint = BoundType.OPEN == range.lowerBoundType() ? lower.get().add(BigInteger.ONE) : lower.get();
+        BigInteger upperEndpoint = BoundType.OPEN == range.upperBoundType() ? upper.get().subtract(BigInteger.ONE) : upper.get();
+        return lowerEndpoint.compareTo(upperEndpoint) > 0 ? Optional.empty() : Optional.of(Range.closed(lowerEndpoint, upperEndpoint));
+    }
+    
+    private static Optional<BigInteger> toBigInteger(final Comparable<?> value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return Optional.of(BigInteger.valueOf(((Number) value).longValue()));
+        }
+        if (value instanceof BigInteger) {
+            return Optional.of((BigInteger) value);
+        }
+        try {
+            BigDecimal result = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+            return Optional.of(result.toBigIntegerExact());
+        } catch (final NumberFormatException | ArithmeticException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Get amount of values in closed integral range.
+     * 
+     * @param range closed integral range
+     * @return amount of values
+     */
+    public static BigInteger size(final Range<BigInteger> range) {
+        return range.upperEndpoint().subtract(range.lowerEndpoint()).add(BigInteger.ONE);
+    }
+}
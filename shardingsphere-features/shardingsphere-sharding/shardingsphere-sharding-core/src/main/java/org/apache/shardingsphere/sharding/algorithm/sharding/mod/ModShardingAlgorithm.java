@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
 import lombok.Getter;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
@@ -27,6 +28,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.StandardSharding
 import java.math.BigInteger;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -100,21 +102,21 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        return containsAllTargets(shardingValue) ? availableTargetNames : getAvailableTargetNames(availableTargetNames, shardingValue);
-    }
-    
-    private boolean containsAllTargets(final RangeShardingValue<Comparable<?>> shardingValue) {
-        return !shardingValue.getValueRange().hasUpperBound() || shardingValue.getValueRange().hasLowerBound()
-                && getBigInteger(shardingValue.getValueRange().upperEndpoint()).subtract(getBigInteger(shardingValue.getValueRange().lowerEndpoint())).intValue() >= shardingCount - 1;
+        if (0 != startOffset || 0 != stopOffset) {
+            return availableTargetNames;
+        }
+        Optional<Range<BigInteger>> range = IntegralRangeUtils.toClosedRange(shardingValue.getValueRange());
+        if (!range.isPresent() || IntegralRangeUtils.size(range.get()).compareTo(BigInteger.valueOf(shardingCount)) >= 0) {
+            return availableTargetNames;
+        }
+        return getAvailableTargetNames(availableTargetNames, shardingValue, range.get());
     }
     
-    private Collection<String> getAvailableTargetNames(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+    private Collection<String> getAvailableTargetNames(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue, final Range<BigInteger> range) {
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
-        BigInteger lower = new BigInteger(shardingValue.getValueRange().lowerEndpoint().toString());
-        BigInteger upper = new BigInteger(shardingValue.getValueRange().upperEndpoint().toString());
-        BigInteger shardingCountBigInter = new BigInteger(String.valueOf(shardingCount));
-        for (BigInteger i = lower; i.compareTo(upper) <= 0; i = i.add(new BigInteger("1"))) {
-            String shardingResultSuffix = getShardingResultSuffix(String.valueOf(i.mod(shardingCountBigInter)));
+        BigInteger shardingCountBigInteger = BigInteger.valueOf(shardingCount);
+        for (BigInteger each = range.lowerEndpoint(); each.compareTo(range.upperEndpoint()) <= 0; each = each.add(BigInteger.ONE)) {
+            String shardingResultSuffix = getShardingResultSuffix(String.valueOf(each.mod(shardingCountBigInteger)));
             findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
         }
         return result;
@@ -25,8 +25,11 @@ import org.apache.shardingsphere.infra.yaml.config.pojo.YamlRuleConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.pojo.rulealtered.YamlOnRuleAlteredActionConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.swapper.rulealtered.OnRuleAlteredActionConfigurationYamlSwapper;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.sharding.algorithm.sharding.bucket.VirtualBucketShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sharding.rule.TableRule;
 import org.apache.shardingsphere.sharding.yaml.config.YamlShardingRuleConfiguration;
 import org.apache.shardingsphere.sharding.yaml.config.rule.YamlShardingAutoTableRuleConfiguration;
@@ -111,7 +114,7 @@ public final class ShardingRuleAlteredDetector implements RuleAlteredDetector {
         List<String> result = new ArrayList<>();
         for (Entry<String, TableRule> entry : sourceShardingRule.getTableRules().entrySet()) {
             TableRule targetTableRule = targetShardingRule.getTableRule(entry.getKey());
-            if (isNeedReShardingForLogicTable(entry.getValue(), targetTableRule)) {
+            if (isNeedReShardingForLogicTable(entry.getValue(), targetTableRule) || hasRelocatedBuckets(sourceShardingRule, entry.getValue(), targetShardingRule, targetTableRule)) {
                 result.add(entry.getKey());
             }
         }
@@ -131,6 +134,27 @@ public final class ShardingRuleAlteredDetector implements RuleAlteredDetector {
         return true;
     }
     
+    private boolean hasRelocatedBuckets(final ShardingRule sourceShardingRule, final TableRule sourceTableRule, final ShardingRule targetShardingRule, final TableRule targetTableRule) {
+        Optional<VirtualBucketShardingAlgorithm> sourceAlgorithm = findVirtualBucketShardingAlgorithm(sourceShardingRule, sourceTableRule);
+        Optional<VirtualBucketShardingAlgorithm> targetAlgorithm = findVirtualBucketShardingAlgorithm(targetShardingRule, targetTableRule);
+        if (!sourceAlgorithm.isPresent() || !targetAlgorithm.isPresent() || sourceAlgorithm.get().getRelocatedBuckets(targetAlgorithm.get()).isEmpty()) {
+            return false;
+        }
+        if (hasCommonDataSourceNames(sourceTableRule.getActualDataNodes(), targetTableRule.getActualDataNodes())) {
+            throw new RuntimeException("Relocate buckets on source dataSources is not supported for now");
+        }
+        return true;
+    }
+    
+    private Optional<VirtualBucketShardingAlgorithm> findVirtualBucketShardingAlgorithm(final ShardingRule shardingRule, final TableRule tableRule) {
+        ShardingStrategyConfiguration shardingStrategyConfig = shardingRule.getTableShardingStrategyConfiguration(tableRule);
+        if (null == shardingStrategyConfig) {
+            return Optional.empty();
+        }
+        ShardingAlgorithm result = shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName());
+        return result instanceof VirtualBucketShardingAlgorithm ? Optional.of((VirtualBucketShardingAlgorithm) result) : Optional.empty();
+    }
+    
     private boolean hasCommonDataSourceNames(final List<DataNode> sourceActualDataNodes, final List<DataNode> targetActualDataNodes) {
         Set<String> sourceDataSourceNames = sourceActualDataNodes.stream().map(each -> each.getDataSourceName().toLowerCase()).collect(Collectors.toSet());
         Set<String> targetDataSourceNames = targetActualDataNodes.stream().map(each -> each.getDataSourceName().toLowerCase()).collect(Collectors.toSet());
@@ -21,13 +21,23 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValue;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Insert values token for sharding.
  */
 public final class ShardingInsertValuesToken extends InsertValuesToken implements RouteUnitAware {
     
+    private Map<DataNode, BitSet> routedInsertValueIndexes;
+    
+    private BitSet unroutedInsertValueIndexes;
+    
     public ShardingInsertValuesToken(final int startIndex, final int stopIndex) {
         super(startIndex, stopIndex);
     }
@@ -41,22 +51,46 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
     }
     
     private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
-        for (InsertValue each : getInsertValues()) {
-            if (isAppend(routeUnit, (ShardingInsertValue) each)) {
+        List<InsertValue> insertValues = getInsertValues();
+        if (null == routeUnit) {
+            for (InsertValue each : insertValues) {
                 stringBuilder.append(each).append(", ");
             }
+            return;
+        }
+        BitSet insertValueIndexes = getInsertValueIndexes(routeUnit);
+        for (int each = insertValueIndexes.nextSetBit(0); each >= 0; each = insertValueIndexes.nextSetBit(each + 1)) {
+            stringBuilder.append(insertValues.get(each)).append(", ");
         }
     }
     
-    private boolean isAppend(final RouteUnit routeUnit, final ShardingInsertValue insertValueToken) {
-        if (insertValueToken.getDataNodes().isEmpty() || null == routeUnit) {
-            return true;
+    private BitSet getInsertValueIndexes(final RouteUnit routeUnit) {
+        if (null == routedInsertValueIndexes) {
+            initInsertValueIndexes();
         }
-        for (DataNode each : insertValueToken.getDataNodes()) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
+        BitSet result = (BitSet) unroutedInsertValueIndexes.clone();
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            BitSet routedIndexes = routedInsertValueIndexes.get(new DataNode(routeUnit.getDataSourceMapper().getLogicName(), each.getActualName()));
+            if (null != routedIndexes) {
+                result.or(routedIndexes);
+            }
+        }
+        return result;
+    }
+    
+    private void initInsertValueIndexes() {
+        List<InsertValue> insertValues = getInsertValues();
+        routedInsertValueIndexes = new HashMap<>();
+        unroutedInsertValueIndexes = new BitSet(insertValues.size());
+        for (int i = 0; i < insertValues.size(); i++) {
+            ShardingInsertValue insertValue = (ShardingInsertValue) insertValues.get(i);
+            if (insertValue.getDataNodes().isEmpty()) {
+                unroutedInsertValueIndexes.set(i);
+                continue;
+            }
+            for (DataNode each : insertValue.getDataNodes()) {
+                routedInsertValueIndexes.computeIfAbsent(new DataNode(each.getDataSourceName(), each.getTableName()), key -> new BitSet(insertValues.size())).set(i);
             }
         }
-        return false;
     }
 }
@@ -19,18 +19,25 @@ package org.apache.shardingsphere.sharding.route.engine;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.route.SQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngine;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.ShardingConditionEngineFactory;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngineFactory;
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidator;
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidatorFactory;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.statistics.ShardingHotSpotStatistics;
+import org.apache.shardingsphere.sharding.statistics.ShardingHotSpotStatisticsRegistry;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
 
@@ -55,6 +62,9 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         }
         RouteContext result = ShardingRouteEngineFactory.newInstance(rule, database, logicSQL.getSqlStatementContext(), shardingConditions, props).route(rule);
         validator.ifPresent(optional -> optional.postValidate(rule, logicSQL.getSqlStatementContext(), logicSQL.getParameters(), database, props, result));
+        if (Boolean.TRUE.equals(props.getValue(ConfigurationPropertyKey.SHARDING_HOT_SPOT_DETECTION_ENABLED))) {
+            recordHotSpots(ShardingHotSpotStatisticsRegistry.getInstance().getStatistics(database.getName()), shardingConditions, result);
+        }
         return result;
     }
     
@@ -70,6 +80,23 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         return new ShardingConditions(shardingConditions, logicSQL.getSqlStatementContext(), rule);
     }
     
+    private void recordHotSpots(final ShardingHotSpotStatistics statistics, final ShardingConditions shardingConditions, final RouteContext routeContext) {
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            for (ShardingConditionValue value : each.getValues()) {
+                if (value instanceof ListShardingConditionValue) {
+                    for (Object shardingValue : ((ListShardingConditionValue<?>) value).getValues()) {
+                        statistics.recordShardingValue(value.getTableName(), value.getColumnName(), shardingValue);
+                    }
+                }
+            }
+        }
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            for (RouteMapper tableMapper : each.getTableMappers()) {
+                statistics.recordDataNode(tableMapper.getLogicName(), each.getDataSourceMapper().getActualName(), tableMapper.getActualName());
+            }
+        }
+    }
+    
     @Override
     public void decorateRouteContext(final RouteContext routeContext, final LogicSQL logicSQL, final ShardingSphereDatabase database, final ShardingRule rule, final ConfigurationProperties props) {
         // TODO
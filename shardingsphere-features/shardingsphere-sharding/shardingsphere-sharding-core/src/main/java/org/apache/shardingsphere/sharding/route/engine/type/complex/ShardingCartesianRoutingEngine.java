@@ -27,6 +27,7 @@ import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -45,13 +46,19 @@ public final class ShardingCartesianRoutingEngine implements ShardingRouteEngine
     
     private final Collection<RouteContext> routeContexts;
     
+    private final Collection<Collection<String>> inferredBindingTableGroups;
+    
+    public ShardingCartesianRoutingEngine(final Collection<RouteContext> routeContexts) {
+        this(routeContexts, Collections.emptyList());
+    }
+    
     @Override
     public RouteContext route(final ShardingRule shardingRule) {
         RouteContext result = new RouteContext();
         for (Entry<String, Set<String>> entry : getDataSourceLogicTablesMap().entrySet()) {
             List<Set<String>> actualTableGroups = getActualTableGroups(entry.getKey(), entry.getValue());
             List<Set<RouteMapper>> routingTableGroups = toRoutingTableGroups(entry.getKey(), actualTableGroups);
-            result.getRouteUnits().addAll(getRouteUnits(entry.getKey(), Sets.cartesianProduct(routingTableGroups)));
+            result.getRouteUnits().addAll(getRouteUnits(shardingRule, entry.getKey(), Sets.cartesianProduct(routingTableGroups)));
         }
         return result;
     }
@@ -108,11 +115,35 @@ public final class ShardingCartesianRoutingEngine implements ShardingRouteEngine
         throw new IllegalStateException(String.format("Cannot found routing table factor, data source: %s, actual table: %s", dataSource, actualTable));
     }
     
-    private Collection<RouteUnit> getRouteUnits(final String dataSource, final Set<List<RouteMapper>> cartesianRoutingTableGroups) {
+    private Collection<RouteUnit> getRouteUnits(final ShardingRule shardingRule, final String dataSource, final Set<List<RouteMapper>> cartesianRoutingTableGroups) {
         Collection<RouteUnit> result = new LinkedHashSet<>();
         for (List<RouteMapper> each : cartesianRoutingTableGroups) {
-            result.add(new RouteUnit(new RouteMapper(dataSource, dataSource), each));
+            if (isMatchedInferredBindingTables(shardingRule, each)) {
+                result.add(new RouteUnit(new RouteMapper(dataSource, dataSource), each));
+            }
         }
         return result;
     }
+    
+    private boolean isMatchedInferredBindingTables(final ShardingRule shardingRule, final List<RouteMapper> tableMappers) {
+        for (Collection<String> each : inferredBindingTableGroups) {
+            String actualTableSuffix = null;
+            for (RouteMapper tableMapper : tableMappers) {
+                if (!each.contains(tableMapper.getLogicName())) {
+                    continue;
+                }
+                String suffix = getActualTableSuffix(shardingRule, tableMapper);
+                if (null == actualTableSuffix) {
+                    actualTableSuffix = suffix;
+                } else if (!actualTableSuffix.equals(suffix)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    private String getActualTableSuffix(final ShardingRule shardingRule, final RouteMapper tableMapper) {
+        return tableMapper.getActualName().replace(shardingRule.getTableRule(tableMapper.getLogicName()).getTableDataNode().getPrefix(), "");
+    }
 }
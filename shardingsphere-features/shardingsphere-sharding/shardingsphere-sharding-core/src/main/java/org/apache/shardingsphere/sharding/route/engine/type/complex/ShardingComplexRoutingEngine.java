@@ -28,6 +28,7 @@ import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Optional;
 import java.util.TreeSet;
@@ -44,6 +45,12 @@ public final class ShardingComplexRoutingEngine implements ShardingRouteEngine {
     
     private final Collection<String> logicTables;
     
+    private final Collection<Collection<String>> inferredBindingTableGroups;
+    
+    public ShardingComplexRoutingEngine(final ShardingConditions shardingConditions, final ConfigurationProperties props, final Collection<String> logicTables) {
+        this(shardingConditions, props, logicTables, Collections.emptyList());
+    }
+    
     @Override
     public RouteContext route(final ShardingRule shardingRule) {
         RouteContext result = new RouteContext();
@@ -66,7 +73,7 @@ public final class ShardingComplexRoutingEngine implements ShardingRouteEngine {
             result.getOriginalDataNodes().addAll(newRouteContext.getOriginalDataNodes());
             result.getRouteUnits().addAll(newRouteContext.getRouteUnits());
         } else {
-            RouteContext routeContext = new ShardingCartesianRoutingEngine(routeContexts).route(shardingRule);
+            RouteContext routeContext = new ShardingCartesianRoutingEngine(routeContexts, inferredBindingTableGroups).route(shardingRule);
             result.getOriginalDataNodes().addAll(routeContext.getOriginalDataNodes());
             result.getRouteUnits().addAll(routeContext.getRouteUnits());
         }
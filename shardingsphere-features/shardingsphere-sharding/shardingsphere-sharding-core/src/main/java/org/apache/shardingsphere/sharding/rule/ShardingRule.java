@@ -22,6 +22,7 @@ import com.google.common.base.Splitter;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.DataSourceAwareAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.InstanceAwareAlgorithm;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.datanode.DataNode;
@@ -55,6 +56,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.Whe
 import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtil;
 import org.apache.shardingsphere.sql.parser.sql.common.util.WhereExtractUtil;
 
+import javax.sql.DataSource;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -68,6 +70,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -102,6 +106,16 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
     
     private final Map<String, Collection<DataNode>> shardingTableDataNodes;
     
+    public ShardingRule(final ShardingRuleConfiguration config, final Map<String, DataSource> dataSources) {
+        this(config, dataSources.keySet());
+        setDataSources(dataSources);
+    }
+    
+    public ShardingRule(final AlgorithmProvidedShardingRuleConfiguration config, final Map<String, DataSource> dataSources) {
+        this(config, dataSources.keySet());
+        setDataSources(dataSources);
+    }
+    
     public ShardingRule(final ShardingRuleConfiguration config, final Collection<String> dataSourceNames) {
         this.dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceNames);
         config.getShardingAlgorithms().forEach((key, value) -> shardingAlgorithms.put(key, ShardingAlgorithmFactory.newInstance(value)));
@@ -138,6 +152,13 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         Preconditions.checkArgument(isValidBindingTableConfiguration(config.getBindingTableGroups()), "Invalid binding table configuration in ShardingRuleConfiguration.");
     }
     
+    private void setDataSources(final Map<String, DataSource> dataSources) {
+        keyGenerators.values().stream().filter(each -> each instanceof DataSourceAwareAlgorithm).forEach(each -> ((DataSourceAwareAlgorithm) each).setDataSources(dataSources));
+        if (defaultKeyGenerateAlgorithm instanceof DataSourceAwareAlgorithm) {
+            ((DataSourceAwareAlgorithm) defaultKeyGenerateAlgorithm).setDataSources(dataSources);
+        }
+    }
+    
     private Map<String, Collection<DataNode>> createShardingTableDataNodes(final Map<String, TableRule> tableRules) {
         Map<String, Collection<DataNode>> result = new HashMap<>(tableRules.size(), 1);
         for (TableRule each : tableRules.values()) {
@@ -386,15 +407,124 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         if (!isAllBindingTables(logicTableNames)) {
             return false;
         }
-        String defaultSchema = sqlStatementContext.getDatabaseType().getDefaultSchema(database.getName());
-        ShardingSphereSchema schema = sqlStatementContext.getTablesContext().getSchemaName()
-                .map(optional -> database.getDatabaseMetaData().getSchema(optional)).orElseGet(() -> database.getDatabaseMetaData().getSchema(defaultSchema));
+        ShardingSphereSchema schema = getSchema(database, sqlStatementContext);
         SelectStatementContext select = (SelectStatementContext) sqlStatementContext;
         Collection<WhereSegment> joinSegments = WhereExtractUtil.getJoinWhereSegments(select.getSqlStatement());
         return isJoinConditionContainsShardingColumns(schema, select, logicTableNames, joinSegments)
                 || isJoinConditionContainsShardingColumns(schema, select, logicTableNames, select.getWhereSegments());
     }
     
+    private ShardingSphereSchema getSchema(final ShardingSphereDatabase database, final SQLStatementContext<?> sqlStatementContext) {
+        String defaultSchema = sqlStatementContext.getDatabaseType().getDefaultSchema(database.getName());
+        return sqlStatementContext.getTablesContext().getSchemaName()
+                .map(optional -> database.getDatabaseMetaData().getSchema(optional)).orElseGet(() -> database.getDatabaseMetaData().getSchema(defaultSchema));
+    }
+    
+    /**
+     * Get inferred binding table groups.
+     * 
+     * <p>Logic tables joined by equal conditions on table sharding columns with equivalent sharding algorithm and same actual table suffixes
+     * are inferred as binding tables, even they are not configured in binding table groups.</p>
+     *
+     * @param database database
+     * @param sqlStatementContext SQL statement context
+     * @param logicTableNames logic table names
+     * @return inferred binding table groups
+     */
+    public Collection<Collection<String>> getInferredBindingTableGroups(final ShardingSphereDatabase database, final SQLStatementContext<?> sqlStatementContext,
+                                                                        final Collection<String> logicTableNames) {
+        if (!(sqlStatementContext instanceof SelectStatementContext) || !((SelectStatementContext) sqlStatementContext).isContainsJoinQuery()
+                || ((SelectStatementContext) sqlStatementContext).isContainsSubquery()) {
+            return Collections.emptyList();
+        }
+        SelectStatementContext select = (SelectStatementContext) sqlStatementContext;
+        Collection<WhereSegment> whereSegments = new LinkedList<>(WhereExtractUtil.getJoinWhereSegments(select.getSqlStatement()));
+        select.getSqlStatement().getWhere().ifPresent(whereSegments::add);
+        ShardingSphereSchema schema = getSchema(database, sqlStatementContext);
+        Map<String, Collection<String>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (WhereSegment each : whereSegments) {
+            Collection<AndPredicate> andPredicates = ExpressionExtractUtil.getAndPredicates(each.getExpr());
+            if (1 == andPredicates.size()) {
+                mergeInferredBindingTables(schema, select, logicTableNames, andPredicates.iterator().next().getPredicates(), result);
+            }
+        }
+        return result.values().stream().distinct().collect(Collectors.toList());
+    }
+    
+    private void mergeInferredBindingTables(final ShardingSphereSchema schema, final SelectStatementContext select, final Collection<String> logicTableNames,
+                                            final Collection<ExpressionSegment> predicates, final Map<String, Collection<String>> inferredBindingTables) {
+        for (ExpressionSegment each : predicates) {
+            if (!isJoinConditionExpression(each)) {
+                continue;
+            }
+            ColumnSegment leftColumn = (ColumnSegment) ((BinaryOperationExpression) each).getLeft();
+            ColumnSegment rightColumn = (ColumnSegment) ((BinaryOperationExpression) each).getRight();
+            Map<String, String> columnExpressionTableNames = select.getTablesContext().findTableNamesByColumnSegment(Arrays.asList(leftColumn, rightColumn), schema);
+            String leftTableName = columnExpressionTableNames.get(leftColumn.getExpression());
+            String rightTableName = columnExpressionTableNames.get(rightColumn.getExpression());
+            if (null == leftTableName || null == rightTableName || leftTableName.equalsIgnoreCase(rightTableName)
+                    || !containsIgnoreCase(logicTableNames, leftTableName) || !containsIgnoreCase(logicTableNames, rightTableName)) {
+                continue;
+            }
+            Optional<TableRule> leftTableRule = findTableRule(leftTableName);
+            Optional<TableRule> rightTableRule = findTableRule(rightTableName);
+            if (leftTableRule.isPresent() && rightTableRule.isPresent()
+                    && isInferredBindingTables(leftTableRule.get(), leftColumn.getIdentifier().getValue(), rightTableRule.get(), rightColumn.getIdentifier().getValue())) {
+                mergeInferredBindingTableGroup(leftTableName, rightTableName, inferredBindingTables);
+            }
+        }
+    }
+    
+    private boolean containsIgnoreCase(final Collection<String> logicTableNames, final String logicTableName) {
+        return logicTableNames.stream().anyMatch(logicTableName::equalsIgnoreCase);
+    }
+    
+    private void mergeInferredBindingTableGroup(final String leftTableName, final String rightTableName, final Map<String, Collection<String>> inferredBindingTables) {
+        Collection<String> result = inferredBindingTables.computeIfAbsent(leftTableName, key -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER));
+        result.add(leftTableName);
+        Collection<String> otherTables = inferredBindingTables.get(rightTableName);
+        result.addAll(null == otherTables ? Collections.singleton(rightTableName) : otherTables);
+        for (String each : result) {
+            inferredBindingTables.put(each, result);
+        }
+    }
+    
+    private boolean isInferredBindingTables(final TableRule leftTableRule, final String leftColumnName, final TableRule rightTableRule, final String rightColumnName) {
+        ShardingStrategyConfiguration leftConfig = getTableShardingStrategyConfiguration(leftTableRule);
+        ShardingStrategyConfiguration rightConfig = getTableShardingStrategyConfiguration(rightTableRule);
+        if (!(leftConfig instanceof StandardShardingStrategyConfiguration) || !(rightConfig instanceof StandardShardingStrategyConfiguration)) {
+            return false;
+        }
+        if (!findShardingColumn(leftConfig, leftColumnName).isPresent() || !findShardingColumn(rightConfig, rightColumnName).isPresent()) {
+            return false;
+        }
+        if (null == leftTableRule.getTableDataNode() || null == rightTableRule.getTableDataNode()) {
+            return false;
+        }
+        return isValidActualDatasourceName(leftTableRule, rightTableRule) && isValidActualTableName(leftTableRule, rightTableRule)
+                && isEquivalentShardingAlgorithm(leftTableRule, leftConfig.getShardingAlgorithmName(), rightTableRule, rightConfig.getShardingAlgorithmName());
+    }
+    
+    private boolean isEquivalentShardingAlgorithm(final TableRule leftTableRule, final String leftAlgorithmName, final TableRule rightTableRule, final String rightAlgorithmName) {
+        if (leftAlgorithmName.equals(rightAlgorithmName)) {
+            return true;
+        }
+        ShardingAlgorithm leftAlgorithm = shardingAlgorithms.get(leftAlgorithmName);
+        ShardingAlgorithm rightAlgorithm = shardingAlgorithms.get(rightAlgorithmName);
+        if (null == leftAlgorithm || null == rightAlgorithm || !leftAlgorithm.getType().equalsIgnoreCase(rightAlgorithm.getType()) || "CLASS_BASED".equalsIgnoreCase(leftAlgorithm.getType())) {
+            return false;
+        }
+        return getPropertiesWithoutAlgorithmExpression(leftAlgorithm).equals(getPropertiesWithoutAlgorithmExpression(rightAlgorithm))
+                && isValidShardingAlgorithm(leftTableRule, rightTableRule, false);
+    }
+    
+    private Properties getPropertiesWithoutAlgorithmExpression(final ShardingAlgorithm shardingAlgorithm) {
+        Properties result = new Properties();
+        result.putAll(shardingAlgorithm.getProps());
+        result.remove("algorithm-expression");
+        return result;
+    }
+    
     private Optional<BindingTableRule> findBindingTableRule(final Collection<String> logicTableNames) {
         for (String each : logicTableNames) {
             Optional<BindingTableRule> result = findBindingTableRule(each);
@@ -560,12 +690,26 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys of logic table.
+     *
+     * @param logicTableName logic table name
+     * @param keyGenerateCount key generate count
+     * @return generated keys
+     */
+    public Collection<? extends Comparable<?>> generateKeys(final String logicTableName, final int keyGenerateCount) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(keyGenerateCount);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
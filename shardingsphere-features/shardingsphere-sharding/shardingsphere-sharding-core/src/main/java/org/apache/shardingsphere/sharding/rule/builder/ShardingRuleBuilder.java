@@ -38,7 +38,7 @@ public final class ShardingRuleBuilder implements SchemaRuleBuilder<ShardingRule
     public ShardingRule build(final ShardingRuleConfiguration config, final String databaseName,
                               final Map<String, DataSource> dataSources, final Collection<ShardingSphereRule> builtRules, final ConfigurationProperties props) {
         Preconditions.checkArgument(null != dataSources && !dataSources.isEmpty(), "Data source names cannot be empty.");
-        return new ShardingRule(config, dataSources.keySet());
+        return new ShardingRule(config, dataSources);
     }
     
     @Override
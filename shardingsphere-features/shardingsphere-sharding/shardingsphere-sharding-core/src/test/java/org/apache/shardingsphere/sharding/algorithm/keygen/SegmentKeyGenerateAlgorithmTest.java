@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.algorithm.DataSourceAwareAlgorithm;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.sharding.factory.KeyGenerateAlgorithmFactory;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SegmentKeyGenerateAlgorithmTest {
+    
+    private static final String JDBC_URL = "jdbc:h2:mem:key_segment;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL";
+    
+    @BeforeClass
+    public static void createSequenceTable() throws SQLException {
+        try (
+                Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS sharding_key_segment (key_name VARCHAR(128) NOT NULL PRIMARY KEY, max_value BIGINT NOT NULL)");
+        }
+    }
+    
+    @Test
+    public void assertGenerateKey() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm("single_key", 10);
+        List<Comparable<?>> actual = new ArrayList<>(25);
+        for (int i = 0; i < 25; i++) {
+            actual.add(algorithm.generateKey());
+        }
+        assertThat(actual, is(createExpectedKeys(25)));
+    }
+    
+    @Test
+    public void assertGenerateKeys() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm("batch_key", 10);
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(7));
+        actual.addAll(algorithm.generateKeys(18));
+        assertThat(actual, is(createExpectedKeys(25)));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        KeyGenerateAlgorithm algorithm = createAlgorithm("concurrent_key", 100);
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        int taskNumber = threadNumber * 4;
+        List<Future<Collection<Comparable<?>>>> futures = new ArrayList<>(taskNumber);
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> {
+                Collection<Comparable<?>> result = new ArrayList<>(algorithm.generateKeys(50));
+                for (int j = 0; j < 50; j++) {
+                    result.add(algorithm.generateKey());
+                }
+                return result;
+            }));
+        }
+        Set<Comparable<?>> actual = new TreeSet<>();
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(new ArrayList<>(actual), is(createExpectedKeys(taskNumber * 100)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitFailureWhenStepIsNotPositive() {
+        createAlgorithm("illegal_key", 0);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitFailureWithoutDataSourceName() {
+        KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("SEGMENT", new Properties()));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitFailureWithIllegalTableName() {
+        Properties props = new Properties();
+        props.setProperty("data-source-name", "ds");
+        props.setProperty("table-name", "sharding_key_segment; DROP TABLE t_order");
+        KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("SEGMENT", props));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyWithoutDataSource() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm("absent_key", 10);
+        ((DataSourceAwareAlgorithm) algorithm).setDataSources(Collections.emptyMap());
+        algorithm.generateKey();
+    }
+    
+    private KeyGenerateAlgorithm createAlgorithm(final String keyName, final int step) {
+        Properties props = new Properties();
+        props.setProperty("data-source-name", "ds");
+        props.setProperty("key-name", keyName);
+        props.setProperty("step", String.valueOf(step));
+        KeyGenerateAlgorithm result = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("SEGMENT", props));
+        ((DataSourceAwareAlgorithm) result).setDataSources(Collections.singletonMap("ds", createDataSource()));
+        return result;
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private DataSource createDataSource() {
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenAnswer(invocation -> DriverManager.getConnection(JDBC_URL, "sa", ""));
+        return result;
+    }
+    
+    private List<Comparable<?>> createExpectedKeys(final int count) {
+        return LongStream.rangeClosed(1L, count).boxed().collect(Collectors.toList());
+    }
+}
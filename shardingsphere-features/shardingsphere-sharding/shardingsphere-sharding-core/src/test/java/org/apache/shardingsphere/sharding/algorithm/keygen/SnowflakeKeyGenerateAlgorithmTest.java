@@ -33,6 +33,7 @@ import org.junit.Test;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -41,6 +42,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -78,6 +81,43 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        int taskNumber = threadNumber * 4;
+        int batchSize = 1000;
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("SNOWFLAKE", new Properties()));
+        List<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(taskNumber);
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(batchSize)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * batchSize, 1);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * batchSize));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithSingleThread() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("SNOWFLAKE", new Properties()));
+        assertThat(new ArrayList<>(algorithm.generateKeys(5)), is(Arrays.<Comparable<?>>asList(0L, 1L, 2L, 3L, 4L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(2)), is(Arrays.<Comparable<?>>asList(4194305L, 4194306L)));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("SNOWFLAKE", new Properties()));
+        setLastMilliseconds(algorithm, timeService.getCurrentMillis());
+        setSequence(algorithm, (1 << DEFAULT_SEQUENCE_BITS) - 2);
+        assertThat(new ArrayList<>(algorithm.generateKeys(3)), is(Arrays.<Comparable<?>>asList(4095L, 4194304L, 4194305L)));
+    }
+    
     @Test
     public void assertLastDigitalOfGenerateKeySameMillisecond() {
         SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(5));
@@ -157,18 +197,21 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMilliseconds(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Field lastMilliseconds = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(algorithm, value);
+    private void setLastMilliseconds(final KeyGenerateAlgorithm algorithm, final long value) {
+        AtomicLong state = getState(algorithm);
+        state.set((value << DEFAULT_SEQUENCE_BITS) | (state.get() & ((1 << DEFAULT_SEQUENCE_BITS) - 1)));
+    }
+    
+    private void setSequence(final KeyGenerateAlgorithm algorithm, final long value) {
+        AtomicLong state = getState(algorithm);
+        state.set((state.get() >>> DEFAULT_SEQUENCE_BITS << DEFAULT_SEQUENCE_BITS) | value);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Field sequence = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(algorithm, value);
+    private AtomicLong getState(final KeyGenerateAlgorithm algorithm) {
+        Field state = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("state");
+        state.setAccessible(true);
+        return (AtomicLong) state.get(algorithm);
     }
     
     @Test(expected = IllegalArgumentException.class)
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen.benchmark;
+
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.sharding.factory.KeyGenerateAlgorithmFactory;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention and throughput benchmark of snowflake key generate algorithm, with 1 to 64 threads sharing one generator.
+ * 
+ * <p>Single keys are generated as before per row, and batches are generated per multi-row insert statement.
+ * Throughput of single keys is bounded by 4096 sequences per millisecond, whatever the thread count is.</p>
+ * 
+ * <p>It is not run by unit tests, run {@code org.openjdk.jmh.Main SnowflakeKeyGenerateAlgorithmBenchmark} with test classpath instead.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnowflakeKeyGenerateAlgorithmBenchmark {
+    
+    private static final int BATCH_SIZE = 100;
+    
+    private KeyGenerateAlgorithm keyGenerateAlgorithm;
+    
+    /**
+     * Initialize key generate algorithm.
+     */
+    @Setup
+    public void setUp() {
+        keyGenerateAlgorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("SNOWFLAKE", new Properties()));
+    }
+    
+    /**
+     * Generate key with 1 thread.
+     *
+     * @return generated key
+     */
+    @Benchmark
+    @Threads(1)
+    public Comparable<?> generateKeyWith1Thread() {
+        return keyGenerateAlgorithm.generateKey();
+    }
+    
+    /**
+     * Generate key with 8 threads.
+     *
+     * @return generated key
+     */
+    @Benchmark
+    @Threads(8)
+    public Comparable<?> generateKeyWith8Threads() {
+        return keyGenerateAlgorithm.generateKey();
+    }
+    
+    /**
+     * Generate key with 64 threads.
+     *
+     * @return generated key
+     */
+    @Benchmark
+    @Threads(64)
+    public Comparable<?> generateKeyWith64Threads() {
+        return keyGenerateAlgorithm.generateKey();
+    }
+    
+    /**
+     * Generate keys of one multi-row insert with 1 thread.
+     *
+     * @return generated keys
+     */
+    @Benchmark
+    @Threads(1)
+    public Collection<? extends Comparable<?>> generateKeysWith1Thread() {
+        return keyGenerateAlgorithm.generateKeys(BATCH_SIZE);
+    }
+    
+    /**
+     * Generate keys of one multi-row insert with 8 threads.
+     *
+     * @return generated keys
+     */
+    @Benchmark
+    @Threads(8)
+    public Collection<? extends Comparable<?>> generateKeysWith8Threads() {
+        return keyGenerateAlgorithm.generateKeys(BATCH_SIZE);
+    }
+    
+    /**
+     * Generate keys of one multi-row insert with 64 threads.
+     *
+     * @return generated keys
+     */
+    @Benchmark
+    @Threads(64)
+    public Collection<? extends Comparable<?>> generateKeysWith64Threads() {
+        return keyGenerateAlgorithm.generateKeys(BATCH_SIZE);
+    }
+}
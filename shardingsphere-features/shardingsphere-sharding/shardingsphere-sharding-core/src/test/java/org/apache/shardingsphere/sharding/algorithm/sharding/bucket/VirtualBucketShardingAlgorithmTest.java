@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.bucket;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.sharding.factory.ShardingAlgorithmFactory;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class VirtualBucketShardingAlgorithmTest {
+    
+    private static final DataNodeInfo DATA_NODE_INFO = new DataNodeInfo("t_order_", 1, '0');
+    
+    @Test
+    public void assertPreciseDoShardingWithBucketMapping() {
+        VirtualBucketShardingAlgorithm algorithm = createAlgorithm(createProperties(2, 8, "0-3:0,4-7:1"));
+        assertThat(algorithm.doSharding(Arrays.asList("t_order_0", "t_order_1"), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 10L)), is("t_order_0"));
+        assertThat(algorithm.doSharding(Arrays.asList("t_order_0", "t_order_1"), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 13)), is("t_order_1"));
+        assertThat(algorithm.doSharding(Arrays.asList("t_order_0", "t_order_1"), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, -1L)), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithConsistentBucketMapping() {
+        VirtualBucketShardingAlgorithm algorithm = createAlgorithm(createProperties(4, 1024, null));
+        Collection<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = new LinkedHashSet<>();
+        for (long each = 0; each < 1024; each++) {
+            actual.add(algorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, each)));
+        }
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithPartTargets() {
+        VirtualBucketShardingAlgorithm algorithm = createAlgorithm(createProperties(4, 16, "0-3:0,4-7:1,8-11:2,12-15:3"));
+        Collection<String> actual = algorithm.doSharding(Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3"),
+                new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(30L, 33L)));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_0", "t_order_3"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithAllTargets() {
+        VirtualBucketShardingAlgorithm algorithm = createAlgorithm(createProperties(4, 16, "0-3:0,4-7:1,8-11:2,12-15:3"));
+        Collection<String> actual = algorithm.doSharding(Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3"),
+                new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(0L, 1L << 40)));
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithNonIntegralRange() {
+        VirtualBucketShardingAlgorithm algorithm = createAlgorithm(createProperties(2, 8, null));
+        Collection<String> actual = algorithm.doSharding(Arrays.asList("t_order_0", "t_order_1"), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed("a", "b")));
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    public void assertGetRelocatedBucketsWithConsistentBucketMapping() {
+        VirtualBucketShardingAlgorithm sourceAlgorithm = createAlgorithm(createProperties(4, 1024, null));
+        VirtualBucketShardingAlgorithm targetAlgorithm = createAlgorithm(createProperties(5, 1024, null));
+        Collection<Integer> actual = sourceAlgorithm.getRelocatedBuckets(targetAlgorithm);
+        assertTrue(actual.size() < 1024 / 4);
+        for (int each : actual) {
+            assertThat(targetAlgorithm.getTableIndex(each), is(4));
+        }
+    }
+    
+    @Test
+    public void assertGetRelocatedBucketsWithBucketMapping() {
+        VirtualBucketShardingAlgorithm sourceAlgorithm = createAlgorithm(createProperties(2, 8, "0-3:0,4-7:1"));
+        VirtualBucketShardingAlgorithm targetAlgorithm = createAlgorithm(createProperties(3, 8, "0-3:0,4-6:1,7:2"));
+        assertThat(sourceAlgorithm.getRelocatedBuckets(targetAlgorithm), is(Collections.singletonList(7)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithUnmappedBucket() {
+        createAlgorithm(createProperties(2, 8, "0-3:0,4-6:1"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithTableOutOfShardingCount() {
+        createAlgorithm(createProperties(2, 8, "0-3:0,4-7:2"));
+    }
+    
+    private VirtualBucketShardingAlgorithm createAlgorithm(final Properties props) {
+        return (VirtualBucketShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("VIRTUAL_BUCKET", props));
+    }
+    
+    private Properties createProperties(final int shardingCount, final int bucketCount, final String bucketMapping) {
+        Properties result = new Properties();
+        result.setProperty("sharding-count", String.valueOf(shardingCount));
+        result.setProperty("bucket-count", String.valueOf(bucketCount));
+        if (null != bucketMapping) {
+            result.setProperty("bucket-mapping", bucketMapping);
+        }
+        return result;
+    }
+}
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.sharding.factory.ShardingAlgorithmFactory;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
@@ -62,6 +64,15 @@ public final class AutoIntervalShardingAlgorithmTest {
                 new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2020-01-01 00:00:01")), is("t_order_1"));
     }
     
+    @Test
+    public void assertPreciseDoShardingWithDateTimeValue() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, LocalDateTime.of(2020, 1, 1, 0, 0, 5))), is("t_order_2"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Timestamp.valueOf(LocalDateTime.of(2020, 1, 1, 0, 0, 5)))), is("t_order_2"));
+    }
+    
     @Test
     public void assertPreciseDoShardingBeyondTheLastOne() {
         List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_4", "t_order_5");
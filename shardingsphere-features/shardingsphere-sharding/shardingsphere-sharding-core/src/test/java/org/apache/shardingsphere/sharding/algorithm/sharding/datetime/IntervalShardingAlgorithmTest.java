@@ -40,8 +40,10 @@ import java.util.LinkedList;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class IntervalShardingAlgorithmTest {
     
@@ -177,6 +179,30 @@ public final class IntervalShardingAlgorithmTest {
                 new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2030-01-01 00:00:01")));
     }
     
+    @Test
+    public void assertPreciseDoShardingByMonthWithDateTimeValue() {
+        assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, LocalDateTime.of(2020, 1, 31, 23, 59, 59))), is("t_order_202001"));
+        assertNull(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, LocalDateTime.of(2015, 12, 31, 23, 59, 59))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingOutOfDateTimeBounds() {
+        assertTrue(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.lessThan("2015-10-15 10:59:08"))).isEmpty());
+        assertTrue(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.greaterThan("2030-10-15 10:59:08"))).isEmpty());
+    }
+    
+    @Test
+    public void assertRangeDoShardingByMonthWithOpenBound() {
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.open("2019-10-15 10:59:08", "2020-04-01 00:00:00")));
+        assertThat(actual.size(), is(6));
+        assertFalse(actual.contains("t_order_202004"));
+    }
+    
     @Test
     public void assertRangeDoShardingByMonth() {
         Collection<String> actual = shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.datetime.benchmark;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.factory.ShardingAlgorithmFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency benchmark of interval and auto interval sharding algorithms, with daily tables of six years.
+ * 
+ * <p>It is not run by unit tests, run {@code org.openjdk.jmh.Main IntervalShardingAlgorithmBenchmark} with test classpath instead.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntervalShardingAlgorithmBenchmark {
+    
+    private static final DataNodeInfo DATA_NODE_INFO = new DataNodeInfo("t_order_", 8, '0');
+    
+    private static final LocalDateTime DATE_TIME_LOWER = LocalDateTime.of(2016, 1, 1, 0, 0, 0);
+    
+    private static final int DAYS = 365 * 6;
+    
+    private static final int AUTO_INTERVAL_SHARDING_COUNT = DAYS + 2;
+    
+    private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
+    private final Collection<String> intervalTableNames = new ArrayList<>(DAYS);
+    
+    private final Collection<String> autoIntervalTableNames = new ArrayList<>(AUTO_INTERVAL_SHARDING_COUNT);
+    
+    private StandardShardingAlgorithm<Comparable<?>> intervalShardingAlgorithm;
+    
+    private StandardShardingAlgorithm<Comparable<?>> autoIntervalShardingAlgorithm;
+    
+    /**
+     * Initialize sharding algorithms and available tables.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        intervalShardingAlgorithm = (StandardShardingAlgorithm<Comparable<?>>) ShardingAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("INTERVAL", createIntervalProperties()));
+        autoIntervalShardingAlgorithm = (StandardShardingAlgorithm<Comparable<?>>) ShardingAlgorithmFactory.newInstance(
+                new ShardingSphereAlgorithmConfiguration("AUTO_INTERVAL", createAutoIntervalProperties()));
+        DateTimeFormatter suffixFormatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+        LocalDate date = DATE_TIME_LOWER.toLocalDate();
+        for (int i = 0; i < DAYS; i++) {
+            intervalTableNames.add("t_order_" + date.plusDays(i).format(suffixFormatter));
+        }
+        for (int i = 0; i < AUTO_INTERVAL_SHARDING_COUNT; i++) {
+            autoIntervalTableNames.add("t_order_" + i);
+        }
+    }
+    
+    private Properties createIntervalProperties() {
+        Properties result = new Properties();
+        result.setProperty("datetime-pattern", "yyyy-MM-dd HH:mm:ss");
+        result.setProperty("datetime-lower", DATE_TIME_LOWER.format(dateTimeFormatter));
+        result.setProperty("datetime-upper", DATE_TIME_LOWER.plusDays(DAYS - 1).format(dateTimeFormatter));
+        result.setProperty("sharding-suffix-pattern", "yyyyMMdd");
+        result.setProperty("datetime-interval-amount", "1");
+        result.setProperty("datetime-interval-unit", "Days");
+        return result;
+    }
+    
+    private Properties createAutoIntervalProperties() {
+        Properties result = new Properties();
+        result.setProperty("datetime-lower", DATE_TIME_LOWER.format(dateTimeFormatter));
+        result.setProperty("datetime-upper", DATE_TIME_LOWER.plusDays(DAYS).format(dateTimeFormatter));
+        result.setProperty("sharding-seconds", "86400");
+        return result;
+    }
+    
+    /**
+     * Route precise date time value by interval sharding algorithm.
+     *
+     * @return routed table
+     */
+    @Benchmark
+    public String intervalPreciseWithLocalDateTime() {
+        return intervalShardingAlgorithm.doSharding(intervalTableNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, randomDateTime()));
+    }
+    
+    /**
+     * Route precise string value by interval sharding algorithm.
+     *
+     * @return routed table
+     */
+    @Benchmark
+    public String intervalPreciseWithString() {
+        return intervalShardingAlgorithm.doSharding(intervalTableNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, randomDateTime().format(dateTimeFormatter)));
+    }
+    
+    /**
+     * Route one week range by interval sharding algorithm.
+     *
+     * @return routed tables
+     */
+    @Benchmark
+    public Collection<String> intervalRangeOfWeek() {
+        return intervalShardingAlgorithm.doSharding(intervalTableNames, createRangeShardingValue(7));
+    }
+    
+    /**
+     * Route one year range by interval sharding algorithm.
+     *
+     * @return routed tables
+     */
+    @Benchmark
+    public Collection<String> intervalRangeOfYear() {
+        return intervalShardingAlgorithm.doSharding(intervalTableNames, createRangeShardingValue(365));
+    }
+    
+    /**
+     * Route precise string value by auto interval sharding algorithm.
+     *
+     * @return routed table
+     */
+    @Benchmark
+    public String autoIntervalPreciseWithString() {
+        return autoIntervalShardingAlgorithm.doSharding(autoIntervalTableNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, randomDateTime().format(dateTimeFormatter)));
+    }
+    
+    /**
+     * Route one week range by auto interval sharding algorithm.
+     *
+     * @return routed tables
+     */
+    @Benchmark
+    public Collection<String> autoIntervalRangeOfWeek() {
+        return autoIntervalShardingAlgorithm.doSharding(autoIntervalTableNames, createRangeShardingValue(7));
+    }
+    
+    private RangeShardingValue<Comparable<?>> createRangeShardingValue(final int days) {
+        LocalDateTime lower = DATE_TIME_LOWER.plusDays(ThreadLocalRandom.current().nextInt(DAYS - days));
+        return new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed(lower, lower.plusDays(days)));
+    }
+    
+    private LocalDateTime randomDateTime() {
+        return DATE_TIME_LOWER.plusSeconds(ThreadLocalRandom.current().nextLong(TimeUnit.DAYS.toSeconds(DAYS)));
+    }
+}
@@ -28,6 +28,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
 
@@ -65,4 +66,33 @@ public final class HashModShardingAlgorithmTest {
                 new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("a", "f")));
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    public void assertRangeDoShardingWithIntegralRange() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(5, 6)));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithLongRangeConsistentWithPreciseSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> expected = new LinkedHashSet<>();
+        for (long each = (1L << 32) - 1; each <= (1L << 32) + 1; each++) {
+            expected.add(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, each)));
+        }
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed((1L << 32) - 1, (1L << 32) + 1)));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertRangeDoShardingBeyondEnumerationThreshold() {
+        Properties props = createProperties();
+        props.setProperty("range-enumeration-threshold", "1");
+        HashModShardingAlgorithm algorithm = (HashModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("HASH_MOD", props));
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = algorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(5, 6)));
+        assertThat(actual.size(), is(4));
+    }
 }
@@ -27,6 +27,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -66,6 +67,34 @@ public final class ModShardingAlgorithmTest {
         assertTrue(actual.contains("t_order_2"));
     }
     
+    @Test
+    public void assertRangeDoShardingWithOpenBounds() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("MOD", createProperties()));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.open(1L, 4L)));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_2", "t_order_3"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithoutLowerBound() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("MOD", createProperties()));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.atMost(2L)));
+        assertThat(actual.size(), is(16));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithLargeRange() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("MOD", createProperties()));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(1L, 1L + (1L << 32))));
+        assertThat(actual.size(), is(16));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithNonIntegralRange() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("MOD", createProperties()));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed("a", "b")));
+        assertThat(actual.size(), is(16));
+    }
+    
     private Properties createProperties() {
         Properties result = new Properties();
         result.setProperty("sharding-count", "16");
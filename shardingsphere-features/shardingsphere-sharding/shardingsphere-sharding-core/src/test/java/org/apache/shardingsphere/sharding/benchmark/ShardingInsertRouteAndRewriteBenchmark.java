@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.benchmark;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabaseMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Route and rewrite latency benchmark of multi-row insert with up to 10000 rows, sharded to 2 data sources and 4 tables per data source.
+ * 
+ * <p>Statements are parsed once when set up, binding, routing and rewriting are measured. Latency should grow linearly with row count.</p>
+ * 
+ * <p>It is not run by unit tests, run {@code org.openjdk.jmh.Main ShardingInsertRouteAndRewriteBenchmark} with test classpath instead.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardingInsertRouteAndRewriteBenchmark {
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @Param({"1000", "10000"})
+    private int rowCount;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingSphereDatabase database;
+    
+    private Map<String, ShardingSphereDatabase> databases;
+    
+    private String parameterizedSQL;
+    
+    private List<Object> parameters;
+    
+    private SQLStatement parameterizedSQLStatement;
+    
+    private String literalSQL;
+    
+    private SQLStatement literalSQLStatement;
+    
+    /**
+     * Initialize database and parse insert statements.
+     */
+    @Setup
+    public void setUp() {
+        shardingRule = new ShardingRule(createShardingRuleConfiguration(), Arrays.asList("ds_0", "ds_1"));
+        ShardingSphereResource resource = mock(ShardingSphereResource.class);
+        when(resource.getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, DatabaseTypeFactory.getInstance("MySQL"), resource,
+                new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(shardingRule)), new ShardingSphereDatabaseMetaData(createSchemas()));
+        databases = Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database);
+        SQLStatementParserEngine sqlStatementParserEngine = new SQLStatementParserEngine("MySQL", new CacheOption(1, 1L), new CacheOption(1, 1L), false);
+        parameterizedSQL = createInsertSQL(false);
+        parameters = createParameters();
+        parameterizedSQLStatement = sqlStatementParserEngine.parse(parameterizedSQL, false);
+        literalSQL = createInsertSQL(true);
+        literalSQLStatement = sqlStatementParserEngine.parse(literalSQL, false);
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..3}");
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "ds_inline"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "t_order_inline"));
+        result.getTables().add(tableRuleConfig);
+        result.getShardingAlgorithms().put("ds_inline", createInlineAlgorithmConfiguration("ds_${user_id % 2}"));
+        result.getShardingAlgorithms().put("t_order_inline", createInlineAlgorithmConfiguration("t_order_${order_id % 4}"));
+        return result;
+    }
+    
+    private ShardingSphereAlgorithmConfiguration createInlineAlgorithmConfiguration(final String algorithmExpression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        return new ShardingSphereAlgorithmConfiguration("INLINE", props);
+    }
+    
+    private Map<String, ShardingSphereSchema> createSchemas() {
+        TableMetaData tableMetaData = new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false)), Collections.emptyList(), Collections.emptyList());
+        return Collections.singletonMap(DefaultDatabase.LOGIC_NAME, new ShardingSphereSchema(Collections.singletonMap("t_order", tableMetaData)));
+    }
+    
+    private String createInsertSQL(final boolean literal) {
+        StringBuilder result = new StringBuilder("INSERT INTO t_order (order_id, user_id, status) VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(literal ? String.format("(%d, %d, 'init')", i, i / 3) : "(?, ?, ?)");
+        }
+        return result.toString();
+    }
+    
+    private List<Object> createParameters() {
+        List<Object> result = new ArrayList<>(rowCount * 3);
+        for (int i = 0; i < rowCount; i++) {
+            result.add(i);
+            result.add(i / 3);
+            result.add("init");
+        }
+        return result;
+    }
+    
+    /**
+     * Route and rewrite multi-row insert with parameter markers.
+     *
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult routeAndRewriteWithParameters() {
+        return routeAndRewrite(parameterizedSQL, parameters, parameterizedSQLStatement);
+    }
+    
+    /**
+     * Route and rewrite multi-row insert with literal values.
+     *
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult routeAndRewriteWithLiterals() {
+        return routeAndRewrite(literalSQL, Collections.emptyList(), literalSQLStatement);
+    }
+    
+    private SQLRewriteResult routeAndRewrite(final String sql, final List<Object> parameters, final SQLStatement sqlStatement) {
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(databases, parameters, sqlStatement, DefaultDatabase.LOGIC_NAME);
+        RouteContext routeContext = new SQLRouteEngine(Collections.singleton(shardingRule), props).route(new LogicSQL(sqlStatementContext, sql, parameters), database);
+        return new SQLRewriteEntry(database, props).rewrite(sql, parameters, sqlStatementContext, routeContext);
+    }
+}
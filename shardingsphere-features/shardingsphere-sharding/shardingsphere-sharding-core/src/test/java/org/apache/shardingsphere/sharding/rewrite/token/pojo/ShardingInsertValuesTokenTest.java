@@ -29,6 +29,7 @@ import org.junit.Test;
 import java.util.List;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -62,4 +63,19 @@ public final class ShardingInsertValuesTokenTest {
     public void assertToString() {
         assertThat(shardingInsertValuesToken.toString(routeUnit), is("('shardingsphere', 'test')"));
     }
+    
+    @Test
+    public void assertToStringWithRoutedInsertValues() {
+        ShardingInsertValuesToken insertValuesToken = new ShardingInsertValuesToken(0, 2);
+        insertValuesToken.getInsertValues().add(createShardingInsertValue(1, new DataNode("logic_ds", "tbl_0")));
+        insertValuesToken.getInsertValues().add(createShardingInsertValue(2, new DataNode("logic_ds", "tbl_2")));
+        insertValuesToken.getInsertValues().add(createShardingInsertValue(3, new DataNode("LOGIC_DS", "TBL_1")));
+        insertValuesToken.getInsertValues().add(createShardingInsertValue(4, new DataNode("other_ds", "tbl_0")));
+        assertThat(insertValuesToken.toString(routeUnit), is("(1), (3)"));
+        assertThat(insertValuesToken.toString(null), is("(1), (2), (3), (4)"));
+    }
+    
+    private ShardingInsertValue createShardingInsertValue(final int value, final DataNode dataNode) {
+        return new ShardingInsertValue(Collections.singletonList(new LiteralExpressionSegment(0, 0, value)), Collections.singletonList(dataNode));
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.route.engine.type.complex;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -28,6 +29,7 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
 
@@ -63,6 +65,28 @@ public final class ShardingComplexRoutingEngineTest extends AbstractRoutingEngin
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    public void assertRoutingForShardingTablesWithoutInferredBindingTables() {
+        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(createShardingConditions("t_order"),
+                new ConfigurationProperties(new Properties()), Arrays.asList("t_order", "t_order_item"));
+        RouteContext routeContext = complexRoutingEngine.route(createBroadcastShardingRule());
+        assertThat(routeContext.getRouteUnits().size(), is(2));
+    }
+    
+    @Test
+    public void assertRoutingForInferredBindingTables() {
+        ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(createShardingConditions("t_order"),
+                new ConfigurationProperties(new Properties()), Arrays.asList("t_order", "t_order_item"), Collections.singleton(Arrays.asList("t_order", "t_order_item")));
+        RouteContext routeContext = complexRoutingEngine.route(createBroadcastShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeContext.getRouteUnits().size(), is(1));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(0).getTableMappers().size(), is(2));
+        Iterator<RouteMapper> tableMappers = routeUnits.get(0).getTableMappers().iterator();
+        assertThat(tableMappers.next().getActualName(), is("t_order_1"));
+        assertThat(tableMappers.next().getActualName(), is("t_order_item_1"));
+    }
+    
     @Test(expected = ShardingSphereException.class)
     public void assertRoutingForNonLogicTable() {
         ShardingComplexRoutingEngine complexRoutingEngine = new ShardingComplexRoutingEngine(createShardingConditions("t_order"),
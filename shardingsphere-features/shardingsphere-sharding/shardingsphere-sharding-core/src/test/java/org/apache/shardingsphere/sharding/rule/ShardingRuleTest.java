@@ -50,6 +50,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.Identifi
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -621,6 +622,55 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().isAllBindingTables(database, sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table")));
     }
     
+    @Test
+    public void assertGetInferredBindingTableGroupsWithTableJoinCondition() {
+        ColumnSegment leftTableJoin = createColumnSegment("order_id", "logic_Table");
+        ColumnSegment rightTableJoin = createColumnSegment("order_id", "sub_Logic_Table");
+        SelectStatementContext sqlStatementContext = mockJoinSelectStatementContext(createBinaryOperationExpression(leftTableJoin, rightTableJoin, EQUAL));
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        when(sqlStatementContext.getTablesContext().findTableNamesByColumnSegment(Arrays.asList(leftTableJoin, rightTableJoin), schema)).thenReturn(createColumnTableNameMap());
+        Collection<Collection<String>> actual = createMaximumShardingRule().getInferredBindingTableGroups(mockDatabase(schema), sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table"));
+        assertThat(actual.size(), is(1));
+        assertThat(new ArrayList<>(actual.iterator().next()), is(Arrays.asList("logic_Table", "sub_Logic_Table")));
+    }
+    
+    @Test
+    public void assertGetInferredBindingTableGroupsWithDatabaseJoinCondition() {
+        ColumnSegment leftDatabaseJoin = createColumnSegment("user_id", "logic_Table");
+        ColumnSegment rightDatabaseJoin = createColumnSegment("user_id", "sub_Logic_Table");
+        SelectStatementContext sqlStatementContext = mockJoinSelectStatementContext(createBinaryOperationExpression(leftDatabaseJoin, rightDatabaseJoin, EQUAL));
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        when(sqlStatementContext.getTablesContext().findTableNamesByColumnSegment(Arrays.asList(leftDatabaseJoin, rightDatabaseJoin), schema)).thenReturn(createColumnTableNameMap());
+        assertTrue(createMaximumShardingRule().getInferredBindingTableGroups(mockDatabase(schema), sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table")).isEmpty());
+    }
+    
+    @Test
+    public void assertGetInferredBindingTableGroupsWithoutJoinQuery() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        assertTrue(createMaximumShardingRule().getInferredBindingTableGroups(
+                mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS), sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table")).isEmpty());
+    }
+    
+    private SelectStatementContext mockJoinSelectStatementContext(final ExpressionSegment joinCondition) {
+        JoinTableSegment joinTable = mock(JoinTableSegment.class);
+        when(joinTable.getCondition()).thenReturn(joinCondition);
+        MySQLSelectStatement selectStatement = mock(MySQLSelectStatement.class);
+        when(selectStatement.getFrom()).thenReturn(joinTable);
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(selectStatement);
+        when(result.isContainsJoinQuery()).thenReturn(true);
+        when(result.getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        when(result.getTablesContext().getSchemaName()).thenReturn(Optional.empty());
+        return result;
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final ShardingSphereSchema schema) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
+        when(result.getDatabaseMetaData().getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(schema);
+        return result;
+    }
+    
     @Test
     public void assertIsAllTablesInSameDataSource() {
         Collection<String> logicTableNames = new LinkedHashSet<>();
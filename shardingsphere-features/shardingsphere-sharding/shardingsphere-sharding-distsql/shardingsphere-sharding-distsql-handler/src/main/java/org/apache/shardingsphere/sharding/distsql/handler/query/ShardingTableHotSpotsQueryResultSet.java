@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.distsql.handler.query;
+
+import org.apache.shardingsphere.infra.distsql.query.DistSQLResultSet;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
+import org.apache.shardingsphere.sharding.distsql.parser.statement.ShowShardingTableHotSpotsStatement;
+import org.apache.shardingsphere.sharding.statistics.HeavyHitter;
+import org.apache.shardingsphere.sharding.statistics.ShardingHotSpotStatistics;
+import org.apache.shardingsphere.sharding.statistics.ShardingHotSpotStatisticsRegistry;
+import org.apache.shardingsphere.sharding.statistics.SpaceSavingSketch;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Result set for show sharding table hot spots.
+ */
+public final class ShardingTableHotSpotsQueryResultSet implements DistSQLResultSet {
+    
+    private static final int TOP_LIMIT = 10;
+    
+    private Iterator<Collection<Object>> data = Collections.emptyIterator();
+    
+    @Override
+    public void init(final ShardingSphereDatabase database, final SQLStatement sqlStatement) {
+        Optional<ShardingHotSpotStatistics> statistics = ShardingHotSpotStatisticsRegistry.getInstance().findStatistics(database.getName());
+        if (statistics.isPresent()) {
+            data = getData(statistics.get(), ((ShowShardingTableHotSpotsStatement) sqlStatement).getTableName()).iterator();
+        }
+    }
+    
+    private Collection<Collection<Object>> getData(final ShardingHotSpotStatistics statistics, final String tableName) {
+        Collection<Collection<Object>> result = new LinkedList<>();
+        addRows(result, "SHARDING_VALUE", statistics.getShardingValueSketches(), tableName);
+        addRows(result, "DATA_NODE", statistics.getDataNodeSketches(), tableName);
+        return result;
+    }
+    
+    private void addRows(final Collection<Collection<Object>> rows, final String type, final Map<String, SpaceSavingSketch> sketches, final String tableName) {
+        for (Entry<String, SpaceSavingSketch> entry : sketches.entrySet()) {
+            if (null != tableName && !entry.getKey().equalsIgnoreCase(tableName)) {
+                continue;
+            }
+            long total = entry.getValue().getTotal();
+            for (HeavyHitter each : entry.getValue().getTop(TOP_LIMIT)) {
+                rows.add(Arrays.asList(entry.getKey(), type, each.getValue(), each.getCount(), each.getError(), String.format("%.4f", 0 == total ? 0D : (double) each.getCount() / total)));
+            }
+        }
+    }
+    
+    @Override
+    public Collection<String> getColumnNames() {
+        return Arrays.asList("table", "type", "value", "count", "error", "ratio");
+    }
+    
+    @Override
+    public boolean next() {
+        return data.hasNext();
+    }
+    
+    @Override
+    public Collection<Object> getRowData() {
+        return data.next();
+    }
+    
+    @Override
+    public String getType() {
+        return ShowShardingTableHotSpotsStatement.class.getName();
+    }
+}
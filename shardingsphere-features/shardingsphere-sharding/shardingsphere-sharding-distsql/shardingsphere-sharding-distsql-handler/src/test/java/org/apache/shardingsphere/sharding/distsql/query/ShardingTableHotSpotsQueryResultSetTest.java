@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.distsql.query;
+
+import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
+import org.apache.shardingsphere.sharding.distsql.handler.query.ShardingTableHotSpotsQueryResultSet;
+import org.apache.shardingsphere.sharding.distsql.parser.statement.ShowShardingTableHotSpotsStatement;
+import org.apache.shardingsphere.sharding.statistics.ShardingHotSpotStatistics;
+import org.apache.shardingsphere.sharding.statistics.ShardingHotSpotStatisticsRegistry;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingTableHotSpotsQueryResultSetTest {
+    
+    @Test
+    public void assertGetRowData() {
+        ShardingHotSpotStatistics statistics = ShardingHotSpotStatisticsRegistry.getInstance().getStatistics("hot_spot_db");
+        statistics.clear();
+        statistics.recordShardingValue("t_order", "order_id", 1);
+        statistics.recordDataNode("t_order", "ds_1", "t_order_1");
+        statistics.recordDataNode("t_order_item", "ds_1", "t_order_item_1");
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getName()).thenReturn("hot_spot_db");
+        ShardingTableHotSpotsQueryResultSet resultSet = new ShardingTableHotSpotsQueryResultSet();
+        resultSet.init(database, new ShowShardingTableHotSpotsStatement("t_order", null));
+        assertTrue(resultSet.next());
+        List<Object> actual = new ArrayList<>(resultSet.getRowData());
+        assertThat(actual.size(), is(6));
+        assertThat(actual.get(0), is("t_order"));
+        assertThat(actual.get(1), is("SHARDING_VALUE"));
+        assertThat(actual.get(2), is("order_id=1"));
+        assertThat(actual.get(3), is(1L));
+        assertThat(actual.get(4), is(0L));
+        assertThat(actual.get(5), is("1.0000"));
+        assertTrue(resultSet.next());
+        actual = new ArrayList<>(resultSet.getRowData());
+        assertThat(actual.get(1), is("DATA_NODE"));
+        assertThat(actual.get(2), is("ds_1.t_order_1"));
+        assertFalse(resultSet.next());
+    }
+}
@@ -175,6 +175,14 @@ NODES
     : N O D E S
     ;
 
+HOT
+    : H O T
+    ;
+
+SPOTS
+    : S P O T S
+    ;
+
 KEY
     : K E Y
     ;
@@ -39,6 +39,10 @@ showShardingTableNodes
     : SHOW SHARDING TABLE NODES tableName? (FROM schemaName)?
     ;
 
+showShardingTableHotSpots
+    : SHOW SHARDING TABLE HOT SPOTS tableName? (FROM schemaName)?
+    ;
+
 showShardingKeyGenerators
     : SHOW SHARDING KEY GENERATORS (FROM schemaName)?
     ;
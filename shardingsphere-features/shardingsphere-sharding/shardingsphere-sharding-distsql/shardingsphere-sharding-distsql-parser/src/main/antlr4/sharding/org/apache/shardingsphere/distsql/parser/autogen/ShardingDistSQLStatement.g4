@@ -45,6 +45,7 @@ execute
     | createShardingAlgorithm
     | alterShardingAlgorithm
     | showShardingTableNodes
+    | showShardingTableHotSpots
     | createShardingKeyGenerator
     | alterShardingKeyGenerator
     | showShardingKeyGenerators
@@ -109,11 +109,121 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Proxy slow query threshold in milliseconds. Less than or equal to 0 means slow query log is disabled.
+     */
+    PROXY_SLOW_QUERY_THRESHOLD_MILLIS("proxy-slow-query-threshold-millis", "0", long.class, false),
+    
     /**
      * Whether enable SQL federation.
      */
     SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether record latency histograms of parse, route, rewrite, execute and merge stages.
+     */
+    SQL_STAGE_METRICS_ENABLED("sql-stage-metrics-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether track hot sharding values and hot data nodes of sharding tables.
+     */
+    SHARDING_HOT_SPOT_DETECTION_ENABLED("sharding-hot-spot-detection-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether rewrite batched single row inserts of every data source and SQL into one multiple rows insert, only MySQL is supported.
+     */
+    BATCH_INSERT_REWRITE_ENABLED("batch-insert-rewrite-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether defer beginning distributed transaction until a second data source is accessed, and run transactions on single data source as local transactions.
+     */
+    TRANSACTION_LOCAL_FAST_PATH_ENABLED("transaction-local-fast-path-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Logic tables whose query results are cached, separated by comma. Empty means query result cache is disabled.
+     */
+    QUERY_RESULT_CACHE_TABLES("query-result-cache-tables", "", String.class, false),
+    
+    /**
+     * Time to live of cached query results in milliseconds.
+     */
+    QUERY_RESULT_CACHE_TTL_MILLIS("query-result-cache-ttl-millis", "60000", long.class, false),
+    
+    /**
+     * Max estimated bytes of all cached query results.
+     */
+    QUERY_RESULT_CACHE_MAX_BYTES("query-result-cache-max-bytes", "67108864", long.class, false),
+    
+    /**
+     * Max rows of query results to be cached for a query, results of queries with more rows are streamed without caching.
+     */
+    QUERY_RESULT_CACHE_MAX_ROWS_PER_QUERY("query-result-cache-max-rows-per-query", "1000", int.class, false),
+    
+    /**
+     * Max estimated bytes of query results to be cached for a query, results of queries with more bytes are streamed without caching.
+     */
+    QUERY_RESULT_CACHE_MAX_BYTES_PER_QUERY("query-result-cache-max-bytes-per-query", "1048576", long.class, false),
+    
+    /**
+     * Whether route reads after writes of the same session to replicas which have caught up with the writes, instead of read data sources without consistency guarantee.
+     */
+    READWRITE_SPLITTING_READ_YOUR_WRITES_ENABLED("readwrite-splitting-read-your-writes-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max milliseconds reads after writes of the same session wait for replicas to catch up, reads are routed as usual after that.
+     */
+    READWRITE_SPLITTING_READ_YOUR_WRITES_TIMEOUT_MILLIS("readwrite-splitting-read-your-writes-timeout-millis", "10000", long.class, false),
+    
+    /**
+     * Whether issue the same read to another replica if the routed replica does not respond within hedge delay.
+     */
+    READWRITE_SPLITTING_HEDGED_READ_ENABLED("readwrite-splitting-hedged-read-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Percentile of response time of routed replica, which is taken as hedge delay.
+     */
+    READWRITE_SPLITTING_HEDGED_READ_DELAY_PERCENTILE("readwrite-splitting-hedged-read-delay-percentile", "95", int.class, false),
+    
+    /**
+     * Min hedge delay in milliseconds.
+     */
+    READWRITE_SPLITTING_HEDGED_READ_MIN_DELAY_MILLIS("readwrite-splitting-hedged-read-min-delay-millis", "10", long.class, false),
+    
+    /**
+     * Max percentage of hedged reads in all reads which can be hedged.
+     */
+    READWRITE_SPLITTING_HEDGED_READ_BUDGET_PERCENTAGE("readwrite-splitting-hedged-read-budget-percentage", "10", int.class, false),
+    
+    /**
+     * Whether open circuit breaker of storage node automatically if error rate or slow call rate of it exceeds threshold.
+     */
+    STORAGE_NODE_CIRCUIT_BREAKER_ENABLED("storage-node-circuit-breaker-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Percentage of failed and slow calls in sliding window, which opens circuit breaker of storage node.
+     */
+    STORAGE_NODE_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD("storage-node-circuit-breaker-failure-rate-threshold", "50", int.class, false),
+    
+    /**
+     * Calls slower than this threshold in milliseconds are taken as failed calls. Less than or equal to 0 means slow calls are ignored.
+     */
+    STORAGE_NODE_CIRCUIT_BREAKER_SLOW_CALL_THRESHOLD_MILLIS("storage-node-circuit-breaker-slow-call-threshold-millis", "0", long.class, false),
+    
+    /**
+     * Count of latest calls in sliding window of circuit breaker.
+     */
+    STORAGE_NODE_CIRCUIT_BREAKER_WINDOW_SIZE("storage-node-circuit-breaker-window-size", "20", int.class, false),
+    
+    /**
+     * Duration in milliseconds of open circuit breaker before a probe call is permitted.
+     */
+    STORAGE_NODE_CIRCUIT_BREAKER_OPEN_DURATION_MILLIS("storage-node-circuit-breaker-open-duration-millis", "10000", long.class, false),
+    
+    /**
+     * Whether skip storage nodes with open circuit breaker for queries routed to multiple data sources, instead of failing the queries.
+     */
+    STORAGE_NODE_CIRCUIT_BREAKER_PARTIAL_RESULT_ENABLED("storage-node-circuit-breaker-partial-result-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy backend driver type..
      */
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.eventbus;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Event subscriber, bound to a subscribe method of the target.
+ */
+@Slf4j
+final class EventSubscriber {
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final Object target;
+    
+    private final Method method;
+    
+    private final MethodHandle methodHandle;
+    
+    private final boolean concurrent;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final SerialEventExecutor executor;
+    
+    EventSubscriber(final Object target, final Method method, final SerialEventExecutor executor) throws IllegalAccessException {
+        this.target = target;
+        this.method = method;
+        method.setAccessible(true);
+        methodHandle = MethodHandles.lookup().unreflect(method).bindTo(target).asType(MethodType.methodType(void.class, Object.class));
+        concurrent = method.isAnnotationPresent(AllowConcurrentEvents.class);
+        this.executor = executor;
+    }
+    
+    /**
+     * Dispatch event in current thread.
+     * 
+     * <p>Subscribe methods not annotated with {@link AllowConcurrentEvents} handle one event at a time, as Guava event bus does.</p>
+     *
+     * @param event event
+     */
+    void dispatch(final Object event) {
+        if (concurrent) {
+            invoke(event);
+        } else {
+            synchronized (this) {
+                invoke(event);
+            }
+        }
+    }
+    
+    private void invoke(final Object event) {
+        try {
+            methodHandle.invokeExact(event);
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            log.error("Exception thrown by subscriber method `{}` of `{}` when dispatching event `{}`", method.getName(), target.getClass().getName(), event.getClass().getName(), ex);
+        }
+    }
+    
+    /**
+     * Dispatch event in serial executor of the target.
+     *
+     * @param event event
+     */
+    void dispatchAsync(final Object event) {
+        executor.execute(() -> dispatch(event));
+    }
+    
+    /**
+     * Judge whether subscribe method of target.
+     *
+     * @param target target
+     * @param method method
+     * @return is same subscribe method or not
+     */
+    boolean isSame(final Object target, final Method method) {
+        return this.target == target && this.method.equals(method);
+    }
+}
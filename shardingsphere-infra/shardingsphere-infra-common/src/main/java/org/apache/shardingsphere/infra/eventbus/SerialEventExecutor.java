@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.eventbus;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serial event executor, handles asynchronous events of one subscriber in posting order.
+ * 
+ * <p>The worker thread is created on first asynchronous event. When the bounded queue is full, the posting thread waits for free space
+ * instead of dropping events or running them out of order.</p>
+ */
+final class SerialEventExecutor {
+    
+    private static final int QUEUE_CAPACITY = 1024;
+    
+    private final String name;
+    
+    private volatile ThreadPoolExecutor executor;
+    
+    private volatile boolean shutdown;
+    
+    SerialEventExecutor(final String name) {
+        this.name = name;
+    }
+    
+    /**
+     * Execute task.
+     *
+     * @param task task
+     */
+    void execute(final Runnable task) {
+        ThreadPoolExecutor executor = getExecutor();
+        if (null == executor) {
+            return;
+        }
+        executor.execute(task);
+    }
+    
+    private ThreadPoolExecutor getExecutor() {
+        if (null == executor) {
+            synchronized (this) {
+                if (null == executor && !shutdown) {
+                    executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-EventBus-" + name + "-%d").build(), SerialEventExecutor::waitForQueue);
+                }
+            }
+        }
+        return executor;
+    }
+    
+    private static void waitForQueue(final Runnable task, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Shutdown after queued events are handled.
+     */
+    synchronized void shutdown() {
+        shutdown = true;
+        if (null != executor) {
+            executor.shutdown();
+        }
+    }
+}
@@ -17,26 +17,195 @@
 
 package org.apache.shardingsphere.infra.eventbus;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.base.Preconditions;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.bridge.SLF4JBridgeHandler;
 
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * ShardingSphere event bus.
+ * 
+ * <p>Methods annotated with {@link Subscribe} are resolved once at registration, and subscribers of every event type are precompiled into
+ * a dispatch table, so posting an event does not reflect. Delivery semantics are the same as Guava event bus: events posted by subscribers
+ * are queued per thread and dispatched after the current event, and every subscribe method handles one event at a time unless annotated
+ * with {@link com.google.common.eventbus.AllowConcurrentEvents}. Events are dispatched in posting thread by default,
+ * event classes annotated with {@link AsyncEvent} are dispatched by serial executor of each subscriber.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ShardingSphereEventBus {
     
+    private final Map<Class<?>, List<EventSubscriber>> subscribers = new HashMap<>();
+    
+    private final Map<Object, SerialEventExecutor> executors = new IdentityHashMap<>();
+    
+    private final Map<Class<?>, DispatchPlan> dispatchPlans = new ConcurrentHashMap<>();
+    
+    private final ThreadLocal<Queue<QueuedEvent>> queuedEvents = ThreadLocal.withInitial(ArrayDeque::new);
+    
+    private final ThreadLocal<Boolean> dispatching = ThreadLocal.withInitial(() -> false);
+    
     /**
      * Get instance of ShardingSphere event bus.
      *
      * @return instance of ShardingSphere event bus
      */
-    public static EventBus getInstance() {
+    public static ShardingSphereEventBus getInstance() {
         return ShardingSphereEventBusHolder.INSTANCE;
     }
     
+    /**
+     * Register all subscribe methods of target.
+     *
+     * @param target target to be registered
+     * @throws IllegalArgumentException subscribe method is invalid or more than one subscribe methods subscribe the same event type
+     */
+    public synchronized void register(final Object target) {
+        Map<Class<?>, Method> subscribeMethods = findSubscribeMethods(target.getClass());
+        if (subscribeMethods.isEmpty()) {
+            return;
+        }
+        SerialEventExecutor executor = executors.computeIfAbsent(target, unused -> new SerialEventExecutor(target.getClass().getSimpleName()));
+        for (Entry<Class<?>, Method> entry : subscribeMethods.entrySet()) {
+            List<EventSubscriber> eventSubscribers = subscribers.computeIfAbsent(entry.getKey(), unused -> new LinkedList<>());
+            if (eventSubscribers.stream().noneMatch(each -> each.isSame(target, entry.getValue()))) {
+                eventSubscribers.add(createEventSubscriber(target, entry.getValue(), executor));
+            }
+        }
+        dispatchPlans.clear();
+    }
+    
+    private Map<Class<?>, Method> findSubscribeMethods(final Class<?> targetClass) {
+        Map<String, Method> methods = new LinkedHashMap<>();
+        for (Class<?> each = targetClass; null != each && Object.class != each; each = each.getSuperclass()) {
+            for (Method method : each.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && !method.isSynthetic()) {
+                    methods.putIfAbsent(method.getName() + Arrays.toString(method.getParameterTypes()), method);
+                }
+            }
+        }
+        Map<Class<?>, Method> result = new LinkedHashMap<>(methods.size(), 1);
+        for (Method each : methods.values()) {
+            Preconditions.checkArgument(1 == each.getParameterCount(), "Subscribe method `%s` of `%s` must have exactly 1 parameter.", each.getName(), targetClass.getName());
+            Method duplicatedMethod = result.put(each.getParameterTypes()[0], each);
+            Preconditions.checkArgument(null == duplicatedMethod, "Subscribe methods `%s` and `%s` of `%s` subscribe the same event type `%s`.",
+                    null == duplicatedMethod ? null : duplicatedMethod.getName(), each.getName(), targetClass.getName(), each.getParameterTypes()[0].getName());
+        }
+        return result;
+    }
+    
+    private EventSubscriber createEventSubscriber(final Object target, final Method method, final SerialEventExecutor executor) {
+        try {
+            return new EventSubscriber(target, method, executor);
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+    
+    /**
+     * Unregister all subscribe methods of target.
+     *
+     * @param target target to be unregistered
+     */
+    public synchronized void unregister(final Object target) {
+        subscribers.values().forEach(each -> each.removeIf(subscriber -> subscriber.getTarget() == target));
+        subscribers.values().removeIf(Collection::isEmpty);
+        SerialEventExecutor executor = executors.remove(target);
+        if (null != executor) {
+            executor.shutdown();
+        }
+        dispatchPlans.clear();
+    }
+    
+    /**
+     * Post event to subscribers of event type and all its super types.
+     * 
+     * <p>Event posted while dispatching another event in the same thread is queued, and dispatched after the current event is dispatched to all its subscribers.</p>
+     *
+     * @param event event
+     */
+    public void post(final Object event) {
+        Queue<QueuedEvent> queuedEvents = this.queuedEvents.get();
+        queuedEvents.offer(new QueuedEvent(event, getDispatchPlan(event.getClass())));
+        if (dispatching.get()) {
+            return;
+        }
+        dispatching.set(true);
+        try {
+            QueuedEvent each;
+            while (null != (each = queuedEvents.poll())) {
+                dispatch(each.event, each.dispatchPlan);
+            }
+        } finally {
+            dispatching.remove();
+            this.queuedEvents.remove();
+        }
+    }
+    
+    private DispatchPlan getDispatchPlan(final Class<?> eventClass) {
+        DispatchPlan result = dispatchPlans.get(eventClass);
+        return null == result ? createDispatchPlan(eventClass) : result;
+    }
+    
+    private void dispatch(final Object event, final DispatchPlan dispatchPlan) {
+        if (dispatchPlan.async) {
+            for (EventSubscriber each : dispatchPlan.subscribers) {
+                each.dispatchAsync(event);
+            }
+        } else {
+            for (EventSubscriber each : dispatchPlan.subscribers) {
+                each.dispatch(event);
+            }
+        }
+    }
+    
+    private synchronized DispatchPlan createDispatchPlan(final Class<?> eventClass) {
+        DispatchPlan cached = dispatchPlans.get(eventClass);
+        if (null != cached) {
+            return cached;
+        }
+        Collection<EventSubscriber> eventSubscribers = new LinkedList<>();
+        for (Class<?> each : TypeToken.of(eventClass).getTypes().rawTypes()) {
+            eventSubscribers.addAll(subscribers.getOrDefault(each, Collections.emptyList()));
+        }
+        DispatchPlan result = new DispatchPlan(eventSubscribers.toArray(new EventSubscriber[0]), eventClass.isAnnotationPresent(AsyncEvent.class));
+        dispatchPlans.put(eventClass, result);
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class DispatchPlan {
+        
+        private final EventSubscriber[] subscribers;
+        
+        private final boolean async;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class QueuedEvent {
+        
+        private final Object event;
+        
+        private final DispatchPlan dispatchPlan;
+    }
+    
     private static final class ShardingSphereEventBusHolder {
         
         static {
@@ -44,6 +213,6 @@ public final class ShardingSphereEventBus {
             SLF4JBridgeHandler.install();
         }
         
-        private static final EventBus INSTANCE = new EventBus();
+        private static final ShardingSphereEventBus INSTANCE = new ShardingSphereEventBus();
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram in microseconds.
+ * 
+ * <p>Values are kept in log-linear buckets like HdrHistogram: every power of two is split into 16 sub buckets, so the relative error stays under 7%.
+ * Recording is lock-free and allocation-free.</p>
+ */
+public final class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 4;
+    
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1L);
+    
+    private static final int BUCKET_COUNT = getBucketIndex(MAX_TRACKABLE_MICROS) + 1;
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    
+    private final LongAdder count = new LongAdder();
+    
+    private final LongAdder totalMicros = new LongAdder();
+    
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0L);
+    
+    /**
+     * Record elapsed time.
+     *
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public void record(final long elapsedNanos) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 0L), MAX_TRACKABLE_MICROS);
+        buckets.incrementAndGet(getBucketIndex(micros));
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+    
+    private static int getBucketIndex(final long micros) {
+        if (micros < SUB_BUCKET_COUNT << 1) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (micros >>> shift) - SUB_BUCKET_COUNT;
+    }
+    
+    private static long getBucketUpperBound(final int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT << 1) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucketIndex % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+    
+    /**
+     * Get recorded count.
+     *
+     * @return recorded count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+    
+    /**
+     * Get total time in microseconds.
+     *
+     * @return total time in microseconds
+     */
+    public long getTotalMicros() {
+        return totalMicros.sum();
+    }
+    
+    /**
+     * Get max time in microseconds.
+     *
+     * @return max time in microseconds
+     */
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+    
+    /**
+     * Get mean time in microseconds.
+     *
+     * @return mean time in microseconds
+     */
+    public long getMeanMicros() {
+        long currentCount = count.sum();
+        return 0L == currentCount ? 0L : totalMicros.sum() / currentCount;
+    }
+    
+    /**
+     * Get time at percentile in microseconds.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return time at percentile in microseconds
+     */
+    public long getValueAtPercentile(final double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long snapshotCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            snapshotCount += snapshot[i];
+        }
+        if (0L == snapshotCount) {
+            return 0L;
+        }
+        long targetCount = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100D) / 100D * snapshotCount));
+        long accumulatedCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            accumulatedCount += snapshot[i];
+            if (accumulatedCount >= targetCount) {
+                return Math.min(getBucketUpperBound(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+    
+    /**
+     * Reset.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        totalMicros.reset();
+        maxMicros.reset();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metrics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL stage metrics registry.
+ * 
+ * <p>Latency of each SQL stage is kept per statement type and logic table. Nothing is recorded unless enabled by {@code sql-stage-metrics-enabled}.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStageMetricsRegistry {
+    
+    private static final SQLStageMetricsRegistry INSTANCE = new SQLStageMetricsRegistry();
+    
+    private static final String COMMON_STATEMENT_PACKAGE = "org.apache.shardingsphere.sql.parser.sql.common.statement";
+    
+    private static final String STATEMENT_SUFFIX = "Statement";
+    
+    private static final String NO_TABLE = "";
+    
+    private final Map<Class<?>, String> statementTypes = new ConcurrentHashMap<>();
+    
+    private final Map<SQLStage, Map<String, Map<String, SQLStageStatistics>>> statistics = createStatistics();
+    
+    @Getter
+    @Setter
+    private volatile boolean enabled;
+    
+    /**
+     * Get SQL stage metrics registry.
+     *
+     * @return SQL stage metrics registry
+     */
+    public static SQLStageMetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    private static Map<SQLStage, Map<String, Map<String, SQLStageStatistics>>> createStatistics() {
+        Map<SQLStage, Map<String, Map<String, SQLStageStatistics>>> result = new EnumMap<>(SQLStage.class);
+        for (SQLStage each : SQLStage.values()) {
+            result.put(each, new ConcurrentHashMap<>());
+        }
+        return result;
+    }
+    
+    /**
+     * Record elapsed time of SQL stage.
+     *
+     * @param stage SQL stage
+     * @param sqlStatement SQL statement
+     * @param tableNames logic table names
+     * @param startNanos start time in nanoseconds
+     */
+    public void record(final SQLStage stage, final SQLStatement sqlStatement, final Collection<String> tableNames, final long startNanos) {
+        if (!enabled || null == sqlStatement) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        String statementType = getStatementType(sqlStatement);
+        if (tableNames.isEmpty()) {
+            getStatistics(stage, statementType, NO_TABLE).getLatency().record(elapsedNanos);
+            return;
+        }
+        for (String each : tableNames) {
+            getStatistics(stage, statementType, each).getLatency().record(elapsedNanos);
+        }
+    }
+    
+    /**
+     * Record merged rows.
+     *
+     * @param sqlStatement SQL statement
+     * @param tableNames logic table names
+     * @param rows merged rows
+     */
+    public void recordMergedRows(final SQLStatement sqlStatement, final Collection<String> tableNames, final long rows) {
+        if (!enabled || null == sqlStatement) {
+            return;
+        }
+        String statementType = getStatementType(sqlStatement);
+        if (tableNames.isEmpty()) {
+            getStatistics(SQLStage.MERGE, statementType, NO_TABLE).getRows().add(rows);
+            return;
+        }
+        for (String each : tableNames) {
+            getStatistics(SQLStage.MERGE, statementType, each).getRows().add(rows);
+        }
+    }
+    
+    private SQLStageStatistics getStatistics(final SQLStage stage, final String statementType, final String tableName) {
+        Map<String, Map<String, SQLStageStatistics>> stageStatistics = statistics.get(stage);
+        Map<String, SQLStageStatistics> typeStatistics = stageStatistics.get(statementType);
+        if (null == typeStatistics) {
+            typeStatistics = stageStatistics.computeIfAbsent(statementType, key -> new ConcurrentHashMap<>());
+        }
+        SQLStageStatistics result = typeStatistics.get(tableName);
+        return null == result ? typeStatistics.computeIfAbsent(tableName, key -> new SQLStageStatistics(stage, statementType, key)) : result;
+    }
+    
+    private String getStatementType(final SQLStatement sqlStatement) {
+        Class<?> statementClass = sqlStatement.getClass();
+        String result = statementTypes.get(statementClass);
+        return null == result ? statementTypes.computeIfAbsent(statementClass, this::createStatementType) : result;
+    }
+    
+    private String createStatementType(final Class<?> statementClass) {
+        Class<?> commonStatementClass = statementClass;
+        while (null != commonStatementClass && !commonStatementClass.getName().startsWith(COMMON_STATEMENT_PACKAGE)) {
+            commonStatementClass = commonStatementClass.getSuperclass();
+        }
+        String simpleName = (null == commonStatementClass ? statementClass : commonStatementClass).getSimpleName();
+        if (simpleName.endsWith(STATEMENT_SUFFIX)) {
+            simpleName = simpleName.substring(0, simpleName.length() - STATEMENT_SUFFIX.length());
+        }
+        return simpleName.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase();
+    }
+    
+    /**
+     * Get all SQL stage statistics.
+     *
+     * @return all SQL stage statistics
+     */
+    public Collection<SQLStageStatistics> getAllStatistics() {
+        Collection<SQLStageStatistics> result = new LinkedList<>();
+        for (Map<String, Map<String, SQLStageStatistics>> each : statistics.values()) {
+            each.values().forEach(typeStatistics -> result.addAll(typeStatistics.values()));
+        }
+        return result;
+    }
+    
+    /**
+     * Clear all SQL stage statistics.
+     */
+    public void clear() {
+        statistics.values().forEach(Map::clear);
+    }
+}
@@ -17,10 +17,22 @@
 
 package org.apache.shardingsphere.infra.eventbus;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShardingSphereEventBusTest {
     
@@ -28,4 +40,285 @@ public final class ShardingSphereEventBusTest {
     public void assertInstance() {
         assertThat(ShardingSphereEventBus.getInstance(), is(ShardingSphereEventBus.getInstance()));
     }
+    
+    @Test
+    public void assertPostToSubscribersOfSuperTypes() {
+        SyncSubscriber subscriber = new SyncSubscriber();
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        try {
+            ShardingSphereEventBus.getInstance().post(new SyncEvent());
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(subscriber);
+        }
+        assertThat(subscriber.received.size(), is(2));
+        assertThat(subscriber.received.get(0), is("event"));
+        assertThat(subscriber.received.get(1), is("parent"));
+        assertThat(subscriber.thread, is(Thread.currentThread()));
+    }
+    
+    @Test
+    public void assertPostAfterUnregister() {
+        SyncSubscriber subscriber = new SyncSubscriber();
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        ShardingSphereEventBus.getInstance().unregister(subscriber);
+        ShardingSphereEventBus.getInstance().post(new SyncEvent());
+        assertTrue(subscriber.received.isEmpty());
+    }
+    
+    @Test
+    public void assertPostWithSubscriberException() {
+        FailedSubscriber subscriber = new FailedSubscriber();
+        SyncSubscriber anotherSubscriber = new SyncSubscriber();
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        ShardingSphereEventBus.getInstance().register(anotherSubscriber);
+        try {
+            ShardingSphereEventBus.getInstance().post(new SyncEvent());
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(subscriber);
+            ShardingSphereEventBus.getInstance().unregister(anotherSubscriber);
+        }
+        assertThat(anotherSubscriber.received.size(), is(2));
+    }
+    
+    @Test
+    public void assertPostAsyncEventInOrder() throws InterruptedException {
+        AsyncSubscriber subscriber = new AsyncSubscriber(100);
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        try {
+            for (int i = 0; i < 100; i++) {
+                ShardingSphereEventBus.getInstance().post(new FixtureAsyncEvent(i));
+            }
+            assertTrue(subscriber.latch.await(10L, TimeUnit.SECONDS));
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(subscriber);
+        }
+        assertThat(subscriber.thread, not(Thread.currentThread()));
+        for (int i = 0; i < 100; i++) {
+            assertThat(subscriber.received.get(i), is(i));
+        }
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertPostAsyncEventWithoutWaitingForSubscriber() throws InterruptedException {
+        BlockedAsyncSubscriber subscriber = new BlockedAsyncSubscriber();
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        try {
+            ShardingSphereEventBus.getInstance().post(new FixtureAsyncEvent(0));
+            ShardingSphereEventBus.getInstance().post(new FixtureAsyncEvent(1));
+            subscriber.blocked.countDown();
+            assertTrue(subscriber.handled.await(5L, TimeUnit.SECONDS));
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(subscriber);
+        }
+    }
+    
+    @Test
+    public void assertPostAfterRegisterWithCachedDispatchPlan() {
+        ShardingSphereEventBus.getInstance().post(new SyncEvent());
+        SyncSubscriber subscriber = new SyncSubscriber();
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        try {
+            ShardingSphereEventBus.getInstance().post(new SyncEvent());
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(subscriber);
+        }
+        assertThat(subscriber.received.size(), is(2));
+    }
+    
+    @Test
+    public void assertPostEventWithAsyncSuperTypeInPostingThread() {
+        AsyncSuperTypeSubscriber subscriber = new AsyncSuperTypeSubscriber();
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        try {
+            ShardingSphereEventBus.getInstance().post(new FixtureAsyncSubEvent());
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(subscriber);
+        }
+        assertThat(subscriber.thread, is(Thread.currentThread()));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertRegisterWithDuplicatedEventType() {
+        ShardingSphereEventBus.getInstance().register(new DuplicatedSubscriber());
+    }
+    
+    @Test
+    public void assertPostInSubscriberIsQueued() {
+        ReentrantSubscriber subscriber = new ReentrantSubscriber();
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        try {
+            ShardingSphereEventBus.getInstance().post(new OuterEvent());
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(subscriber);
+        }
+        assertThat(subscriber.received, is(Arrays.asList("outer-first", "outer-second", "inner")));
+    }
+    
+    @Test
+    public void assertDispatchOneEventAtATimePerSubscriber() throws InterruptedException {
+        SerialSubscriber subscriber = new SerialSubscriber();
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 200; i++) {
+                executorService.execute(() -> ShardingSphereEventBus.getInstance().post(new SyncEvent()));
+            }
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10L, TimeUnit.SECONDS));
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(subscriber);
+        }
+        assertThat(subscriber.count, is(200));
+        assertThat(subscriber.maxConcurrency.get(), is(1));
+    }
+    
+    private static class ParentEvent {
+    }
+    
+    private static final class SyncEvent extends ParentEvent {
+    }
+    
+    @AsyncEvent
+    private interface AsyncEventType {
+    }
+    
+    private static final class FixtureAsyncSubEvent implements AsyncEventType {
+    }
+    
+    @AsyncEvent
+    private static final class FixtureAsyncEvent {
+        
+        private final int sequence;
+        
+        FixtureAsyncEvent(final int sequence) {
+            this.sequence = sequence;
+        }
+    }
+    
+    private static final class SyncSubscriber {
+        
+        private final List<String> received = new LinkedList<>();
+        
+        private Thread thread;
+        
+        @Subscribe
+        public void onEvent(final SyncEvent event) {
+            received.add("event");
+            thread = Thread.currentThread();
+        }
+        
+        @Subscribe
+        public void onParentEvent(final ParentEvent event) {
+            received.add("parent");
+        }
+    }
+    
+    private static final class OuterEvent {
+    }
+    
+    private static final class InnerEvent {
+    }
+    
+    private static final class AsyncSuperTypeSubscriber {
+        
+        private Thread thread;
+        
+        @Subscribe
+        public void onEvent(final FixtureAsyncSubEvent event) {
+            thread = Thread.currentThread();
+        }
+    }
+    
+    private static final class DuplicatedSubscriber {
+        
+        @Subscribe
+        public void onEvent(final SyncEvent event) {
+        }
+        
+        @Subscribe
+        public void onAnotherEvent(final SyncEvent event) {
+        }
+    }
+    
+    private static final class ReentrantSubscriber {
+        
+        private final List<String> received = new LinkedList<>();
+        
+        @Subscribe
+        public void onOuterEvent(final OuterEvent event) {
+            received.add("outer-first");
+            ShardingSphereEventBus.getInstance().post(new InnerEvent());
+        }
+        
+        @Subscribe
+        public void onOuterEventAgain(final Object event) {
+            if (event instanceof OuterEvent) {
+                received.add("outer-second");
+            }
+        }
+        
+        @Subscribe
+        public void onInnerEvent(final InnerEvent event) {
+            received.add("inner");
+        }
+    }
+    
+    private static final class SerialSubscriber {
+        
+        private final AtomicInteger concurrency = new AtomicInteger();
+        
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        
+        private int count;
+        
+        @Subscribe
+        public void onEvent(final SyncEvent event) {
+            maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            count++;
+            Thread.yield();
+            concurrency.decrementAndGet();
+        }
+    }
+    
+    private static final class FailedSubscriber {
+        
+        @Subscribe
+        public void onEvent(final SyncEvent event) {
+            throw new IllegalStateException("failed");
+        }
+    }
+    
+    private static final class BlockedAsyncSubscriber {
+        
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        
+        private final CountDownLatch handled = new CountDownLatch(2);
+        
+        @Subscribe
+        public void onEvent(final FixtureAsyncEvent event) throws InterruptedException {
+            blocked.await();
+            handled.countDown();
+        }
+    }
+    
+    private static final class AsyncSubscriber {
+        
+        private final List<Integer> received = new LinkedList<>();
+        
+        private final CountDownLatch latch;
+        
+        private volatile Thread thread;
+        
+        AsyncSubscriber(final int expectedCount) {
+            latch = new CountDownLatch(expectedCount);
+        }
+        
+        @Subscribe
+        public void onEvent(final FixtureAsyncEvent event) {
+            received.add(event.sequence);
+            thread = Thread.currentThread();
+            latch.countDown();
+        }
+    }
 }
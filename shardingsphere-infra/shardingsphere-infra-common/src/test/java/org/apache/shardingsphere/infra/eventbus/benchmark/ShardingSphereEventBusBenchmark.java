@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.eventbus.benchmark;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch throughput benchmark of ShardingSphere event bus, compared with Guava event bus.
+ * 
+ * <p>It is not run by unit tests, run {@code org.openjdk.jmh.Main ShardingSphereEventBusBenchmark} with test classpath instead.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ShardingSphereEventBusBenchmark {
+    
+    private final EventBus guavaEventBus = new EventBus();
+    
+    private BenchmarkSubscriber subscriber;
+    
+    /**
+     * Register subscribers.
+     */
+    @Setup
+    public void setUp() {
+        subscriber = new BenchmarkSubscriber();
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        guavaEventBus.register(subscriber);
+    }
+    
+    /**
+     * Unregister subscribers.
+     */
+    @TearDown
+    public void tearDown() {
+        ShardingSphereEventBus.getInstance().unregister(subscriber);
+        guavaEventBus.unregister(subscriber);
+    }
+    
+    /**
+     * Post event to ShardingSphere event bus.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void postToShardingSphereEventBus(final Blackhole blackhole) {
+        BenchmarkEvent event = new BenchmarkEvent(blackhole);
+        ShardingSphereEventBus.getInstance().post(event);
+    }
+    
+    /**
+     * Post event to Guava event bus.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void postToGuavaEventBus(final Blackhole blackhole) {
+        BenchmarkEvent event = new BenchmarkEvent(blackhole);
+        guavaEventBus.post(event);
+    }
+    
+    private static final class BenchmarkEvent {
+        
+        private final Blackhole blackhole;
+        
+        BenchmarkEvent(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+    }
+    
+    public static final class BenchmarkSubscriber {
+        
+        /**
+         * Handle event.
+         *
+         * @param event event
+         */
+        @Subscribe
+        public void onEvent(final BenchmarkEvent event) {
+            event.blackhole.consume(event);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyHistogramTest {
+    
+    @Test
+    public void assertRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        assertThat(histogram.getCount(), is(100L));
+        assertThat(histogram.getTotalMicros(), is(5050L));
+        assertThat(histogram.getMeanMicros(), is(50L));
+        assertThat(histogram.getMaxMicros(), is(100L));
+    }
+    
+    @Test
+    public void assertGetValueAtPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        assertWithinRelativeError(histogram.getValueAtPercentile(50D), 5000L);
+        assertWithinRelativeError(histogram.getValueAtPercentile(99D), 9900L);
+        assertThat(histogram.getValueAtPercentile(100D), is(10000L));
+    }
+    
+    private void assertWithinRelativeError(final long actual, final long expected) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.07D);
+    }
+    
+    @Test
+    public void assertGetValueAtPercentileWithoutRecord() {
+        assertThat(new LatencyHistogram().getValueAtPercentile(99D), is(0L));
+    }
+    
+    @Test
+    public void assertRecordBeyondMaxTrackableValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.HOURS.toNanos(2L));
+        assertThat(histogram.getMaxMicros(), is(TimeUnit.HOURS.toMicros(1L)));
+        assertThat(histogram.getValueAtPercentile(50D), is(TimeUnit.HOURS.toMicros(1L)));
+    }
+    
+    @Test
+    public void assertReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1L));
+        histogram.reset();
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMaxMicros(), is(0L));
+        assertThat(histogram.getValueAtPercentile(50D), is(0L));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metrics;
+
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLStageMetricsRegistryTest {
+    
+    @After
+    public void tearDown() {
+        SQLStageMetricsRegistry.getInstance().setEnabled(false);
+        SQLStageMetricsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    public void assertRecordWhenDisabled() {
+        SQLStageMetricsRegistry.getInstance().record(SQLStage.PARSE, new MySQLSelectStatement(), Collections.emptyList(), System.nanoTime());
+        assertTrue(SQLStageMetricsRegistry.getInstance().getAllStatistics().isEmpty());
+    }
+    
+    @Test
+    public void assertRecordWithoutTable() {
+        SQLStageMetricsRegistry.getInstance().setEnabled(true);
+        SQLStageMetricsRegistry.getInstance().record(SQLStage.PARSE, new MySQLSelectStatement(), Collections.emptyList(), System.nanoTime());
+        Collection<SQLStageStatistics> actual = SQLStageMetricsRegistry.getInstance().getAllStatistics();
+        assertThat(actual.size(), is(1));
+        SQLStageStatistics statistics = actual.iterator().next();
+        assertThat(statistics.getStage(), is(SQLStage.PARSE));
+        assertThat(statistics.getStatementType(), is("SELECT"));
+        assertThat(statistics.getTableName(), is(""));
+        assertThat(statistics.getLatency().getCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRecordWithTables() {
+        SQLStageMetricsRegistry.getInstance().setEnabled(true);
+        SQLStageMetricsRegistry.getInstance().record(SQLStage.ROUTE, new MySQLSelectStatement(), Arrays.asList("t_order", "t_order_item"), System.nanoTime());
+        SQLStageMetricsRegistry.getInstance().record(SQLStage.ROUTE, new MySQLSelectStatement(), Collections.singletonList("t_order"), System.nanoTime());
+        Collection<SQLStageStatistics> actual = SQLStageMetricsRegistry.getInstance().getAllStatistics();
+        assertThat(actual.size(), is(2));
+        Iterator<SQLStageStatistics> iterator = actual.iterator();
+        SQLStageStatistics first = iterator.next();
+        SQLStageStatistics second = iterator.next();
+        SQLStageStatistics order = "t_order".equals(first.getTableName()) ? first : second;
+        SQLStageStatistics orderItem = "t_order".equals(first.getTableName()) ? second : first;
+        assertThat(order.getLatency().getCount(), is(2L));
+        assertThat(orderItem.getLatency().getCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRecordMergedRows() {
+        SQLStageMetricsRegistry.getInstance().setEnabled(true);
+        SQLStageMetricsRegistry.getInstance().recordMergedRows(new MySQLSelectStatement(), Collections.singletonList("t_order"), 10L);
+        SQLStageStatistics actual = SQLStageMetricsRegistry.getInstance().getAllStatistics().iterator().next();
+        assertThat(actual.getStage(), is(SQLStage.MERGE));
+        assertThat(actual.getRows().sum(), is(10L));
+    }
+}
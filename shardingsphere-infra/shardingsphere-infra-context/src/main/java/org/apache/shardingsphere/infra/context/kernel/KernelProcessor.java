@@ -18,12 +18,18 @@
 package org.apache.shardingsphere.infra.context.kernel;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.circuit.StorageNodeCircuitBreakerRegistry;
+import org.apache.shardingsphere.infra.executor.circuit.StorageNodeCircuitBreakerRouteChecker;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metrics.SQLStage;
+import org.apache.shardingsphere.infra.metrics.SQLStageMetricsRegistry;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -44,19 +50,41 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereDatabase database, final ConfigurationProperties props) {
         RouteContext routeContext = route(logicSQL, database, props);
+        checkCircuitBreakers(logicSQL, database, routeContext);
         SQLRewriteResult rewriteResult = rewrite(logicSQL, database, props, routeContext);
         ExecutionContext result = createExecutionContext(logicSQL, database, routeContext, rewriteResult);
+        ExecutorDataMap.getValue().put(ExecutorDataMap.DATABASE_NAME_KEY, database.getName());
         logSQL(logicSQL, props, result);
         return result;
     }
     
     private RouteContext route(final LogicSQL logicSQL, final ShardingSphereDatabase database, final ConfigurationProperties props) {
-        return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(logicSQL, database);
+        long startNanos = System.nanoTime();
+        RouteContext result = new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(logicSQL, database);
+        recordStage(SQLStage.ROUTE, logicSQL, startNanos);
+        return result;
+    }
+    
+    private void checkCircuitBreakers(final LogicSQL logicSQL, final ShardingSphereDatabase database, final RouteContext routeContext) {
+        if (StorageNodeCircuitBreakerRegistry.getInstance().isEnabled() && !routeContext.isFederated()) {
+            new StorageNodeCircuitBreakerRouteChecker().check(routeContext, database.getResource().getDataSourcesMetaData(), logicSQL.getSqlStatementContext().getSqlStatement());
+        }
     }
     
     private SQLRewriteResult rewrite(final LogicSQL logicSQL, final ShardingSphereDatabase database, final ConfigurationProperties props, final RouteContext routeContext) {
+        long startNanos = System.nanoTime();
         SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, props);
-        return sqlRewriteEntry.rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+        SQLRewriteResult result = sqlRewriteEntry.rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+        recordStage(SQLStage.REWRITE, logicSQL, startNanos);
+        return result;
+    }
+    
+    private void recordStage(final SQLStage stage, final LogicSQL logicSQL, final long startNanos) {
+        SQLStageMetricsRegistry metricsRegistry = SQLStageMetricsRegistry.getInstance();
+        if (metricsRegistry.isEnabled()) {
+            SQLStatementContext<?> sqlStatementContext = logicSQL.getSqlStatementContext();
+            metricsRegistry.record(stage, sqlStatementContext.getSqlStatement(), sqlStatementContext.getTablesContext().getTableNames(), startNanos);
+        }
     }
     
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereDatabase database, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.circuit;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL execution hook to feed storage node circuit breakers.
+ * 
+ * <p>
+ *     Only failures caused by storage node, such as connection failures and timeouts, are recorded as failed calls.
+ *     Failures caused by SQL itself, including transaction rollbacks such as deadlocks, are ignored.
+ * </p>
+ */
+public final class CircuitBreakerSQLExecutionHook implements SQLExecutionHook {
+    
+    private static final String CONNECTION_EXCEPTION_SQL_STATE_CLASS = "08";
+    
+    private DataSourceMetaData dataSourceMetaData;
+    
+    private long startTimeNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> parameters,
+                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        if (StorageNodeCircuitBreakerRegistry.getInstance().isEnabled()) {
+            this.dataSourceMetaData = dataSourceMetaData;
+            startTimeNanos = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        if (null != dataSourceMetaData) {
+            StorageNodeCircuitBreakerRegistry.getInstance().recordSuccess(dataSourceMetaData, System.nanoTime() - startTimeNanos);
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        if (null != dataSourceMetaData && isStorageNodeFailure(cause)) {
+            StorageNodeCircuitBreakerRegistry.getInstance().recordFailure(dataSourceMetaData);
+        }
+    }
+    
+    /**
+     * Judge whether failure is caused by storage node.
+     *
+     * @param cause failure cause
+     * @return is caused by storage node or not
+     */
+    public static boolean isStorageNodeFailure(final Throwable cause) {
+        Throwable each = cause;
+        while (null != each) {
+            if (each instanceof SQLTransientConnectionException || each instanceof SQLTimeoutException
+                    || each instanceof SQLRecoverableException || each instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+            if (each instanceof SQLException && null != ((SQLException) each).getSQLState() && ((SQLException) each).getSQLState().startsWith(CONNECTION_EXCEPTION_SQL_STATE_CLASS)) {
+                return true;
+            }
+            each = each.getCause() == each ? null : each.getCause();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.circuit;
+
+import java.util.Optional;
+
+/**
+ * Circuit breaker of storage node.
+ * 
+ * <p>Outcomes of latest calls are kept in a sliding window, circuit breaker is opened when failure rate of full window reaches threshold.
+ * One probe call is permitted after open duration, circuit breaker is closed if it succeeds, and opened again if it fails.</p>
+ */
+public final class StorageNodeCircuitBreaker {
+    
+    private final boolean[] failures;
+    
+    private final int failureRateThreshold;
+    
+    private final long openDurationNanos;
+    
+    private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    
+    private int nextIndex;
+    
+    private int callCount;
+    
+    private int failureCount;
+    
+    private long openedNanos;
+    
+    private long probeNanos;
+    
+    public StorageNodeCircuitBreaker(final int windowSize, final int failureRateThreshold, final long openDurationNanos) {
+        failures = new boolean[Math.max(windowSize, 1)];
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationNanos;
+    }
+    
+    /**
+     * Get circuit breaker state.
+     *
+     * @return circuit breaker state
+     */
+    public synchronized CircuitBreakerState getState() {
+        return state;
+    }
+    
+    /**
+     * Try to acquire permission of call.
+     *
+     * @return permitted or not
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (CircuitBreakerState.CLOSED == state) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (CircuitBreakerState.OPEN == state) {
+            if (now - openedNanos < openDurationNanos) {
+                return false;
+            }
+            state = CircuitBreakerState.HALF_OPEN;
+            probeNanos = now;
+            return true;
+        }
+        if (now - probeNanos < openDurationNanos) {
+            return false;
+        }
+        probeNanos = now;
+        return true;
+    }
+    
+    /**
+     * Record outcome of call.
+     *
+     * @param failed call failed or not
+     * @return state which circuit breaker is transited to, only opening from closed state and closing are returned
+     */
+    public synchronized Optional<CircuitBreakerState> record(final boolean failed) {
+        switch (state) {
+            case HALF_OPEN:
+                if (failed) {
+                    open();
+                    return Optional.empty();
+                }
+                close();
+                return Optional.of(CircuitBreakerState.CLOSED);
+            case CLOSED:
+                return recordInWindow(failed) ? Optional.of(CircuitBreakerState.OPEN) : Optional.empty();
+            default:
+                return Optional.empty();
+        }
+    }
+    
+    private boolean recordInWindow(final boolean failed) {
+        if (callCount == failures.length) {
+            if (failures[nextIndex]) {
+                failureCount--;
+            }
+        } else {
+            callCount++;
+        }
+        failures[nextIndex] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        nextIndex = (nextIndex + 1) % failures.length;
+        if (callCount == failures.length && failureCount * 100L >= (long) failureRateThreshold * failures.length) {
+            open();
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Force circuit breaker state, which is used to follow state decided by other instances.
+     *
+     * @param open open or close circuit breaker
+     */
+    public synchronized void forceState(final boolean open) {
+        if (open) {
+            if (CircuitBreakerState.CLOSED == state) {
+                open();
+            }
+        } else if (CircuitBreakerState.CLOSED != state) {
+            close();
+        }
+    }
+    
+    private void open() {
+        state = CircuitBreakerState.OPEN;
+        openedNanos = System.nanoTime();
+        resetWindow();
+    }
+    
+    private void close() {
+        state = CircuitBreakerState.CLOSED;
+        resetWindow();
+    }
+    
+    private void resetWindow() {
+        nextIndex = 0;
+        callCount = 0;
+        failureCount = 0;
+    }
+}
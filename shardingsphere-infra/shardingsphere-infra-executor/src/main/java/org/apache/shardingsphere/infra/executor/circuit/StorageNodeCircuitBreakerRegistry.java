@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.circuit;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.circuit.event.StorageNodeCircuitBreakerEvent;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Storage node circuit breaker registry.
+ * 
+ * <p>Circuit breakers are kept per storage node, which is identified by host and port of data source, so all data sources of one database instance share the same circuit breaker.
+ * Nothing is recorded unless enabled by {@code storage-node-circuit-breaker-enabled}.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StorageNodeCircuitBreakerRegistry {
+    
+    private static final StorageNodeCircuitBreakerRegistry INSTANCE = new StorageNodeCircuitBreakerRegistry();
+    
+    private final Map<String, StorageNodeCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    
+    @Getter
+    private volatile boolean enabled;
+    
+    @Getter
+    private volatile boolean partialResultEnabled;
+    
+    private volatile int failureRateThreshold;
+    
+    private volatile long slowCallThresholdNanos;
+    
+    private volatile int windowSize;
+    
+    private volatile long openDurationNanos;
+    
+    /**
+     * Get storage node circuit breaker registry.
+     *
+     * @return storage node circuit breaker registry
+     */
+    public static StorageNodeCircuitBreakerRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get storage node name.
+     *
+     * @param dataSourceMetaData data source meta data
+     * @return storage node name
+     */
+    public static String getStorageNodeName(final DataSourceMetaData dataSourceMetaData) {
+        return dataSourceMetaData.getHostname() + ":" + dataSourceMetaData.getPort();
+    }
+    
+    /**
+     * Refresh settings of circuit breakers, existed circuit breakers are discarded if disabled, or window size, failure rate threshold or open duration is changed.
+     *
+     * @param props configuration properties
+     */
+    public synchronized void refresh(final ConfigurationProperties props) {
+        if (!Boolean.TRUE.equals(props.getValue(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_ENABLED))) {
+            enabled = false;
+            circuitBreakers.clear();
+            return;
+        }
+        int newWindowSize = props.getValue(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_WINDOW_SIZE);
+        int newFailureRateThreshold = props.getValue(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD);
+        long newOpenDurationNanos = TimeUnit.MILLISECONDS.toNanos(props.getValue(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_OPEN_DURATION_MILLIS));
+        if (newWindowSize != windowSize || newFailureRateThreshold != failureRateThreshold || newOpenDurationNanos != openDurationNanos) {
+            circuitBreakers.clear();
+        }
+        windowSize = newWindowSize;
+        failureRateThreshold = newFailureRateThreshold;
+        openDurationNanos = newOpenDurationNanos;
+        slowCallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(props.getValue(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_SLOW_CALL_THRESHOLD_MILLIS));
+        partialResultEnabled = props.getValue(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_PARTIAL_RESULT_ENABLED);
+        enabled = true;
+    }
+    
+    /**
+     * Try to acquire permission of calling storage node.
+     *
+     * @param dataSourceMetaData data source meta data
+     * @return permitted or not
+     */
+    public boolean tryAcquirePermission(final DataSourceMetaData dataSourceMetaData) {
+        if (!enabled || null == dataSourceMetaData) {
+            return true;
+        }
+        StorageNodeCircuitBreaker circuitBreaker = circuitBreakers.get(getStorageNodeName(dataSourceMetaData));
+        return null == circuitBreaker || circuitBreaker.tryAcquirePermission();
+    }
+    
+    /**
+     * Record succeeded call, which is taken as failed call if it is slower than slow call threshold.
+     *
+     * @param dataSourceMetaData data source meta data
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public void recordSuccess(final DataSourceMetaData dataSourceMetaData, final long elapsedNanos) {
+        if (enabled && null != dataSourceMetaData) {
+            record(getStorageNodeName(dataSourceMetaData), slowCallThresholdNanos > 0L && elapsedNanos >= slowCallThresholdNanos);
+        }
+    }
+    
+    /**
+     * Record failed call.
+     *
+     * @param dataSourceMetaData data source meta data
+     */
+    public void recordFailure(final DataSourceMetaData dataSourceMetaData) {
+        if (enabled && null != dataSourceMetaData) {
+            record(getStorageNodeName(dataSourceMetaData), true);
+        }
+    }
+    
+    private void record(final String storageNodeName, final boolean failed) {
+        Optional<CircuitBreakerState> transitedState = getCircuitBreaker(storageNodeName).record(failed);
+        transitedState.ifPresent(optional -> ShardingSphereEventBus.getInstance().post(new StorageNodeCircuitBreakerEvent(storageNodeName, CircuitBreakerState.OPEN == optional)));
+    }
+    
+    /**
+     * Renew circuit breaker state decided by other instances.
+     *
+     * @param storageNodeName storage node name
+     * @param open circuit breaker is open or not
+     */
+    public void renew(final String storageNodeName, final boolean open) {
+        if (!enabled) {
+            return;
+        }
+        if (open) {
+            getCircuitBreaker(storageNodeName).forceState(true);
+            return;
+        }
+        StorageNodeCircuitBreaker circuitBreaker = circuitBreakers.get(storageNodeName);
+        if (null != circuitBreaker) {
+            circuitBreaker.forceState(false);
+        }
+    }
+    
+    /**
+     * Find circuit breaker state of storage node.
+     *
+     * @param storageNodeName storage node name
+     * @return circuit breaker state
+     */
+    public Optional<CircuitBreakerState> findState(final String storageNodeName) {
+        StorageNodeCircuitBreaker circuitBreaker = circuitBreakers.get(storageNodeName);
+        return null == circuitBreaker ? Optional.empty() : Optional.of(circuitBreaker.getState());
+    }
+    
+    private StorageNodeCircuitBreaker getCircuitBreaker(final String storageNodeName) {
+        return circuitBreakers.computeIfAbsent(storageNodeName, key -> new StorageNodeCircuitBreaker(windowSize, failureRateThreshold, openDurationNanos));
+    }
+    
+    /**
+     * Clear all circuit breakers.
+     */
+    public void clear() {
+        circuitBreakers.clear();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.circuit;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Storage node circuit breaker route checker.
+ */
+public final class StorageNodeCircuitBreakerRouteChecker {
+    
+    /**
+     * Check route units against circuit breakers of storage nodes.
+     * 
+     * <p>Route units of storage nodes with open circuit breaker are removed from query routed to multiple data sources if partial result is enabled,
+     * otherwise {@link StorageNodeCircuitBreakerOpenException} is thrown.</p>
+     *
+     * @param routeContext route context
+     * @param dataSourcesMetaData data sources meta data
+     * @param sqlStatement SQL statement
+     * @throws StorageNodeCircuitBreakerOpenException storage node circuit breaker open exception
+     */
+    public void check(final RouteContext routeContext, final DataSourcesMetaData dataSourcesMetaData, final SQLStatement sqlStatement) {
+        StorageNodeCircuitBreakerRegistry registry = StorageNodeCircuitBreakerRegistry.getInstance();
+        if (!registry.isEnabled() || routeContext.getRouteUnits().isEmpty()) {
+            return;
+        }
+        Map<String, Boolean> permissions = new HashMap<>();
+        Collection<RouteUnit> rejectedRouteUnits = new LinkedList<>();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            String dataSourceName = each.getDataSourceMapper().getActualName();
+            DataSourceMetaData dataSourceMetaData = dataSourcesMetaData.getDataSourceMetaData(dataSourceName);
+            if (null == dataSourceMetaData) {
+                continue;
+            }
+            String storageNodeName = StorageNodeCircuitBreakerRegistry.getStorageNodeName(dataSourceMetaData);
+            if (!permissions.computeIfAbsent(storageNodeName, key -> registry.tryAcquirePermission(dataSourceMetaData))) {
+                if (!isPartialResultAvailable(registry, routeContext, sqlStatement)) {
+                    throw new StorageNodeCircuitBreakerOpenException(storageNodeName, dataSourceName);
+                }
+                rejectedRouteUnits.add(each);
+            }
+        }
+        if (rejectedRouteUnits.size() == routeContext.getRouteUnits().size()) {
+            RouteUnit rejected = rejectedRouteUnits.iterator().next();
+            String dataSourceName = rejected.getDataSourceMapper().getActualName();
+            throw new StorageNodeCircuitBreakerOpenException(StorageNodeCircuitBreakerRegistry.getStorageNodeName(dataSourcesMetaData.getDataSourceMetaData(dataSourceName)), dataSourceName);
+        }
+        routeContext.getRouteUnits().removeAll(rejectedRouteUnits);
+    }
+    
+    private boolean isPartialResultAvailable(final StorageNodeCircuitBreakerRegistry registry, final RouteContext routeContext, final SQLStatement sqlStatement) {
+        return registry.isPartialResultEnabled() && sqlStatement instanceof SelectStatement && routeContext.getRouteUnits().size() > 1;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -24,16 +25,22 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Executor engine.
@@ -43,10 +50,24 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
     
+    private static final long SCHEDULED_THREAD_KEEP_ALIVE_SECONDS = 60L;
+    
     private final ExecutorServiceManager executorServiceManager;
     
+    @Getter(AccessLevel.NONE)
+    private final ScheduledThreadPoolExecutor scheduledExecutor;
+    
     private ExecutorEngine(final int executorSize) {
         executorServiceManager = new ExecutorServiceManager(executorSize);
+        scheduledExecutor = createScheduledExecutor(0 == executorSize ? CPU_CORES * 2 - 1 : executorSize);
+    }
+    
+    private ScheduledThreadPoolExecutor createScheduledExecutor(final int executorSize) {
+        ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(executorSize, ExecutorThreadFactoryBuilder.build("Scheduled-%d"));
+        result.setRemoveOnCancelPolicy(true);
+        result.setKeepAliveTime(SCHEDULED_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        result.allowCoreThreadTimeOut(true);
+        return result;
     }
     
     /**
@@ -148,6 +169,28 @@ public final class ExecutorEngine implements AutoCloseable {
         return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
     }
     
+    /**
+     * Schedule task with executor data map of current thread.
+     * 
+     * <p>Task is executed by the bounded scheduled executor after delay, cancel the returned future to remove task which has not started yet.</p>
+     *
+     * @param task task
+     * @param delayNanos delay nanoseconds
+     * @param <T> type of return value
+     * @return scheduled future
+     */
+    public <T> ScheduledFuture<T> schedule(final Callable<T> task, final long delayNanos) {
+        Map<String, Object> dataMap = new LinkedHashMap<>(ExecutorDataMap.getValue());
+        return scheduledExecutor.schedule(() -> {
+            ExecutorDataMap.getValue().putAll(dataMap);
+            try {
+                return task.call();
+            } finally {
+                ExecutorDataMap.getValue().clear();
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+    
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
         List<O> result = new LinkedList<>(firstResults);
         for (Future<Collection<O>> each : restFutures) {
@@ -170,5 +213,6 @@ public final class ExecutorEngine implements AutoCloseable {
     @Override
     public void close() {
         executorServiceManager.close();
+        scheduledExecutor.shutdownNow();
     }
 }
@@ -29,6 +29,8 @@ import java.util.Map;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ExecutorDataMap {
     
+    public static final String DATABASE_NAME_KEY = "DATABASE_NAME";
+    
     private static final ThreadLocal<Map<String, Object>> DATA_MAP = ThreadLocal.withInitial(LinkedHashMap::new);
     
     /**
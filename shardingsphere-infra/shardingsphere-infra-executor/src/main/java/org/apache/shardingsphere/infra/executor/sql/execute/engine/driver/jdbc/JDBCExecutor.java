@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -32,6 +33,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class JDBCExecutor {
     
+    @Getter
     private final ExecutorEngine executorEngine;
     
     private final boolean serial;
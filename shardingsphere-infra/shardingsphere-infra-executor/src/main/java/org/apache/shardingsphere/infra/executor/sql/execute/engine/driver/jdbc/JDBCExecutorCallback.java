@@ -89,6 +89,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             return result;
         } catch (final SQLException ex) {
             if (!isTrunkThread) {
+                sqlExecutionHook.finishFailure(ex);
                 return null;
             }
             Optional<T> saneResult = getSaneResult(sqlStatement);
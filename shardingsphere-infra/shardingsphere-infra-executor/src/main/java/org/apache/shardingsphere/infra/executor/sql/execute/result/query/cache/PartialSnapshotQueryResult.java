@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Query result of partial snapshot, which replays rows copied by snapshot, then streams remaining rows of source query result.
+ */
+public final class PartialSnapshotQueryResult implements QueryResult {
+    
+    private final Iterator<MemoryQueryResultDataRow> copiedRows;
+    
+    private final QueryResult remaining;
+    
+    private MemoryQueryResultDataRow currentRow;
+    
+    private boolean streaming;
+    
+    private boolean wasNull;
+    
+    public PartialSnapshotQueryResult(final List<MemoryQueryResultDataRow> copiedRows, final QueryResult remaining) {
+        this.copiedRows = copiedRows.iterator();
+        this.remaining = remaining;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (!streaming && copiedRows.hasNext()) {
+            currentRow = copiedRows.next();
+            return true;
+        }
+        currentRow = null;
+        streaming = true;
+        return remaining.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return streaming ? remaining.getValue(columnIndex, type) : getCopiedValue(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return streaming ? remaining.getCalendarValue(columnIndex, type, calendar) : getCopiedValue(columnIndex);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return streaming ? remaining.getInputStream(columnIndex, type) : toInputStream(getCopiedValue(columnIndex));
+    }
+    
+    private Object getCopiedValue(final int columnIndex) {
+        Object result = currentRow.getValue().get(columnIndex - 1);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream toInputStream(final Object value) throws SQLException {
+        if (value instanceof InputStream) {
+            return (InputStream) value;
+        }
+        if (value instanceof Blob) {
+            return ((Blob) value).getBinaryStream();
+        }
+        if (value instanceof Clob) {
+            return ((Clob) value).getAsciiStream();
+        }
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(value);
+        }
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return streaming ? remaining.wasNull() : wasNull;
+    }
+    
+    @Override
+    public QueryResultMetaData getMetaData() {
+        return remaining.getMetaData();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        remaining.close();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache.event.QueryResultCacheInvalidatedEvent;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
+
+import java.sql.SQLException;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Query result cache.
+ * 
+ * <p>Query results of SELECT statements which only access logic tables configured by {@code query-result-cache-tables} are cached by database, SQL and parameters.
+ * Cached query results of a table are invalidated when any other statement on the table is executed in auto commit mode, when the transaction of it is committed or rolled back,
+ * or when another compute node notifies so through registry center.
+ * Query results are cached only if their rows and estimated bytes are within limits of a query, otherwise remaining rows are streamed without caching.
+ * Cached query results are evicted by their estimated bytes.</p>
+ */
+public final class QueryResultCache {
+    
+    private final Collection<String> tableNames;
+    
+    private final Cache<QueryResultCacheKey, List<QueryResultSnapshot>> cache;
+    
+    private final int maxRowsPerQuery;
+    
+    private final long maxBytesPerQuery;
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    public QueryResultCache(final ConfigurationProperties props) {
+        tableNames = getTableNames(props.getValue(ConfigurationPropertyKey.QUERY_RESULT_CACHE_TABLES));
+        cache = tableNames.isEmpty() ? null
+                : Caffeine.newBuilder().expireAfterWrite(props.<Long>getValue(ConfigurationPropertyKey.QUERY_RESULT_CACHE_TTL_MILLIS), TimeUnit.MILLISECONDS)
+                        .maximumWeight(props.<Long>getValue(ConfigurationPropertyKey.QUERY_RESULT_CACHE_MAX_BYTES)).weigher(QueryResultCache::weigh).build();
+        maxRowsPerQuery = props.getValue(ConfigurationPropertyKey.QUERY_RESULT_CACHE_MAX_ROWS_PER_QUERY);
+        maxBytesPerQuery = props.getValue(ConfigurationPropertyKey.QUERY_RESULT_CACHE_MAX_BYTES_PER_QUERY);
+    }
+    
+    private static int weigh(final QueryResultCacheKey key, final List<QueryResultSnapshot> snapshots) {
+        long result = 2L * key.getSql().length();
+        for (QueryResultSnapshot each : snapshots) {
+            result += each.getEstimatedBytes();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, result);
+    }
+    
+    private Collection<String> getTableNames(final String tableNames) {
+        if (Strings.isNullOrEmpty(tableNames)) {
+            return Collections.emptySet();
+        }
+        return Splitter.on(',').trimResults().omitEmptyStrings().splitToList(tableNames).stream().map(String::toLowerCase).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+    
+    /**
+     * Judge whether query results of SQL statement are cacheable.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return query results are cacheable or not
+     */
+    public boolean isCacheable(final SQLStatementContext<?> sqlStatementContext) {
+        if (null == cache || !(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        Collection<String> actualTableNames = sqlStatementContext.getTablesContext().getTableNames();
+        return !actualTableNames.isEmpty() && actualTableNames.stream().allMatch(each -> tableNames.contains(each.toLowerCase()))
+                && !SelectStatementHandler.getLockSegment(((SelectStatementContext) sqlStatementContext).getSqlStatement()).isPresent();
+    }
+    
+    /**
+     * Load execute results from cache, or load them by loader and cache them.
+     *
+     * @param databaseName database name
+     * @param logicSQL logic SQL
+     * @param loader execute results loader
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    public List<ExecuteResult> load(final String databaseName, final LogicSQL logicSQL, final ExecuteResultsLoader loader) throws SQLException {
+        if (!isCacheable(logicSQL.getSqlStatementContext()) || !logicSQL.getParameters().stream().allMatch(this::isCacheableParameter)) {
+            return loader.load();
+        }
+        Collection<String> actualTableNames = logicSQL.getSqlStatementContext().getTablesContext().getTableNames().stream().map(String::toLowerCase).collect(Collectors.toSet());
+        QueryResultCacheKey key = new QueryResultCacheKey(databaseName, logicSQL.getSql(), new ArrayList<>(logicSQL.getParameters()), actualTableNames);
+        List<QueryResultSnapshot> cached = cache.getIfPresent(key);
+        if (null != cached) {
+            return createExecuteResults(cached);
+        }
+        long loadingVersion = version.get();
+        List<ExecuteResult> executeResults = loader.load();
+        if (!executeResults.stream().allMatch(each -> each instanceof QueryResult)) {
+            return executeResults;
+        }
+        List<QueryResultSnapshot> snapshots = takeSnapshots(executeResults);
+        if (loadingVersion == version.get() && snapshots.size() == executeResults.size() && snapshots.stream().allMatch(QueryResultSnapshot::isComplete)) {
+            cache.put(key, snapshots);
+            if (loadingVersion != version.get()) {
+                cache.invalidate(key);
+            }
+        }
+        List<ExecuteResult> result = createExecuteResults(snapshots);
+        result.addAll(executeResults.subList(snapshots.size(), executeResults.size()));
+        return result;
+    }
+    
+    private List<QueryResultSnapshot> takeSnapshots(final List<ExecuteResult> executeResults) throws SQLException {
+        List<QueryResultSnapshot> result = new ArrayList<>(executeResults.size());
+        int remainingRows = maxRowsPerQuery;
+        long remainingBytes = maxBytesPerQuery;
+        for (ExecuteResult each : executeResults) {
+            QueryResultSnapshot snapshot = QueryResultSnapshot.take((QueryResult) each, remainingRows, remainingBytes);
+            result.add(snapshot);
+            if (!snapshot.isComplete()) {
+                break;
+            }
+            remainingRows -= snapshot.getRowCount();
+            remainingBytes -= snapshot.getEstimatedBytes();
+        }
+        return result;
+    }
+    
+    private boolean isCacheableParameter(final Object parameter) {
+        return null == parameter || parameter instanceof Number || parameter instanceof CharSequence || parameter instanceof Boolean || parameter instanceof Character
+                || parameter instanceof Date || parameter instanceof Temporal;
+    }
+    
+    private List<ExecuteResult> createExecuteResults(final List<QueryResultSnapshot> snapshots) {
+        List<ExecuteResult> result = new ArrayList<>(snapshots.size());
+        for (QueryResultSnapshot each : snapshots) {
+            result.add(each.createQueryResult());
+        }
+        return result;
+    }
+    
+    /**
+     * Get names of cached tables written by SQL statement.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return names of cached tables written by SQL statement
+     */
+    public Collection<String> getWrittenTableNames(final SQLStatementContext<?> sqlStatementContext) {
+        if (null == cache || sqlStatementContext.getSqlStatement() instanceof SelectStatement) {
+            return Collections.emptyList();
+        }
+        return sqlStatementContext.getTablesContext().getTableNames().stream().map(String::toLowerCase).filter(tableNames::contains).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+    
+    /**
+     * Invalidate cached query results of written tables after the writes are committed, and notify other compute nodes.
+     *
+     * @param databaseName database name
+     * @param writtenTableNames names of written tables
+     */
+    public void invalidate(final String databaseName, final Collection<String> writtenTableNames) {
+        if (null == cache || writtenTableNames.isEmpty()) {
+            return;
+        }
+        invalidateTables(databaseName, writtenTableNames);
+        ShardingSphereEventBus.getInstance().post(new QueryResultCacheInvalidatedEvent(databaseName, writtenTableNames));
+    }
+    
+    /**
+     * Invalidate cached query results of tables.
+     *
+     * @param databaseName database name
+     * @param tableNames table names
+     */
+    public void invalidateTables(final String databaseName, final Collection<String> tableNames) {
+        if (null == cache) {
+            return;
+        }
+        version.incrementAndGet();
+        Collection<String> invalidatedTableNames = tableNames.stream().map(String::toLowerCase).collect(Collectors.toSet());
+        cache.asMap().keySet().removeIf(each -> each.getDatabaseName().equals(databaseName) && !Collections.disjoint(each.getTableNames(), invalidatedTableNames));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Query result cache invalidation of a connection.
+ * 
+ * <p>Cached query results of tables written in auto commit mode are invalidated after the write is executed.
+ * Tables written in transaction are tracked until the transaction is committed or rolled back,
+ * so that queries executed before the commit can not cache the query results before the writes.</p>
+ */
+public final class QueryResultCacheInvalidation {
+    
+    private final Map<String, Collection<String>> uncommittedTableNames = new LinkedHashMap<>();
+    
+    /**
+     * Invalidate cached query results of tables written by SQL statement, or track them until transaction is finished.
+     *
+     * @param queryResultCache query result cache
+     * @param databaseName database name
+     * @param sqlStatementContext SQL statement context
+     * @param inTransaction whether SQL statement is executed in transaction
+     */
+    public synchronized void written(final QueryResultCache queryResultCache, final String databaseName, final SQLStatementContext<?> sqlStatementContext, final boolean inTransaction) {
+        Collection<String> writtenTableNames = queryResultCache.getWrittenTableNames(sqlStatementContext);
+        if (writtenTableNames.isEmpty()) {
+            return;
+        }
+        if (inTransaction) {
+            uncommittedTableNames.computeIfAbsent(databaseName, unused -> new LinkedHashSet<>()).addAll(writtenTableNames);
+        } else {
+            queryResultCache.invalidate(databaseName, writtenTableNames);
+        }
+    }
+    
+    /**
+     * Invalidate cached query results of tables written in finished transaction.
+     *
+     * @param queryResultCache query result cache
+     */
+    public synchronized void transactionFinished(final QueryResultCache queryResultCache) {
+        if (uncommittedTableNames.isEmpty()) {
+            return;
+        }
+        for (Entry<String, Collection<String>> entry : uncommittedTableNames.entrySet()) {
+            queryResultCache.invalidate(entry.getKey(), entry.getValue());
+        }
+        uncommittedTableNames.clear();
+    }
+}
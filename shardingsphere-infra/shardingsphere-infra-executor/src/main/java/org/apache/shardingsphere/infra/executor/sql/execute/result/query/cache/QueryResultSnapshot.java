@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Ref;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Query result snapshot.
+ * 
+ * <p>Column meta data and rows are copied into memory, so a complete snapshot can be replayed as query results any times after the source query result is closed.
+ * Taking snapshot stops once rows or estimated bytes exceed the limits, or a value can not be detached from the source query result,
+ * then the snapshot is incomplete, and can be replayed only once, by replaying the copied rows followed by the remaining rows streamed from the source query result.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryResultSnapshot {
+    
+    private static final int ROW_BYTES = 32;
+    
+    private static final int REFERENCE_BYTES = 8;
+    
+    private static final int VALUE_BYTES = 24;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final List<MemoryQueryResultDataRow> rows;
+    
+    @Getter
+    private final long estimatedBytes;
+    
+    private final QueryResult remaining;
+    
+    /**
+     * Take snapshot of query result, rows of query result are consumed until all rows are taken or the limits are exceeded.
+     *
+     * @param queryResult query result
+     * @param maxRows max rows to be taken
+     * @param maxBytes max estimated bytes to be taken
+     * @return query result snapshot
+     * @throws SQLException SQL exception
+     */
+    public static QueryResultSnapshot take(final QueryResult queryResult, final int maxRows, final long maxBytes) throws SQLException {
+        QueryResultMetaData metaData = queryResult.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            columns.add(new RawQueryResultColumnMetaData(metaData.getTableName(i), metaData.getColumnName(i), metaData.getColumnLabel(i), metaData.getColumnType(i),
+                    metaData.getColumnTypeName(i), metaData.getColumnLength(i), metaData.getDecimals(i), metaData.isSigned(i), metaData.isNotNull(i), metaData.isAutoIncrement(i)));
+        }
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>();
+        long estimatedBytes = 0L;
+        while (queryResult.next()) {
+            List<Object> row = new ArrayList<>(columnCount);
+            boolean detached = true;
+            estimatedBytes += ROW_BYTES;
+            for (int i = 1; i <= columnCount; i++) {
+                Object value = queryResult.getValue(i, Object.class);
+                detached = detached && isDetachedValue(value);
+                estimatedBytes += REFERENCE_BYTES + estimateBytes(value);
+                row.add(value);
+            }
+            rows.add(new MemoryQueryResultDataRow(row));
+            if (!detached || rows.size() > maxRows || estimatedBytes > maxBytes) {
+                return new QueryResultSnapshot(new RawQueryResultMetaData(columns), rows, estimatedBytes, queryResult);
+            }
+        }
+        return new QueryResultSnapshot(new RawQueryResultMetaData(columns), rows, estimatedBytes, null);
+    }
+    
+    private static boolean isDetachedValue(final Object value) {
+        return !(value instanceof Blob || value instanceof Clob || value instanceof Array || value instanceof SQLXML || value instanceof Struct || value instanceof Ref
+                || value instanceof InputStream || value instanceof Reader);
+    }
+    
+    private static long estimateBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof CharSequence) {
+            return VALUE_BYTES + 2L * ((CharSequence) value).length();
+        }
+        if (value instanceof byte[]) {
+            return VALUE_BYTES + ((byte[]) value).length;
+        }
+        return VALUE_BYTES;
+    }
+    
+    /**
+     * Judge whether all rows of source query result are taken.
+     *
+     * @return all rows of source query result are taken or not
+     */
+    public boolean isComplete() {
+        return null == remaining;
+    }
+    
+    /**
+     * Get count of rows taken.
+     *
+     * @return count of rows taken
+     */
+    public int getRowCount() {
+        return rows.size();
+    }
+    
+    /**
+     * Create query result of snapshot.
+     *
+     * @return query result
+     */
+    public QueryResult createQueryResult() {
+        return isComplete() ? new RawMemoryQueryResult(metaData, rows) : new PartialSnapshotQueryResult(rows, remaining);
+    }
+}
@@ -17,14 +17,17 @@
 
 package org.apache.shardingsphere.infra.executor.sql.process.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
 
 import java.util.Collection;
-import java.util.LinkedList;
-import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Execute process context.
@@ -42,7 +45,8 @@ public final class ExecuteProcessContext {
     
     private final String sql;
     
-    private final Collection<ExecuteProcessUnit> unitStatuses;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ExecuteProcessUnit> processUnits;
     
     private final long startTimeMillis = System.currentTimeMillis();
     
@@ -53,16 +57,53 @@ public final class ExecuteProcessContext {
         Grantee grantee = executionGroupContext.getGrantee();
         this.username = null != grantee ? grantee.getUsername() : null;
         this.hostname = null != grantee ? grantee.getHostname() : null;
-        unitStatuses = createExecutionUnitStatuses(executionGroupContext, constants);
+        processUnits = createProcessUnits(executionGroupContext, constants);
     }
     
-    private Collection<ExecuteProcessUnit> createExecutionUnitStatuses(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final ExecuteProcessConstants constants) {
-        Collection<ExecuteProcessUnit> result = new LinkedList<>();
+    private Map<String, ExecuteProcessUnit> createProcessUnits(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, final ExecuteProcessConstants constants) {
+        Map<String, ExecuteProcessUnit> result = new LinkedHashMap<>();
         for (ExecutionGroup<? extends SQLExecutionUnit> group : executionGroupContext.getInputGroups()) {
             for (SQLExecutionUnit each : group.getInputs()) {
-                result.add(new ExecuteProcessUnit(each.getExecutionUnit(), constants));
+                ExecuteProcessUnit processUnit = new ExecuteProcessUnit(each.getExecutionUnit(), constants);
+                result.put(processUnit.getUnitID(), processUnit);
             }
         }
         return result;
     }
+    
+    /**
+     * Get unit statuses.
+     *
+     * @return unit statuses
+     */
+    public Collection<ExecuteProcessUnit> getUnitStatuses() {
+        return processUnits.values();
+    }
+    
+    /**
+     * Switch status of execution unit.
+     *
+     * @param executionUnit execution unit
+     * @param status status
+     */
+    public void switchUnitStatus(final ExecutionUnit executionUnit, final ExecuteProcessConstants status) {
+        ExecuteProcessUnit processUnit = processUnits.get(ExecuteProcessUnit.getUnitID(executionUnit));
+        if (null != processUnit) {
+            processUnit.switchStatus(status);
+        }
+    }
+    
+    /**
+     * Judge whether all execution units are done.
+     *
+     * @return all execution units are done or not
+     */
+    public boolean isCompleted() {
+        for (ExecuteProcessUnit each : processUnits.values()) {
+            if (ExecuteProcessConstants.EXECUTE_STATUS_DONE != each.getStatus()) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
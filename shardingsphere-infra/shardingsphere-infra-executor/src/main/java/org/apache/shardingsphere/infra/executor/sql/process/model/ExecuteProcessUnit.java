@@ -28,10 +28,45 @@ public final class ExecuteProcessUnit {
     
     private final String unitID;
     
-    private final ExecuteProcessConstants status;
+    private final long startTimeMillis = System.currentTimeMillis();
+    
+    private volatile ExecuteProcessConstants status;
+    
+    private volatile long finishTimeMillis;
     
     public ExecuteProcessUnit(final ExecutionUnit executionUnit, final ExecuteProcessConstants status) {
-        this.unitID = String.valueOf(executionUnit.hashCode());
+        this.unitID = getUnitID(executionUnit);
         this.status = status;
     }
+    
+    /**
+     * Get unit ID of execution unit.
+     *
+     * @param executionUnit execution unit
+     * @return unit ID
+     */
+    public static String getUnitID(final ExecutionUnit executionUnit) {
+        return String.valueOf(executionUnit.hashCode());
+    }
+    
+    /**
+     * Switch status.
+     *
+     * @param status status
+     */
+    public void switchStatus(final ExecuteProcessConstants status) {
+        if (ExecuteProcessConstants.EXECUTE_STATUS_DONE == status) {
+            finishTimeMillis = System.currentTimeMillis();
+        }
+        this.status = status;
+    }
+    
+    /**
+     * Get cost time in milliseconds, the elapsed time is returned if the unit is still executing.
+     *
+     * @return cost time in milliseconds
+     */
+    public long getCostTimeMillis() {
+        return (ExecuteProcessConstants.EXECUTE_STATUS_DONE == status ? finishTimeMillis : System.currentTimeMillis()) - startTimeMillis;
+    }
 }
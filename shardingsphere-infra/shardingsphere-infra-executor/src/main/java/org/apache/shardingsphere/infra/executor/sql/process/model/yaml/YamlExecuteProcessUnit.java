@@ -37,8 +37,11 @@ public final class YamlExecuteProcessUnit {
     
     private volatile ExecuteProcessConstants status;
     
+    private Long costTimeMillis;
+    
     public YamlExecuteProcessUnit(final ExecuteProcessUnit executeProcessUnit) {
         unitID = executeProcessUnit.getUnitID();
         status = executeProcessUnit.getStatus();
+        costTimeMillis = executeProcessUnit.getCostTimeMillis();
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.circuit;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class CircuitBreakerSQLExecutionHookTest {
+    
+    @Before
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_WINDOW_SIZE.getKey(), "1");
+        StorageNodeCircuitBreakerRegistry.getInstance().refresh(new ConfigurationProperties(props));
+    }
+    
+    @After
+    public void tearDown() {
+        StorageNodeCircuitBreakerRegistry.getInstance().refresh(new ConfigurationProperties(new Properties()));
+    }
+    
+    @Test
+    public void assertIsStorageNodeFailure() {
+        assertTrue(CircuitBreakerSQLExecutionHook.isStorageNodeFailure(new SQLNonTransientConnectionException("test")));
+        assertTrue(CircuitBreakerSQLExecutionHook.isStorageNodeFailure(new SQLTimeoutException("test")));
+        assertTrue(CircuitBreakerSQLExecutionHook.isStorageNodeFailure(new SQLTransientConnectionException("test")));
+        assertTrue(CircuitBreakerSQLExecutionHook.isStorageNodeFailure(new SQLException("test", "08S01")));
+        assertTrue(CircuitBreakerSQLExecutionHook.isStorageNodeFailure(new IllegalStateException(new SQLException("test", "08001"))));
+        assertFalse(CircuitBreakerSQLExecutionHook.isStorageNodeFailure(new SQLSyntaxErrorException("test", "42000")));
+        assertFalse(CircuitBreakerSQLExecutionHook.isStorageNodeFailure(new SQLException("test")));
+    }
+    
+    @Test
+    public void assertIsNotStorageNodeFailureWithTransactionRollback() {
+        assertFalse(CircuitBreakerSQLExecutionHook.isStorageNodeFailure(new SQLTransactionRollbackException("Deadlock found when trying to get lock", "40001", 1213)));
+    }
+    
+    @Test
+    public void assertFinishFailureWithTransactionRollback() {
+        CircuitBreakerSQLExecutionHook hook = new CircuitBreakerSQLExecutionHook();
+        hook.start("ds_0", "SELECT 1", Collections.emptyList(), mockDataSourceMetaData(), true, Collections.emptyMap());
+        hook.finishFailure(new SQLTransactionRollbackException("Deadlock found when trying to get lock", "40001", 1213));
+        assertFalse(StorageNodeCircuitBreakerRegistry.getInstance().findState("127.0.0.1:3306").isPresent());
+    }
+    
+    @Test
+    public void assertFinishFailureWithStorageNodeFailure() {
+        CircuitBreakerSQLExecutionHook hook = new CircuitBreakerSQLExecutionHook();
+        hook.start("ds_0", "SELECT 1", Collections.emptyList(), mockDataSourceMetaData(), true, Collections.emptyMap());
+        hook.finishFailure(new SQLException("test", "08S01"));
+        assertThat(StorageNodeCircuitBreakerRegistry.getInstance().findState("127.0.0.1:3306"), is(Optional.of(CircuitBreakerState.OPEN)));
+    }
+    
+    @Test
+    public void assertFinishFailureWithSQLFailure() {
+        CircuitBreakerSQLExecutionHook hook = new CircuitBreakerSQLExecutionHook();
+        hook.start("ds_0", "SELECT 1", Collections.emptyList(), mockDataSourceMetaData(), true, Collections.emptyMap());
+        hook.finishFailure(new SQLSyntaxErrorException("test", "42000"));
+        assertFalse(StorageNodeCircuitBreakerRegistry.getInstance().findState("127.0.0.1:3306").isPresent());
+    }
+    
+    @Test
+    public void assertFinishSuccess() {
+        CircuitBreakerSQLExecutionHook hook = new CircuitBreakerSQLExecutionHook();
+        hook.start("ds_0", "SELECT 1", Collections.emptyList(), mockDataSourceMetaData(), true, Collections.emptyMap());
+        hook.finishSuccess();
+        assertThat(StorageNodeCircuitBreakerRegistry.getInstance().findState("127.0.0.1:3306"), is(Optional.of(CircuitBreakerState.CLOSED)));
+    }
+    
+    private DataSourceMetaData mockDataSourceMetaData() {
+        DataSourceMetaData result = mock(DataSourceMetaData.class);
+        when(result.getHostname()).thenReturn("127.0.0.1");
+        when(result.getPort()).thenReturn(3306);
+        return result;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.circuit;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.circuit.event.StorageNodeCircuitBreakerEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StorageNodeCircuitBreakerRegistryTest {
+    
+    private final BlockingQueue<StorageNodeCircuitBreakerEvent> events = new LinkedBlockingQueue<>();
+    
+    @Before
+    public void setUp() {
+        StorageNodeCircuitBreakerRegistry.getInstance().refresh(createProperties(true));
+        ShardingSphereEventBus.getInstance().register(this);
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingSphereEventBus.getInstance().unregister(this);
+        StorageNodeCircuitBreakerRegistry.getInstance().refresh(createProperties(false));
+    }
+    
+    private ConfigurationProperties createProperties(final boolean enabled) {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_ENABLED.getKey(), String.valueOf(enabled));
+        result.setProperty(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_WINDOW_SIZE.getKey(), "2");
+        result.setProperty(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_SLOW_CALL_THRESHOLD_MILLIS.getKey(), "1000");
+        return new ConfigurationProperties(result);
+    }
+    
+    /**
+     * Collect storage node circuit breaker event.
+     *
+     * @param event storage node circuit breaker event
+     */
+    @Subscribe
+    public void collect(final StorageNodeCircuitBreakerEvent event) {
+        events.add(event);
+    }
+    
+    @Test
+    public void assertGetStorageNodeName() {
+        assertThat(StorageNodeCircuitBreakerRegistry.getStorageNodeName(mockDataSourceMetaData(3306)), is("127.0.0.1:3306"));
+    }
+    
+    @Test
+    public void assertOpenAndPostEvent() throws InterruptedException {
+        DataSourceMetaData dataSourceMetaData = mockDataSourceMetaData(3306);
+        StorageNodeCircuitBreakerRegistry.getInstance().recordFailure(dataSourceMetaData);
+        assertTrue(StorageNodeCircuitBreakerRegistry.getInstance().tryAcquirePermission(dataSourceMetaData));
+        StorageNodeCircuitBreakerRegistry.getInstance().recordSuccess(dataSourceMetaData, 2000_000_000L);
+        assertFalse(StorageNodeCircuitBreakerRegistry.getInstance().tryAcquirePermission(dataSourceMetaData));
+        assertTrue(StorageNodeCircuitBreakerRegistry.getInstance().tryAcquirePermission(mockDataSourceMetaData(3307)));
+        StorageNodeCircuitBreakerEvent actual = events.poll(10L, TimeUnit.SECONDS);
+        assertNotNull(actual);
+        assertThat(actual.getStorageNodeName(), is("127.0.0.1:3306"));
+        assertTrue(actual.isOpen());
+    }
+    
+    @Test
+    public void assertNotOpenWithFastCalls() {
+        DataSourceMetaData dataSourceMetaData = mockDataSourceMetaData(3306);
+        StorageNodeCircuitBreakerRegistry.getInstance().recordSuccess(dataSourceMetaData, 1000L);
+        StorageNodeCircuitBreakerRegistry.getInstance().recordSuccess(dataSourceMetaData, 1000L);
+        assertThat(StorageNodeCircuitBreakerRegistry.getInstance().findState("127.0.0.1:3306"), is(Optional.of(CircuitBreakerState.CLOSED)));
+        assertTrue(StorageNodeCircuitBreakerRegistry.getInstance().tryAcquirePermission(dataSourceMetaData));
+        assertTrue(events.isEmpty());
+    }
+    
+    @Test
+    public void assertRenew() {
+        StorageNodeCircuitBreakerRegistry.getInstance().renew("127.0.0.1:3306", true);
+        assertThat(StorageNodeCircuitBreakerRegistry.getInstance().findState("127.0.0.1:3306"), is(Optional.of(CircuitBreakerState.OPEN)));
+        assertFalse(StorageNodeCircuitBreakerRegistry.getInstance().tryAcquirePermission(mockDataSourceMetaData(3306)));
+        StorageNodeCircuitBreakerRegistry.getInstance().renew("127.0.0.1:3306", false);
+        assertThat(StorageNodeCircuitBreakerRegistry.getInstance().findState("127.0.0.1:3306"), is(Optional.of(CircuitBreakerState.CLOSED)));
+        assertTrue(events.isEmpty());
+    }
+    
+    @Test
+    public void assertDisabled() {
+        StorageNodeCircuitBreakerRegistry.getInstance().refresh(createProperties(false));
+        DataSourceMetaData dataSourceMetaData = mockDataSourceMetaData(3306);
+        StorageNodeCircuitBreakerRegistry.getInstance().recordFailure(dataSourceMetaData);
+        StorageNodeCircuitBreakerRegistry.getInstance().recordFailure(dataSourceMetaData);
+        assertTrue(StorageNodeCircuitBreakerRegistry.getInstance().tryAcquirePermission(dataSourceMetaData));
+        assertFalse(StorageNodeCircuitBreakerRegistry.getInstance().findState("127.0.0.1:3306").isPresent());
+    }
+    
+    private DataSourceMetaData mockDataSourceMetaData(final int port) {
+        DataSourceMetaData result = mock(DataSourceMetaData.class);
+        when(result.getHostname()).thenReturn("127.0.0.1");
+        when(result.getPort()).thenReturn(port);
+        return result;
+    }
+}
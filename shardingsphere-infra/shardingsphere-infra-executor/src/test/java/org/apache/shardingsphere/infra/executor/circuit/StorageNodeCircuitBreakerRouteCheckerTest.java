@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.circuit;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StorageNodeCircuitBreakerRouteCheckerTest {
+    
+    private final DataSourcesMetaData dataSourcesMetaData = mock(DataSourcesMetaData.class);
+    
+    @Before
+    public void setUp() {
+        refresh(false);
+        DataSourceMetaData openDataSourceMetaData = mockDataSourceMetaData(3306);
+        when(dataSourcesMetaData.getDataSourceMetaData("ds_0")).thenReturn(openDataSourceMetaData);
+        DataSourceMetaData closedDataSourceMetaData = mockDataSourceMetaData(3307);
+        when(dataSourcesMetaData.getDataSourceMetaData("ds_1")).thenReturn(closedDataSourceMetaData);
+        StorageNodeCircuitBreakerRegistry.getInstance().renew("127.0.0.1:3306", true);
+    }
+    
+    @After
+    public void tearDown() {
+        StorageNodeCircuitBreakerRegistry.getInstance().refresh(new ConfigurationProperties(new Properties()));
+    }
+    
+    private void refresh(final boolean partialResultEnabled) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_PARTIAL_RESULT_ENABLED.getKey(), String.valueOf(partialResultEnabled));
+        StorageNodeCircuitBreakerRegistry.getInstance().refresh(new ConfigurationProperties(props));
+    }
+    
+    @Test
+    public void assertCheckWithClosedCircuitBreaker() {
+        RouteContext routeContext = createRouteContext("ds_1");
+        new StorageNodeCircuitBreakerRouteChecker().check(routeContext, dataSourcesMetaData, new MySQLSelectStatement());
+        assertThat(routeContext.getRouteUnits().size(), is(1));
+    }
+    
+    @Test(expected = StorageNodeCircuitBreakerOpenException.class)
+    public void assertCheckWithOpenCircuitBreaker() {
+        new StorageNodeCircuitBreakerRouteChecker().check(createRouteContext("ds_0", "ds_1"), dataSourcesMetaData, new MySQLSelectStatement());
+    }
+    
+    @Test
+    public void assertCheckWithPartialResult() {
+        refresh(true);
+        RouteContext routeContext = createRouteContext("ds_0", "ds_1");
+        new StorageNodeCircuitBreakerRouteChecker().check(routeContext, dataSourcesMetaData, new MySQLSelectStatement());
+        assertThat(routeContext.getActualDataSourceNames(), is(Collections.singleton("ds_1")));
+    }
+    
+    @Test(expected = StorageNodeCircuitBreakerOpenException.class)
+    public void assertCheckWithPartialResultForUpdate() {
+        refresh(true);
+        new StorageNodeCircuitBreakerRouteChecker().check(createRouteContext("ds_0", "ds_1"), dataSourcesMetaData, new MySQLInsertStatement());
+    }
+    
+    @Test(expected = StorageNodeCircuitBreakerOpenException.class)
+    public void assertCheckWithPartialResultForSingleDataSource() {
+        refresh(true);
+        new StorageNodeCircuitBreakerRouteChecker().check(createRouteContext("ds_0"), dataSourcesMetaData, new MySQLSelectStatement());
+    }
+    
+    private RouteContext createRouteContext(final String... dataSourceNames) {
+        RouteContext result = new RouteContext();
+        for (String each : dataSourceNames) {
+            result.getRouteUnits().add(new RouteUnit(new RouteMapper(each, each), Collections.emptyList()));
+        }
+        return result;
+    }
+    
+    private DataSourceMetaData mockDataSourceMetaData(final int port) {
+        DataSourceMetaData result = mock(DataSourceMetaData.class);
+        when(result.getHostname()).thenReturn("127.0.0.1");
+        when(result.getPort()).thenReturn(port);
+        return result;
+    }
+}
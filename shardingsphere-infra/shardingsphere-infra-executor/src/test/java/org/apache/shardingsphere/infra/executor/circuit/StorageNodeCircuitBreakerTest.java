@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.circuit;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class StorageNodeCircuitBreakerTest {
+    
+    @Test
+    public void assertNotOpenBeforeWindowIsFull() {
+        StorageNodeCircuitBreaker circuitBreaker = new StorageNodeCircuitBreaker(4, 50, Long.MAX_VALUE);
+        assertFalse(circuitBreaker.record(true).isPresent());
+        assertFalse(circuitBreaker.record(true).isPresent());
+        assertFalse(circuitBreaker.record(true).isPresent());
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.CLOSED));
+        assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+    
+    @Test
+    public void assertOpenWhenFailureRateReachesThreshold() {
+        StorageNodeCircuitBreaker circuitBreaker = new StorageNodeCircuitBreaker(4, 50, Long.MAX_VALUE);
+        circuitBreaker.record(false);
+        circuitBreaker.record(true);
+        circuitBreaker.record(false);
+        Optional<CircuitBreakerState> actual = circuitBreaker.record(true);
+        assertThat(actual, is(Optional.of(CircuitBreakerState.OPEN)));
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+    
+    @Test
+    public void assertNotOpenWhenOldFailuresSlideOut() {
+        StorageNodeCircuitBreaker circuitBreaker = new StorageNodeCircuitBreaker(4, 75, Long.MAX_VALUE);
+        circuitBreaker.record(true);
+        circuitBreaker.record(true);
+        circuitBreaker.record(false);
+        circuitBreaker.record(false);
+        assertFalse(circuitBreaker.record(true).isPresent());
+        assertFalse(circuitBreaker.record(false).isPresent());
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.CLOSED));
+    }
+    
+    @Test
+    public void assertCloseWhenProbeSucceeds() {
+        StorageNodeCircuitBreaker circuitBreaker = new StorageNodeCircuitBreaker(1, 50, 0L);
+        circuitBreaker.record(true);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.HALF_OPEN));
+        assertThat(circuitBreaker.record(false), is(Optional.of(CircuitBreakerState.CLOSED)));
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.CLOSED));
+    }
+    
+    @Test
+    public void assertReopenWhenProbeFails() {
+        StorageNodeCircuitBreaker circuitBreaker = new StorageNodeCircuitBreaker(1, 50, 0L);
+        circuitBreaker.record(true);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.record(true).isPresent());
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.OPEN));
+    }
+    
+    @Test
+    public void assertRejectBeforeOpenDurationElapses() {
+        StorageNodeCircuitBreaker circuitBreaker = new StorageNodeCircuitBreaker(1, 50, Long.MAX_VALUE);
+        circuitBreaker.forceState(true);
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.OPEN));
+    }
+    
+    @Test
+    public void assertForceState() {
+        StorageNodeCircuitBreaker circuitBreaker = new StorageNodeCircuitBreaker(4, 50, Long.MAX_VALUE);
+        circuitBreaker.forceState(true);
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.OPEN));
+        circuitBreaker.forceState(false);
+        assertThat(circuitBreaker.getState(), is(CircuitBreakerState.CLOSED));
+    }
+}
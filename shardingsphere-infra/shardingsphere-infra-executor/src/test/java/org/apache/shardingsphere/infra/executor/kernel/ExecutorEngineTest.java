@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -29,6 +30,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -103,4 +105,14 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertScheduleWithExecutorDataMap() throws ExecutionException, InterruptedException {
+        ExecutorDataMap.getValue().put("foo_key", "foo_value");
+        try {
+            assertThat(executorEngine.schedule(() -> ExecutorDataMap.getValue().get("foo_key"), 1L).get(), is("foo_value"));
+        } finally {
+            ExecutorDataMap.getValue().remove("foo_key");
+        }
+    }
 }
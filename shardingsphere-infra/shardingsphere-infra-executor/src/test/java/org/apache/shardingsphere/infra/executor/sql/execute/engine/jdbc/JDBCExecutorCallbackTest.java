@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
 
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.circuit.CircuitBreakerState;
+import org.apache.shardingsphere.infra.executor.circuit.StorageNodeCircuitBreakerRegistry;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -42,6 +46,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -96,4 +101,34 @@ public final class JDBCExecutorCallbackTest {
         jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
         assertThat(cachedDataSourceMetaData.size(), is(1));
     }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteFailureOnNonTrunkThreadRecordedByCircuitBreaker() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.STORAGE_NODE_CIRCUIT_BREAKER_WINDOW_SIZE.getKey(), "1");
+        StorageNodeCircuitBreakerRegistry.getInstance().refresh(new ConfigurationProperties(props));
+        try {
+            JDBCExecutorCallback<Integer> jdbcExecutorCallback = new JDBCExecutorCallback<Integer>(DatabaseTypeFactory.getInstance("MySQL"), mock(SelectStatement.class), true) {
+                
+                @Override
+                protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                    throw new SQLException("Communications link failure", "08S01");
+                }
+                
+                @Override
+                protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement) {
+                    return Optional.empty();
+                }
+            };
+            assertTrue(jdbcExecutorCallback.execute(units, false, Collections.emptyMap()).isEmpty());
+            assertThat(StorageNodeCircuitBreakerRegistry.getInstance().findState("localhost:3306"), is(Optional.of(CircuitBreakerState.OPEN)));
+        } finally {
+            StorageNodeCircuitBreakerRegistry.getInstance().refresh(new ConfigurationProperties(new Properties()));
+            Field field = JDBCExecutorCallback.class.getDeclaredField("CACHED_DATASOURCE_METADATA");
+            field.setAccessible(true);
+            ((Map<String, DataSourceMetaData>) field.get(null)).clear();
+        }
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class QueryResultCacheInvalidationTest {
+    
+    private final QueryResultCache queryResultCache = mock(QueryResultCache.class);
+    
+    private final QueryResultCacheInvalidation invalidation = new QueryResultCacheInvalidation();
+    
+    private SQLStatementContext<?> sqlStatementContext;
+    
+    @SuppressWarnings("rawtypes")
+    @Before
+    public void setUp() {
+        SQLStatementContext result = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(new MySQLUpdateStatement());
+        sqlStatementContext = result;
+        when(queryResultCache.getWrittenTableNames(sqlStatementContext)).thenReturn(Collections.singleton("t_config"));
+    }
+    
+    @Test
+    public void assertWrittenInAutoCommit() {
+        invalidation.written(queryResultCache, "foo_db", sqlStatementContext, false);
+        verify(queryResultCache).invalidate("foo_db", Collections.singleton("t_config"));
+    }
+    
+    @Test
+    public void assertWrittenInTransaction() {
+        invalidation.written(queryResultCache, "foo_db", sqlStatementContext, true);
+        invalidation.written(queryResultCache, "foo_db", sqlStatementContext, true);
+        verify(queryResultCache, never()).invalidate("foo_db", Collections.singleton("t_config"));
+        invalidation.transactionFinished(queryResultCache);
+        verify(queryResultCache).invalidate("foo_db", Collections.singleton("t_config"));
+        invalidation.transactionFinished(queryResultCache);
+        verify(queryResultCache).invalidate("foo_db", Collections.singleton("t_config"));
+    }
+}
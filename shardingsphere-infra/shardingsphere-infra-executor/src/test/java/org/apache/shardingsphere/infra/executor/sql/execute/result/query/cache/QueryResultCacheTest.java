@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class QueryResultCacheTest {
+    
+    private QueryResultCache queryResultCache;
+    
+    private final AtomicInteger loadedTimes = new AtomicInteger();
+    
+    @Before
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.QUERY_RESULT_CACHE_TABLES.getKey(), "t_config, T_Dict");
+        queryResultCache = new QueryResultCache(new ConfigurationProperties(props));
+    }
+    
+    @Test
+    public void assertIsCacheable() {
+        assertTrue(queryResultCache.isCacheable(mockSelectStatementContext("t_config")));
+        assertTrue(queryResultCache.isCacheable(mockSelectStatementContext("t_dict")));
+        assertFalse(queryResultCache.isCacheable(mockSelectStatementContext("t_config", "t_order")));
+        assertFalse(queryResultCache.isCacheable(mockUpdateStatementContext("t_config")));
+    }
+    
+    @Test
+    public void assertIsNotCacheableWithoutCachedTables() {
+        assertFalse(new QueryResultCache(new ConfigurationProperties(new Properties())).isCacheable(mockSelectStatementContext("t_config")));
+    }
+    
+    @Test
+    public void assertGetWrittenTableNames() {
+        assertThat(queryResultCache.getWrittenTableNames(mockUpdateStatementContext("T_CONFIG")), is(Collections.singleton("t_config")));
+        assertTrue(queryResultCache.getWrittenTableNames(mockUpdateStatementContext("t_order")).isEmpty());
+        assertTrue(queryResultCache.getWrittenTableNames(mockSelectStatementContext("t_config")).isEmpty());
+    }
+    
+    @Test
+    public void assertLoadFromCache() throws SQLException {
+        LogicSQL logicSQL = new LogicSQL(mockSelectStatementContext("t_config"), "SELECT * FROM t_config WHERE id = ?", Collections.singletonList(1));
+        assertQueryResults(queryResultCache.load("foo_db", logicSQL, this::loadExecuteResults));
+        assertQueryResults(queryResultCache.load("foo_db", logicSQL, this::loadExecuteResults));
+        assertThat(loadedTimes.get(), is(1));
+        LogicSQL otherParametersLogicSQL = new LogicSQL(mockSelectStatementContext("t_config"), "SELECT * FROM t_config WHERE id = ?", Collections.singletonList(2));
+        queryResultCache.load("foo_db", otherParametersLogicSQL, this::loadExecuteResults);
+        assertThat(loadedTimes.get(), is(2));
+    }
+    
+    @Test
+    public void assertLoadAfterInvalidated() throws SQLException {
+        LogicSQL logicSQL = new LogicSQL(mockSelectStatementContext("t_config"), "SELECT * FROM t_config", Collections.emptyList());
+        queryResultCache.load("foo_db", logicSQL, this::loadExecuteResults);
+        queryResultCache.invalidate("foo_db", queryResultCache.getWrittenTableNames(mockUpdateStatementContext("t_dict")));
+        queryResultCache.load("foo_db", logicSQL, this::loadExecuteResults);
+        assertThat(loadedTimes.get(), is(1));
+        queryResultCache.invalidate("bar_db", queryResultCache.getWrittenTableNames(mockUpdateStatementContext("T_CONFIG")));
+        queryResultCache.load("foo_db", logicSQL, this::loadExecuteResults);
+        assertThat(loadedTimes.get(), is(1));
+        queryResultCache.invalidate("foo_db", queryResultCache.getWrittenTableNames(mockUpdateStatementContext("T_CONFIG")));
+        assertQueryResults(queryResultCache.load("foo_db", logicSQL, this::loadExecuteResults));
+        assertThat(loadedTimes.get(), is(2));
+    }
+    
+    @Test
+    public void assertLoadInvalidatedWhileLoading() throws SQLException {
+        LogicSQL logicSQL = new LogicSQL(mockSelectStatementContext("t_config"), "SELECT * FROM t_config", Collections.emptyList());
+        queryResultCache.load("foo_db", logicSQL, () -> {
+            queryResultCache.invalidateTables("foo_db", Collections.singleton("t_config"));
+            return loadExecuteResults();
+        });
+        queryResultCache.load("foo_db", logicSQL, this::loadExecuteResults);
+        assertThat(loadedTimes.get(), is(2));
+    }
+    
+    @Test
+    public void assertLoadWithNotCacheableParameter() throws SQLException {
+        LogicSQL logicSQL = new LogicSQL(mockSelectStatementContext("t_config"), "SELECT * FROM t_config WHERE name = ?", Collections.singletonList(new byte[]{1}));
+        queryResultCache.load("foo_db", logicSQL, this::loadExecuteResults);
+        queryResultCache.load("foo_db", logicSQL, this::loadExecuteResults);
+        assertThat(loadedTimes.get(), is(2));
+    }
+    
+    @Test
+    public void assertLoadWithRowsExceedingLimit() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.QUERY_RESULT_CACHE_TABLES.getKey(), "t_config");
+        props.setProperty(ConfigurationPropertyKey.QUERY_RESULT_CACHE_MAX_ROWS_PER_QUERY.getKey(), "1");
+        QueryResultCache limitedQueryResultCache = new QueryResultCache(new ConfigurationProperties(props));
+        LogicSQL logicSQL = new LogicSQL(mockSelectStatementContext("t_config"), "SELECT * FROM t_config", Collections.emptyList());
+        assertQueryResults(limitedQueryResultCache.load("foo_db", logicSQL, this::loadExecuteResults));
+        assertQueryResults(limitedQueryResultCache.load("foo_db", logicSQL, this::loadExecuteResults));
+        assertThat(loadedTimes.get(), is(2));
+    }
+    
+    @Test
+    public void assertLoadWithBytesExceedingLimit() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.QUERY_RESULT_CACHE_TABLES.getKey(), "t_config");
+        props.setProperty(ConfigurationPropertyKey.QUERY_RESULT_CACHE_MAX_BYTES_PER_QUERY.getKey(), "1");
+        QueryResultCache limitedQueryResultCache = new QueryResultCache(new ConfigurationProperties(props));
+        LogicSQL logicSQL = new LogicSQL(mockSelectStatementContext("t_config"), "SELECT * FROM t_config", Collections.emptyList());
+        assertQueryResults(limitedQueryResultCache.load("foo_db", logicSQL, this::loadExecuteResults));
+        assertQueryResults(limitedQueryResultCache.load("foo_db", logicSQL, this::loadExecuteResults));
+        assertThat(loadedTimes.get(), is(2));
+    }
+    
+    private List<ExecuteResult> loadExecuteResults() {
+        loadedTimes.incrementAndGet();
+        RawQueryResultMetaData metaData = new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_config", "id", "id", Types.INTEGER, "INT", 11, 0), new RawQueryResultColumnMetaData("t_config", "name", "name", Types.VARCHAR, "VARCHAR", 32, 0)));
+        return Arrays.asList(new RawMemoryQueryResult(metaData, Collections.singletonList(new MemoryQueryResultDataRow(Arrays.asList(1, "foo")))),
+                new RawMemoryQueryResult(metaData, Collections.singletonList(new MemoryQueryResultDataRow(Arrays.asList(2, "bar")))));
+    }
+    
+    private void assertQueryResults(final List<ExecuteResult> actual) throws SQLException {
+        assertThat(actual.size(), is(2));
+        QueryResult first = (QueryResult) actual.get(0);
+        assertThat(first.getMetaData().getColumnCount(), is(2));
+        assertThat(first.getMetaData().getColumnLabel(2), is("name"));
+        assertTrue(first.next());
+        assertThat(first.getValue(1, Object.class), is(1));
+        assertThat(first.getValue(2, Object.class), is("foo"));
+        assertFalse(first.next());
+        QueryResult second = (QueryResult) actual.get(1);
+        assertTrue(second.next());
+        assertThat(second.getValue(2, Object.class), is("bar"));
+    }
+    
+    private SQLStatementContext<?> mockSelectStatementContext(final String... tableNames) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(new MySQLSelectStatement());
+        when(result.getTablesContext().getTableNames()).thenReturn(Arrays.asList(tableNames));
+        return result;
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private SQLStatementContext<?> mockUpdateStatementContext(final String tableName) {
+        SQLStatementContext result = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(new MySQLUpdateStatement());
+        when(result.getTablesContext().getTableNames()).thenReturn(Collections.singletonList(tableName));
+        return result;
+    }
+}
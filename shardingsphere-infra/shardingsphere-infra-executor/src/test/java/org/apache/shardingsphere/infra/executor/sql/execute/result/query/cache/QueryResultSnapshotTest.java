@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class QueryResultSnapshotTest {
+    
+    @Test
+    public void assertTakeAllRows() throws SQLException {
+        QueryResultSnapshot actual = QueryResultSnapshot.take(createQueryResult(), 3, Long.MAX_VALUE);
+        assertTrue(actual.isComplete());
+        assertThat(actual.getRowCount(), is(3));
+        assertRows(actual.createQueryResult());
+        assertRows(actual.createQueryResult());
+    }
+    
+    @Test
+    public void assertTakeRowsExceedingLimit() throws SQLException {
+        QueryResultSnapshot actual = QueryResultSnapshot.take(createQueryResult(), 1, Long.MAX_VALUE);
+        assertFalse(actual.isComplete());
+        assertThat(actual.getRowCount(), is(2));
+        assertRows(actual.createQueryResult());
+    }
+    
+    @Test
+    public void assertTakeBytesExceedingLimit() throws SQLException {
+        QueryResultSnapshot actual = QueryResultSnapshot.take(createQueryResult(), Integer.MAX_VALUE, 1L);
+        assertFalse(actual.isComplete());
+        assertThat(actual.getRowCount(), is(1));
+        assertRows(actual.createQueryResult());
+    }
+    
+    private QueryResult createQueryResult() {
+        RawQueryResultMetaData metaData = new RawQueryResultMetaData(Collections.singletonList(new RawQueryResultColumnMetaData("t_config", "name", "name", Types.VARCHAR, "VARCHAR", 32, 0)));
+        return new RawMemoryQueryResult(metaData, Arrays.asList(new MemoryQueryResultDataRow(Collections.singletonList("foo")),
+                new MemoryQueryResultDataRow(Collections.singletonList(null)), new MemoryQueryResultDataRow(Collections.singletonList("baz"))));
+    }
+    
+    private void assertRows(final QueryResult actual) throws SQLException {
+        assertThat(actual.getMetaData().getColumnLabel(1), is("name"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("foo"));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, Object.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("baz"));
+        assertFalse(actual.next());
+    }
+}
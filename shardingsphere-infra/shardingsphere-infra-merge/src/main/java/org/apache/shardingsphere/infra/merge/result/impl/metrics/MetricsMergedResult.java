@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.metrics;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
+import org.apache.shardingsphere.infra.metrics.SQLStageMetricsRegistry;
+
+import java.sql.SQLException;
+
+/**
+ * Merged result which counts merged rows for SQL stage metrics.
+ */
+public final class MetricsMergedResult extends DecoratorMergedResult {
+    
+    private final SQLStatementContext<?> sqlStatementContext;
+    
+    private long rows;
+    
+    private boolean recorded;
+    
+    public MetricsMergedResult(final MergedResult mergedResult, final SQLStatementContext<?> sqlStatementContext) {
+        super(mergedResult);
+        this.sqlStatementContext = sqlStatementContext;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (getMergedResult().next()) {
+            rows++;
+            return true;
+        }
+        if (!recorded) {
+            recorded = true;
+            SQLStageMetricsRegistry.getInstance().recordMergedRows(sqlStatementContext.getSqlStatement(), sqlStatementContext.getTablesContext().getTableNames(), rows);
+        }
+        return false;
+    }
+}
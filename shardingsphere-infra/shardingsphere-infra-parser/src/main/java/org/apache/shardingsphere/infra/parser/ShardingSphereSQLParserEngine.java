@@ -20,12 +20,16 @@ package org.apache.shardingsphere.infra.parser;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParserEngine;
+import org.apache.shardingsphere.infra.metrics.SQLStage;
+import org.apache.shardingsphere.infra.metrics.SQLStageMetricsRegistry;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
+import java.util.Collections;
+
 /**
  * ShardingSphere SQL parser engine.
  */
@@ -54,6 +58,13 @@ public final class ShardingSphereSQLParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
+        long startNanos = System.nanoTime();
+        SQLStatement result = parseStatement(sql, useCache);
+        SQLStageMetricsRegistry.getInstance().record(SQLStage.PARSE, result, Collections.emptyList(), startNanos);
+        return result;
+    }
+    
+    private SQLStatement parseStatement(final String sql, final boolean useCache) {
         try {
             return sqlStatementParserEngine.parse(sql, useCache);
         } catch (final SQLParsingException | ParseCancellationException | UncheckedExecutionException originalEx) {
@@ -19,19 +19,26 @@ package org.apache.shardingsphere.driver.executor;
 
 import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
+import org.apache.shardingsphere.driver.executor.hedge.HedgeExecutionGroupContextPreparer;
+import org.apache.shardingsphere.driver.executor.hedge.HedgedQueryExecutor;
+import org.apache.shardingsphere.driver.executor.hedge.HedgedQueryResult;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.context.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
+import org.apache.shardingsphere.infra.metrics.SQLStage;
+import org.apache.shardingsphere.infra.metrics.SQLStageMetricsRegistry;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.readwritesplitting.hedge.HedgedRead;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -53,6 +60,8 @@ public final class DriverJDBCExecutor {
     
     private final MetaDataRefreshEngine metadataRefreshEngine;
     
+    private final HedgedQueryExecutor hedgedQueryExecutor;
+    
     public DriverJDBCExecutor(final String databaseName, final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor) {
         this.databaseName = databaseName;
         this.metaDataContexts = metaDataContexts;
@@ -60,6 +69,7 @@ public final class DriverJDBCExecutor {
         metadataRefreshEngine = new MetaDataRefreshEngine(metaDataContexts.getDatabaseMetaData(databaseName),
                 metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().get(databaseName),
                 metaDataContexts.getOptimizerContext().getPlannerContexts(), metaDataContexts.getProps());
+        hedgedQueryExecutor = new HedgedQueryExecutor(jdbcExecutor);
     }
     
     /**
@@ -75,7 +85,34 @@ public final class DriverJDBCExecutor {
                                           final LogicSQL logicSQL, final ExecuteQueryCallback callback) throws SQLException {
         try {
             ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, metaDataContexts.getProps());
+            long startNanos = System.nanoTime();
             List<QueryResult> result = jdbcExecutor.execute(executionGroupContext, callback);
+            recordExecuteStage(logicSQL.getSqlStatementContext(), startNanos);
+            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
+            return result;
+        } finally {
+            ExecuteProcessEngine.clean();
+        }
+    }
+    
+    /**
+     * Execute hedged query.
+     *
+     * @param executionGroupContext execution group context
+     * @param executionContext execution context
+     * @param hedgedRead hedged read
+     * @param preparer hedge execution group context preparer
+     * @param callback execute query callback
+     * @return hedged query result
+     * @throws SQLException SQL exception
+     */
+    public HedgedQueryResult executeHedgedQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final ExecutionContext executionContext, final HedgedRead hedgedRead,
+                                                final HedgeExecutionGroupContextPreparer preparer, final ExecuteQueryCallback callback) throws SQLException {
+        try {
+            ExecuteProcessEngine.initialize(executionContext.getLogicSQL(), executionGroupContext, metaDataContexts.getProps());
+            long startNanos = System.nanoTime();
+            HedgedQueryResult result = hedgedQueryExecutor.executeQuery(executionGroupContext, executionContext, hedgedRead, preparer, callback);
+            recordExecuteStage(executionContext.getSqlStatementContext(), startNanos);
             ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             return result;
         } finally {
@@ -149,11 +186,17 @@ public final class DriverJDBCExecutor {
     
     private <T> List<T> doExecute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final SQLStatementContext<?> sqlStatementContext, final Collection<RouteUnit> routeUnits,
                                   final JDBCExecutorCallback<T> callback) throws SQLException {
+        long startNanos = System.nanoTime();
         List<T> results = jdbcExecutor.execute(executionGroupContext, callback);
+        recordExecuteStage(sqlStatementContext, startNanos);
         refreshMetaData(sqlStatementContext, routeUnits);
         return results;
     }
     
+    private void recordExecuteStage(final SQLStatementContext<?> sqlStatementContext, final long startNanos) {
+        SQLStageMetricsRegistry.getInstance().record(SQLStage.EXECUTE, sqlStatementContext.getSqlStatement(), sqlStatementContext.getTablesContext().getTableNames(), startNanos);
+    }
+    
     private void refreshMetaData(final SQLStatementContext<?> sqlStatementContext, final Collection<RouteUnit> routeUnits) throws SQLException {
         metadataRefreshEngine.refresh(sqlStatementContext, () -> routeUnits.stream()
                 .map(each -> each.getDataSourceMapper().getLogicName()).collect(Collectors.toCollection(() -> new ArrayList<>(routeUnits.size()))));
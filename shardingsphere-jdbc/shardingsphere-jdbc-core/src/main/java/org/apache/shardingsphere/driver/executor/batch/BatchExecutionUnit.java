@@ -18,12 +18,12 @@
 package org.apache.shardingsphere.driver.executor.batch;
 
 import com.google.common.collect.Lists;
-import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -44,9 +44,10 @@ public final class BatchExecutionUnit {
     
     private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
     
-    @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    private boolean coalesced;
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
@@ -70,4 +71,19 @@ public final class BatchExecutionUnit {
         }
         return result;
     }
+    
+    /**
+     * Coalesce all actual add batch calls into one execution of coalesced SQL.
+     *
+     * @param coalescedSQL coalesced SQL with parameters of all actual add batch calls
+     * @return coalesced batch execution unit
+     */
+    public BatchExecutionUnit coalesce(final String coalescedSQL) {
+        SQLUnit sqlUnit = executionUnit.getSqlUnit();
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(coalescedSQL, sqlUnit.getParameters(), sqlUnit.getTableRouteMappers())));
+        result.jdbcAndActualAddBatchCallTimesMap.putAll(jdbcAndActualAddBatchCallTimesMap);
+        result.actualCallAddBatchTimes = 1;
+        result.coalesced = true;
+        return result;
+    }
 }
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
@@ -31,31 +33,38 @@ import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Prepared statement executor to process add batch.
  */
 public final class BatchPreparedStatementExecutor {
     
+    private static final Pattern SINGLE_ROW_VALUES_PATTERN = Pattern.compile("\\sVALUES?\\s*(\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\))\\s*$", Pattern.CASE_INSENSITIVE);
+    
+    private static final int MAX_PARAMETER_COUNT = 65535;
+    
     private final MetaDataContexts metaDataContexts;
     
     private final JDBCExecutor jdbcExecutor;
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
@@ -66,7 +75,16 @@ public final class BatchPreparedStatementExecutor {
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>());
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
+    }
+    
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
     /**
@@ -84,44 +102,77 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnits.put(each, batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
+            }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
         }
-        return result;
+        batchCount++;
     }
     
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+    /**
+     * Coalesce single row inserts of every data source and SQL into one multiple rows insert.
+     *
+     * @param sqlStatementContext SQL statement context
+     */
+    public void coalesceInsertValues(final SQLStatementContext<?> sqlStatementContext) {
+        if (!isInsertValuesCoalescible(sqlStatementContext)) {
+            return;
+        }
+        Collection<BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            coalescedBatchExecutionUnits.add(coalesce(each));
+        }
+        batchExecutionUnits.clear();
+        for (BatchExecutionUnit each : coalescedBatchExecutionUnits) {
+            batchExecutionUnits.put(each.getExecutionUnit(), each);
+        }
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
-            }
+    private boolean isInsertValuesCoalescible(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext) || !metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.BATCH_INSERT_REWRITE_ENABLED)
+                || !(metaDataContexts.getDatabaseMetaData(databaseName).getResource().getDatabaseType() instanceof MySQLDatabaseType)) {
+            return false;
         }
+        InsertStatement insertStatement = ((InsertStatementContext) sqlStatementContext).getSqlStatement();
+        return !insertStatement.getInsertSelect().isPresent() && !InsertStatementHandler.getOnDuplicateKeyColumnsSegment(insertStatement).isPresent()
+                && 1 == ((InsertStatementContext) sqlStatementContext).getValueListCount();
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    private BatchExecutionUnit coalesce(final BatchExecutionUnit batchExecutionUnit) {
+        int actualCallAddBatchTimes = batchExecutionUnit.getActualCallAddBatchTimes();
+        String sql = batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql();
+        int parameterCount = batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().size();
+        Matcher matcher = SINGLE_ROW_VALUES_PATTERN.matcher(sql);
+        if (actualCallAddBatchTimes < 2 || parameterCount > MAX_PARAMETER_COUNT || !matcher.find()) {
+            return batchExecutionUnit;
+        }
+        String rowValues = matcher.group(1);
+        if (parameterCount != getParameterMarkerCount(rowValues) * actualCallAddBatchTimes) {
+            return batchExecutionUnit;
+        }
+        StringBuilder result = new StringBuilder(sql.length() + (rowValues.length() + 2) * (actualCallAddBatchTimes - 1));
+        result.append(sql, 0, matcher.end(1));
+        for (int i = 1; i < actualCallAddBatchTimes; i++) {
+            result.append(", ").append(rowValues);
+        }
+        result.append(sql, matcher.end(1), sql.length());
+        return batchExecutionUnit.coalesce(result.toString());
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
+    private int getParameterMarkerCount(final String rowValues) {
+        int result = 0;
+        for (int i = 0; i < rowValues.length(); i++) {
+            if ('?' == rowValues.charAt(i)) {
+                result++;
+            }
         }
-        batchExecutionUnits.addAll(newExecutionUnits);
+        return result;
     }
     
     /**
@@ -151,7 +202,7 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        return isNeedAccumulate(sqlStatementContext) || isCoalesced() ? accumulate(results) : results.get(0);
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext<?> sqlStatementContext) {
@@ -163,19 +214,27 @@ public final class BatchPreparedStatementExecutor {
         return false;
     }
     
+    private boolean isCoalesced() {
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            if (each.isCoalesced()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private int[] accumulate(final List<int[]> results) {
         int[] result = new int[batchCount];
         int count = 0;
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
-                    if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
-                }
+                BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(eachUnit.getExecutionUnit());
+                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = null == batchExecutionUnit ? Collections.emptyMap() : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
                 for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
+                    if (batchExecutionUnit.isCoalesced()) {
+                        result[entry.getKey()] = Statement.SUCCESS_NO_INFO;
+                        continue;
+                    }
                     int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
                     result[entry.getKey()] += value;
                 }
@@ -185,11 +244,6 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
-    }
-    
     /**
      * Get statements.
      *
@@ -232,12 +286,11 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == batchExecutionUnit) {
+            throw new IllegalStateException();
         }
-        throw new IllegalStateException();
+        return batchExecutionUnit.getParameterSets();
     }
     
     /**
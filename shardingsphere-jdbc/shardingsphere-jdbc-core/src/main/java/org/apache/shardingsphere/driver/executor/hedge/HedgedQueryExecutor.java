@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.hedge;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.readwritesplitting.hedge.HedgedRead;
+import org.apache.shardingsphere.readwritesplitting.hedge.HedgedReadStatistics;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Hedged query executor.
+ * 
+ * <p>Query is executed on the caller thread, if it does not return within hedge delay and hedge budget is available,
+ * the same query is executed on hedge data source by the scheduled executor of executor engine.
+ * The first succeeded execution wins, statements of the other one are canceled, and closed after the execution returns.</p>
+ */
+@RequiredArgsConstructor
+public final class HedgedQueryExecutor {
+    
+    private final JDBCExecutor jdbcExecutor;
+    
+    /**
+     * Execute query.
+     *
+     * @param executionGroupContext execution group context
+     * @param executionContext execution context
+     * @param hedgedRead hedged read
+     * @param preparer hedge execution group context preparer
+     * @param callback execute query callback
+     * @return hedged query result, which contains execution group context of the winner
+     * @throws SQLException SQL exception
+     */
+    public HedgedQueryResult executeQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final ExecutionContext executionContext, final HedgedRead hedgedRead,
+                                          final HedgeExecutionGroupContextPreparer preparer, final ExecuteQueryCallback callback) throws SQLException {
+        HedgeExecution hedgeExecution = new HedgeExecution(executionGroupContext, executionContext, hedgedRead.getHedgeDataSourceName(), hedgedRead.getStatistics(), preparer, callback);
+        Future<List<QueryResult>> hedgeFuture = jdbcExecutor.getExecutorEngine().schedule(hedgeExecution, hedgedRead.getDelayNanos());
+        List<QueryResult> queryResults;
+        try {
+            queryResults = jdbcExecutor.execute(executionGroupContext, callback);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            if (hedgeExecution.abort()) {
+                hedgeFuture.cancel(false);
+                throw ex;
+            }
+            List<QueryResult> hedgeQueryResults = await(hedgeFuture);
+            if (null == hedgeQueryResults) {
+                throw ex;
+            }
+            getStatements(executionGroupContext).forEach(this::closeQuietly);
+            return new HedgedQueryResult(hedgeExecution.getHedgeExecutionGroupContext(), hedgeQueryResults);
+        }
+        if (hedgeExecution.tryWinByPrimary()) {
+            hedgeFuture.cancel(false);
+            return new HedgedQueryResult(executionGroupContext, queryResults);
+        }
+        getStatements(executionGroupContext).forEach(this::closeQuietly);
+        return new HedgedQueryResult(hedgeExecution.getHedgeExecutionGroupContext(), await(hedgeFuture));
+    }
+    
+    private <T> T await(final Future<T> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new SQLException(ex.getCause());
+        }
+    }
+    
+    private Collection<Statement> getStatements(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        Collection<Statement> result = new LinkedList<>();
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            each.getInputs().forEach(input -> result.add(input.getStorageResource()));
+        }
+        return result;
+    }
+    
+    private void cancelQuietly(final Statement statement) {
+        try {
+            statement.cancel();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    private void closeQuietly(final Statement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    private enum HedgeState {
+        
+        PENDING, ABORTED, STARTED, PRIMARY_WON, HEDGE_WON
+    }
+    
+    @RequiredArgsConstructor
+    private final class HedgeExecution implements Callable<List<QueryResult>> {
+        
+        private final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
+        
+        private final ExecutionContext executionContext;
+        
+        private final String hedgeDataSourceName;
+        
+        private final HedgedReadStatistics statistics;
+        
+        private final HedgeExecutionGroupContextPreparer preparer;
+        
+        private final ExecuteQueryCallback callback;
+        
+        private final AtomicReference<HedgeState> state = new AtomicReference<>(HedgeState.PENDING);
+        
+        private volatile ExecutionGroupContext<JDBCExecutionUnit> hedgeExecutionGroupContext;
+        
+        @Override
+        public List<QueryResult> call() {
+            if (!state.compareAndSet(HedgeState.PENDING, HedgeState.STARTED) || !statistics.tryAcquireHedge()) {
+                return null;
+            }
+            try {
+                hedgeExecutionGroupContext = preparer.prepare(createHedgeRouteContext(executionContext.getRouteContext()), createHedgeExecutionUnits(executionContext.getExecutionUnits()));
+                // CHECKSTYLE:OFF
+            } catch (final SQLException | RuntimeException ex) {
+                // CHECKSTYLE:ON
+                statistics.releaseHedge();
+                return null;
+            }
+            if (HedgeState.STARTED != state.get()) {
+                statistics.releaseHedge();
+                getStatements(hedgeExecutionGroupContext).forEach(HedgedQueryExecutor.this::closeQuietly);
+                return null;
+            }
+            try {
+                List<QueryResult> result = jdbcExecutor.execute(hedgeExecutionGroupContext, callback);
+                if (state.compareAndSet(HedgeState.STARTED, HedgeState.HEDGE_WON)) {
+                    statistics.recordHedgeWin();
+                    getStatements(executionGroupContext).forEach(HedgedQueryExecutor.this::cancelQuietly);
+                    return result;
+                }
+                // CHECKSTYLE:OFF
+            } catch (final SQLException | RuntimeException ignored) {
+                // CHECKSTYLE:ON
+            }
+            getStatements(hedgeExecutionGroupContext).forEach(HedgedQueryExecutor.this::closeQuietly);
+            return null;
+        }
+        
+        private RouteContext createHedgeRouteContext(final RouteContext routeContext) {
+            RouteUnit routeUnit = routeContext.getRouteUnits().iterator().next();
+            RouteContext result = new RouteContext();
+            result.getRouteUnits().add(new RouteUnit(new RouteMapper(routeUnit.getDataSourceMapper().getLogicName(), hedgeDataSourceName), routeUnit.getTableMappers()));
+            return result;
+        }
+        
+        private Collection<ExecutionUnit> createHedgeExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
+            return executionUnits.stream().map(each -> new ExecutionUnit(hedgeDataSourceName, each.getSqlUnit())).collect(Collectors.toList());
+        }
+        
+        private boolean abort() {
+            return state.compareAndSet(HedgeState.PENDING, HedgeState.ABORTED);
+        }
+        
+        private boolean tryWinByPrimary() {
+            if (state.compareAndSet(HedgeState.PENDING, HedgeState.PRIMARY_WON)) {
+                return true;
+            }
+            if (!state.compareAndSet(HedgeState.STARTED, HedgeState.PRIMARY_WON)) {
+                return false;
+            }
+            ExecutionGroupContext<JDBCExecutionUnit> startedHedgeExecutionGroupContext = hedgeExecutionGroupContext;
+            if (null != startedHedgeExecutionGroupContext) {
+                getStatements(startedHedgeExecutionGroupContext).forEach(HedgedQueryExecutor.this::cancelQuietly);
+            }
+            return true;
+        }
+        
+        private ExecutionGroupContext<JDBCExecutionUnit> getHedgeExecutionGroupContext() {
+            return hedgeExecutionGroupContext;
+        }
+    }
+}
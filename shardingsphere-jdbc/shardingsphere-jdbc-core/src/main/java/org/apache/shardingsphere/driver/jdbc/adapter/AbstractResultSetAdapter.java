@@ -72,11 +72,6 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
         return connection.getContextManager().getMetaDataContexts().getDatabaseMetaData(connection.getDatabaseName());
     }
     
-    @Override
-    public final int findColumn(final String columnLabel) throws SQLException {
-        return resultSets.get(0).findColumn(columnLabel);
-    }
-    
     @Override
     public final void close() throws SQLException {
         closed = true;
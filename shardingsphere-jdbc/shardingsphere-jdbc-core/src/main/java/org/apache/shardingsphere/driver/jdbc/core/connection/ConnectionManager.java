@@ -27,13 +27,20 @@ import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocation
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.executor.circuit.CircuitBreakerSQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.circuit.StorageNodeCircuitBreakerRegistry;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
 import org.apache.shardingsphere.infra.instance.definition.InstanceId;
 import org.apache.shardingsphere.infra.instance.definition.InstanceType;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 import org.apache.shardingsphere.traffic.rule.TrafficRule;
 import org.apache.shardingsphere.transaction.ConnectionSavepointManager;
 import org.apache.shardingsphere.transaction.ConnectionTransaction;
@@ -49,11 +56,14 @@ import java.sql.Savepoint;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 
 /**
  * Connection manager.
@@ -64,6 +74,8 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     private final Map<String, DataSource> physicalDataSourceMap = new LinkedHashMap<>();
     
+    private final DataSourcesMetaData dataSourcesMetaData;
+    
     @Getter
     private final ConnectionTransaction connectionTransaction;
     
@@ -75,10 +87,13 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     private final Random random = new SecureRandom();
     
+    private volatile boolean writtenInDeferredTransaction;
+    
     public ConnectionManager(final String databaseName, final ContextManager contextManager) {
         dataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
         dataSourceMap.putAll(getTrafficDataSourceMap(databaseName, contextManager));
         physicalDataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
+        dataSourcesMetaData = contextManager.getMetaDataContexts().getDatabaseMetaData(databaseName).getResource().getDataSourcesMetaData();
         connectionTransaction = createConnectionTransaction(databaseName, contextManager);
     }
     
@@ -149,9 +164,10 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
      * @throws SQLException SQL exception
      */
     public void commit() throws SQLException {
-        if (connectionTransaction.isLocalTransaction() && connectionTransaction.isRollbackOnly()) {
+        writtenInDeferredTransaction = false;
+        if (isTransactionOnCachedConnections() && connectionTransaction.isRollbackOnly()) {
             forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
-        } else if (connectionTransaction.isLocalTransaction() && !connectionTransaction.isRollbackOnly()) {
+        } else if (isTransactionOnCachedConnections() && !connectionTransaction.isRollbackOnly()) {
             forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit);
         } else {
             connectionTransaction.commit();
@@ -164,7 +180,8 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
      * @throws SQLException SQL exception
      */
     public void rollback() throws SQLException {
-        if (connectionTransaction.isLocalTransaction()) {
+        writtenInDeferredTransaction = false;
+        if (isTransactionOnCachedConnections()) {
             forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
         } else {
             connectionTransaction.rollback();
@@ -183,6 +200,70 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         }
     }
     
+    private boolean isTransactionOnCachedConnections() {
+        return connectionTransaction.isLocalTransaction() || connectionTransaction.isBeginDeferred();
+    }
+    
+    /**
+     * Commit deferred transaction and restore auto commit of cached connections.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void commitDeferredTransaction() throws SQLException {
+        try {
+            commit();
+            forceExecuteTemplate.execute(cachedConnections.values(), connection -> connection.setAutoCommit(true));
+        } finally {
+            connectionTransaction.setBeginDeferred(false);
+        }
+    }
+    
+    /**
+     * Handle deferred transaction before SQL executing.
+     * 
+     * <p>Deferred transaction keeps running as local transaction if all execution units can share the cached connection,
+     * otherwise distributed transaction begins if nothing has been written in the deferred transaction.</p>
+     *
+     * @param executionUnits execution units
+     * @param sqlStatement SQL statement
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @throws SQLException SQL exception
+     */
+    public void handleDeferredTransaction(final Collection<ExecutionUnit> executionUnits, final SQLStatement sqlStatement, final int maxConnectionsSizePerQuery) throws SQLException {
+        if (!connectionTransaction.isBeginDeferred()) {
+            return;
+        }
+        Map<String, Integer> executionUnitCounts = new HashMap<>();
+        for (ExecutionUnit each : executionUnits) {
+            executionUnitCounts.merge(each.getDataSourceName(), 1, Integer::sum);
+        }
+        if (!isSingleConnectionSufficient(executionUnitCounts, maxConnectionsSizePerQuery)) {
+            beginDeferredTransaction();
+            return;
+        }
+        if (!(sqlStatement instanceof SelectStatement) || SelectStatementHandler.getLockSegment((SelectStatement) sqlStatement).isPresent()) {
+            writtenInDeferredTransaction = true;
+        }
+    }
+    
+    private boolean isSingleConnectionSufficient(final Map<String, Integer> executionUnitCounts, final int maxConnectionsSizePerQuery) {
+        Set<String> dataSourceNames = new HashSet<>(cachedConnections.keySet());
+        dataSourceNames.addAll(executionUnitCounts.keySet());
+        return dataSourceNames.size() <= 1 && cachedConnections.size() <= 1 && (1 == maxConnectionsSizePerQuery || executionUnitCounts.values().stream().allMatch(each -> 1 == each));
+    }
+    
+    private void beginDeferredTransaction() throws SQLException {
+        if (writtenInDeferredTransaction) {
+            throw new SQLException("Can not access another data source after writing in transaction with `transaction-local-fast-path-enabled`.");
+        }
+        try {
+            forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit);
+        } finally {
+            close();
+        }
+        connectionTransaction.begin();
+    }
+    
     /**
      * Set savepoint.
      *
@@ -299,6 +380,9 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         DataSource dataSource = dataSourceMap.get(dataSourceName);
         Preconditions.checkState(null != dataSource, "Missing the data source name: '%s'", dataSourceName);
+        if (connectionTransaction.isBeginDeferred() && !cachedConnections.isEmpty() && !cachedConnections.containsKey(dataSourceName)) {
+            beginDeferredTransaction();
+        }
         Collection<Connection> connections;
         synchronized (cachedConnections) {
             connections = cachedConnections.get(dataSourceName);
@@ -356,8 +440,25 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     }
     
     private Connection createConnection(final String dataSourceName, final DataSource dataSource) throws SQLException {
+        if (connectionTransaction.isBeginDeferred()) {
+            Connection result = getPhysicalConnection(dataSourceName, dataSource);
+            result.setAutoCommit(false);
+            return result;
+        }
         Optional<Connection> connectionInTransaction = isRawJdbcDataSource(dataSourceName) ? connectionTransaction.getConnection(dataSourceName) : Optional.empty();
-        return connectionInTransaction.isPresent() ? connectionInTransaction.get() : dataSource.getConnection();
+        return connectionInTransaction.isPresent() ? connectionInTransaction.get() : getPhysicalConnection(dataSourceName, dataSource);
+    }
+    
+    private Connection getPhysicalConnection(final String dataSourceName, final DataSource dataSource) throws SQLException {
+        try {
+            return dataSource.getConnection();
+        } catch (final SQLException ex) {
+            StorageNodeCircuitBreakerRegistry circuitBreakerRegistry = StorageNodeCircuitBreakerRegistry.getInstance();
+            if (circuitBreakerRegistry.isEnabled() && CircuitBreakerSQLExecutionHook.isStorageNodeFailure(ex)) {
+                circuitBreakerRegistry.recordFailure(dataSourcesMetaData.getDataSourceMetaData(dataSourceName));
+            }
+            throw ex;
+        }
     }
     
     private boolean isRawJdbcDataSource(final String dataSourceName) {
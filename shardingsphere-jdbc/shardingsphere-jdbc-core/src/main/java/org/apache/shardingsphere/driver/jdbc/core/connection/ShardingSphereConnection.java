@@ -22,7 +22,15 @@ import org.apache.shardingsphere.driver.jdbc.adapter.AbstractConnectionAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.datasource.metadata.ShardingSphereDatabaseMetaData;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSpherePreparedStatement;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache.ExecuteResultsLoader;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache.QueryResultCacheInvalidation;
 import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.readwritesplitting.route.impl.SessionWriteWatermark;
 import org.apache.shardingsphere.traffic.context.TrafficContextHolder;
 import org.apache.shardingsphere.transaction.TransactionHolder;
 
@@ -32,6 +40,8 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * ShardingSphere connection.
@@ -55,6 +65,11 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     
     private volatile boolean closed;
     
+    private final QueryResultCacheInvalidation queryResultCacheInvalidation = new QueryResultCacheInvalidation();
+    
+    @Getter
+    private final SessionWriteWatermark sessionWriteWatermark = new SessionWriteWatermark();
+    
     public ShardingSphereConnection(final String databaseName, final ContextManager contextManager) {
         this.databaseName = databaseName;
         this.contextManager = contextManager;
@@ -70,6 +85,28 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
         return connectionManager.getConnectionTransaction().isHoldTransaction(autoCommit);
     }
     
+    /**
+     * Load query results from query result cache, or execute query by loader and cache query results if not in transaction.
+     *
+     * @param logicSQL logic SQL
+     * @param loader query results loader
+     * @return query results
+     * @throws SQLException SQL exception
+     */
+    public List<QueryResult> loadQueryResults(final LogicSQL logicSQL, final ExecuteResultsLoader loader) throws SQLException {
+        List<ExecuteResult> executeResults = isHoldTransaction() ? loader.load() : contextManager.getQueryResultCache().load(databaseName, logicSQL, loader);
+        return executeResults.stream().map(each -> (QueryResult) each).collect(Collectors.toList());
+    }
+    
+    /**
+     * Invalidate cached query results of tables written by SQL statement, after the writes are committed.
+     *
+     * @param sqlStatementContext executed SQL statement context
+     */
+    public void invalidateQueryResultCache(final SQLStatementContext<?> sqlStatementContext) {
+        queryResultCacheInvalidation.written(contextManager.getQueryResultCache(), databaseName, sqlStatementContext, isHoldTransaction());
+    }
+    
     @Override
     public DatabaseMetaData getMetaData() {
         return new ShardingSphereDatabaseMetaData(this);
@@ -128,10 +165,16 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
     @Override
     public void setAutoCommit(final boolean autoCommit) throws SQLException {
         this.autoCommit = autoCommit;
-        if (connectionManager.getConnectionTransaction().isLocalTransaction()) {
-            processLocalTransaction();
-        } else {
-            processDistributeTransaction();
+        try {
+            if (connectionManager.getConnectionTransaction().isLocalTransaction()) {
+                processLocalTransaction();
+            } else {
+                processDistributeTransaction();
+            }
+        } finally {
+            if (autoCommit) {
+                queryResultCacheInvalidation.transactionFinished(contextManager.getQueryResultCache());
+            }
         }
     }
     
@@ -146,11 +189,19 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
         switch (connectionManager.getConnectionTransaction().getDistributedTransactionOperationType(autoCommit)) {
             case BEGIN:
                 connectionManager.close();
-                connectionManager.getConnectionTransaction().begin();
+                if (contextManager.getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.TRANSACTION_LOCAL_FAST_PATH_ENABLED)) {
+                    connectionManager.getConnectionTransaction().setBeginDeferred(true);
+                } else {
+                    connectionManager.getConnectionTransaction().begin();
+                }
                 TransactionHolder.setInTransaction();
                 break;
             case COMMIT:
-                connectionManager.getConnectionTransaction().commit();
+                if (connectionManager.getConnectionTransaction().isBeginDeferred()) {
+                    connectionManager.commitDeferredTransaction();
+                } else {
+                    connectionManager.getConnectionTransaction().commit();
+                }
                 break;
             default:
                 break;
@@ -165,6 +216,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
             connectionManager.getConnectionTransaction().setRollbackOnly(false);
             TransactionHolder.clear();
             TrafficContextHolder.remove();
+            queryResultCacheInvalidation.transactionFinished(contextManager.getQueryResultCache());
         }
     }
     
@@ -176,6 +228,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
             connectionManager.getConnectionTransaction().setRollbackOnly(false);
             TransactionHolder.clear();
             TrafficContextHolder.remove();
+            queryResultCacheInvalidation.transactionFinished(contextManager.getQueryResultCache());
         }
     }
     
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.resultset;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetFactory;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cached query result set utility.
+ * 
+ * <p>No statement is executed when query results are loaded from query result cache,
+ * so result sets which only carry meta data of query results are created for {@link ShardingSphereResultSet}, while rows are read from merged result.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CachedQueryResultSetUtil {
+    
+    private static final RowSetFactory ROW_SET_FACTORY = createRowSetFactory();
+    
+    @SneakyThrows(SQLException.class)
+    private static RowSetFactory createRowSetFactory() {
+        return RowSetProvider.newFactory();
+    }
+    
+    /**
+     * Create result sets with meta data of query results.
+     *
+     * @param queryResults query results
+     * @return result sets with meta data of query results
+     * @throws SQLException SQL exception
+     */
+    public static List<ResultSet> createResultSets(final List<QueryResult> queryResults) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return Collections.emptyList();
+        }
+        CachedRowSet result = ROW_SET_FACTORY.createCachedRowSet();
+        result.setMetaData(createMetaData(queryResults.get(0).getMetaData()));
+        result.setType(ResultSet.TYPE_FORWARD_ONLY);
+        result.setConcurrency(ResultSet.CONCUR_READ_ONLY);
+        return Collections.singletonList(result);
+    }
+    
+    private static RowSetMetaDataImpl createMetaData(final QueryResultMetaData queryResultMetaData) throws SQLException {
+        RowSetMetaDataImpl result = new RowSetMetaDataImpl();
+        int columnCount = queryResultMetaData.getColumnCount();
+        result.setColumnCount(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            result.setTableName(i, queryResultMetaData.getTableName(i));
+            result.setColumnName(i, queryResultMetaData.getColumnName(i));
+            result.setColumnLabel(i, queryResultMetaData.getColumnLabel(i));
+            result.setColumnType(i, queryResultMetaData.getColumnType(i));
+            result.setColumnTypeName(i, queryResultMetaData.getColumnTypeName(i));
+            result.setPrecision(i, Math.max(0, queryResultMetaData.getColumnLength(i)));
+            result.setScale(i, Math.max(0, queryResultMetaData.getDecimals(i)));
+            result.setSigned(i, queryResultMetaData.isSigned(i));
+            result.setNullable(i, queryResultMetaData.isNotNull(i) ? ResultSetMetaData.columnNoNulls : ResultSetMetaData.columnNullable);
+            result.setAutoIncrement(i, queryResultMetaData.isAutoIncrement(i));
+        }
+        return result;
+    }
+}
@@ -418,6 +418,11 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         return getObject(getIndexFromColumnLabelAndIndexMap(columnLabel), type);
     }
     
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        return getIndexFromColumnLabelAndIndexMap(columnLabel);
+    }
+    
     private Integer getIndexFromColumnLabelAndIndexMap(final String columnLabel) throws SQLFeatureNotSupportedException {
         Integer columnIndex = columnLabelAndIndexMap.get(columnLabel);
         if (null == columnIndex) {
@@ -25,8 +25,10 @@ import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
+import org.apache.shardingsphere.driver.executor.hedge.HedgedQueryResult;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.resultset.CachedQueryResultSetUtil;
 import org.apache.shardingsphere.driver.jdbc.core.resultset.GeneratedKeysResultSet;
 import org.apache.shardingsphere.driver.jdbc.core.resultset.ShardingSphereResultSet;
 import org.apache.shardingsphere.driver.jdbc.core.statement.metadata.ShardingSphereParameterMetaData;
@@ -71,12 +73,17 @@ import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.hedge.HedgedRead;
+import org.apache.shardingsphere.readwritesplitting.hedge.HedgedReadRouter;
+import org.apache.shardingsphere.readwritesplitting.route.impl.SessionWriteWatermarkHolder;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
 import org.apache.shardingsphere.traffic.context.TrafficContext;
@@ -192,7 +199,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private boolean isStatementsCacheable(final Collection<RuleConfiguration> configs) {
         // TODO Consider cache statements with more case
-        return 1 == configs.size() && configs.iterator().next() instanceof ReadwriteSplittingRuleConfiguration && !HintManager.isInstantiated();
+        return 1 == configs.size() && configs.iterator().next() instanceof ReadwriteSplittingRuleConfiguration && !HintManager.isInstantiated() && !isHedgedReadEnabled();
     }
     
     @Override
@@ -215,9 +222,10 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             if (executionContext.getRouteContext().isFederated()) {
                 return executeFederationQuery(logicSQL);
             }
-            List<QueryResult> queryResults = executeQuery0();
+            List<QueryResult> queryResults = connection.loadQueryResults(logicSQL, () -> new ArrayList<>(executeQuery0()));
             MergedResult mergedResult = mergeQuery(queryResults);
-            result = new ShardingSphereResultSet(getShardingSphereResultSet(), mergedResult, this, executionContext);
+            List<ResultSet> resultSets = getShardingSphereResultSet();
+            result = new ShardingSphereResultSet(resultSets.isEmpty() ? CachedQueryResultSetUtil.createResultSets(queryResults) : resultSets, mergedResult, this, executionContext);
         } catch (SQLException ex) {
             handleExceptionInTransaction(connection, metaDataContexts);
             throw ex;
@@ -275,9 +283,50 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
         cacheStatements(executionGroupContext.getInputGroups());
-        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(),
-                new PreparedStatementExecuteQueryCallback(metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()).getResource().getDatabaseType(), sqlStatement,
-                        SQLExecutorExceptionHandler.isExceptionThrown()));
+        PreparedStatementExecuteQueryCallback callback = new PreparedStatementExecuteQueryCallback(metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()).getResource().getDatabaseType(),
+                sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown());
+        Optional<HedgedRead> hedgedRead = findHedgedRead();
+        return hedgedRead.isPresent()
+                ? executeHedgedQuery(executionGroupContext, hedgedRead.get(), callback)
+                : executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(), callback);
+    }
+    
+    private boolean isHedgedReadEnabled() {
+        return metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_HEDGED_READ_ENABLED);
+    }
+    
+    private Optional<HedgedRead> findHedgedRead() {
+        if (!isHedgedReadEnabled() || connection.isHoldTransaction() || 1 != executionContext.getExecutionUnits().size()) {
+            return Optional.empty();
+        }
+        Optional<ReadwriteSplittingRule> rule = metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()).getRuleMetaData().findSingleRule(ReadwriteSplittingRule.class);
+        return rule.isPresent() ? new HedgedReadRouter(rule.get(), metaDataContexts.getProps()).route(executionContext.getRouteContext(), connection.getSessionWriteWatermark()) : Optional.empty();
+    }
+    
+    private List<QueryResult> executeHedgedQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final HedgedRead hedgedRead,
+                                                 final PreparedStatementExecuteQueryCallback callback) throws SQLException {
+        HedgedQueryResult result = executor.getRegularExecutor().executeHedgedQuery(executionGroupContext, executionContext, hedgedRead, this::prepareHedge, callback);
+        if (result.getExecutionGroupContext() != executionGroupContext) {
+            clearPrevious();
+            for (ExecutionGroup<JDBCExecutionUnit> each : result.getExecutionGroupContext().getInputGroups()) {
+                each.getInputs().forEach(eachInput -> {
+                    statements.add((PreparedStatement) eachInput.getStorageResource());
+                    parameterSets.add(eachInput.getExecutionUnit().getSqlUnit().getParameters());
+                });
+            }
+        }
+        return result.getQueryResults();
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> prepareHedge(final RouteContext routeContext, final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        ExecutionGroupContext<JDBCExecutionUnit> result = createDriverExecutionPrepareEngine().prepare(routeContext, executionUnits);
+        for (ExecutionGroup<JDBCExecutionUnit> each : result.getInputGroups()) {
+            for (JDBCExecutionUnit eachInput : each.getInputs()) {
+                replaySetParameter((PreparedStatement) eachInput.getStorageResource(), eachInput.getExecutionUnit().getSqlUnit().getParameters());
+                getMethodInvocationRecorder().replay(eachInput.getStorageResource());
+            }
+        }
+        return result;
     }
     
     private ResultSet executeFederationQuery(final LogicSQL logicSQL) throws SQLException {
@@ -321,6 +370,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             throw ex;
         } finally {
             clearBatch();
+            connection.invalidateQueryResultCache(sqlStatementContext);
         }
     }
     
@@ -381,6 +431,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             throw ex;
         } finally {
             clearBatch();
+            connection.invalidateQueryResultCache(sqlStatementContext);
         }
     }
     
@@ -400,10 +451,18 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext() throws SQLException {
+        handleDeferredTransaction(executionContext.getExecutionUnits());
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine();
         return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
     }
     
+    private void handleDeferredTransaction(final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        if (connection.getConnectionManager().getConnectionTransaction().isBeginDeferred()) {
+            connection.getConnectionManager().handleDeferredTransaction(executionUnits, executionContext.getSqlStatementContext().getSqlStatement(),
+                    metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+        }
+    }
+    
     private JDBCExecutorCallback<Boolean> createExecuteCallback() {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
         return new JDBCExecutorCallback<Boolean>(metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()).getResource().getDatabaseType(), sqlStatement, isExceptionThrown) {
@@ -468,7 +527,13 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL) {
         SQLCheckEngine.check(logicSQL.getSqlStatementContext().getSqlStatement(), logicSQL.getParameters(),
                 metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()).getRuleMetaData().getRules(), connection.getDatabaseName(), metaDataContexts.getDatabaseMap(), null);
-        ExecutionContext result = kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()), metaDataContexts.getProps());
+        ExecutionContext result;
+        SessionWriteWatermarkHolder.set(connection.getSessionWriteWatermark());
+        try {
+            result = kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()), metaDataContexts.getProps());
+        } finally {
+            SessionWriteWatermarkHolder.remove();
+        }
         findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.addAll(generatedKey.getGeneratedValues()));
         return result;
     }
@@ -563,18 +628,21 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             throw ex;
         } finally {
             clearBatch();
+            connection.invalidateQueryResultCache(sqlStatementContext);
         }
     }
     
     private void initBatchPreparedStatementExecutor() throws SQLException {
-        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
-                JDBCDriverType.PREPARED_STATEMENT, metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY),
-                connection.getConnectionManager(), statementManager, statementOption, metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()).getRuleMetaData().getRules());
+        batchPreparedStatementExecutor.coalesceInsertValues(executionContext.getSqlStatementContext());
         List<ExecutionUnit> executionUnits = new ArrayList<>(batchPreparedStatementExecutor.getBatchExecutionUnits().size());
         for (BatchExecutionUnit each : batchPreparedStatementExecutor.getBatchExecutionUnits()) {
             ExecutionUnit executionUnit = each.getExecutionUnit();
             executionUnits.add(executionUnit);
         }
+        handleDeferredTransaction(executionUnits);
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
+                JDBCDriverType.PREPARED_STATEMENT, metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY),
+                connection.getConnectionManager(), statementManager, statementOption, metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()).getRuleMetaData().getRules());
         batchPreparedStatementExecutor.init(prepareEngine.prepare(executionContext.getRouteContext(), executionUnits));
         setBatchParametersForStatements();
     }
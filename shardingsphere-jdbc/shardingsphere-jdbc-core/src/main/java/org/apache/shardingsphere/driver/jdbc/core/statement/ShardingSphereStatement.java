@@ -25,8 +25,10 @@ import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteCallback;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteUpdateCallback;
 import org.apache.shardingsphere.driver.executor.callback.impl.StatementExecuteQueryCallback;
+import org.apache.shardingsphere.driver.executor.hedge.HedgedQueryResult;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.resultset.CachedQueryResultSetUtil;
 import org.apache.shardingsphere.driver.jdbc.core.resultset.GeneratedKeysResultSet;
 import org.apache.shardingsphere.driver.jdbc.core.resultset.ShardingSphereResultSet;
 import org.apache.shardingsphere.driver.jdbc.exception.SQLExceptionErrorCode;
@@ -67,11 +69,16 @@ import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.readwritesplitting.hedge.HedgedRead;
+import org.apache.shardingsphere.readwritesplitting.hedge.HedgedReadRouter;
+import org.apache.shardingsphere.readwritesplitting.route.impl.SessionWriteWatermarkHolder;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
 import org.apache.shardingsphere.traffic.context.TrafficContext;
@@ -123,6 +130,8 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private TrafficContext trafficContext;
     
+    private SQLStatementContext<?> executedSQLStatementContext;
+    
     public ShardingSphereStatement(final ShardingSphereConnection connection) {
         this(connection, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
     }
@@ -161,9 +170,10 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             if (executionContext.getRouteContext().isFederated()) {
                 return executeFederationQuery(logicSQL);
             }
-            List<QueryResult> queryResults = executeQuery0();
+            List<QueryResult> queryResults = connection.loadQueryResults(logicSQL, () -> new ArrayList<>(executeQuery0()));
             MergedResult mergedResult = mergeQuery(queryResults);
-            result = new ShardingSphereResultSet(getShardingSphereResultSets(), mergedResult, this, executionContext);
+            List<ResultSet> resultSets = getShardingSphereResultSets();
+            result = new ShardingSphereResultSet(resultSets.isEmpty() ? CachedQueryResultSetUtil.createResultSets(queryResults) : resultSets, mergedResult, this, executionContext);
         } catch (SQLException ex) {
             handleExceptionInTransaction(connection, metaDataContexts);
             throw ex;
@@ -202,7 +212,41 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         cacheStatements(executionGroupContext.getInputGroups());
         StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()).getResource().getDatabaseType(),
                 executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
-        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(), callback);
+        Optional<HedgedRead> hedgedRead = findHedgedRead();
+        return hedgedRead.isPresent()
+                ? executeHedgedQuery(executionGroupContext, hedgedRead.get(), callback)
+                : executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(), callback);
+    }
+    
+    private Optional<HedgedRead> findHedgedRead() {
+        if (!metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_HEDGED_READ_ENABLED)
+                || connection.isHoldTransaction() || 1 != executionContext.getExecutionUnits().size()) {
+            return Optional.empty();
+        }
+        Optional<ReadwriteSplittingRule> rule = metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()).getRuleMetaData().findSingleRule(ReadwriteSplittingRule.class);
+        return rule.isPresent() ? new HedgedReadRouter(rule.get(), metaDataContexts.getProps()).route(executionContext.getRouteContext(), connection.getSessionWriteWatermark()) : Optional.empty();
+    }
+    
+    private List<QueryResult> executeHedgedQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final HedgedRead hedgedRead,
+                                                 final StatementExecuteQueryCallback callback) throws SQLException {
+        HedgedQueryResult result = executor.getRegularExecutor().executeHedgedQuery(executionGroupContext, executionContext, hedgedRead, this::prepareHedge, callback);
+        if (result.getExecutionGroupContext() != executionGroupContext) {
+            statements.clear();
+            for (ExecutionGroup<JDBCExecutionUnit> each : result.getExecutionGroupContext().getInputGroups()) {
+                statements.addAll(each.getInputs().stream().map(JDBCExecutionUnit::getStorageResource).collect(Collectors.toList()));
+            }
+        }
+        return result.getQueryResults();
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> prepareHedge(final RouteContext routeContext, final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        ExecutionGroupContext<JDBCExecutionUnit> result = createDriverExecutionPrepareEngine().prepare(routeContext, executionUnits);
+        for (ExecutionGroup<JDBCExecutionUnit> each : result.getInputGroups()) {
+            for (JDBCExecutionUnit eachInput : each.getInputs()) {
+                getMethodInvocationRecorder().replay(eachInput.getStorageResource());
+            }
+        }
+        return result;
     }
     
     private ResultSet executeFederationQuery(final LogicSQL logicSQL) throws SQLException {
@@ -240,6 +284,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             throw ex;
         } finally {
             currentResultSet = null;
+            invalidateQueryResultCache();
         }
     }
     
@@ -268,6 +313,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             throw ex;
         } finally {
             currentResultSet = null;
+            invalidateQueryResultCache();
         }
     }
     
@@ -294,6 +340,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             throw ex;
         } finally {
             currentResultSet = null;
+            invalidateQueryResultCache();
         }
     }
     
@@ -320,6 +367,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             throw ex;
         } finally {
             currentResultSet = null;
+            invalidateQueryResultCache();
         }
     }
     
@@ -438,6 +486,14 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             return execute(executionGroupContext, callback, executionContext.getSqlStatementContext().getSqlStatement(), executionContext.getRouteContext().getRouteUnits());
         } finally {
             currentResultSet = null;
+            invalidateQueryResultCache();
+        }
+    }
+    
+    private void invalidateQueryResultCache() {
+        if (null != executedSQLStatementContext) {
+            connection.invalidateQueryResultCache(executedSQLStatementContext);
+            executedSQLStatementContext = null;
         }
     }
     
@@ -474,14 +530,30 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         clearStatements();
         SQLCheckEngine.check(logicSQL.getSqlStatementContext().getSqlStatement(), logicSQL.getParameters(),
                 metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()).getRuleMetaData().getRules(), connection.getDatabaseName(), metaDataContexts.getDatabaseMap(), null);
-        return kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()), metaDataContexts.getProps());
+        ExecutionContext result;
+        SessionWriteWatermarkHolder.set(connection.getSessionWriteWatermark());
+        try {
+            result = kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()), metaDataContexts.getProps());
+        } finally {
+            SessionWriteWatermarkHolder.remove();
+        }
+        executedSQLStatementContext = logicSQL.getSqlStatementContext();
+        return result;
     }
     
     private ExecutionGroupContext<JDBCExecutionUnit> createExecutionContext() throws SQLException {
+        handleDeferredTransaction(executionContext.getExecutionUnits());
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine();
         return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
     }
     
+    private void handleDeferredTransaction(final Collection<ExecutionUnit> executionUnits) throws SQLException {
+        if (connection.getConnectionManager().getConnectionTransaction().isBeginDeferred()) {
+            connection.getConnectionManager().handleDeferredTransaction(executionUnits, executionContext.getSqlStatementContext().getSqlStatement(),
+                    metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+        }
+    }
+    
     private ExecutionGroupContext<RawSQLExecutionUnit> createRawExecutionContext() throws SQLException {
         int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         return new RawExecutionPrepareEngine(maxConnectionsSizePerQuery, metaDataContexts.getDatabaseMetaData(connection.getDatabaseName()).getRuleMetaData().getRules())
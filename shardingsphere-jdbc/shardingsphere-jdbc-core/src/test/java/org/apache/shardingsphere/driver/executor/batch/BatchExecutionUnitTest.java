@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -60,6 +61,19 @@ public final class BatchExecutionUnitTest {
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
                 + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
-                + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
+                + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0, coalesced=false)", DATA_SOURCE_NAME, SQL, 1, "null")));
+    }
+    
+    @Test
+    public void assertCoalesce() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Arrays.asList(1, 2))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        batchExecutionUnit.mapAddBatchCount(1);
+        BatchExecutionUnit actual = batchExecutionUnit.coalesce("coalesced SQL");
+        assertTrue(actual.isCoalesced());
+        assertThat(actual.getExecutionUnit().getSqlUnit().getSql(), is("coalesced SQL"));
+        assertThat(actual.getActualCallAddBatchTimes(), is(1));
+        assertThat(actual.getJdbcAndActualAddBatchCallTimesMap(), is(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap()));
+        assertThat(actual.getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(1, 2))));
     }
 }
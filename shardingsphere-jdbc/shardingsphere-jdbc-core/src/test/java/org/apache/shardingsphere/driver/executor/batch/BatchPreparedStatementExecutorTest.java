@@ -18,7 +18,11 @@
 package org.apache.shardingsphere.driver.executor.batch;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.driver.executor.AbstractBaseExecutorTest;
@@ -29,6 +33,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
 import org.junit.Test;
 import org.mockito.Mock;
 
@@ -37,14 +43,21 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -54,6 +67,8 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO t_order (order_id, status) VALUES (?, ?)";
+    
     private BatchPreparedStatementExecutor actual;
     
     @Mock
@@ -127,16 +142,83 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnitsWithSameDataSourceAndSQL() {
+        actual.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", INSERT_SQL, 1, "a"), createExecutionUnit("ds_1", INSERT_SQL, 2, "b")));
+        actual.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", INSERT_SQL, 3, "c")));
+        assertThat(actual.getBatchExecutionUnits().size(), is(2));
+        BatchExecutionUnit batchExecutionUnit = actual.getBatchExecutionUnits().iterator().next();
+        assertThat(batchExecutionUnit.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(1, "a"), Arrays.<Object>asList(3, "c"))));
+        assertThat(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+    }
+    
+    @Test
+    public void assertCoalesceInsertValues() {
+        mockBatchInsertRewrite(DatabaseTypeFactory.getInstance("MySQL"));
+        actual.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", INSERT_SQL, 1, "a"), createExecutionUnit("ds_1", INSERT_SQL, 2, "b")));
+        actual.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", INSERT_SQL, 3, "c")));
+        actual.coalesceInsertValues(mockInsertStatementContext());
+        Iterator<BatchExecutionUnit> batchExecutionUnits = actual.getBatchExecutionUnits().iterator();
+        BatchExecutionUnit coalescedBatchExecutionUnit = batchExecutionUnits.next();
+        assertTrue(coalescedBatchExecutionUnit.isCoalesced());
+        assertThat(coalescedBatchExecutionUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(coalescedBatchExecutionUnit.getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(1, "a", 3, "c"))));
+        BatchExecutionUnit singleRowBatchExecutionUnit = batchExecutionUnits.next();
+        assertFalse(singleRowBatchExecutionUnit.isCoalesced());
+        assertThat(singleRowBatchExecutionUnit.getExecutionUnit().getSqlUnit().getSql(), is(INSERT_SQL));
+    }
+    
+    @Test
+    public void assertCoalesceInsertValuesWithoutMySQL() {
+        mockBatchInsertRewrite(DatabaseTypeFactory.getInstance("H2"));
+        actual.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", INSERT_SQL, 1, "a")));
+        actual.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", INSERT_SQL, 3, "c")));
+        actual.coalesceInsertValues(mockInsertStatementContext());
+        assertFalse(actual.getBatchExecutionUnits().iterator().next().isCoalesced());
+    }
+    
+    @Test
+    public void assertExecuteBatchWithCoalescedInsertValues() throws SQLException {
+        mockBatchInsertRewrite(DatabaseTypeFactory.getInstance("MySQL"));
+        actual.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", INSERT_SQL, 1, "a")));
+        actual.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", INSERT_SQL, 3, "c")));
+        actual.coalesceInsertValues(mockInsertStatementContext());
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{2});
+        Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(
+                new JDBCExecutionUnit(actual.getBatchExecutionUnits().iterator().next().getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, preparedStatement))));
+        actual.init(new ExecutionGroupContext<>(executionGroups));
+        assertThat(actual.executeBatch(sqlStatementContext), is(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final String sql, final Object... parameters) {
+        String actualSQL = "ds_0".equals(dataSourceName) ? sql.replace("t_order", "t_order_0") : sql;
+        return new ExecutionUnit(dataSourceName, new SQLUnit(actualSQL, new LinkedList<>(Arrays.asList(parameters))));
+    }
+    
+    private void mockBatchInsertRewrite(final DatabaseType databaseType) {
+        MetaDataContexts metaDataContexts = getConnection().getContextManager().getMetaDataContexts();
+        when(metaDataContexts.getProps().getValue(ConfigurationPropertyKey.BATCH_INSERT_REWRITE_ENABLED)).thenReturn(true);
+        when(metaDataContexts.getDatabaseMetaData(DefaultDatabase.LOGIC_NAME).getResource().getDatabaseType()).thenReturn(databaseType);
+    }
+    
+    private InsertStatementContext mockInsertStatementContext() {
+        InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(new MySQLInsertStatement());
+        when(result.getValueListCount()).thenReturn(1);
+        return result;
+    }
+    
     private void setExecutionGroups(final List<PreparedStatement> preparedStatements) {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
                     ConnectionMode.MEMORY_STRICTLY, each));
         }
@@ -144,7 +226,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext");
         field.setAccessible(true);
         field.set(actual, new ExecutionGroupContext<>(executionGroups));
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.hedge;
+
+import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.readwritesplitting.hedge.HedgedRead;
+import org.apache.shardingsphere.readwritesplitting.hedge.HedgedReadStatistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class HedgedQueryExecutorTest {
+    
+    private static final String READ_DATASOURCE = "read_0";
+    
+    private static final String HEDGE_DATASOURCE = "read_1";
+    
+    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(2);
+    
+    private final JDBCExecutor jdbcExecutor = mock(JDBCExecutor.class);
+    
+    private final ExecuteQueryCallback callback = mock(ExecuteQueryCallback.class);
+    
+    private final HedgedReadStatistics statistics = new HedgedReadStatistics();
+    
+    private final HedgeExecutionGroupContextPreparer preparer = mock(HedgeExecutionGroupContextPreparer.class);
+    
+    private final Statement statement = mock(Statement.class);
+    
+    private final Statement hedgeStatement = mock(Statement.class);
+    
+    private final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(READ_DATASOURCE, statement);
+    
+    private final ExecutionGroupContext<JDBCExecutionUnit> hedgeExecutionGroupContext = createExecutionGroupContext(HEDGE_DATASOURCE, hedgeStatement);
+    
+    private final List<QueryResult> queryResults = Collections.singletonList(mock(QueryResult.class));
+    
+    private final List<QueryResult> hedgeQueryResults = Collections.singletonList(mock(QueryResult.class));
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(preparer.prepare(any(), any())).thenReturn(hedgeExecutionGroupContext);
+        when(jdbcExecutor.getExecutorEngine()).thenReturn(executorEngine);
+    }
+    
+    @After
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext(final String dataSourceName, final Statement statement) {
+        ExecutionUnit executionUnit = new ExecutionUnit(dataSourceName, new SQLUnit("SELECT 1", Collections.emptyList()));
+        return new ExecutionGroupContext<>(Collections.singleton(new ExecutionGroup<>(Collections.singletonList(new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, statement)))));
+    }
+    
+    @Test
+    public void assertExecuteQueryWithinDelay() throws SQLException {
+        when(jdbcExecutor.execute(executionGroupContext, callback)).thenReturn(queryResults);
+        HedgedQueryResult actual = new HedgedQueryExecutor(jdbcExecutor).executeQuery(executionGroupContext, createExecutionContext(), createHedgedRead(1000L), preparer, callback);
+        assertThat(actual.getExecutionGroupContext(), is(executionGroupContext));
+        assertThat(actual.getQueryResults(), is(queryResults));
+        verify(preparer, never()).prepare(any(), any());
+    }
+    
+    @Test
+    public void assertExecuteQueryWithoutBudget() throws SQLException {
+        when(jdbcExecutor.execute(executionGroupContext, callback)).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(50L);
+            return queryResults;
+        });
+        HedgedQueryResult actual = new HedgedQueryExecutor(jdbcExecutor).executeQuery(executionGroupContext, createExecutionContext(), createHedgedRead(1L), preparer, callback);
+        assertThat(actual.getExecutionGroupContext(), is(executionGroupContext));
+        assertThat(actual.getQueryResults(), is(queryResults));
+        verify(preparer, never()).prepare(any(), any());
+        assertThat(statistics.getHedgeCount(), is(0L));
+    }
+    
+    @Test
+    public void assertExecuteQueryWithHedgeWon() throws SQLException {
+        statistics.recordRead(100);
+        CountDownLatch canceled = awaitCancel(statement);
+        when(jdbcExecutor.execute(executionGroupContext, callback)).thenAnswer(invocation -> {
+            canceled.await(10L, TimeUnit.SECONDS);
+            throw new SQLException("Query execution was interrupted");
+        });
+        when(jdbcExecutor.execute(hedgeExecutionGroupContext, callback)).thenReturn(hedgeQueryResults);
+        HedgedQueryResult actual = new HedgedQueryExecutor(jdbcExecutor).executeQuery(executionGroupContext, createExecutionContext(), createHedgedRead(1L), preparer, callback);
+        assertThat(actual.getExecutionGroupContext(), is(hedgeExecutionGroupContext));
+        assertThat(actual.getQueryResults(), is(hedgeQueryResults));
+        verify(preparer).prepare(any(), eq(Collections.singletonList(new ExecutionUnit(HEDGE_DATASOURCE, new SQLUnit("SELECT 1", Collections.emptyList())))));
+        verify(statement).cancel();
+        verify(statement, timeout(10000L)).close();
+        assertThat(statistics.getHedgeCount(), is(1L));
+        assertThat(statistics.getHedgeWinCount(), is(1L));
+    }
+    
+    @Test
+    public void assertExecuteQueryWithPrimaryOnCallerThreadAndExecutorDataMapCarriedToHedge() throws SQLException {
+        statistics.recordRead(100);
+        CountDownLatch canceled = awaitCancel(statement);
+        AtomicReference<Thread> primaryThread = new AtomicReference<>();
+        when(jdbcExecutor.execute(executionGroupContext, callback)).thenAnswer(invocation -> {
+            primaryThread.set(Thread.currentThread());
+            canceled.await(10L, TimeUnit.SECONDS);
+            throw new SQLException("Query execution was interrupted");
+        });
+        AtomicReference<Object> hedgeDataMapValue = new AtomicReference<>();
+        when(jdbcExecutor.execute(hedgeExecutionGroupContext, callback)).thenAnswer(invocation -> {
+            hedgeDataMapValue.set(ExecutorDataMap.getValue().get("foo_key"));
+            return hedgeQueryResults;
+        });
+        ExecutorDataMap.getValue().put("foo_key", "foo_value");
+        try {
+            new HedgedQueryExecutor(jdbcExecutor).executeQuery(executionGroupContext, createExecutionContext(), createHedgedRead(1L), preparer, callback);
+        } finally {
+            ExecutorDataMap.getValue().remove("foo_key");
+        }
+        assertThat(primaryThread.get(), is(Thread.currentThread()));
+        assertThat(hedgeDataMapValue.get(), is("foo_value"));
+    }
+    
+    @Test
+    public void assertExecuteQueryWithHedgeLost() throws SQLException {
+        statistics.recordRead(100);
+        CountDownLatch canceled = awaitCancel(hedgeStatement);
+        when(jdbcExecutor.execute(executionGroupContext, callback)).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(100L);
+            return queryResults;
+        });
+        when(jdbcExecutor.execute(hedgeExecutionGroupContext, callback)).thenAnswer(invocation -> {
+            canceled.await(10L, TimeUnit.SECONDS);
+            throw new SQLException("Query execution was interrupted");
+        });
+        HedgedQueryResult actual = new HedgedQueryExecutor(jdbcExecutor).executeQuery(executionGroupContext, createExecutionContext(), createHedgedRead(1L), preparer, callback);
+        assertThat(actual.getExecutionGroupContext(), is(executionGroupContext));
+        assertThat(actual.getQueryResults(), is(queryResults));
+        verify(hedgeStatement).cancel();
+        verify(hedgeStatement, timeout(10000L)).close();
+        verify(statement, never()).close();
+        assertThat(statistics.getHedgeCount(), is(1L));
+        assertThat(statistics.getHedgeWinCount(), is(0L));
+    }
+    
+    @Test
+    public void assertExecuteQueryWithHedgePrepareFailed() throws SQLException {
+        statistics.recordRead(100);
+        CountDownLatch prepared = new CountDownLatch(1);
+        when(preparer.prepare(any(), any())).thenAnswer(invocation -> {
+            prepared.countDown();
+            throw new IllegalStateException("Hedge data source is unavailable");
+        });
+        when(jdbcExecutor.execute(executionGroupContext, callback)).thenAnswer(invocation -> {
+            prepared.await(10L, TimeUnit.SECONDS);
+            TimeUnit.MILLISECONDS.sleep(50L);
+            return queryResults;
+        });
+        HedgedQueryResult actual = new HedgedQueryExecutor(jdbcExecutor).executeQuery(executionGroupContext, createExecutionContext(), createHedgedRead(1L), preparer, callback);
+        assertThat(actual.getExecutionGroupContext(), is(executionGroupContext));
+        assertThat(actual.getQueryResults(), is(queryResults));
+        verify(jdbcExecutor, never()).execute(eq(hedgeExecutionGroupContext), any());
+        assertThat(statistics.getHedgeCount(), is(0L));
+        assertTrue(statistics.tryAcquireHedge());
+    }
+    
+    @Test
+    public void assertExecuteQueryWithPrimaryWonDuringHedgePrepare() throws SQLException {
+        statistics.recordRead(100);
+        CountDownLatch preparing = new CountDownLatch(1);
+        CountDownLatch primaryWon = new CountDownLatch(1);
+        when(preparer.prepare(any(), any())).thenAnswer(invocation -> {
+            preparing.countDown();
+            primaryWon.await(10L, TimeUnit.SECONDS);
+            return hedgeExecutionGroupContext;
+        });
+        when(jdbcExecutor.execute(executionGroupContext, callback)).thenAnswer(invocation -> {
+            preparing.await(10L, TimeUnit.SECONDS);
+            return queryResults;
+        });
+        HedgedQueryResult actual;
+        try {
+            actual = new HedgedQueryExecutor(jdbcExecutor).executeQuery(executionGroupContext, createExecutionContext(), createHedgedRead(1L), preparer, callback);
+        } finally {
+            primaryWon.countDown();
+        }
+        assertThat(actual.getExecutionGroupContext(), is(executionGroupContext));
+        assertThat(actual.getQueryResults(), is(queryResults));
+        verify(hedgeStatement, timeout(10000L)).close();
+        verify(jdbcExecutor, never()).execute(eq(hedgeExecutionGroupContext), any());
+        assertThat(statistics.getHedgeCount(), is(0L));
+        assertTrue(statistics.tryAcquireHedge());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertExecuteQueryWithBothFailed() throws SQLException {
+        statistics.recordRead(100);
+        when(jdbcExecutor.execute(executionGroupContext, callback)).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(50L);
+            throw new SQLException("Primary failed");
+        });
+        when(jdbcExecutor.execute(hedgeExecutionGroupContext, callback)).thenThrow(new SQLException("Hedge failed"));
+        try {
+            new HedgedQueryExecutor(jdbcExecutor).executeQuery(executionGroupContext, createExecutionContext(), createHedgedRead(1L), preparer, callback);
+        } finally {
+            verify(hedgeStatement).close();
+        }
+    }
+    
+    private CountDownLatch awaitCancel(final Statement statement) throws SQLException {
+        CountDownLatch result = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            result.countDown();
+            return null;
+        }).when(statement).cancel();
+        return result;
+    }
+    
+    private ExecutionContext createExecutionContext() {
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", READ_DATASOURCE), Collections.emptyList()));
+        return new ExecutionContext(null, Collections.singletonList(new ExecutionUnit(READ_DATASOURCE, new SQLUnit("SELECT 1", Collections.emptyList()))), routeContext);
+    }
+    
+    private HedgedRead createHedgedRead(final long delayMillis) {
+        return new HedgedRead(READ_DATASOURCE, HEDGE_DATASOURCE, TimeUnit.MILLISECONDS.toNanos(delayMillis), statistics);
+    }
+}
@@ -21,12 +21,16 @@ import com.zaxxer.hikari.HikariDataSource;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.instance.definition.InstanceId;
 import org.apache.shardingsphere.infra.instance.definition.InstanceType;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 import org.apache.shardingsphere.test.mock.MockedDataSource;
 import org.apache.shardingsphere.traffic.rule.TrafficRule;
 import org.apache.shardingsphere.traffic.rule.TrafficStrategyRule;
@@ -52,12 +56,14 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ConnectionManagerTest {
@@ -233,4 +239,59 @@ public final class ConnectionManagerTest {
             assertThat(ex.getMessage(), is("Can not get 3 connections one time, partition succeed connection(0) have released!"));
         }
     }
+    
+    @Test
+    public void assertGetConnectionsInDeferredTransaction() throws SQLException {
+        connectionManager.getConnectionTransaction().setBeginDeferred(true);
+        List<Connection> actual = connectionManager.getConnections("ds", 1, ConnectionMode.MEMORY_STRICTLY);
+        verify(actual.get(0)).setAutoCommit(false);
+    }
+    
+    @Test
+    public void assertHandleDeferredTransactionOnSingleDataSource() throws SQLException {
+        connectionManager.getConnectionTransaction().setBeginDeferred(true);
+        connectionManager.getConnections("ds", 1, ConnectionMode.MEMORY_STRICTLY);
+        connectionManager.handleDeferredTransaction(Arrays.asList(createExecutionUnit("ds"), createExecutionUnit("ds")), new MySQLInsertStatement(), 1);
+        assertTrue(connectionManager.getConnectionTransaction().isBeginDeferred());
+    }
+    
+    @Test
+    public void assertHandleDeferredTransactionWithMultipleConnections() throws SQLException {
+        connectionManager.getConnectionTransaction().setBeginDeferred(true);
+        connectionManager.handleDeferredTransaction(Arrays.asList(createExecutionUnit("ds"), createExecutionUnit("ds")), new MySQLSelectStatement(), 2);
+        assertFalse(connectionManager.getConnectionTransaction().isBeginDeferred());
+    }
+    
+    @Test
+    public void assertHandleDeferredTransactionOnAnotherDataSourceBeforeWrite() throws SQLException {
+        connectionManager.getConnectionTransaction().setBeginDeferred(true);
+        Connection connection = connectionManager.getConnections("ds", 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        connectionManager.handleDeferredTransaction(Collections.singletonList(createExecutionUnit("ds")), new MySQLSelectStatement(), 1);
+        connectionManager.handleDeferredTransaction(Collections.singletonList(createExecutionUnit("invalid_ds")), new MySQLSelectStatement(), 1);
+        verify(connection).commit();
+        assertFalse(connectionManager.getConnectionTransaction().isBeginDeferred());
+        verify(connection).close();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertHandleDeferredTransactionOnAnotherDataSourceAfterWrite() throws SQLException {
+        connectionManager.getConnectionTransaction().setBeginDeferred(true);
+        connectionManager.getConnections("ds", 1, ConnectionMode.MEMORY_STRICTLY);
+        connectionManager.handleDeferredTransaction(Collections.singletonList(createExecutionUnit("ds")), new MySQLInsertStatement(), 1);
+        connectionManager.handleDeferredTransaction(Collections.singletonList(createExecutionUnit("invalid_ds")), new MySQLSelectStatement(), 1);
+    }
+    
+    @Test
+    public void assertCommitDeferredTransaction() throws SQLException {
+        connectionManager.getConnectionTransaction().setBeginDeferred(true);
+        Connection connection = connectionManager.getConnections("ds", 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        connectionManager.commitDeferredTransaction();
+        assertFalse(connectionManager.getConnectionTransaction().isBeginDeferred());
+        verify(connection).commit();
+        verify(connection).setAutoCommit(true);
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit("", Collections.emptyList()));
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.driver.jdbc.core.connection;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.mode.manager.ContextManager;
@@ -44,6 +45,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,6 +62,7 @@ public final class ShardingSphereConnectionTest {
         ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         when(result.getDataSourceMap(DefaultDatabase.LOGIC_NAME)).thenReturn(Collections.singletonMap("ds", mock(DataSource.class, RETURNS_DEEP_STUBS)));
         when(result.getMetaDataContexts().getGlobalRuleMetaData().findSingleRule(TransactionRule.class)).thenReturn(Optional.empty());
+        when(result.getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.TRANSACTION_LOCAL_FAST_PATH_ENABLED)).thenReturn(false);
         return result;
     }
     
@@ -132,6 +135,23 @@ public final class ShardingSphereConnectionTest {
         verify(connectionManager).commit();
     }
     
+    @Test
+    public void assertCommitWithDeferredDistributedTransaction() throws SQLException {
+        when(connection.getContextManager().getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.TRANSACTION_LOCAL_FAST_PATH_ENABLED)).thenReturn(true);
+        ConnectionTransaction connectionTransaction = mock(ConnectionTransaction.class);
+        when(connectionTransaction.getDistributedTransactionOperationType(false)).thenReturn(DistributedTransactionOperationType.BEGIN);
+        when(connectionTransaction.getDistributedTransactionOperationType(true)).thenReturn(DistributedTransactionOperationType.COMMIT);
+        when(connectionTransaction.isBeginDeferred()).thenReturn(true);
+        final ConnectionManager connectionManager = mockConnectionManager(connectionTransaction);
+        connection.setAutoCommit(false);
+        assertTrue(TransactionHolder.isTransaction());
+        verify(connectionTransaction).setBeginDeferred(true);
+        verify(connectionTransaction, never()).begin();
+        connection.setAutoCommit(true);
+        verify(connectionManager).commitDeferredTransaction();
+        verify(connectionTransaction, never()).commit();
+    }
+    
     @Test
     public void assertRollbackWithLocalTransaction() throws SQLException {
         Connection physicalConnection = mock(Connection.class);
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.resultset;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CachedQueryResultSetUtilTest {
+    
+    @Test
+    public void assertCreateResultSets() throws SQLException {
+        RawQueryResultMetaData metaData = new RawQueryResultMetaData(Arrays.asList(new RawQueryResultColumnMetaData("t_config", "id", "id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("t_config", "name", "config_name", Types.VARCHAR, "VARCHAR", 32, 0)));
+        List<QueryResult> queryResults = Collections.singletonList(new RawMemoryQueryResult(metaData, Collections.emptyList()));
+        List<ResultSet> actual = CachedQueryResultSetUtil.createResultSets(queryResults);
+        assertThat(actual.size(), is(1));
+        ResultSetMetaData actualMetaData = actual.get(0).getMetaData();
+        assertThat(actualMetaData.getColumnCount(), is(2));
+        assertThat(actualMetaData.getTableName(2), is("t_config"));
+        assertThat(actualMetaData.getColumnName(2), is("name"));
+        assertThat(actualMetaData.getColumnLabel(2), is("config_name"));
+        assertThat(actualMetaData.getColumnType(2), is(Types.VARCHAR));
+        assertThat(actual.get(0).getConcurrency(), is(ResultSet.CONCUR_READ_ONLY));
+    }
+    
+    @Test
+    public void assertCreateResultSetsWithoutQueryResults() throws SQLException {
+        assertTrue(CachedQueryResultSetUtil.createResultSets(Collections.emptyList()).isEmpty());
+    }
+}
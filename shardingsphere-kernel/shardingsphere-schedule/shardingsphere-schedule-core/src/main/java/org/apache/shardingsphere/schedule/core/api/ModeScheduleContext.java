@@ -118,6 +118,18 @@ public final class ModeScheduleContext {
         SCHEDULE_JOB_BOOTSTRAP_MAP.get(job.getJobName()).schedule();
     }
     
+    /**
+     * Close cron job.
+     *
+     * @param jobName job name
+     */
+    public void closeCronJob(final String jobName) {
+        ScheduleJobBootstrap bootstrap = SCHEDULE_JOB_BOOTSTRAP_MAP.remove(jobName);
+        if (null != bootstrap) {
+            bootstrap.shutdown();
+        }
+    }
+    
     private static final class ConsumerSimpleJob implements SimpleJob {
         
         private final Consumer<JobParameter> job;
@@ -41,6 +41,7 @@ public final class SQLMatchTrafficAlgorithm implements SegmentTrafficAlgorithm {
     @Getter
     private Properties props;
     
+    @Getter
     private Collection<String> sql;
     
     @Override
@@ -54,14 +55,24 @@ public final class SQLMatchTrafficAlgorithm implements SegmentTrafficAlgorithm {
         Collection<String> values = Splitter.on(";").trimResults().omitEmptyStrings().splitToList(value);
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         for (String each : values) {
-            result.add(CharMatcher.anyOf(EXCLUDED_CHARACTERS).removeFrom(each));
+            result.add(normalize(each));
         }
         return result;
     }
     
     @Override
     public boolean match(final SegmentTrafficValue segmentTrafficValue) {
-        return sql.contains(SQLUtil.trimSemicolon(CharMatcher.anyOf(EXCLUDED_CHARACTERS).removeFrom(segmentTrafficValue.getSql())));
+        return sql.contains(SQLUtil.trimSemicolon(normalize(segmentTrafficValue.getSql())));
+    }
+    
+    /**
+     * Normalize SQL by removing excluded characters.
+     * 
+     * @param sql SQL to be normalized
+     * @return normalized SQL
+     */
+    public static String normalize(final String sql) {
+        return CharMatcher.anyOf(EXCLUDED_CHARACTERS).removeFrom(sql);
     }
     
     @Override
@@ -18,22 +18,15 @@
 package org.apache.shardingsphere.traffic.rule;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
-import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
-import org.apache.shardingsphere.infra.hint.SQLHintProperties;
 import org.apache.shardingsphere.infra.rule.identifier.scope.GlobalRule;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.traffic.api.config.TrafficRuleConfiguration;
 import org.apache.shardingsphere.traffic.api.config.TrafficStrategyConfiguration;
-import org.apache.shardingsphere.traffic.api.traffic.hint.HintTrafficAlgorithm;
-import org.apache.shardingsphere.traffic.api.traffic.hint.HintTrafficValue;
 import org.apache.shardingsphere.traffic.api.traffic.identifier.SimplifiedTrafficAlgorithm;
-import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgorithm;
-import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficValue;
 import org.apache.shardingsphere.traffic.api.traffic.transaction.TransactionTrafficAlgorithm;
-import org.apache.shardingsphere.traffic.api.traffic.transaction.TransactionTrafficValue;
 import org.apache.shardingsphere.traffic.factory.TrafficAlgorithmFactory;
 import org.apache.shardingsphere.traffic.factory.TrafficLoadBalanceAlgorithmFactory;
 import org.apache.shardingsphere.traffic.spi.TrafficAlgorithm;
@@ -48,7 +41,6 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.Properties;
 
 /**
  * Traffic rule.
@@ -58,10 +50,14 @@ public final class TrafficRule implements GlobalRule {
     
     private final Collection<TrafficStrategyRule> strategyRules;
     
+    @Getter(AccessLevel.NONE)
+    private final TrafficStrategyRuleMatcher strategyRuleMatcher;
+    
     public TrafficRule(final TrafficRuleConfiguration config) {
         Map<String, TrafficAlgorithm> trafficAlgorithms = createTrafficAlgorithms(config.getTrafficAlgorithms());
         Map<String, TrafficLoadBalanceAlgorithm> loadBalancers = createTrafficLoadBalanceAlgorithms(config.getLoadBalancers());
         strategyRules = createTrafficStrategyRules(config.getTrafficStrategies(), trafficAlgorithms, loadBalancers);
+        strategyRuleMatcher = new TrafficStrategyRuleMatcher(strategyRules);
     }
     
     private Map<String, TrafficAlgorithm> createTrafficAlgorithms(final Map<String, ShardingSphereAlgorithmConfiguration> trafficAlgorithms) {
@@ -121,12 +117,7 @@ public final class TrafficRule implements GlobalRule {
      * @return matched strategy rule
      */
     public Optional<TrafficStrategyRule> findMatchedStrategyRule(final LogicSQL logicSQL, final boolean inTransaction) {
-        for (TrafficStrategyRule each : strategyRules) {
-            if (match(each.getTrafficAlgorithm(), logicSQL, inTransaction)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        return strategyRuleMatcher.findMatchedStrategyRule(logicSQL, inTransaction);
     }
     
     private TrafficAlgorithm getTrafficAlgorithm(final Map<String, TrafficAlgorithm> trafficAlgorithms, final String algorithmName) {
@@ -135,39 +126,6 @@ public final class TrafficRule implements GlobalRule {
         return result;
     }
     
-    @SuppressWarnings("rawtypes")
-    private boolean match(final TrafficAlgorithm trafficAlgorithm, final LogicSQL logicSQL, final boolean inTransaction) {
-        if (trafficAlgorithm instanceof TransactionTrafficAlgorithm) {
-            return matchTransactionTraffic((TransactionTrafficAlgorithm) trafficAlgorithm, inTransaction);
-        }
-        if (trafficAlgorithm instanceof HintTrafficAlgorithm) {
-            SQLHintProperties sqlHintProps = logicSQL.getSqlStatementContext() instanceof CommonSQLStatementContext
-                    ? ((CommonSQLStatementContext) logicSQL.getSqlStatementContext()).getSqlHintExtractor().getSqlHintProperties()
-                    : new SQLHintProperties(new Properties());
-            return matchHintTraffic((HintTrafficAlgorithm) trafficAlgorithm, sqlHintProps);
-        }
-        if (trafficAlgorithm instanceof SegmentTrafficAlgorithm) {
-            SQLStatement sqlStatement = logicSQL.getSqlStatementContext().getSqlStatement();
-            return matchSegmentTraffic((SegmentTrafficAlgorithm) trafficAlgorithm, logicSQL.getSql(), sqlStatement);
-        }
-        return false;
-    }
-    
-    private boolean matchHintTraffic(final HintTrafficAlgorithm trafficAlgorithm, final SQLHintProperties sqlHintProps) {
-        HintTrafficValue hintTrafficValue = new HintTrafficValue(sqlHintProps);
-        return trafficAlgorithm.match(hintTrafficValue);
-    }
-    
-    private boolean matchSegmentTraffic(final SegmentTrafficAlgorithm trafficAlgorithm, final String sql, final SQLStatement sqlStatement) {
-        SegmentTrafficValue segmentTrafficValue = new SegmentTrafficValue(sqlStatement, sql);
-        return trafficAlgorithm.match(segmentTrafficValue);
-    }
-    
-    private boolean matchTransactionTraffic(final TransactionTrafficAlgorithm trafficAlgorithm, final boolean inTransaction) {
-        TransactionTrafficValue transactionTrafficValue = new TransactionTrafficValue(inTransaction);
-        return trafficAlgorithm.match(transactionTrafficValue);
-    }
-    
     private TrafficLoadBalanceAlgorithm getLoadBalancer(final Map<String, TrafficLoadBalanceAlgorithm> loadBalancers, final String loadBalancerName) {
         TrafficLoadBalanceAlgorithm result = loadBalancers.get(loadBalancerName);
         Preconditions.checkState(null != result, "Traffic load balance algorithm can not be null.");
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.rule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.hint.SQLHintProperties;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
+import org.apache.shardingsphere.traffic.algorithm.traffic.segment.SQLMatchTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.algorithm.traffic.segment.SQLRegexTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.api.traffic.hint.HintTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.api.traffic.hint.HintTrafficValue;
+import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficValue;
+import org.apache.shardingsphere.traffic.api.traffic.transaction.TransactionTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.api.traffic.transaction.TransactionTrafficValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Traffic strategy rule matcher.
+ * 
+ * <p>Traffic strategy rules are compiled when traffic rule is built: matched rules of transaction algorithms are decided in advance,
+ * SQL of all SQL match algorithms are merged into one index, and matched segment rule is cached by SQL if all segment algorithms only depend on SQL.
+ * Every compiled rule keeps its index in configuration, and the matched rule with lowest index wins, so that rules are matched in configured order.</p>
+ */
+public final class TrafficStrategyRuleMatcher {
+    
+    private static final int NONE_MATCHED_INDEX = -1;
+    
+    private static final int SEGMENT_MATCHED_CACHE_MAX_SIZE = 2048;
+    
+    private final List<TrafficStrategyRule> strategyRules;
+    
+    private final Map<Boolean, Integer> transactionStrategyRuleIndexes = new HashMap<>(2, 1);
+    
+    private final List<Integer> hintStrategyRuleIndexes = new ArrayList<>();
+    
+    private final List<Integer> segmentStrategyRuleIndexes = new ArrayList<>();
+    
+    private final Map<String, Integer> sqlMatchStrategyRuleIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    private final Cache<String, Integer> segmentMatchedCache;
+    
+    private int firstSegmentStrategyRuleIndex = NONE_MATCHED_INDEX;
+    
+    public TrafficStrategyRuleMatcher(final Collection<TrafficStrategyRule> strategyRules) {
+        this.strategyRules = new ArrayList<>(strategyRules);
+        boolean sqlDependentOnly = true;
+        for (int index = 0; index < this.strategyRules.size(); index++) {
+            TrafficStrategyRule each = this.strategyRules.get(index);
+            if (each.getTrafficAlgorithm() instanceof TransactionTrafficAlgorithm) {
+                compileTransactionStrategyRule(index, (TransactionTrafficAlgorithm) each.getTrafficAlgorithm());
+            } else if (each.getTrafficAlgorithm() instanceof HintTrafficAlgorithm) {
+                hintStrategyRuleIndexes.add(index);
+            } else if (each.getTrafficAlgorithm() instanceof SQLMatchTrafficAlgorithm) {
+                compileSQLMatchStrategyRule(index, (SQLMatchTrafficAlgorithm) each.getTrafficAlgorithm());
+            } else if (each.getTrafficAlgorithm() instanceof SegmentTrafficAlgorithm) {
+                segmentStrategyRuleIndexes.add(index);
+                markSegmentStrategyRule(index);
+                sqlDependentOnly &= each.getTrafficAlgorithm() instanceof SQLRegexTrafficAlgorithm;
+            }
+        }
+        segmentMatchedCache = NONE_MATCHED_INDEX != firstSegmentStrategyRuleIndex && sqlDependentOnly ? Caffeine.newBuilder().maximumSize(SEGMENT_MATCHED_CACHE_MAX_SIZE).build() : null;
+    }
+    
+    private void compileTransactionStrategyRule(final int index, final TransactionTrafficAlgorithm trafficAlgorithm) {
+        for (boolean each : new boolean[]{true, false}) {
+            if (trafficAlgorithm.match(new TransactionTrafficValue(each))) {
+                transactionStrategyRuleIndexes.putIfAbsent(each, index);
+            }
+        }
+    }
+    
+    private void compileSQLMatchStrategyRule(final int index, final SQLMatchTrafficAlgorithm trafficAlgorithm) {
+        trafficAlgorithm.getSql().forEach(sql -> sqlMatchStrategyRuleIndexes.putIfAbsent(sql, index));
+        if (!trafficAlgorithm.getSql().isEmpty()) {
+            markSegmentStrategyRule(index);
+        }
+    }
+    
+    private void markSegmentStrategyRule(final int index) {
+        if (NONE_MATCHED_INDEX == firstSegmentStrategyRuleIndex) {
+            firstSegmentStrategyRuleIndex = index;
+        }
+    }
+    
+    /**
+     * Find matched strategy rule.
+     * 
+     * @param logicSQL logic SQL
+     * @param inTransaction is in transaction
+     * @return matched strategy rule
+     */
+    public Optional<TrafficStrategyRule> findMatchedStrategyRule(final LogicSQL logicSQL, final boolean inTransaction) {
+        int matchedIndex = transactionStrategyRuleIndexes.getOrDefault(inTransaction, NONE_MATCHED_INDEX);
+        if (NONE_MATCHED_INDEX != firstSegmentStrategyRuleIndex && isBefore(firstSegmentStrategyRuleIndex, matchedIndex)) {
+            int segmentMatchedIndex = findSegmentMatchedIndex(logicSQL);
+            if (NONE_MATCHED_INDEX != segmentMatchedIndex && isBefore(segmentMatchedIndex, matchedIndex)) {
+                matchedIndex = segmentMatchedIndex;
+            }
+        }
+        matchedIndex = findHintMatchedIndex(logicSQL, matchedIndex);
+        return NONE_MATCHED_INDEX == matchedIndex ? Optional.empty() : Optional.of(strategyRules.get(matchedIndex));
+    }
+    
+    private boolean isBefore(final int index, final int matchedIndex) {
+        return NONE_MATCHED_INDEX == matchedIndex || index < matchedIndex;
+    }
+    
+    private int findHintMatchedIndex(final LogicSQL logicSQL, final int matchedIndex) {
+        SQLHintProperties sqlHintProps = null;
+        for (int each : hintStrategyRuleIndexes) {
+            if (!isBefore(each, matchedIndex)) {
+                break;
+            }
+            if (null == sqlHintProps) {
+                sqlHintProps = getSQLHintProperties(logicSQL);
+            }
+            if (((HintTrafficAlgorithm) strategyRules.get(each).getTrafficAlgorithm()).match(new HintTrafficValue(sqlHintProps))) {
+                return each;
+            }
+        }
+        return matchedIndex;
+    }
+    
+    private int findSegmentMatchedIndex(final LogicSQL logicSQL) {
+        return null == segmentMatchedCache ? matchSegment(logicSQL) : segmentMatchedCache.get(logicSQL.getSql(), sql -> matchSegment(logicSQL));
+    }
+    
+    private int matchSegment(final LogicSQL logicSQL) {
+        int result = sqlMatchStrategyRuleIndexes.isEmpty() ? NONE_MATCHED_INDEX
+                : sqlMatchStrategyRuleIndexes.getOrDefault(SQLUtil.trimSemicolon(SQLMatchTrafficAlgorithm.normalize(logicSQL.getSql())), NONE_MATCHED_INDEX);
+        SegmentTrafficValue segmentTrafficValue = null;
+        for (int each : segmentStrategyRuleIndexes) {
+            if (!isBefore(each, result)) {
+                break;
+            }
+            if (null == segmentTrafficValue) {
+                segmentTrafficValue = new SegmentTrafficValue(logicSQL.getSqlStatementContext().getSqlStatement(), logicSQL.getSql());
+            }
+            if (((SegmentTrafficAlgorithm) strategyRules.get(each).getTrafficAlgorithm()).match(segmentTrafficValue)) {
+                return each;
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private SQLHintProperties getSQLHintProperties(final LogicSQL logicSQL) {
+        return logicSQL.getSqlStatementContext() instanceof CommonSQLStatementContext
+                ? ((CommonSQLStatementContext) logicSQL.getSqlStatementContext()).getSqlHintExtractor().getSqlHintProperties()
+                : new SQLHintProperties(new Properties());
+    }
+}
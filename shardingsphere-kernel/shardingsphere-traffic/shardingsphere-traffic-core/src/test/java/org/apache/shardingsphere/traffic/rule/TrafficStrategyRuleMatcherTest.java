@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.traffic.rule;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.traffic.algorithm.traffic.segment.SQLMatchTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.algorithm.traffic.segment.SQLRegexTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.algorithm.traffic.transaction.ProxyTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.api.traffic.hint.HintTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.api.traffic.segment.SegmentTrafficAlgorithm;
+import org.apache.shardingsphere.traffic.spi.TrafficAlgorithm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class TrafficStrategyRuleMatcherTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = 1";
+    
+    @Test
+    public void assertFindMatchedStrategyRuleInTransaction() {
+        TrafficStrategyRuleMatcher matcher = new TrafficStrategyRuleMatcher(Arrays.asList(
+                createStrategyRule("transaction", new ProxyTrafficAlgorithm()), createStrategyRule("regex", createSQLRegexTrafficAlgorithm("SELECT .*"))));
+        Optional<TrafficStrategyRule> actual = matcher.findMatchedStrategyRule(createLogicSQL(SQL), true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getName(), is("transaction"));
+        actual = matcher.findMatchedStrategyRule(createLogicSQL(SQL), false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getName(), is("regex"));
+    }
+    
+    @Test
+    public void assertFindMatchedStrategyRuleWithTransactionAfterSegment() {
+        TrafficStrategyRuleMatcher matcher = new TrafficStrategyRuleMatcher(Arrays.asList(
+                createStrategyRule("regex", createSQLRegexTrafficAlgorithm("SELECT .*")), createStrategyRule("transaction", new ProxyTrafficAlgorithm())));
+        Optional<TrafficStrategyRule> actual = matcher.findMatchedStrategyRule(createLogicSQL(SQL), true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getName(), is("regex"));
+        actual = matcher.findMatchedStrategyRule(createLogicSQL("UPDATE t_order SET status = 'OK'"), true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getName(), is("transaction"));
+    }
+    
+    @Test
+    public void assertFindMatchedStrategyRuleWithTransactionAfterHint() {
+        HintTrafficAlgorithm hintTrafficAlgorithm = mock(HintTrafficAlgorithm.class);
+        when(hintTrafficAlgorithm.match(any())).thenReturn(true);
+        TrafficStrategyRuleMatcher matcher = new TrafficStrategyRuleMatcher(Arrays.asList(
+                createStrategyRule("hint", hintTrafficAlgorithm), createStrategyRule("transaction", new ProxyTrafficAlgorithm())));
+        Optional<TrafficStrategyRule> actual = matcher.findMatchedStrategyRule(createLogicSQL(SQL), true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getName(), is("hint"));
+    }
+    
+    @Test
+    public void assertFindMatchedStrategyRuleByRuleOrder() {
+        TrafficStrategyRule regexRule = createStrategyRule("regex", createSQLRegexTrafficAlgorithm("SELECT .*"));
+        TrafficStrategyRule sqlMatchRule = createStrategyRule("sql_match", createSQLMatchTrafficAlgorithm("SELECT * FROM `t_order` WHERE order_id = 1;"));
+        Optional<TrafficStrategyRule> actual = new TrafficStrategyRuleMatcher(Arrays.asList(regexRule, sqlMatchRule)).findMatchedStrategyRule(createLogicSQL(SQL), false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getName(), is("regex"));
+        actual = new TrafficStrategyRuleMatcher(Arrays.asList(sqlMatchRule, regexRule)).findMatchedStrategyRule(createLogicSQL(SQL), false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getName(), is("sql_match"));
+    }
+    
+    @Test
+    public void assertFindMatchedStrategyRuleWithHintBeforeSegment() {
+        HintTrafficAlgorithm hintTrafficAlgorithm = mock(HintTrafficAlgorithm.class);
+        when(hintTrafficAlgorithm.match(any())).thenReturn(true);
+        TrafficStrategyRuleMatcher matcher = new TrafficStrategyRuleMatcher(Arrays.asList(
+                createStrategyRule("hint", hintTrafficAlgorithm), createStrategyRule("regex", createSQLRegexTrafficAlgorithm("SELECT .*"))));
+        Optional<TrafficStrategyRule> actual = matcher.findMatchedStrategyRule(createLogicSQL(SQL), false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getName(), is("hint"));
+    }
+    
+    @Test
+    public void assertFindMatchedStrategyRuleWithHintAfterSegment() {
+        HintTrafficAlgorithm hintTrafficAlgorithm = mock(HintTrafficAlgorithm.class);
+        TrafficStrategyRuleMatcher matcher = new TrafficStrategyRuleMatcher(Arrays.asList(
+                createStrategyRule("regex", createSQLRegexTrafficAlgorithm("SELECT .*")), createStrategyRule("hint", hintTrafficAlgorithm)));
+        Optional<TrafficStrategyRule> actual = matcher.findMatchedStrategyRule(createLogicSQL(SQL), false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getName(), is("regex"));
+        verify(hintTrafficAlgorithm, times(0)).match(any());
+    }
+    
+    @Test
+    public void assertFindNoneMatchedStrategyRule() {
+        TrafficStrategyRuleMatcher matcher = new TrafficStrategyRuleMatcher(Arrays.asList(
+                createStrategyRule("regex", createSQLRegexTrafficAlgorithm("UPDATE .*")), createStrategyRule("sql_match", createSQLMatchTrafficAlgorithm("SELECT 1"))));
+        assertFalse(matcher.findMatchedStrategyRule(createLogicSQL(SQL), false).isPresent());
+    }
+    
+    @Test
+    public void assertFindMatchedStrategyRuleWithCachedSQL() {
+        SQLRegexTrafficAlgorithm regexTrafficAlgorithm = spy(createSQLRegexTrafficAlgorithm("SELECT .*"));
+        TrafficStrategyRuleMatcher matcher = new TrafficStrategyRuleMatcher(Collections.singleton(createStrategyRule("regex", regexTrafficAlgorithm)));
+        assertTrue(matcher.findMatchedStrategyRule(createLogicSQL(SQL), false).isPresent());
+        assertTrue(matcher.findMatchedStrategyRule(createLogicSQL(SQL), false).isPresent());
+        verify(regexTrafficAlgorithm, times(1)).match(any());
+    }
+    
+    @Test
+    public void assertFindMatchedStrategyRuleWithoutCacheForCustomSegmentAlgorithm() {
+        SegmentTrafficAlgorithm segmentTrafficAlgorithm = mock(SegmentTrafficAlgorithm.class);
+        when(segmentTrafficAlgorithm.match(any())).thenReturn(true);
+        TrafficStrategyRuleMatcher matcher = new TrafficStrategyRuleMatcher(Collections.singleton(createStrategyRule("segment", segmentTrafficAlgorithm)));
+        assertTrue(matcher.findMatchedStrategyRule(createLogicSQL(SQL), false).isPresent());
+        assertTrue(matcher.findMatchedStrategyRule(createLogicSQL(SQL), false).isPresent());
+        verify(segmentTrafficAlgorithm, times(2)).match(any());
+    }
+    
+    private TrafficStrategyRule createStrategyRule(final String name, final TrafficAlgorithm trafficAlgorithm) {
+        return new TrafficStrategyRule(name, Collections.singleton("OLAP"), trafficAlgorithm, null);
+    }
+    
+    private SQLRegexTrafficAlgorithm createSQLRegexTrafficAlgorithm(final String regex) {
+        SQLRegexTrafficAlgorithm result = new SQLRegexTrafficAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("regex", regex);
+        result.init(props);
+        return result;
+    }
+    
+    private SQLMatchTrafficAlgorithm createSQLMatchTrafficAlgorithm(final String sql) {
+        SQLMatchTrafficAlgorithm result = new SQLMatchTrafficAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("sql", sql);
+        result.init(props);
+        return result;
+    }
+    
+    private LogicSQL createLogicSQL(final String sql) {
+        return new LogicSQL(mock(SQLStatementContext.class), sql, Collections.emptyList());
+    }
+}
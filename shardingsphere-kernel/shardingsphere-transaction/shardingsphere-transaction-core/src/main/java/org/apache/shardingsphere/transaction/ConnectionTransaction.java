@@ -40,6 +40,10 @@ public final class ConnectionTransaction {
     @Getter
     private volatile boolean rollbackOnly;
     
+    @Setter
+    @Getter
+    private volatile boolean beginDeferred;
+    
     private final ShardingSphereTransactionManager transactionManager;
     
     public ConnectionTransaction(final String databaseName, final TransactionContexts transactionContexts) {
@@ -81,7 +85,7 @@ public final class ConnectionTransaction {
      * @return hold transaction or not
      */
     public boolean isHoldTransaction(final boolean autoCommit) {
-        return (TransactionType.LOCAL == transactionType && !autoCommit) || (TransactionType.XA == transactionType && isInTransaction());
+        return (TransactionType.LOCAL == transactionType && !autoCommit) || (TransactionType.XA == transactionType && isInTransaction()) || beginDeferred;
     }
     
     /**
@@ -99,6 +103,7 @@ public final class ConnectionTransaction {
      * Begin transaction.
      */
     public void begin() {
+        beginDeferred = false;
         transactionManager.begin();
     }
     
@@ -123,10 +128,10 @@ public final class ConnectionTransaction {
      * @return distributed transaction operation type
      */
     public DistributedTransactionOperationType getDistributedTransactionOperationType(final boolean autoCommit) {
-        if (!autoCommit && !transactionManager.isInTransaction()) {
+        if (!autoCommit && !transactionManager.isInTransaction() && !beginDeferred) {
             return DistributedTransactionOperationType.BEGIN;
         }
-        if (autoCommit && transactionManager.isInTransaction()) {
+        if (autoCommit && (transactionManager.isInTransaction() || beginDeferred)) {
             return DistributedTransactionOperationType.COMMIT;
         }
         return DistributedTransactionOperationType.IGNORE;
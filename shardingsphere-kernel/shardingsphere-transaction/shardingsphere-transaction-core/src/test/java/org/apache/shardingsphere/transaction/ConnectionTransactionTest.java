@@ -79,6 +79,15 @@ public final class ConnectionTransactionTest {
         assertFalse(connectionTransaction.isHoldTransaction(true));
     }
     
+    @Test
+    public void assertIsHoldTransactionWithBeginDeferred() {
+        Map<String, ShardingSphereTransactionManagerEngine> actualEngines = Collections.singletonMap(DefaultDatabase.LOGIC_NAME, new ShardingSphereTransactionManagerEngine());
+        TransactionContexts transactionContexts = new TransactionContexts(actualEngines);
+        connectionTransaction = new ConnectionTransaction(DefaultDatabase.LOGIC_NAME, getLocalTransactionRule(), transactionContexts);
+        connectionTransaction.setBeginDeferred(true);
+        assertTrue(connectionTransaction.isHoldTransaction(true));
+    }
+    
     private TransactionRule getLocalTransactionRule() {
         return new TransactionRule(getTransactionRuleConfiguration("LOCAL", null));
     }
@@ -29,7 +29,9 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.datasource.props.DataSourcePropertiesCreator;
+import org.apache.shardingsphere.infra.executor.circuit.StorageNodeCircuitBreakerRegistry;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache.QueryResultCache;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationDatabaseMetaData;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
@@ -43,11 +45,14 @@ import org.apache.shardingsphere.infra.metadata.schema.builder.TableMetaDataBuil
 import org.apache.shardingsphere.infra.metadata.schema.loader.SchemaLoader;
 import org.apache.shardingsphere.infra.metadata.schema.model.SchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metrics.SQLStageMetricsRegistry;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.infra.rule.builder.schema.DatabaseRulesBuilder;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.InstanceAwareRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.MetaDataContextsBuilder;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
@@ -64,6 +69,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -87,20 +93,52 @@ public final class ContextManager implements AutoCloseable {
     
     private final ExecutorEngine executorEngine;
     
+    private volatile QueryResultCache queryResultCache;
+    
     public ContextManager(final MetaDataContexts metaDataContexts, final TransactionContexts transactionContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.transactionContexts = transactionContexts;
         this.instanceContext = instanceContext;
         executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        refreshSQLStageMetrics(metaDataContexts.getProps());
+        StorageNodeCircuitBreakerRegistry.getInstance().refresh(metaDataContexts.getProps());
+        queryResultCache = new QueryResultCache(metaDataContexts.getProps());
     }
     
     /**
      * Renew meta data contexts.
+     * 
+     * <p>Resources held by replaced database rules are closed, and newly built database rules are aware of instance context.</p>
      *
      * @param metaDataContexts meta data contexts
      */
     public synchronized void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
+        Collection<ShardingSphereRule> staleRules = getDatabaseRules(this.metaDataContexts);
+        Collection<ShardingSphereRule> newRules = getDatabaseRules(metaDataContexts);
         this.metaDataContexts = metaDataContexts;
+        staleRules.stream().filter(each -> !newRules.contains(each)).forEach(this::closeStaleRule);
+        if (null != instanceContext) {
+            newRules.stream().filter(each -> each instanceof InstanceAwareRule && !staleRules.contains(each)).forEach(each -> ((InstanceAwareRule) each).setInstanceContext(instanceContext));
+        }
+    }
+    
+    private Collection<ShardingSphereRule> getDatabaseRules(final MetaDataContexts metaDataContexts) {
+        Collection<ShardingSphereRule> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (null == metaDataContexts) {
+            return result;
+        }
+        for (ShardingSphereDatabase each : metaDataContexts.getDatabaseMap().values()) {
+            if (null != each.getRuleMetaData()) {
+                result.addAll(each.getRuleMetaData().getRules());
+            }
+        }
+        return result;
+    }
+    
+    private void closeStaleRule(final ShardingSphereRule staleRule) {
+        if (staleRule instanceof ResourceHeldRule) {
+            ((ResourceHeldRule) staleRule).closeStaleResources();
+        }
     }
     
     /**
@@ -253,6 +291,9 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts.getOptimizerContext().getParserContexts().remove(databaseName);
             metaDataContexts.getOptimizerContext().getPlannerContexts().remove(databaseName);
             ShardingSphereDatabase removeMetaData = metaDataContexts.getDatabaseMap().remove(databaseName);
+            if (null != removeMetaData.getRuleMetaData()) {
+                removeMetaData.getRuleMetaData().getRules().forEach(this::closeStaleRule);
+            }
             closeDataSources(removeMetaData);
             removeAndCloseTransactionEngine(databaseName);
             metaDataContexts.getPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().deleteDatabase(databaseName));
@@ -388,7 +429,15 @@ public final class ContextManager implements AutoCloseable {
      * @param props properties to be altered
      */
     public void alterProperties(final Properties props) {
-        renewMetaDataContexts(rebuildMetaDataContexts(new ConfigurationProperties(props)));
+        ConfigurationProperties configProps = new ConfigurationProperties(props);
+        renewMetaDataContexts(rebuildMetaDataContexts(configProps));
+        refreshSQLStageMetrics(configProps);
+        StorageNodeCircuitBreakerRegistry.getInstance().refresh(configProps);
+        queryResultCache = new QueryResultCache(configProps);
+    }
+    
+    private void refreshSQLStageMetrics(final ConfigurationProperties props) {
+        SQLStageMetricsRegistry.getInstance().setEnabled(Boolean.TRUE.equals(props.getValue(ConfigurationPropertyKey.SQL_STAGE_METRICS_ENABLED)));
     }
     
     /**
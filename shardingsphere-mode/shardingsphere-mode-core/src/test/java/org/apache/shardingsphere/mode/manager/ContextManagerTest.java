@@ -37,6 +37,9 @@ import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.InstanceAwareRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 import org.apache.shardingsphere.mode.metadata.persist.service.SchemaMetaDataPersistService;
@@ -107,6 +110,26 @@ public final class ContextManagerTest {
         assertThat(contextManager.getMetaDataContexts(), is(contexts));
     }
     
+    @Test
+    public void assertRenewMetaDataContextsWithReplacedRules() {
+        ResourceHeldRule staleRule = mock(ResourceHeldRule.class);
+        InstanceAwareRule newRule = mock(InstanceAwareRule.class);
+        ShardingSphereDatabase staleDatabase = mockDatabase(staleRule);
+        when(metaDataContexts.getDatabaseMap()).thenReturn(Collections.singletonMap("foo_db", staleDatabase));
+        ShardingSphereDatabase newDatabase = mockDatabase(newRule);
+        MetaDataContexts contexts = mock(MetaDataContexts.class);
+        when(contexts.getDatabaseMap()).thenReturn(Collections.singletonMap("foo_db", newDatabase));
+        contextManager.renewMetaDataContexts(contexts);
+        verify(staleRule).closeStaleResources();
+        verify(newRule).setInstanceContext(contextManager.getInstanceContext());
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final ShardingSphereRule rule) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getRuleMetaData().getRules()).thenReturn(Collections.singletonList(rule));
+        return result;
+    }
+    
     @Test
     public void assertRenewTransactionContexts() {
         TransactionContexts contexts = mock(TransactionContexts.class);
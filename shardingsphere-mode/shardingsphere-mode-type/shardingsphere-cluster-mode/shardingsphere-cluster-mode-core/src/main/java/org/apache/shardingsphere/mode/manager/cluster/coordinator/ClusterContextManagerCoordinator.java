@@ -21,6 +21,7 @@ import com.google.common.eventbus.Subscribe;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.circuit.StorageNodeCircuitBreakerRegistry;
 import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.BatchYamlExecuteProcessContext;
 import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.infra.rule.identifier.type.InstanceAwareRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.StatusContainedRule;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event.CachedTableChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.datasource.DataSourceChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.props.PropertiesChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.rule.GlobalRuleConfigurationsChangedEvent;
@@ -51,6 +53,7 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.statu
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.StateEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.WorkerIdEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.XaRecoveryIdEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.event.CircuitBreakerStateChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.event.DisabledStateChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.event.PrimaryStateChangedEvent;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
@@ -62,6 +65,7 @@ import org.apache.shardingsphere.mode.metadata.storage.event.PrimaryDataSourceCh
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -83,6 +87,7 @@ public final class ClusterContextManagerCoordinator {
         this.registryCenter = registryCenter;
         ShardingSphereEventBus.getInstance().register(this);
         buildSpecialRules();
+        renewCircuitBreakers();
     }
     
     /**
@@ -136,6 +141,16 @@ public final class ClusterContextManagerCoordinator {
         contextManager.alterProperties(event.getProps());
     }
     
+    /**
+     * Renew query result cache.
+     *
+     * @param event cached table changed event
+     */
+    @Subscribe
+    public void renew(final CachedTableChangedEvent event) {
+        contextManager.getQueryResultCache().invalidateTables(event.getDatabaseName(), Collections.singleton(event.getTableName()));
+    }
+    
     /**
      * Renew meta data of the schema.
      *
@@ -288,6 +303,16 @@ public final class ClusterContextManagerCoordinator {
         contextManager.alterDataSourceAndRuleConfiguration(event.getDatabaseName(), dataSourcePropertiesMap, ruleConfigs);
     }
     
+    /**
+     * Renew circuit breaker state of storage node.
+     *
+     * @param event circuit breaker state changed event
+     */
+    @Subscribe
+    public void renew(final CircuitBreakerStateChangedEvent event) {
+        StorageNodeCircuitBreakerRegistry.getInstance().renew(event.getStorageNodeName(), event.isOpen());
+    }
+    
     /**
      * Trigger show process list.
      *
@@ -339,4 +364,8 @@ public final class ClusterContextManagerCoordinator {
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
         disableDataSources.forEach((key, value) -> rule.updateStatus(new DataSourceNameDisabledEvent(new QualifiedDatabase(key), true)));
     }
+    
+    private void renewCircuitBreakers() {
+        registryCenter.getStorageNodeStatusService().loadOpenCircuitBreakers().forEach(each -> StorageNodeCircuitBreakerRegistry.getInstance().renew(each, true));
+    }
 }
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.database.event;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.eventbus.AsyncEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.util.LockNodeUtil;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
  * Database ack released Lock event.
  */
+@AsyncEvent
 @Getter
 public final class DatabaseAckLockReleasedEvent implements GovernanceEvent {
     
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.database.event;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.eventbus.AsyncEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.util.LockNodeUtil;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
  * Database ack locked event.
  */
+@AsyncEvent
 @Getter
 public final class DatabaseAckLockedEvent implements GovernanceEvent {
     
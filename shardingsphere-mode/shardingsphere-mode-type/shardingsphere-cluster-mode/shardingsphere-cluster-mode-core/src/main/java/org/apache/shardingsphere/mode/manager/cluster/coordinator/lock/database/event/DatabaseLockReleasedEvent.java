@@ -19,11 +19,13 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.database
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.eventbus.AsyncEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
  * Database lock released event.
  */
+@AsyncEvent
 @RequiredArgsConstructor
 @Getter
 public final class DatabaseLockReleasedEvent implements GovernanceEvent {
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.mutex.event;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.eventbus.AsyncEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.util.LockNodeUtil;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
  * Mutex ack released Lock event.
  */
+@AsyncEvent
 @Getter
 public final class MutexAckLockReleasedEvent implements GovernanceEvent {
     
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.mutex.ev
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.eventbus.AsyncEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
  * Mutex locked event.
  */
+@AsyncEvent
 @RequiredArgsConstructor
 @Getter
 public final class MutexLockedEvent implements GovernanceEvent {
@@ -15,20 +15,20 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.event;
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
- * Execute process unit report event.
+ * Cached table changed event.
  */
 @RequiredArgsConstructor
 @Getter
-public final class ExecuteProcessUnitReportEvent {
+public final class CachedTableChangedEvent implements GovernanceEvent {
     
-    private final String executionID;
+    private final String databaseName;
     
-    private final ExecuteProcessUnit executeProcessUnit;
+    private final String tableName;
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.node;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Query result cache node.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryResultCacheNode {
+    
+    private static final String ROOT_NODE = "query_result_cache";
+    
+    /**
+     * Get query result cache root path.
+     *
+     * @return query result cache root path
+     */
+    public static String getRootPath() {
+        return String.join("/", "", ROOT_NODE);
+    }
+    
+    /**
+     * Get cached table path.
+     *
+     * @param databaseName database name
+     * @param tableName table name
+     * @return cached table path
+     */
+    public static String getTablePath(final String databaseName, final String tableName) {
+        return String.join("/", "", ROOT_NODE, databaseName, tableName);
+    }
+}
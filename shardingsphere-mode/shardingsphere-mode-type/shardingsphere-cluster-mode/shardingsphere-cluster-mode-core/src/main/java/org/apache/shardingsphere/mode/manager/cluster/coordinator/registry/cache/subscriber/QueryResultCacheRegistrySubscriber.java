@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.subscriber;
+
+import com.google.common.eventbus.Subscribe;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache.event.QueryResultCacheInvalidatedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.node.QueryResultCacheNode;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Query result cache registry subscriber.
+ * 
+ * <p>Invalidated tables are collected and persisted at most once per flush interval, so writes on cached tables do not persist a registry node for every statement.</p>
+ */
+public final class QueryResultCacheRegistrySubscriber {
+    
+    private static final long FLUSH_INTERVAL_MILLIS = 100L;
+    
+    private final ClusterPersistRepository repository;
+    
+    private final Set<String> invalidatedTablePaths = ConcurrentHashMap.newKeySet();
+    
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-QueryResultCache-Notify-%d").build());
+    
+    public QueryResultCacheRegistrySubscriber(final ClusterPersistRepository repository) {
+        this.repository = repository;
+        ShardingSphereEventBus.getInstance().register(this);
+    }
+    
+    /**
+     * Notify compute nodes to invalidate cached query results.
+     *
+     * @param event query result cache invalidated event
+     */
+    @Subscribe
+    public void invalidate(final QueryResultCacheInvalidatedEvent event) {
+        for (String each : event.getTableNames()) {
+            invalidatedTablePaths.add(QueryResultCacheNode.getTablePath(event.getDatabaseName(), each));
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            flushExecutor.schedule(this::flush, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private void flush() {
+        flushScheduled.set(false);
+        String version = String.valueOf(System.currentTimeMillis());
+        Iterator<String> iterator = invalidatedTablePaths.iterator();
+        while (iterator.hasNext()) {
+            String each = iterator.next();
+            iterator.remove();
+            repository.persist(each, version);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.watcher;
+
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceWatcher;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event.CachedTableChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.node.QueryResultCacheNode;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cached table changed watcher.
+ */
+public final class CachedTableChangedWatcher implements GovernanceWatcher<CachedTableChangedEvent> {
+    
+    private static final Pattern TABLE_PATH_PATTERN = Pattern.compile(QueryResultCacheNode.getRootPath() + "/([^/]+)/([^/]+)$");
+    
+    @Override
+    public Collection<String> getWatchingKeys() {
+        return Collections.singleton(QueryResultCacheNode.getRootPath());
+    }
+    
+    @Override
+    public Collection<Type> getWatchingTypes() {
+        return Arrays.asList(Type.ADDED, Type.UPDATED);
+    }
+    
+    @Override
+    public Optional<CachedTableChangedEvent> createGovernanceEvent(final DataChangedEvent event) {
+        Matcher matcher = TABLE_PATH_PATTERN.matcher(event.getKey());
+        return matcher.find() ? Optional.of(new CachedTableChangedEvent(matcher.group(1), matcher.group(2))) : Optional.empty();
+    }
+}
@@ -20,12 +20,14 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.proc
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.lock.ShowProcessListSimpleLock;
 
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Show process list manager.
@@ -35,7 +37,7 @@ public final class ShowProcessListManager {
     
     private static final ShowProcessListManager INSTANCE = new ShowProcessListManager();
     
-    private final Map<String, YamlExecuteProcessContext> processContextMap = new ConcurrentHashMap<>();
+    private final Map<String, ExecuteProcessContext> processContextMap = new ConcurrentHashMap<>();
     
     @Getter
     private final Map<String, ShowProcessListSimpleLock> locks = new ConcurrentHashMap<>();
@@ -55,7 +57,7 @@ public final class ShowProcessListManager {
      * @param executionId execution id
      * @param processContext process context
      */
-    public void putProcessContext(final String executionId, final YamlExecuteProcessContext processContext) {
+    public void putProcessContext(final String executionId, final ExecuteProcessContext processContext) {
         processContextMap.put(executionId, processContext);
     }
     
@@ -65,7 +67,7 @@ public final class ShowProcessListManager {
      * @param executionId execution id
      * @return execute process context
      */
-    public YamlExecuteProcessContext getProcessContext(final String executionId) {
+    public ExecuteProcessContext getProcessContext(final String executionId) {
         return processContextMap.get(executionId);
     }
     
@@ -79,11 +81,11 @@ public final class ShowProcessListManager {
     }
     
     /**
-     * Get all execute process context.
+     * Get snapshot of all execute process contexts.
      * 
-     * @return collection execute process context
+     * @return collection of execute process context for YAML
      */
     public Collection<YamlExecuteProcessContext> getAllProcessContext() {
-        return processContextMap.values();
+        return processContextMap.values().stream().map(YamlExecuteProcessContext::new).collect(Collectors.toList());
     }
 }
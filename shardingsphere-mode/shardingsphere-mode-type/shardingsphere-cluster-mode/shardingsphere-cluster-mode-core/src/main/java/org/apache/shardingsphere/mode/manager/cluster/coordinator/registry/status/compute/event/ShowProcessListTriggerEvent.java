@@ -19,12 +19,14 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.stat
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.eventbus.AsyncEvent;
 import org.apache.shardingsphere.infra.instance.definition.InstanceDefinition;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
  * Show processlist trigger event.
  */
+@AsyncEvent
 @RequiredArgsConstructor
 @Getter
 public final class ShowProcessListTriggerEvent implements GovernanceEvent {
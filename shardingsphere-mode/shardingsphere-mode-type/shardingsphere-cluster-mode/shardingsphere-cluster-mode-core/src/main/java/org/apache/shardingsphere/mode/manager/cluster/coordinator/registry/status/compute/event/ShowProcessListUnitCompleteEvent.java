@@ -19,11 +19,13 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.stat
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.eventbus.AsyncEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 
 /**
  * Show processlist unit complete event.
  */
+@AsyncEvent
 @RequiredArgsConstructor
 @Getter
 public final class ShowProcessListUnitCompleteEvent implements GovernanceEvent {
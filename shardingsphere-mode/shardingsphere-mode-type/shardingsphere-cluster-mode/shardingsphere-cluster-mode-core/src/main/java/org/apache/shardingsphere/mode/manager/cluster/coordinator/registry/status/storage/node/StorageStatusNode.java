@@ -36,6 +36,8 @@ public final class StorageStatusNode {
     
     private static final String ATTRIBUTES_NODE = "attributes";
     
+    private static final String CIRCUIT_BREAKERS_NODE = "circuit_breakers";
+    
     /**
      * Get storage node root path.
      *
@@ -76,4 +78,35 @@ public final class StorageStatusNode {
         Matcher matcher = pattern.matcher(storageNodePath);
         return matcher.find() ? Optional.of(new QualifiedDatabase(matcher.group(1))) : Optional.empty();
     }
+    
+    /**
+     * Get circuit breaker root path.
+     *
+     * @return root path of circuit breakers
+     */
+    public static String getCircuitBreakerRootPath() {
+        return String.join("/", "", StatusNode.ROOT_NODE, STORAGE_NODES, CIRCUIT_BREAKERS_NODE);
+    }
+    
+    /**
+     * Get circuit breaker path.
+     *
+     * @param storageNodeName storage node name
+     * @return circuit breaker path of storage node
+     */
+    public static String getCircuitBreakerPath(final String storageNodeName) {
+        return String.join("/", "", StatusNode.ROOT_NODE, STORAGE_NODES, CIRCUIT_BREAKERS_NODE, storageNodeName);
+    }
+    
+    /**
+     * Extract storage node name of circuit breaker.
+     *
+     * @param circuitBreakerPath circuit breaker path
+     * @return extracted storage node name
+     */
+    public static Optional<String> extractCircuitBreakerStorageNodeName(final String circuitBreakerPath) {
+        Pattern pattern = Pattern.compile(getCircuitBreakerRootPath() + "/(\\S+)$", Pattern.CASE_INSENSITIVE);
+        Matcher matcher = pattern.matcher(circuitBreakerPath);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
 }
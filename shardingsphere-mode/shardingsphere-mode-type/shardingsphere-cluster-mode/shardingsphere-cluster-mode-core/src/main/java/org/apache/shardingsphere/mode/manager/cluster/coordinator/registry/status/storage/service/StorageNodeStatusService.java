@@ -19,6 +19,7 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.stat
 
 import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.circuit.CircuitBreakerState;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeDataSource;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.node.StorageStatusNode;
@@ -26,6 +27,7 @@ import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositor
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.Map;
 
 /**
@@ -52,4 +54,19 @@ public final class StorageNodeStatusService {
         });
         return result;
     }
+    
+    /**
+     * Load storage node names of open circuit breakers.
+     *
+     * @return loaded storage node names
+     */
+    public Collection<String> loadOpenCircuitBreakers() {
+        Collection<String> result = new LinkedList<>();
+        for (String each : repository.getChildrenKeys(StorageStatusNode.getCircuitBreakerRootPath())) {
+            if (CircuitBreakerState.OPEN.name().toLowerCase().equals(repository.get(StorageStatusNode.getCircuitBreakerPath(each)))) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
 }
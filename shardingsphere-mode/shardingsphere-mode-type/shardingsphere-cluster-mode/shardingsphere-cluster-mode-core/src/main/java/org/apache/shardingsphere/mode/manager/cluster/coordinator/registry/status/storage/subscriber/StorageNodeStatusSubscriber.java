@@ -19,6 +19,8 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.stat
 
 import com.google.common.eventbus.Subscribe;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.executor.circuit.CircuitBreakerState;
+import org.apache.shardingsphere.infra.executor.circuit.event.StorageNodeCircuitBreakerEvent;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeDataSource;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeRole;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeStatus;
@@ -61,4 +63,15 @@ public final class StorageNodeStatusSubscriber {
     public void update(final PrimaryDataSourceChangedEvent event) {
         repository.persist(StorageStatusNode.getStatusPath(event.getQualifiedDatabase()), YamlEngine.marshal(new StorageNodeDataSource(StorageNodeRole.PRIMARY, StorageNodeStatus.ENABLED)));
     }
+    
+    /**
+     * Update circuit breaker state of storage node.
+     *
+     * @param event storage node circuit breaker event
+     */
+    @Subscribe
+    public void update(final StorageNodeCircuitBreakerEvent event) {
+        CircuitBreakerState state = event.isOpen() ? CircuitBreakerState.OPEN : CircuitBreakerState.CLOSED;
+        repository.persist(StorageStatusNode.getCircuitBreakerPath(event.getStorageNodeName()), state.name().toLowerCase());
+    }
 }
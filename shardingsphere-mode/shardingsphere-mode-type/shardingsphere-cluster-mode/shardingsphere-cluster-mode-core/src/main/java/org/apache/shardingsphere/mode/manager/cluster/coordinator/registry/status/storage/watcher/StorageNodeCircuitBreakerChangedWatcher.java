@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.watcher;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.infra.executor.circuit.CircuitBreakerState;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceWatcher;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.event.CircuitBreakerStateChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.node.StorageStatusNode;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Storage node circuit breaker changed watcher.
+ */
+public final class StorageNodeCircuitBreakerChangedWatcher implements GovernanceWatcher<CircuitBreakerStateChangedEvent> {
+    
+    @Override
+    public Collection<String> getWatchingKeys() {
+        return Collections.singletonList(StorageStatusNode.getCircuitBreakerRootPath());
+    }
+    
+    @Override
+    public Collection<Type> getWatchingTypes() {
+        return Arrays.asList(Type.ADDED, Type.UPDATED, Type.DELETED);
+    }
+    
+    @Override
+    public Optional<CircuitBreakerStateChangedEvent> createGovernanceEvent(final DataChangedEvent event) {
+        Optional<String> storageNodeName = StorageStatusNode.extractCircuitBreakerStorageNodeName(event.getKey());
+        if (!storageNodeName.isPresent()) {
+            return Optional.empty();
+        }
+        if (Type.DELETED == event.getType()) {
+            return Optional.of(new CircuitBreakerStateChangedEvent(storageNodeName.get(), false));
+        }
+        return Strings.isNullOrEmpty(event.getValue())
+                ? Optional.empty()
+                : Optional.of(new CircuitBreakerStateChangedEvent(storageNodeName.get(), CircuitBreakerState.OPEN.name().toLowerCase().equals(event.getValue())));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.instance.definition.InstanceDefinition;
+import org.apache.shardingsphere.infra.instance.definition.InstanceType;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.database.event.DatabaseAckLockReleasedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.database.event.DatabaseAckLockedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.database.event.DatabaseLockReleasedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.database.event.DatabaseLockedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.mutex.event.MutexAckLockReleasedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.mutex.event.MutexAckLockedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.mutex.event.MutexLockReleasedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.mutex.event.MutexLockedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.ShowProcessListTriggerEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.ShowProcessListUnitCompleteEvent;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AsyncGovernanceEventTest {
+    
+    @Test(timeout = 10000L)
+    public void assertPostWithoutWaitingForSubscriber() throws InterruptedException {
+        List<GovernanceEvent> events = Arrays.asList(new DatabaseLockedEvent("foo_db"), new DatabaseLockReleasedEvent("foo_db"),
+                new DatabaseAckLockedEvent("foo_db#@#127.0.0.1@3307"), new DatabaseAckLockReleasedEvent("foo_db#@#127.0.0.1@3307"),
+                new MutexLockedEvent("foo_lock"), new MutexLockReleasedEvent("foo_lock"),
+                new MutexAckLockedEvent("foo_lock#@#127.0.0.1@3307"), new MutexAckLockReleasedEvent("foo_lock#@#127.0.0.1@3307"),
+                new ShowProcessListTriggerEvent(new InstanceDefinition(InstanceType.PROXY, "127.0.0.1@3307"), "foo_process_list_id"),
+                new ShowProcessListUnitCompleteEvent("foo_process_list_id"));
+        BlockedSubscriber subscriber = new BlockedSubscriber(events.size());
+        ShardingSphereEventBus.getInstance().register(subscriber);
+        try {
+            events.forEach(ShardingSphereEventBus.getInstance()::post);
+            subscriber.blocked.countDown();
+            assertTrue(subscriber.handled.await(5L, TimeUnit.SECONDS));
+        } finally {
+            ShardingSphereEventBus.getInstance().unregister(subscriber);
+        }
+        assertThat(subscriber.received, is(events));
+    }
+    
+    private static final class BlockedSubscriber {
+        
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        
+        private final CountDownLatch handled;
+        
+        private final List<GovernanceEvent> received = new CopyOnWriteArrayList<>();
+        
+        BlockedSubscriber(final int expectedCount) {
+            handled = new CountDownLatch(expectedCount);
+        }
+        
+        @Subscribe
+        public void onEvent(final GovernanceEvent event) throws InterruptedException {
+            blocked.await();
+            received.add(event);
+            handled.countDown();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.subscriber;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache.event.QueryResultCacheInvalidatedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.node.QueryResultCacheNode;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryResultCacheRegistrySubscriberTest {
+    
+    @Mock
+    private ClusterPersistRepository repository;
+    
+    @Test
+    public void assertInvalidateIsBatchedPerTable() {
+        QueryResultCacheRegistrySubscriber subscriber = new QueryResultCacheRegistrySubscriber(repository);
+        subscriber.invalidate(new QueryResultCacheInvalidatedEvent("foo_db", Arrays.asList("t_order", "t_user")));
+        subscriber.invalidate(new QueryResultCacheInvalidatedEvent("foo_db", Collections.singleton("t_order")));
+        verify(repository, timeout(1000L)).persist(eq(QueryResultCacheNode.getTablePath("foo_db", "t_order")), anyString());
+        verify(repository, timeout(1000L)).persist(eq(QueryResultCacheNode.getTablePath("foo_db", "t_user")), anyString());
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.watcher;
+
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event.CachedTableChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CachedTableChangedWatcherTest {
+    
+    @Test
+    public void assertCreateEvent() {
+        Optional<CachedTableChangedEvent> actual = new CachedTableChangedWatcher().createGovernanceEvent(new DataChangedEvent("/query_result_cache/foo_db/t_config", "1", Type.UPDATED));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getDatabaseName(), is("foo_db"));
+        assertThat(actual.get().getTableName(), is("t_config"));
+    }
+    
+    @Test
+    public void assertCreateEventWithDatabasePath() {
+        assertFalse(new CachedTableChangedWatcher().createGovernanceEvent(new DataChangedEvent("/query_result_cache/foo_db", "", Type.ADDED)).isPresent());
+    }
+}
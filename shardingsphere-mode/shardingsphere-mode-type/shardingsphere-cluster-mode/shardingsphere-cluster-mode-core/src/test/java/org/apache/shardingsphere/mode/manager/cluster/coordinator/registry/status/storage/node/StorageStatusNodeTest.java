@@ -41,4 +41,16 @@ public final class StorageStatusNodeTest {
         assertThat(actual.get().getGroupName(), is("readwrite_ds"));
         assertThat(actual.get().getDataSourceName(), is("replica_ds_0"));
     }
+    
+    @Test
+    public void assertGetCircuitBreakerPath() {
+        assertThat(StorageStatusNode.getCircuitBreakerPath("127.0.0.1:3306"), is("/nodes/storage_nodes/circuit_breakers/127.0.0.1:3306"));
+    }
+    
+    @Test
+    public void assertExtractCircuitBreakerStorageNodeName() {
+        Optional<String> actual = StorageStatusNode.extractCircuitBreakerStorageNodeName("/nodes/storage_nodes/circuit_breakers/127.0.0.1:3306");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("127.0.0.1:3306"));
+    }
 }
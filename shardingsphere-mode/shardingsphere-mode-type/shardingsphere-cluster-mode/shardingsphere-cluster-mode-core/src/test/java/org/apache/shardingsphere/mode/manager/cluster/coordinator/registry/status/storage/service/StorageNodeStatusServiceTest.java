@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.service;
 
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.node.StorageStatusNode;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,8 +25,12 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
@@ -41,4 +46,13 @@ public final class StorageNodeStatusServiceTest {
         when(repository.getChildrenKeys(anyString())).thenReturn(disabledDataSources);
         new StorageNodeStatusService(repository).loadStorageNodes();
     }
+    
+    @Test
+    public void assertLoadOpenCircuitBreakers() {
+        when(repository.getChildrenKeys(StorageStatusNode.getCircuitBreakerRootPath())).thenReturn(Arrays.asList("127.0.0.1:3306", "127.0.0.1:3307"));
+        when(repository.get(StorageStatusNode.getCircuitBreakerPath("127.0.0.1:3306"))).thenReturn("open");
+        when(repository.get(StorageStatusNode.getCircuitBreakerPath("127.0.0.1:3307"))).thenReturn("closed");
+        Collection<String> actual = new StorageNodeStatusService(repository).loadOpenCircuitBreakers();
+        assertThat(actual, is(Collections.singletonList("127.0.0.1:3306")));
+    }
 }
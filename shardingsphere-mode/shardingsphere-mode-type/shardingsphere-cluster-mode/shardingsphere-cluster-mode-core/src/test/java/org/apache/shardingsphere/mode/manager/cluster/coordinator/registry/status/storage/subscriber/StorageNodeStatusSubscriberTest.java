@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.subscriber;
 
+import org.apache.shardingsphere.infra.executor.circuit.event.StorageNodeCircuitBreakerEvent;
 import org.apache.shardingsphere.infra.metadata.schema.QualifiedDatabase;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeDataSource;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeRole;
@@ -71,4 +72,10 @@ public final class StorageNodeStatusSubscriberTest {
         verify(repository).persist(StorageStatusNode.getStatusPath(new QualifiedDatabase(databaseName, groupName, dataSourceName)),
                 YamlEngine.marshal(new StorageNodeDataSource(StorageNodeRole.PRIMARY, StorageNodeStatus.ENABLED)));
     }
+    
+    @Test
+    public void assertUpdateCircuitBreakerState() {
+        new StorageNodeStatusSubscriber(repository).update(new StorageNodeCircuitBreakerEvent("127.0.0.1:3306", true));
+        verify(repository).persist(StorageStatusNode.getCircuitBreakerPath("127.0.0.1:3306"), "open");
+    }
 }
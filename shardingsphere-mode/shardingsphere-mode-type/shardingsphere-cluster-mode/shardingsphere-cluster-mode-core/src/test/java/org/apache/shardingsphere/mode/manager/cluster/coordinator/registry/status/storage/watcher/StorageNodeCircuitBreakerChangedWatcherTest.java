@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.watcher;
+
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.event.CircuitBreakerStateChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class StorageNodeCircuitBreakerChangedWatcherTest {
+    
+    @Test
+    public void assertCreateOpenEvent() {
+        Optional<CircuitBreakerStateChangedEvent> actual = new StorageNodeCircuitBreakerChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent("/nodes/storage_nodes/circuit_breakers/127.0.0.1:3306", "open", Type.ADDED));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getStorageNodeName(), is("127.0.0.1:3306"));
+        assertTrue(actual.get().isOpen());
+    }
+    
+    @Test
+    public void assertCreateClosedEvent() {
+        Optional<CircuitBreakerStateChangedEvent> actual = new StorageNodeCircuitBreakerChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent("/nodes/storage_nodes/circuit_breakers/127.0.0.1:3306", "closed", Type.UPDATED));
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().isOpen());
+    }
+    
+    @Test
+    public void assertCreateDeletedEvent() {
+        Optional<CircuitBreakerStateChangedEvent> actual = new StorageNodeCircuitBreakerChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent("/nodes/storage_nodes/circuit_breakers/127.0.0.1:3306", "", Type.DELETED));
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().isOpen());
+    }
+    
+    @Test
+    public void assertCreateEventWithEmptyValue() {
+        assertFalse(new StorageNodeCircuitBreakerChangedWatcher().createGovernanceEvent(
+                new DataChangedEvent("/nodes/storage_nodes/circuit_breakers/127.0.0.1:3306", "", Type.ADDED)).isPresent());
+    }
+}
@@ -18,36 +18,92 @@
 package org.apache.shardingsphere.mode.manager.cluster.process;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
-import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessUnit;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.ShowProcessListManager;
 import org.junit.Test;
 
-import java.util.UUID;
+import java.util.Collection;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public final class GovernanceExecuteProcessReporterTest {
     
+    private final GovernanceExecuteProcessReporter reporter = new GovernanceExecuteProcessReporter();
+    
+    @Test
+    public void assertReportSummary() {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
+        reporter.report(createLogicSQL(), executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+        ExecuteProcessContext executeProcessContext = ShowProcessListManager.getInstance().getProcessContext(executionGroupContext.getExecutionID());
+        assertThat(executeProcessContext.getExecutionID(), is(executionGroupContext.getExecutionID()));
+        assertThat(executeProcessContext.getDatabaseName(), is("sharding_db"));
+        assertThat(executeProcessContext.getUsername(), is("sharding"));
+        assertThat(executeProcessContext.getHostname(), is("127.0.0.1"));
+        assertThat(executeProcessContext.getSql(), is("sql1"));
+        assertThat(executeProcessContext.getUnitStatuses().size(), is(1));
+        assertThat(executeProcessContext.getUnitStatuses().iterator().next().getStatus(), is(ExecuteProcessConstants.EXECUTE_STATUS_START));
+        reporter.reportClean(executionGroupContext.getExecutionID());
+        assertNull(ShowProcessListManager.getInstance().getProcessContext(executionGroupContext.getExecutionID()));
+    }
+    
+    @Test
+    public void assertWholeProcessCompleted() {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
+        String executionID = executionGroupContext.getExecutionID();
+        reporter.report(createLogicSQL(), executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+        reporter.report(executionID, executionGroupContext.getInputGroups().iterator().next().getInputs().get(0), ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        assertSnapshotUnitStatus(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        reporter.report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        assertNull(ShowProcessListManager.getInstance().getProcessContext(executionID));
+    }
+    
     @Test
-    public void assertReport() {
-        GovernanceExecuteProcessReporterSubscriberFixture subscriber = new GovernanceExecuteProcessReporterSubscriberFixture();
-        LogicSQL logicSQL = new LogicSQL(null, null, null);
-        ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext = mockExecutionGroupContext();
-        ExecuteProcessContext executeProcessContext = new ExecuteProcessContext(logicSQL.getSql(), executionGroupContext, ExecuteProcessConstants.EXECUTE_ID);
-        GovernanceExecuteProcessReporter reporter = new GovernanceExecuteProcessReporter();
-        reporter.report(logicSQL, executionGroupContext, ExecuteProcessConstants.EXECUTE_ID);
-        assertThat(subscriber.getValue(), is(executeProcessContext.getExecutionID()));
+    public void assertWholeProcessUncompleted() {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
+        String executionID = executionGroupContext.getExecutionID();
+        reporter.report(createLogicSQL(), executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+        reporter.report(executionID, executionGroupContext.getInputGroups().iterator().next().getInputs().get(0), ExecuteProcessConstants.EXECUTE_STATUS_START);
+        reporter.report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        assertSnapshotUnitStatus(executionID, ExecuteProcessConstants.EXECUTE_STATUS_START);
+        reporter.reportClean(executionID);
+    }
+    
+    private void assertSnapshotUnitStatus(final String executionID, final ExecuteProcessConstants expectedStatus) {
+        Collection<YamlExecuteProcessContext> snapshot = ShowProcessListManager.getInstance().getAllProcessContext();
+        YamlExecuteProcessContext yamlExecuteProcessContext = snapshot.stream().filter(each -> executionID.equals(each.getExecutionID())).findFirst().orElseThrow(IllegalStateException::new);
+        YamlExecuteProcessUnit yamlExecuteProcessUnit = yamlExecuteProcessContext.getUnitStatuses().iterator().next();
+        assertThat(yamlExecuteProcessUnit.getStatus(), is(expectedStatus));
+        assertTrue(yamlExecuteProcessUnit.getCostTimeMillis() >= 0L);
+    }
+    
+    private LogicSQL createLogicSQL() {
+        LogicSQL result = mock(LogicSQL.class);
+        when(result.getSql()).thenReturn("sql1");
+        return result;
     }
     
-    @SuppressWarnings("unchecked")
-    private ExecutionGroupContext<? extends SQLExecutionUnit> mockExecutionGroupContext() {
-        ExecutionGroupContext<? extends SQLExecutionUnit> result = mock(ExecutionGroupContext.class);
-        when(result.getExecutionID()).thenReturn(UUID.randomUUID().toString());
+    private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext() {
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("sql1_0", Collections.emptyList()));
+        ExecutionGroup<JDBCExecutionUnit> executionGroup = new ExecutionGroup<>(Collections.singletonList(new JDBCExecutionUnit(executionUnit, ConnectionMode.MEMORY_STRICTLY, null)));
+        ExecutionGroupContext<JDBCExecutionUnit> result = new ExecutionGroupContext<>(Collections.singletonList(executionGroup));
+        result.setDatabaseName("sharding_db");
+        result.setGrantee(new Grantee("sharding", "127.0.0.1"));
         return result;
     }
 }
@@ -38,6 +38,7 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery.SlowQueryTrace;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.DatabaseLockedException;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
@@ -82,6 +83,8 @@ public abstract class DatabaseCommunicationEngine<T> {
     
     private MergedResult mergedResult;
     
+    private SlowQueryTrace slowQueryTrace;
+    
     private final BackendConnection<?> backendConnection;
     
     public DatabaseCommunicationEngine(final String driverType, final ShardingSphereDatabase database, final LogicSQL logicSQL, final BackendConnection<?> backendConnection) {
@@ -110,7 +113,11 @@ public abstract class DatabaseCommunicationEngine<T> {
     
     protected QueryResponseHeader processExecuteQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(executionContext, queryResultSample);
+        long startNanos = System.nanoTime();
         mergedResult = mergeQuery(executionContext.getSqlStatementContext(), queryResults);
+        if (null != slowQueryTrace) {
+            slowQueryTrace.recordMerge(System.nanoTime() - startNanos);
+        }
         return new QueryResponseHeader(queryHeaders);
     }
     
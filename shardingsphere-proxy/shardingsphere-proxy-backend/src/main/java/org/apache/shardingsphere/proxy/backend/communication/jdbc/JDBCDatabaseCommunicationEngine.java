@@ -22,6 +22,7 @@ import org.apache.commons.lang3.concurrent.LazyInitializer;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache.QueryResultCache;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
@@ -45,6 +47,8 @@ import org.apache.shardingsphere.proxy.backend.communication.ProxySQLExecutor;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery.SlowQueryLogger;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery.SlowQueryTrace;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -64,6 +68,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -120,11 +125,13 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     @SneakyThrows(SQLException.class)
     public ResponseHeader execute() {
         LogicSQL logicSQL = getLogicSQL();
-        ExecutionContext executionContext = getKernelProcessor().generateExecutionContext(
-                logicSQL, getDatabase(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps());
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps();
+        startSlowQueryTrace(logicSQL, props);
+        ExecutionContext executionContext = getKernelProcessor().generateExecutionContext(logicSQL, getDatabase(), props);
         // TODO move federation route logic to binder
         SQLStatementContext<?> sqlStatementContext = logicSQL.getSqlStatementContext();
         String defaultDatabaseName = backendConnection.getConnectionSession().getDatabaseName();
+        QueryResultCache queryResultCache = ProxyContext.getInstance().getContextManager().getQueryResultCache();
         if (executionContext.getRouteContext().isFederated() || (sqlStatementContext instanceof SelectStatementContext
                 && SystemSchemaUtil.containsSystemSchema(sqlStatementContext.getDatabaseType(), sqlStatementContext.getTablesContext().getSchemaNames(), defaultDatabaseName))) {
             MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
@@ -136,7 +143,15 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
         checkLockedDatabase(executionContext);
-        List result = proxySQLExecutor.execute(executionContext);
+        List result;
+        try {
+            result = isQueryResultCacheable(queryResultCache, sqlStatementContext)
+                    ? queryResultCache.load(defaultDatabaseName, logicSQL, () -> proxySQLExecutor.execute(executionContext))
+                    : proxySQLExecutor.execute(executionContext);
+        } finally {
+            backendConnection.getConnectionSession().getQueryResultCacheInvalidation().written(queryResultCache, defaultDatabaseName, sqlStatementContext,
+                    backendConnection.getConnectionSession().getTransactionStatus().isInTransaction());
+        }
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
         return executeResultSample instanceof QueryResult
@@ -144,6 +159,24 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
                 : processExecuteUpdate(executionContext, result);
     }
     
+    private boolean isQueryResultCacheable(final QueryResultCache queryResultCache, final SQLStatementContext<?> sqlStatementContext) {
+        return !backendConnection.getConnectionSession().getTransactionStatus().isInTransaction() && queryResultCache.isCacheable(sqlStatementContext);
+    }
+    
+    private void startSlowQueryTrace(final LogicSQL logicSQL, final ConfigurationProperties props) {
+        long slowQueryThresholdMillis = props.<Long>getValue(ConfigurationPropertyKey.PROXY_SLOW_QUERY_THRESHOLD_MILLIS);
+        setSlowQueryTrace(slowQueryThresholdMillis > 0L ? new SlowQueryTrace(backendConnection.getConnectionSession().getDatabaseName(), logicSQL.getSql(), slowQueryThresholdMillis) : null);
+    }
+    
+    /**
+     * Find slow query trace.
+     *
+     * @return slow query trace
+     */
+    public Optional<SlowQueryTrace> findSlowQueryTrace() {
+        return Optional.ofNullable(getSlowQueryTrace());
+    }
+    
     private ResultSet doExecuteFederation(final LogicSQL logicSQL, final MetaDataContexts metaDataContexts) throws SQLException {
         boolean isReturnGeneratedKeys = logicSQL.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
         DatabaseType databaseType = metaDataContexts.getDatabaseMetaData(backendConnection.getConnectionSession().getDatabaseName()).getResource().getDatabaseType();
@@ -181,6 +214,7 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
      * @throws SQLException SQL exception
      */
     public void close() throws SQLException {
+        finishSlowQueryTrace();
         Collection<SQLException> result = new LinkedList<>();
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
@@ -192,6 +226,14 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         throw ex;
     }
     
+    private void finishSlowQueryTrace() {
+        SlowQueryTrace slowQueryTrace = getSlowQueryTrace();
+        if (null != slowQueryTrace) {
+            setSlowQueryTrace(null);
+            slowQueryTrace.finish().ifPresent(SlowQueryLogger.getInstance()::log);
+        }
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
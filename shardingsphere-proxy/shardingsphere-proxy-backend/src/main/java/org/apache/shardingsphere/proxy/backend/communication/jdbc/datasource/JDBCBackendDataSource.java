@@ -19,7 +19,10 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.datasource.registry.GlobalDataSourceRegistry;
+import org.apache.shardingsphere.infra.executor.circuit.CircuitBreakerSQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.circuit.StorageNodeCircuitBreakerRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.proxy.backend.communication.BackendDataSource;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -107,7 +110,7 @@ public final class JDBCBackendDataSource implements BackendDataSource {
     private Connection createConnection(final String databaseName, final String dataSourceName, final DataSource dataSource, final TransactionType transactionType) throws SQLException {
         ShardingSphereTransactionManager transactionManager =
                 ProxyContext.getInstance().getContextManager().getTransactionContexts().getEngines().get(databaseName).getTransactionManager(transactionType);
-        Connection result = isInTransaction(transactionManager) ? transactionManager.getConnection(dataSourceName) : dataSource.getConnection();
+        Connection result = isInTransaction(transactionManager) ? transactionManager.getConnection(dataSourceName) : getPhysicalConnection(databaseName, dataSourceName, dataSource);
         if (dataSourceName.contains(".")) {
             String catalog = dataSourceName.split("\\.")[1];
             result.setCatalog(catalog);
@@ -115,6 +118,19 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         return result;
     }
     
+    private Connection getPhysicalConnection(final String databaseName, final String dataSourceName, final DataSource dataSource) throws SQLException {
+        try {
+            return dataSource.getConnection();
+        } catch (final SQLException ex) {
+            StorageNodeCircuitBreakerRegistry circuitBreakerRegistry = StorageNodeCircuitBreakerRegistry.getInstance();
+            if (circuitBreakerRegistry.isEnabled() && CircuitBreakerSQLExecutionHook.isStorageNodeFailure(ex)) {
+                DataSourcesMetaData dataSourcesMetaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getDatabaseMetaData(databaseName).getResource().getDataSourcesMetaData();
+                circuitBreakerRegistry.recordFailure(dataSourcesMetaData.getDataSourceMetaData(dataSourceName));
+            }
+            throw ex;
+        }
+    }
+    
     private boolean isInTransaction(final ShardingSphereTransactionManager transactionManager) {
         return null != transactionManager && transactionManager.isInTransaction();
     }
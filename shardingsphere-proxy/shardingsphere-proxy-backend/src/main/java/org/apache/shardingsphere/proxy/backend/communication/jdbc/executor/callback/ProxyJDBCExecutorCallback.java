@@ -29,6 +29,9 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.dr
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery.SlowQueryTrace;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery.SlowQueryTracedQueryResult;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery.SlowQueryUnitTrace;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -69,6 +72,18 @@ public abstract class ProxyJDBCExecutorCallback extends JDBCExecutorCallback<Exe
     }
     
     private ExecuteResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final boolean withMetaData) throws SQLException {
+        Optional<SlowQueryTrace> slowQueryTrace = databaseCommunicationEngine.findSlowQueryTrace();
+        Optional<SlowQueryUnitTrace> unitTrace = slowQueryTrace.isPresent() ? slowQueryTrace.get().findUnitTrace(statement) : Optional.empty();
+        if (!unitTrace.isPresent()) {
+            return doExecuteSQL(sql, statement, connectionMode);
+        }
+        long startNanos = System.nanoTime();
+        ExecuteResult result = doExecuteSQL(sql, statement, connectionMode);
+        unitTrace.get().recordExecute(System.nanoTime() - startNanos);
+        return result instanceof QueryResult ? new SlowQueryTracedQueryResult((QueryResult) result, unitTrace.get()) : result;
+    }
+    
+    private ExecuteResult doExecuteSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
         databaseCommunicationEngine.add(statement);
         if (execute(sql, statement, isReturnGeneratedKeys)) {
             ResultSet resultSet = statement.getResultSet();
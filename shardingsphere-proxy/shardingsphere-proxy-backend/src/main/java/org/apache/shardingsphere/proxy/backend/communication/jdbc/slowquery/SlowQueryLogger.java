@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Slow query logger.
+ * 
+ * <p>Recent slow queries are kept in a bounded ring in memory, and written to the {@code ShardingSphere-SlowQuery} logger which is backed by an asynchronous file appender.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j(topic = "ShardingSphere-SlowQuery")
+public final class SlowQueryLogger {
+    
+    private static final int CAPACITY = 1024;
+    
+    private static final SlowQueryLogger INSTANCE = new SlowQueryLogger();
+    
+    private final AtomicReferenceArray<SlowQueryRecord> records = new AtomicReferenceArray<>(CAPACITY);
+    
+    private final AtomicLong sequence = new AtomicLong();
+    
+    /**
+     * Get slow query logger.
+     *
+     * @return slow query logger
+     */
+    public static SlowQueryLogger getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Log slow query.
+     *
+     * @param record slow query record
+     */
+    public void log(final SlowQueryRecord record) {
+        records.set((int) (sequence.getAndIncrement() % CAPACITY), record);
+        log.info("Slow query: {}ms ::: {} ::: {} ::: prepare {}ms, merge {}ms ::: {}",
+                record.getElapsedMillis(), record.getDatabaseName(), record.getFingerprint(), record.getPrepareMillis(), record.getMergeMillis(), record.getUnitTraces());
+    }
+    
+    /**
+     * Get recent slow query records, the latest first.
+     *
+     * @return recent slow query records
+     */
+    public List<SlowQueryRecord> getRecentRecords() {
+        List<SlowQueryRecord> result = new LinkedList<>();
+        long current = sequence.get();
+        for (long i = current - 1; i >= 0 && i >= current - CAPACITY; i--) {
+            SlowQueryRecord each = records.get((int) (i % CAPACITY));
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Clear slow query records.
+     */
+    public void clear() {
+        for (int i = 0; i < CAPACITY; i++) {
+            records.set(i, null);
+        }
+        sequence.set(0L);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Slow query record.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SlowQueryRecord {
+    
+    private final long startTimeMillis;
+    
+    private final long elapsedMillis;
+    
+    private final String databaseName;
+    
+    private final String fingerprint;
+    
+    private final long prepareMillis;
+    
+    private final long mergeMillis;
+    
+    private final Collection<SlowQueryUnitTrace> unitTraces;
+    
+    /**
+     * Find slowest execution unit.
+     *
+     * @return slowest execution unit
+     */
+    public Optional<SlowQueryUnitTrace> findSlowestUnitTrace() {
+        return unitTraces.stream().max(Comparator.comparingLong(SlowQueryUnitTrace::getTotalMillis));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Slow query trace of one logic SQL.
+ * 
+ * <p>Execution units are registered on the trunk thread before execution, so worker threads only read the registered units.</p>
+ */
+public final class SlowQueryTrace {
+    
+    private static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    
+    private static final Pattern NUMBER_LITERAL_PATTERN = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    
+    private final String databaseName;
+    
+    private final String logicSQL;
+    
+    private final long thresholdMillis;
+    
+    private final long startTimeMillis = System.currentTimeMillis();
+    
+    private final long startNanos = System.nanoTime();
+    
+    private final Map<Statement, SlowQueryUnitTrace> unitTraces = new IdentityHashMap<>();
+    
+    private long prepareNanos;
+    
+    private long mergeNanos;
+    
+    public SlowQueryTrace(final String databaseName, final String logicSQL, final long thresholdMillis) {
+        this.databaseName = databaseName;
+        this.logicSQL = logicSQL;
+        this.thresholdMillis = thresholdMillis;
+    }
+    
+    /**
+     * Register execution units.
+     *
+     * @param executionGroupContext execution group context
+     */
+    public void register(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        for (ExecutionGroup<JDBCExecutionUnit> eachGroup : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit each : eachGroup.getInputs()) {
+                unitTraces.put(each.getStorageResource(), new SlowQueryUnitTrace(each.getExecutionUnit().getDataSourceName(), each.getExecutionUnit().getSqlUnit().getSql()));
+            }
+        }
+    }
+    
+    /**
+     * Find execution unit trace.
+     *
+     * @param statement statement of execution unit
+     * @return execution unit trace
+     */
+    public Optional<SlowQueryUnitTrace> findUnitTrace(final Statement statement) {
+        return Optional.ofNullable(unitTraces.get(statement));
+    }
+    
+    /**
+     * Record prepare time, which is mostly spent on acquiring connections.
+     *
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public void recordPrepare(final long elapsedNanos) {
+        prepareNanos += elapsedNanos;
+    }
+    
+    /**
+     * Record merge time.
+     *
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public void recordMerge(final long elapsedNanos) {
+        mergeNanos += elapsedNanos;
+    }
+    
+    /**
+     * Finish trace.
+     *
+     * @return slow query record if elapsed time reaches threshold
+     */
+    public Optional<SlowQueryRecord> finish() {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (elapsedMillis < thresholdMillis) {
+            return Optional.empty();
+        }
+        return Optional.of(new SlowQueryRecord(startTimeMillis, elapsedMillis, databaseName, getFingerprint(logicSQL),
+                TimeUnit.NANOSECONDS.toMillis(prepareNanos), TimeUnit.NANOSECONDS.toMillis(mergeNanos), new ArrayList<>(unitTraces.values())));
+    }
+    
+    private static String getFingerprint(final String sql) {
+        String result = STRING_LITERAL_PATTERN.matcher(sql).replaceAll("?");
+        result = NUMBER_LITERAL_PATTERN.matcher(result).replaceAll("?");
+        return WHITESPACE_PATTERN.matcher(result).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slow query trace of one execution unit.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SlowQueryUnitTrace {
+    
+    private final String dataSourceName;
+    
+    private final String sql;
+    
+    private volatile long executeNanos;
+    
+    private volatile long fetchNanos;
+    
+    private volatile long rows;
+    
+    /**
+     * Record execute time.
+     *
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public void recordExecute(final long elapsedNanos) {
+        executeNanos = elapsedNanos;
+    }
+    
+    /**
+     * Record fetch time of one row.
+     *
+     * @param elapsedNanos elapsed time in nanoseconds
+     * @param hasRow whether a row is fetched
+     */
+    public void recordFetch(final long elapsedNanos, final boolean hasRow) {
+        fetchNanos += elapsedNanos;
+        if (hasRow) {
+            rows++;
+        }
+    }
+    
+    /**
+     * Get total time of execute and fetch in milliseconds.
+     *
+     * @return total time in milliseconds
+     */
+    public long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(executeNanos + fetchNanos);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s ::: %s ::: execute %dms, fetch %dms, rows %d",
+                dataSourceName, sql, TimeUnit.NANOSECONDS.toMillis(executeNanos), TimeUnit.NANOSECONDS.toMillis(fetchNanos), rows);
+    }
+}
@@ -81,6 +81,7 @@ public final class JDBCBackendTransactionManager implements TransactionManager<V
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getTransactionStatus().setRollbackOnly(false);
                 TransactionHolder.clear();
+                connection.getConnectionSession().getQueryResultCacheInvalidation().transactionFinished(ProxyContext.getInstance().getContextManager().getQueryResultCache());
             }
         }
         return null;
@@ -99,6 +100,7 @@ public final class JDBCBackendTransactionManager implements TransactionManager<V
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getTransactionStatus().setRollbackOnly(false);
                 TransactionHolder.clear();
+                connection.getConnectionSession().getQueryResultCacheInvalidation().transactionFinished(ProxyContext.getInstance().getContextManager().getQueryResultCache());
             }
         }
         return null;
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.proxy.backend.communication.ReactiveProxySQLExe
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.readwritesplitting.route.impl.SessionWriteWatermarkHolder;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -53,8 +54,13 @@ public final class VertxDatabaseCommunicationEngine extends DatabaseCommunicatio
     @Override
     public Future<ResponseHeader> execute() {
         try {
-            ExecutionContext executionContext = getKernelProcessor()
-                    .generateExecutionContext(getLogicSQL(), getDatabase(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps());
+            ExecutionContext executionContext;
+            SessionWriteWatermarkHolder.set(getBackendConnection().getConnectionSession().getSessionWriteWatermark());
+            try {
+                executionContext = getKernelProcessor().generateExecutionContext(getLogicSQL(), getDatabase(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps());
+            } finally {
+                SessionWriteWatermarkHolder.remove();
+            }
             if (executionContext.getRouteContext().isFederated()) {
                 return Future.failedFuture(new UnsupportedOperationException("Executing federated query by Vert.x is not supported yet."));
             }
@@ -24,6 +24,7 @@ import lombok.Setter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache.QueryResultCacheInvalidation;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.ExecutorStatementManager;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.proxy.backend.communication.vertx.VertxBackendC
 import org.apache.shardingsphere.proxy.backend.communication.vertx.VertxBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.readwritesplitting.route.impl.SessionWriteWatermark;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.TransactionIsolationLevel;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
@@ -73,6 +75,10 @@ public final class ConnectionSession {
     
     private final ExecutorStatementManager statementManager;
     
+    private final QueryResultCacheInvalidation queryResultCacheInvalidation = new QueryResultCacheInvalidation();
+    
+    private final SessionWriteWatermark sessionWriteWatermark = new SessionWriteWatermark();
+    
     public ConnectionSession(final DatabaseType databaseType, final TransactionType initialTransactionType, final AttributeMap attributeMap) {
         this.databaseType = databaseType;
         transactionStatus = new TransactionStatus(initialTransactionType);
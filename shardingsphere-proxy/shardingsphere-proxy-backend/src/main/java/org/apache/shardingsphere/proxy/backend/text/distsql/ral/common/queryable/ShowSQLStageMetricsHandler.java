@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowSQLStageMetricsStatement;
+import org.apache.shardingsphere.infra.metrics.LatencyHistogram;
+import org.apache.shardingsphere.infra.metrics.SQLStageMetricsRegistry;
+import org.apache.shardingsphere.infra.metrics.SQLStageStatistics;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.text.distsql.ral.QueryableRALBackendHandler;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Show SQL stage metrics handler.
+ */
+public final class ShowSQLStageMetricsHandler extends QueryableRALBackendHandler<ShowSQLStageMetricsStatement, ShowSQLStageMetricsHandler> {
+    
+    private static final String STAGE = "stage";
+    
+    private static final String STATEMENT_TYPE = "statement_type";
+    
+    private static final String TABLE = "table";
+    
+    private static final String COUNT = "count";
+    
+    private static final String MEAN = "mean_us";
+    
+    private static final String P50 = "p50_us";
+    
+    private static final String P99 = "p99_us";
+    
+    private static final String P999 = "p999_us";
+    
+    private static final String MAX = "max_us";
+    
+    private static final String ROWS = "rows";
+    
+    @Override
+    protected Collection<String> getColumnNames() {
+        return Arrays.asList(STAGE, STATEMENT_TYPE, TABLE, COUNT, MEAN, P50, P99, P999, MAX, ROWS);
+    }
+    
+    @Override
+    protected Collection<List<Object>> getRows(final ContextManager contextManager) {
+        return SQLStageMetricsRegistry.getInstance().getAllStatistics().stream().map(this::buildRow).collect(Collectors.toList());
+    }
+    
+    private List<Object> buildRow(final SQLStageStatistics statistics) {
+        LatencyHistogram latency = statistics.getLatency();
+        return Arrays.asList(statistics.getStage().name(), statistics.getStatementType(), statistics.getTableName(), latency.getCount(), latency.getMeanMicros(),
+                latency.getValueAtPercentile(50), latency.getValueAtPercentile(99), latency.getValueAtPercentile(99.9), latency.getMaxMicros(), statistics.getRows().sum());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowSlowQueryListStatement;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery.SlowQueryLogger;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery.SlowQueryRecord;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery.SlowQueryUnitTrace;
+import org.apache.shardingsphere.proxy.backend.text.distsql.ral.QueryableRALBackendHandler;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Show slow query list handler.
+ */
+public final class ShowSlowQueryListHandler extends QueryableRALBackendHandler<ShowSlowQueryListStatement, ShowSlowQueryListHandler> {
+    
+    private static final String START_TIME = "start_time";
+    
+    private static final String ELAPSED = "elapsed_ms";
+    
+    private static final String DATABASE = "database";
+    
+    private static final String FINGERPRINT = "fingerprint";
+    
+    private static final String PREPARE = "prepare_ms";
+    
+    private static final String MERGE = "merge_ms";
+    
+    private static final String SLOWEST_DATA_SOURCE = "slowest_data_source";
+    
+    private static final String SLOWEST_UNIT = "slowest_unit_ms";
+    
+    private static final String EXECUTION_UNITS = "execution_units";
+    
+    @Override
+    protected Collection<String> getColumnNames() {
+        return Arrays.asList(START_TIME, ELAPSED, DATABASE, FINGERPRINT, PREPARE, MERGE, SLOWEST_DATA_SOURCE, SLOWEST_UNIT, EXECUTION_UNITS);
+    }
+    
+    @Override
+    protected Collection<List<Object>> getRows(final ContextManager contextManager) {
+        return SlowQueryLogger.getInstance().getRecentRecords().stream().map(this::buildRow).collect(Collectors.toList());
+    }
+    
+    private List<Object> buildRow(final SlowQueryRecord record) {
+        Optional<SlowQueryUnitTrace> slowestUnitTrace = record.findSlowestUnitTrace();
+        return Arrays.asList(new Timestamp(record.getStartTimeMillis()).toString(), record.getElapsedMillis(), record.getDatabaseName(), record.getFingerprint(),
+                record.getPrepareMillis(), record.getMergeMillis(), slowestUnitTrace.map(SlowQueryUnitTrace::getDataSourceName).orElse(""),
+                slowestUnitTrace.map(SlowQueryUnitTrace::getTotalMillis).orElse(0L), record.getUnitTraces().toString());
+    }
+}
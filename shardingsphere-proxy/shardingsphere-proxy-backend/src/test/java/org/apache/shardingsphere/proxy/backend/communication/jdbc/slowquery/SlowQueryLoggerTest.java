@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SlowQueryLoggerTest {
+    
+    @After
+    public void tearDown() {
+        SlowQueryLogger.getInstance().clear();
+    }
+    
+    @Test
+    public void assertGetRecentRecords() {
+        SlowQueryLogger.getInstance().log(createSlowQueryRecord("SELECT 1"));
+        SlowQueryLogger.getInstance().log(createSlowQueryRecord("SELECT 2"));
+        List<SlowQueryRecord> actual = SlowQueryLogger.getInstance().getRecentRecords();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getFingerprint(), is("SELECT 2"));
+        assertThat(actual.get(1).getFingerprint(), is("SELECT 1"));
+    }
+    
+    @Test
+    public void assertGetRecentRecordsWhenRingIsFull() {
+        for (int i = 0; i < 1100; i++) {
+            SlowQueryLogger.getInstance().log(createSlowQueryRecord("SELECT " + i));
+        }
+        List<SlowQueryRecord> actual = SlowQueryLogger.getInstance().getRecentRecords();
+        assertThat(actual.size(), is(1024));
+        assertThat(actual.get(0).getFingerprint(), is("SELECT 1099"));
+        assertThat(actual.get(1023).getFingerprint(), is("SELECT 76"));
+    }
+    
+    private SlowQueryRecord createSlowQueryRecord(final String fingerprint) {
+        return new SlowQueryRecord(System.currentTimeMillis(), 1000L, "foo_db", fingerprint, 0L, 0L, Collections.emptyList());
+    }
+}
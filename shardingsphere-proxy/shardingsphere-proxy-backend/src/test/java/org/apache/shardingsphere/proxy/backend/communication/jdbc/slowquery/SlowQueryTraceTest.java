@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.slowquery;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.junit.Test;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SlowQueryTraceTest {
+    
+    @Test
+    public void assertFinishBelowThreshold() {
+        assertFalse(new SlowQueryTrace("foo_db", "SELECT 1", 60000L).finish().isPresent());
+    }
+    
+    @Test
+    public void assertFinishWithFingerprint() {
+        Optional<SlowQueryRecord> actual = new SlowQueryTrace("foo_db", "SELECT *  FROM t_order\n WHERE order_id = 10 AND status = 'it''s'", 0L).finish();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getDatabaseName(), is("foo_db"));
+        assertThat(actual.get().getFingerprint(), is("SELECT * FROM t_order WHERE order_id = ? AND status = ?"));
+    }
+    
+    @Test
+    public void assertFindSlowestUnitTrace() {
+        SlowQueryTrace trace = new SlowQueryTrace("foo_db", "SELECT * FROM t_order", 0L);
+        Statement statement0 = mock(Statement.class);
+        Statement statement1 = mock(Statement.class);
+        trace.register(new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Arrays.asList(
+                createJDBCExecutionUnit("ds_0", "SELECT * FROM t_order_0", statement0), createJDBCExecutionUnit("ds_1", "SELECT * FROM t_order_1", statement1))))));
+        assertTrue(trace.findUnitTrace(statement0).isPresent());
+        assertFalse(trace.findUnitTrace(mock(Statement.class)).isPresent());
+        trace.findUnitTrace(statement0).get().recordExecute(TimeUnit.MILLISECONDS.toNanos(5L));
+        trace.findUnitTrace(statement1).get().recordExecute(TimeUnit.MILLISECONDS.toNanos(10L));
+        trace.findUnitTrace(statement1).get().recordFetch(TimeUnit.MILLISECONDS.toNanos(20L), true);
+        Optional<SlowQueryRecord> actual = trace.finish();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getUnitTraces().size(), is(2));
+        Optional<SlowQueryUnitTrace> slowestUnitTrace = actual.get().findSlowestUnitTrace();
+        assertTrue(slowestUnitTrace.isPresent());
+        assertThat(slowestUnitTrace.get().getDataSourceName(), is("ds_1"));
+        assertThat(slowestUnitTrace.get().getTotalMillis(), is(30L));
+        assertThat(slowestUnitTrace.get().getRows(), is(1L));
+    }
+    
+    private JDBCExecutionUnit createJDBCExecutionUnit(final String dataSourceName, final String sql, final Statement statement) {
+        return new JDBCExecutionUnit(new ExecutionUnit(dataSourceName, new SQLUnit(sql, Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, statement);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.cache.QueryResultCacheInvalidation;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -67,6 +68,7 @@ public final class JDBCBackendTransactionManagerTest {
         setTransactionContexts();
         when(connectionSession.getDatabaseName()).thenReturn("db");
         when(connectionSession.getTransactionStatus()).thenReturn(transactionStatus);
+        when(connectionSession.getQueryResultCacheInvalidation()).thenReturn(new QueryResultCacheInvalidation());
         when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
     }
     
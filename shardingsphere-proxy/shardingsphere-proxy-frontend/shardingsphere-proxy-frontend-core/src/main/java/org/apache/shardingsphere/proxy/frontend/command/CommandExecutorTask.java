@@ -36,6 +36,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExe
 import org.apache.shardingsphere.proxy.frontend.constant.LogMDCConstants;
 import org.apache.shardingsphere.proxy.frontend.exception.ExpectedExceptions;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.readwritesplitting.route.impl.SessionWriteWatermarkHolder;
 import org.slf4j.MDC;
 
 import java.sql.SQLException;
@@ -73,6 +74,7 @@ public final class CommandExecutorTask implements Runnable {
             if (sqlShowEnabled) {
                 fillLogMDC();
             }
+            SessionWriteWatermarkHolder.set(connectionSession.getSessionWriteWatermark());
             connectionSession.getBackendConnection().prepareForTaskExecution();
             isNeedFlush = executeCommand(context, payload);
             // CHECKSTYLE:OFF
@@ -82,6 +84,7 @@ public final class CommandExecutorTask implements Runnable {
         } finally {
             // TODO optimize SQLStatementDatabaseHolder
             SQLStatementDatabaseHolder.remove();
+            SessionWriteWatermarkHolder.remove();
             Collection<SQLException> exceptions = Collections.emptyList();
             try {
                 connectionSession.getBackendConnection().closeExecutionResources();
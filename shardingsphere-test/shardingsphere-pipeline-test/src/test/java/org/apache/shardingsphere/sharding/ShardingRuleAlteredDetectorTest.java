@@ -20,13 +20,21 @@ package org.apache.shardingsphere.sharding;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.ShardingSpherePipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.util.ConfigurationFileUtil;
 import org.apache.shardingsphere.infra.yaml.config.pojo.YamlRuleConfiguration;
+import org.apache.shardingsphere.infra.yaml.config.pojo.algorithm.YamlShardingSphereAlgorithmConfiguration;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
 import org.apache.shardingsphere.sharding.data.pipeline.ShardingRuleAlteredDetector;
+import org.apache.shardingsphere.sharding.yaml.config.YamlShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.yaml.config.rule.YamlShardingAutoTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.yaml.config.strategy.sharding.YamlShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.yaml.config.strategy.sharding.YamlStandardShardingStrategyConfiguration;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -77,4 +85,42 @@ public final class ShardingRuleAlteredDetectorTest {
         List<String> ruleAlteredLogicTables = new ShardingRuleAlteredDetector().findRuleAlteredLogicTables(firstRule.get(), null, null, null);
         assertThat(ruleAlteredLogicTables.get(0), is("t_order"));
     }
+    
+    @Test
+    public void assertFindRuleAlteredLogicTablesWithRelocatedBucketsOnDifferentDataSources() {
+        Map<String, Map<String, Object>> sourceDataSources = Collections.singletonMap("ds_0", Collections.emptyMap());
+        Map<String, Map<String, Object>> targetDataSources = Collections.singletonMap("ds_1", Collections.emptyMap());
+        List<String> actual = new ShardingRuleAlteredDetector().findRuleAlteredLogicTables(
+                createVirtualBucketRuleConfiguration("ds_0", "0-3:0,4-7:1"), createVirtualBucketRuleConfiguration("ds_1", "0-2:0,3-7:1"), sourceDataSources, targetDataSources);
+        assertThat(actual, is(Collections.singletonList("t_order")));
+    }
+    
+    @Test(expected = RuntimeException.class)
+    public void assertFindRuleAlteredLogicTablesWithRelocatedBucketsOnSameDataSources() {
+        Map<String, Map<String, Object>> dataSources = Collections.singletonMap("ds_0", Collections.emptyMap());
+        new ShardingRuleAlteredDetector().findRuleAlteredLogicTables(
+                createVirtualBucketRuleConfiguration("ds_0", "0-3:0,4-7:1"), createVirtualBucketRuleConfiguration("ds_0", "0-2:0,3-7:1"), dataSources, dataSources);
+    }
+    
+    private YamlShardingRuleConfiguration createVirtualBucketRuleConfiguration(final String dataSourceName, final String bucketMapping) {
+        YamlStandardShardingStrategyConfiguration standardShardingStrategyConfig = new YamlStandardShardingStrategyConfiguration();
+        standardShardingStrategyConfig.setShardingColumn("order_id");
+        standardShardingStrategyConfig.setShardingAlgorithmName("t_order_bucket");
+        YamlShardingStrategyConfiguration shardingStrategyConfig = new YamlShardingStrategyConfiguration();
+        shardingStrategyConfig.setStandard(standardShardingStrategyConfig);
+        YamlShardingAutoTableRuleConfiguration autoTableRuleConfig = new YamlShardingAutoTableRuleConfiguration();
+        autoTableRuleConfig.setActualDataSources(dataSourceName);
+        autoTableRuleConfig.setShardingStrategy(shardingStrategyConfig);
+        YamlShardingRuleConfiguration result = new YamlShardingRuleConfiguration();
+        result.getAutoTables().put("t_order", autoTableRuleConfig);
+        Properties props = new Properties();
+        props.setProperty("sharding-count", "2");
+        props.setProperty("bucket-count", "8");
+        props.setProperty("bucket-mapping", bucketMapping);
+        YamlShardingSphereAlgorithmConfiguration algorithmConfig = new YamlShardingSphereAlgorithmConfiguration();
+        algorithmConfig.setType("VIRTUAL_BUCKET");
+        algorithmConfig.setProps(props);
+        result.getShardingAlgorithms().put("t_order_bucket", algorithmConfig);
+        return result;
+    }
 }